@@ -21,7 +21,11 @@ vi.mock("../craft", () => ({
 	/** Mock CraftForm used in DatabaseControlPage tests */
 	CraftForm: () => <div>CraftForm</div>,
 }));
-vi.mock("../person/api", () => ({ fetchPerson: vi.fn(() => Promise.resolve([])) }));
+vi.mock("../person/api", () => ({
+	fetchPersonPage: vi.fn(() =>
+		Promise.resolve({ content: [], size: 50, hasNext: false, nextCursor: null, approximateTotal: 0 }),
+	),
+}));
 vi.mock("../airport/api", () => ({ fetchAirports: vi.fn(() => Promise.resolve([])) }));
 vi.mock("../craft/api", () => ({ fetchCrafts: vi.fn(() => Promise.resolve([])) }));
 
@@ -1,10 +1,10 @@
 import React, { useEffect, useState } from "react";
-import { Grid, Card, Title, Stack, Group, Loader, Text } from "@mantine/core";
+import { Grid, Card, Title, Stack, Group, Loader, Text, Button } from "@mantine/core";
 import { notifications } from "@mantine/notifications";
 import { PersonTable, PersonForm } from "../person";
 import { AirportTable, AirportForm } from "../airport";
 import { CraftTable, CraftForm } from "../craft";
-import { fetchPerson } from "../person/api";
+import { fetchPersonPage } from "../person/api";
 import { fetchAirports } from "../airport/api";
 import { fetchCrafts } from "../craft/api";
 import type { Person } from "../person";
@@ -15,20 +15,26 @@ import type { Craft } from "../craft/types";
  * DatabaseControlPage
  *
  * Administrative UI that provides quick access to create and list people and airports.
- * Loads both people, airports and crafts on mount and shows a loader while fetching.
+ * Loads the first page of people, and all airports and crafts, on mount and shows a loader while
+ * fetching. Further pages of people are fetched on demand.
  */
 export default function DatabaseControlPage(): React.JSX.Element {
 	const [people, setPeople] = useState<Person[] | null>(null);
+	const [peopleCursor, setPeopleCursor] = useState<string | null>(null);
+	const [peopleTotal, setPeopleTotal] = useState<number | null>(null);
+	const [loadingMore, setLoadingMore] = useState(false);
 	const [airports, setAirports] = useState<Airport[] | null>(null);
 	const [crafts, setCrafts] = useState<Craft[] | null>(null);
 	const [loading, setLoading] = useState(true);
 
 	useEffect(() => {
 		let mounted = true;
-		Promise.all([fetchPerson(), fetchAirports(), fetchCrafts()])
-			.then(([peopleResp, airportsResp, craftsResp]) => {
+		Promise.all([fetchPersonPage(), fetchAirports(), fetchCrafts()])
+			.then(([peoplePage, airportsResp, craftsResp]) => {
 				if (!mounted) return;
-				setPeople(peopleResp);
+				setPeople(peoplePage.content);
+				setPeopleCursor(peoplePage.hasNext ? peoplePage.nextCursor : null);
+				setPeopleTotal(peoplePage.approximateTotal);
 				setAirports(airportsResp);
 				setCrafts(craftsResp);
 			})
@@ -41,6 +47,20 @@ export default function DatabaseControlPage(): React.JSX.Element {
 		};
 	}, []);
 
+	/** Append the next page of people after the last one shown */
+	const loadMorePeople = () => {
+		setLoadingMore(true);
+		fetchPersonPage(peopleCursor)
+			.then((page) => {
+				setPeople((prev) => [...(prev ?? []), ...page.content]);
+				setPeopleCursor(page.hasNext ? page.nextCursor : null);
+			})
+			.catch((err) => {
+				notifications.show({ color: "red", title: "Failed to load", message: String(err) });
+			})
+			.finally(() => setLoadingMore(false));
+	};
+
 	if (loading) {
 		return (
 			<Group justify="center" p="lg">
@@ -64,7 +84,14 @@ export default function DatabaseControlPage(): React.JSX.Element {
 						</Card>
 						<Card shadow="xs" padding="md">
 							<Title order={4}>People</Title>
-							{people && <PersonTable person={people} />}
+							{people && <PersonTable person={people} total={peopleTotal} />}
+							{peopleCursor && (
+								<Group justify="center" mt="sm">
+									<Button variant="light" loading={loadingMore} onClick={loadMorePeople}>
+										Load more
+									</Button>
+								</Group>
+							)}
 							{!people && <Text c="dimmed">No people found.</Text>}
 						</Card>
 					</Stack>
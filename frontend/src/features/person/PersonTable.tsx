@@ -7,6 +7,8 @@ type Props = {
 	person: Person[];
 	/** Whether the table is currently loading */
 	loading?: boolean;
+	/** Estimated number of persons in the database, when more exist than are displayed */
+	total?: number | null;
 };
 
 /**
@@ -15,7 +17,7 @@ type Props = {
  * Displays a summary card and a table of persons. Shows a loader while
  * `loading` is true and a friendly empty state when the list is empty.
  */
-export default function PersonTable({ person, loading }: Props): React.JSX.Element {
+export default function PersonTable({ person, loading, total }: Props): React.JSX.Element {
 	return (
 		<Card withBorder shadow="sm" radius="md" p="md">
 			<Group justify="space-between" mb="sm">
@@ -23,7 +25,7 @@ export default function PersonTable({ person, loading }: Props): React.JSX.Eleme
 					Person in database
 				</Text>
 				<Badge variant="light" color="blue">
-					{person.length}
+					{Math.max(total ?? 0, person.length)}
 				</Badge>
 			</Group>
 
@@ -1,11 +1,20 @@
 import { describe, it, expect, vi, beforeEach, afterEach } from "vitest";
-import { fetchPilots } from "./api";
-import type { Person } from "./types";
+import { fetchPersonPage, fetchPilots } from "./api";
+import type { Person, PersonPage } from "./types";
 
 describe("person api", () => {
 	const originalFetch = globalThis.fetch;
 	let mockFetch: ReturnType<typeof vi.fn>;
 
+	const pilot: Person = {
+		id: 1,
+		name: "Pilot One",
+		weight: 80,
+		email: "p1@example.com",
+		pilot: true,
+		skydiver: false,
+	};
+
 	beforeEach(() => {
 		mockFetch = vi.fn();
 		globalThis.fetch = mockFetch as unknown as typeof fetch;
@@ -17,16 +26,13 @@ describe("person api", () => {
 	});
 
 	it("fetchPilots should return content array from paged response", async () => {
-		const pilots: Person[] = [
-			{
-				id: 1,
-				name: "Pilot One",
-				weight: 80,
-				email: "p1@example.com",
-				pilot: true,
-				skydiver: false,
-			},
-		];
+		const page: PersonPage = {
+			content: [pilot],
+			size: 50,
+			hasNext: false,
+			nextCursor: null,
+			approximateTotal: null,
+		};
 
 		mockFetch.mockImplementationOnce(() =>
 			Promise.resolve({
@@ -34,7 +40,7 @@ describe("person api", () => {
 				/**
 				 * Mocked JSON body returning paged content
 				 */
-				json: () => Promise.resolve({ content: pilots }),
+				json: () => Promise.resolve(page),
 			} as unknown as Response),
 		);
 
@@ -43,44 +49,39 @@ describe("person api", () => {
 		expect(res[0].name).toBe("Pilot One");
 	});
 
-	it("fetchPilots falls back to /api/person if search returns 404 and filters pilots", async () => {
-		const all: Person[] = [
-			{
-				id: 1,
-				name: "Pilot One",
-				weight: 80,
-				email: "p1@example.com",
-				pilot: true,
-				skydiver: false,
-			},
-			{
-				id: 2,
-				name: "Not Pilot",
-				weight: 70,
-				email: "np@example.com",
-				pilot: false,
-				skydiver: false,
-			},
-		];
-
+	it("fetchPilots rejects when search fails instead of reading the whole person table", async () => {
 		mockFetch.mockImplementationOnce(() =>
 			Promise.resolve({ ok: false, status: 404, statusText: "Not Found" } as unknown as Response),
 		);
 
+		await expect(fetchPilots()).rejects.toThrow(/404/);
+		expect(mockFetch).toHaveBeenCalledTimes(1);
+	});
+
+	it("fetchPersonPage requests a single page and passes the cursor", async () => {
+		const page: PersonPage = {
+			content: [pilot],
+			size: 50,
+			hasNext: true,
+			nextCursor: "c2",
+			approximateTotal: null,
+		};
+
 		mockFetch.mockImplementationOnce(() =>
 			Promise.resolve({
-				ok: true /**
-				 * Mocked fallback response body
-				 */,
+				ok: true,
 				/**
-				 * Mocked fallback JSON returning all persons
+				 * Mocked JSON body returning one page with a follow-up cursor
 				 */
-				json: () => Promise.resolve(all),
+				json: () => Promise.resolve(page),
 			} as unknown as Response),
 		);
 
-		const res = await fetchPilots();
-		expect(res).toHaveLength(1);
-		expect(res[0].name).toBe("Pilot One");
+		const res = await fetchPersonPage("c1");
+		expect(res.nextCursor).toBe("c2");
+		expect(mockFetch).toHaveBeenCalledTimes(1);
+		const url = String(mockFetch.mock.calls[0][0]);
+		expect(url).toContain("after=c1");
+		expect(url).toContain("size=50");
 	});
 });
@@ -1,13 +1,26 @@
-import type { CreatePersonRequest, Person } from "./types";
+import type { CreatePersonRequest, Person, PersonPage } from "./types";
 import { fetchWithAuth } from "../../lib/fetchClient";
 
+/** Number of persons requested per page of the listing */
+export const PERSON_PAGE_SIZE = 50;
+
 /**
- * Fetch person list.
+ * Fetch one page of the person list. The first page also asks for an estimate of the total.
+ * @param after - cursor from the previous page's `nextCursor`; omit for the first page
  * @param signal - optional AbortSignal
- * @returns Promise resolving to Person[]
+ * @returns Promise resolving to the page
  */
-export async function fetchPerson(signal?: AbortSignal): Promise<Person[]> {
-	const res = await fetchWithAuth(`/person`, { signal });
+export async function fetchPersonPage(
+	after?: string | null,
+	signal?: AbortSignal,
+): Promise<PersonPage> {
+	const params = new URLSearchParams({ size: String(PERSON_PAGE_SIZE) });
+	if (after) {
+		params.set("after", after);
+	} else {
+		params.set("approximateCount", "true");
+	}
+	const res = await fetchWithAuth(`/person?${params}`, { signal });
 	if (!res.ok) {
 		throw new Error(`Failed to fetch person: ${res.status} ${res.statusText}`);
 	}
@@ -40,16 +53,10 @@ export async function createPerson(payload: CreatePersonRequest): Promise<Person
 export async function fetchPilots(signal?: AbortSignal): Promise<Person[]> {
 	const res = await fetchWithAuth(`/person/search?pilot=true`, { signal });
 	if (!res.ok) {
-		if (res.status === 404) {
-			const all = await fetchPerson(signal);
-			return all.filter((person) => person.pilot);
-		}
 		throw new Error(`Failed to fetch pilots: ${res.status} ${res.statusText}`);
 	}
-	const page = await res.json();
-	if (Array.isArray(page)) return page;
-	if (page && Array.isArray(page.content)) return page.content;
-	return [];
+	const page: PersonPage = await res.json();
+	return page.content;
 }
 
 /**
@@ -60,14 +67,8 @@ export async function fetchPilots(signal?: AbortSignal): Promise<Person[]> {
 export async function fetchSkydivers(signal?: AbortSignal): Promise<Person[]> {
 	const res = await fetchWithAuth(`/person/search?skydiver=true`, { signal });
 	if (!res.ok) {
-		if (res.status === 404) {
-			const all = await fetchPerson(signal);
-			return all.filter((person) => person.skydiver);
-		}
 		throw new Error(`Failed to fetch skydivers: ${res.status} ${res.statusText}`);
 	}
-	const page = await res.json();
-	if (Array.isArray(page)) return page;
-	if (page && Array.isArray(page.content)) return page.content;
-	return [];
+	const page: PersonPage = await res.json();
+	return page.content;
 }
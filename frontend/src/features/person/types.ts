@@ -21,6 +21,22 @@ export type Person = {
 	email: string;
 };
 
+/**
+ * One page of the person listing, in (lastName, firstName, id) order.
+ */
+export type PersonPage = {
+	/** Persons on this page */
+	content: Person[];
+	/** Requested page size */
+	size: number;
+	/** Whether another page follows */
+	hasNext: boolean;
+	/** Cursor to pass as `after` for the next page, or null on the last page */
+	nextCursor: string | null;
+	/** Cheap estimate of the total number of persons, when requested */
+	approximateTotal: number | null;
+};
+
 /**
  * Payload used to create a new person via the API.
  * All fields are required when creating a person from the client.
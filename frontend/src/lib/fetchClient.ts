@@ -147,16 +147,32 @@ async function doRefresh(): Promise<boolean> {
 	return refreshPromise;
 }
 
+/**
+ * Generate a fresh Idempotency-Key for a mutating request (best-effort when crypto is unavailable).
+ */
+function newIdempotencyKey(): string | null {
+	try {
+		return typeof crypto !== "undefined" && typeof crypto.randomUUID === "function" ? crypto.randomUUID() : null;
+	} catch (err) {
+		logger.debug("newIdempotencyKey: failed to generate key:", err);
+		return null;
+	}
+}
+
 /**
  * Perform a fetch with Authorization handling, refresh-on-401, and default credentials.
  */
 export async function fetchWithAuth(input: RequestInfo, init: RequestInit = {}): Promise<Response> {
+	const idempotencyKey = (init.method ?? "GET").toUpperCase() === "POST" ? newIdempotencyKey() : null;
+
 	/**
 	 * Internal helper that performs the actual fetch call with the prepared headers.
 	 * Returns the raw `Response` from `fetch` and does not perform 401 handling.
 	 */
 	async function doFetch(): Promise<Response> {
 		const headers = new Headers(init.headers as HeadersInit | undefined);
+		// Reuse one key for every attempt of this call so the backend can replay instead of re-executing
+		if (idempotencyKey && !headers.has("Idempotency-Key")) headers.set("Idempotency-Key", idempotencyKey);
 
 		try {
 			let token = getAuthToken();
@@ -2,6 +2,7 @@ package xyz.soda.slowfall.airport.api;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -51,4 +52,19 @@ public class AirportController {
     public List<AirportDto> listAirports() {
         return service.listAllAirports().stream().map(AirportDto::from).toList();
     }
+
+    /**
+     * Delete an airport.
+     * @param id the airport id
+     * @return HTTP 204, or 400 if the airport does not exist or still has jumps
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteAirport(@PathVariable UUID id) {
+        try {
+            service.deleteAirport(id);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
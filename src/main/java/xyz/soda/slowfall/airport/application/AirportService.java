@@ -1,22 +1,43 @@
 package xyz.soda.slowfall.airport.application;
 
+import java.util.List;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import xyz.soda.slowfall.airport.api.CreateAirportRequest;
 import xyz.soda.slowfall.airport.domain.Airport;
 import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+import xyz.soda.slowfall.sync.domain.Tombstone;
+import xyz.soda.slowfall.sync.infra.TombstoneRepository;
 
 @Service
 public class AirportService {
     private final AirportRepository repository;
+    private final JumpRepository jumpRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final ApplicationEventPublisher events;
 
     /**
      * Create a new AirportService.
      *
-     * @param repository repository used to persist airports
+     * @param repository          repository used to persist airports
+     * @param jumpRepository      repository used to check whether an airport is still in use
+     * @param tombstoneRepository repository recording deletions for delta sync
+     * @param events              publisher notifying caches of committed airport changes
      */
-    public AirportService(AirportRepository repository) {
+    public AirportService(
+            AirportRepository repository,
+            JumpRepository jumpRepository,
+            TombstoneRepository tombstoneRepository,
+            ApplicationEventPublisher events) {
         this.repository = repository;
+        this.jumpRepository = jumpRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.events = events;
     }
 
     /**
@@ -26,8 +47,9 @@ public class AirportService {
      */
     @Transactional
     public Airport createAirport(CreateAirportRequest request) {
-        Airport airport = new Airport(request.icaoCode(), request.name(), request.timezone());
-        return repository.save(airport);
+        Airport saved = repository.save(new Airport(request.icaoCode(), request.name(), request.timezone()));
+        events.publishEvent(new EntitiesChangedEvent(SyncKind.AIRPORT, List.of(saved.getId())));
+        return saved;
     }
 
     /**
@@ -35,7 +57,23 @@ public class AirportService {
      * @return list of all Airport entities
      */
     @Transactional(readOnly = true)
-    public java.util.List<Airport> listAllAirports() {
+    public List<Airport> listAllAirports() {
         return repository.findAll();
     }
+
+    /**
+     * Delete an airport no jump takes place at, leaving a tombstone for synced clients.
+     * @param id the airport id
+     * @throws IllegalArgumentException if the airport is not found or still has jumps
+     */
+    @Transactional
+    public void deleteAirport(UUID id) {
+        Airport airport = repository.findById(id).orElseThrow(() -> new IllegalArgumentException("Airport not found"));
+        if (jumpRepository.existsByAirportId(id)) {
+            throw new IllegalArgumentException("Airport still has jumps");
+        }
+        repository.delete(airport);
+        tombstoneRepository.save(new Tombstone(SyncKind.AIRPORT, id));
+        events.publishEvent(new EntitiesChangedEvent(SyncKind.AIRPORT, List.of(id)));
+    }
 }
@@ -2,14 +2,22 @@ package xyz.soda.slowfall.airport.domain;
 
 import jakarta.persistence.*;
 import java.util.UUID;
+import org.hibernate.annotations.ColumnDefault;
+import xyz.soda.slowfall.sync.domain.ChangeVersionListener;
+import xyz.soda.slowfall.sync.domain.Versioned;
 
 @Entity
-@Table(name = "airports")
-public class Airport {
+@EntityListeners(ChangeVersionListener.class)
+@Table(name = "airports", indexes = @Index(name = "idx_airports_change_version", columnList = "change_version"))
+public class Airport implements Versioned {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     @Column()
     private String icaoCode;
 
@@ -100,4 +108,17 @@ public class Airport {
         }
         this.timezone = timezone.trim();
     }
+
+    /**
+     * Get the version of the last change to this airport, used by delta sync.
+     * @return the change version
+     */
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void assignChangeVersion(long version) {
+        this.changeVersion = version;
+    }
 }
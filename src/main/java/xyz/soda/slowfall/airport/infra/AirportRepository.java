@@ -1,8 +1,12 @@
 package xyz.soda.slowfall.airport.infra;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import xyz.soda.slowfall.airport.domain.Airport;
 
 public interface AirportRepository extends JpaRepository<Airport, UUID> {
@@ -21,4 +25,16 @@ public interface AirportRepository extends JpaRepository<Airport, UUID> {
      * @return an Optional containing the Airport if found
      */
     Optional<Airport> findByName(String name);
+
+    /**
+     * Find airports with a change version in {@code (since, until]}, oldest change first.
+     *
+     * @param since exclusive lower version bound
+     * @param until inclusive upper version bound
+     * @param limit maximum number of rows
+     * @return the changed airports
+     */
+    @Query("select a from Airport a where a.changeVersion > :since and a.changeVersion <= :until"
+            + " order by a.changeVersion")
+    List<Airport> findChangedBetween(@Param("since") long since, @Param("until") long until, Limit limit);
 }
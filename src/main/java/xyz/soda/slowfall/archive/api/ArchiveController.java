@@ -0,0 +1,58 @@
+package xyz.soda.slowfall.archive.api;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.archive.application.JumpArchiveService;
+import xyz.soda.slowfall.archive.domain.ArchiveQuery;
+
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController {
+    private final JumpArchiveService service;
+
+    /**
+     * Create a new instance of {@code ArchiveController}.
+     *
+     * @param service the service exporting and scanning the jump archive
+     */
+    public ArchiveController(JumpArchiveService service) {
+        this.service = service;
+    }
+
+    /**
+     * Aggregate archived jumps. All filters are optional.
+     *
+     * @param from      inclusive start of the window (ISO-8601 instant)
+     * @param to        exclusive end of the window (ISO-8601 instant)
+     * @param airportId only count jumps at this airport
+     * @param personId  only count jumps with this skydiver on the roster
+     * @return ResponseEntity with the statistics and HTTP 200, or 400 if {@code to} is not after {@code from}
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ArchiveStatsDto> stats(
+            @RequestParam(name = "from", required = false) Instant from,
+            @RequestParam(name = "to", required = false) Instant to,
+            @RequestParam(name = "airportId", required = false) UUID airportId,
+            @RequestParam(name = "personId", required = false) UUID personId) {
+        try {
+            ArchiveQuery query = new ArchiveQuery(from, to, airportId, personId);
+            return ResponseEntity.ok(ArchiveStatsDto.from(service.scan(query)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Export every closed month that has not been archived yet.
+     *
+     * @return the exported months ({@code yyyy-MM})
+     */
+    @PostMapping("/export")
+    public List<String> export() {
+        return service.exportClosedMonths().stream().map(YearMonth::toString).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package xyz.soda.slowfall.archive.api;
+
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import xyz.soda.slowfall.archive.domain.ArchiveStats;
+
+/**
+ * Data transfer object for aggregated archive statistics.
+ *
+ * @param jumps               number of matching jumps
+ * @param skydiverSlots       total skydiver slots on matching jumps
+ * @param distinctSkydivers   number of distinct skydivers on matching jumps
+ * @param distinctPilots      number of distinct pilots on matching jumps
+ * @param averageAltitudeFeet average exit altitude in feet
+ * @param jumpsByAirport      jump count per airport id
+ * @param jumpsByMonth        jump count per UTC month ({@code yyyy-MM}), in month order
+ */
+public record ArchiveStatsDto(
+        long jumps,
+        long skydiverSlots,
+        int distinctSkydivers,
+        int distinctPilots,
+        double averageAltitudeFeet,
+        Map<UUID, Long> jumpsByAirport,
+        Map<String, Long> jumpsByMonth) {
+
+    /**
+     * Convert ArchiveStats to an ArchiveStatsDto.
+     * @param stats the aggregated statistics
+     * @return a populated ArchiveStatsDto
+     */
+    public static ArchiveStatsDto from(ArchiveStats stats) {
+        Map<String, Long> byMonth = new LinkedHashMap<>();
+        for (Map.Entry<YearMonth, Long> entry : stats.getJumpsByMonth().entrySet()) {
+            byMonth.put(entry.getKey().toString(), entry.getValue());
+        }
+        return new ArchiveStatsDto(
+                stats.getJumps(),
+                stats.getSkydiverSlots(),
+                stats.getDistinctSkydivers(),
+                stats.getDistinctPilots(),
+                stats.getAverageAltitudeFeet(),
+                stats.getJumpsByAirport(),
+                byMonth);
+    }
+}
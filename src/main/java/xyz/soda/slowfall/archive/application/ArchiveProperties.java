@@ -0,0 +1,18 @@
+package xyz.soda.slowfall.archive.application;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Jump archive settings bound from {@code app.archive.*}.
+ *
+ * @param directory      directory holding one archive file per UTC month
+ * @param exportCron     schedule of the export job; {@code -} disables it
+ * @param cachedSegments number of decoded monthly segments kept in memory between scans
+ */
+@ConfigurationProperties(prefix = "app.archive")
+public record ArchiveProperties(
+        @DefaultValue("data/archive") Path directory,
+        @DefaultValue("-") String exportCron,
+        @DefaultValue("36") int cachedSegments) {}
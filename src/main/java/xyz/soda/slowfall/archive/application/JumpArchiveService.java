@@ -0,0 +1,155 @@
+package xyz.soda.slowfall.archive.application;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import xyz.soda.slowfall.archive.domain.ArchiveQuery;
+import xyz.soda.slowfall.archive.domain.ArchiveStats;
+import xyz.soda.slowfall.archive.domain.ArchivedJump;
+import xyz.soda.slowfall.archive.domain.JumpArchiveSegment;
+import xyz.soda.slowfall.archive.infra.ColumnarArchiveCodec;
+import xyz.soda.slowfall.archive.infra.JumpArchiveSource;
+
+/**
+ * Exports closed months of jumps to columnar files and answers aggregate queries from those files.
+ *
+ * <p>A month is closed once it has fully passed in UTC; its file is written once and never rewritten, so
+ * decoded segments can be cached safely. Scans read only the file headers to skip months outside the query
+ * window, then decode and aggregate the remaining months in parallel on the common fork-join pool, one task
+ * per month. Postgres is never touched by a scan.</p>
+ */
+public class JumpArchiveService {
+    private static final Logger log = LoggerFactory.getLogger(JumpArchiveService.class);
+    private static final DateTimeFormatter FILE_MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+    private static final String PREFIX = "jumps-";
+    private static final String SUFFIX = ".sfja";
+
+    private final JumpArchiveSource source;
+    private final Path directory;
+    private final Clock clock;
+    private final Map<Path, JumpArchiveSegment> cache;
+
+    /**
+     * Create a new JumpArchiveService.
+     *
+     * @param source     reader for closed jumps
+     * @param properties the bound archive settings
+     * @param clock      clock used to decide which months are closed
+     */
+    public JumpArchiveService(JumpArchiveSource source, ArchiveProperties properties, Clock clock) {
+        this.source = source;
+        this.directory = properties.directory();
+        this.clock = clock;
+        int maxCached = properties.cachedSegments();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, JumpArchiveSegment> eldest) {
+                return size() > maxCached;
+            }
+        };
+    }
+
+    /**
+     * Export every closed month that has no archive file yet, starting from the month of the earliest jump.
+     *
+     * @return the months that were exported
+     */
+    @Scheduled(cron = "${app.archive.export-cron:-}", zone = "UTC")
+    public List<YearMonth> exportClosedMonths() {
+        Instant earliest = source.earliestJumpTime();
+        if (earliest == null) return List.of();
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        List<YearMonth> exported = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            for (YearMonth month = YearMonth.from(earliest.atOffset(ZoneOffset.UTC));
+                    month.isBefore(current);
+                    month = month.plusMonths(1)) {
+                Path file = fileFor(month);
+                if (Files.exists(file)) continue;
+                List<ArchivedJump> jumps = source.load(start(month), start(month.plusMonths(1)));
+                ColumnarArchiveCodec.write(file, JumpArchiveSegment.of(jumps));
+                exported.add(month);
+                log.info("Archived {} jumps for {}", jumps.size(), month);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write jump archive", e);
+        }
+        return exported;
+    }
+
+    /**
+     * Run an aggregate query over the archived months.
+     *
+     * @param query the filter
+     * @return the aggregated statistics
+     */
+    public ArchiveStats scan(ArchiveQuery query) {
+        List<Path> candidates = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(JumpArchiveService::isArchiveFile).sorted().toList()) {
+                ColumnarArchiveCodec.Header header = ColumnarArchiveCodec.readHeader(file);
+                if (header.rows() > 0 && query.overlaps(header.minEpochSecond(), header.maxEpochSecond())) {
+                    candidates.add(file);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return new ArchiveStats();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list jump archive", e);
+        }
+
+        return candidates.parallelStream()
+                .map(file -> {
+                    ArchiveStats partial = new ArchiveStats();
+                    segment(file).scan(query, partial);
+                    return partial;
+                })
+                .reduce(ArchiveStats::merge)
+                .orElseGet(ArchiveStats::new);
+    }
+
+    private JumpArchiveSegment segment(Path file) {
+        synchronized (cache) {
+            JumpArchiveSegment cached = cache.get(file);
+            if (cached != null) return cached;
+        }
+        try {
+            JumpArchiveSegment decoded = ColumnarArchiveCodec.read(file);
+            synchronized (cache) {
+                cache.put(file, decoded);
+            }
+            return decoded;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read jump archive " + file, e);
+        }
+    }
+
+    private Path fileFor(YearMonth month) {
+        return directory.resolve(PREFIX + month.format(FILE_MONTH) + SUFFIX);
+    }
+
+    private static boolean isArchiveFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    private static Instant start(YearMonth month) {
+        return month.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    }
+}
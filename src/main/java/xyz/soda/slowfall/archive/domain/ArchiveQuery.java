@@ -0,0 +1,59 @@
+package xyz.soda.slowfall.archive.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Filter applied when scanning the archive. Every bound is optional.
+ *
+ * @param from      inclusive lower bound on jump time, or {@code null}
+ * @param to        exclusive upper bound on jump time, or {@code null}
+ * @param airportId only count jumps at this airport, or {@code null} for all airports
+ * @param personId  only count jumps with this skydiver on the roster, or {@code null} for everyone
+ */
+public record ArchiveQuery(Instant from, Instant to, UUID airportId, UUID personId) {
+
+    /**
+     * Validate the bounds.
+     *
+     * @throws IllegalArgumentException if both bounds are given and {@code to} is not after {@code from}
+     */
+    public ArchiveQuery {
+        if (from != null && to != null && !to.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+    }
+
+    /**
+     * Inclusive lower bound in epoch seconds (archived times have whole-second precision).
+     *
+     * @return the bound, or {@link Long#MIN_VALUE} when unbounded
+     */
+    public long fromEpochSecond() {
+        return from == null ? Long.MIN_VALUE : ceilSeconds(from);
+    }
+
+    /**
+     * Exclusive upper bound in epoch seconds (archived times have whole-second precision).
+     *
+     * @return the bound, or {@link Long#MAX_VALUE} when unbounded
+     */
+    public long toEpochSecond() {
+        return to == null ? Long.MAX_VALUE : ceilSeconds(to);
+    }
+
+    /**
+     * Whether a segment covering {@code [minEpochSecond, maxEpochSecond]} can contain matching jumps.
+     *
+     * @param minEpochSecond earliest jump time in the segment
+     * @param maxEpochSecond latest jump time in the segment
+     * @return {@code false} if the segment can be skipped
+     */
+    public boolean overlaps(long minEpochSecond, long maxEpochSecond) {
+        return maxEpochSecond >= fromEpochSecond() && minEpochSecond < toEpochSecond();
+    }
+
+    private static long ceilSeconds(Instant instant) {
+        return instant.getNano() == 0 ? instant.getEpochSecond() : instant.getEpochSecond() + 1;
+    }
+}
@@ -0,0 +1,147 @@
+package xyz.soda.slowfall.archive.domain;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Aggregates produced by an archive scan. One instance is filled per segment and the partial results are
+ * merged, so instances are not thread-safe.
+ */
+public class ArchiveStats {
+    private long jumps;
+    private long skydiverSlots;
+    private long altitudeFeetSum;
+    private final Set<UUID> skydivers = new HashSet<>();
+    private final Set<UUID> pilots = new HashSet<>();
+    private final Map<UUID, Long> jumpsByAirport = new HashMap<>();
+    private final Map<YearMonth, Long> jumpsByMonth = new TreeMap<>();
+
+    /**
+     * Count matching jumps.
+     *
+     * @param count           number of jumps
+     * @param rosterSizeSum   total number of skydivers on those jumps
+     * @param altitudeFeetSum sum of their exit altitudes in feet
+     */
+    public void addJumps(long count, long rosterSizeSum, long altitudeFeetSum) {
+        this.jumps += count;
+        this.skydiverSlots += rosterSizeSum;
+        this.altitudeFeetSum += altitudeFeetSum;
+    }
+
+    /**
+     * Count matching jumps at an airport.
+     *
+     * @param airportId the airport id
+     * @param count     number of jumps
+     */
+    public void addAirport(UUID airportId, long count) {
+        jumpsByAirport.merge(airportId, count, Long::sum);
+    }
+
+    /**
+     * Count matching jumps in a month.
+     *
+     * @param month the UTC month
+     * @param count number of jumps
+     */
+    public void addMonth(YearMonth month, long count) {
+        jumpsByMonth.merge(month, count, Long::sum);
+    }
+
+    /**
+     * Record a skydiver seen on a matching jump.
+     *
+     * @param personId the skydiver id
+     */
+    public void addSkydiver(UUID personId) {
+        skydivers.add(personId);
+    }
+
+    /**
+     * Record a pilot seen on a matching jump.
+     *
+     * @param personId the pilot id
+     */
+    public void addPilot(UUID personId) {
+        pilots.add(personId);
+    }
+
+    /**
+     * Fold another partial result into this one.
+     *
+     * @param other the partial result
+     * @return this instance
+     */
+    public ArchiveStats merge(ArchiveStats other) {
+        jumps += other.jumps;
+        skydiverSlots += other.skydiverSlots;
+        altitudeFeetSum += other.altitudeFeetSum;
+        skydivers.addAll(other.skydivers);
+        pilots.addAll(other.pilots);
+        other.jumpsByAirport.forEach((airport, count) -> jumpsByAirport.merge(airport, count, Long::sum));
+        other.jumpsByMonth.forEach((month, count) -> jumpsByMonth.merge(month, count, Long::sum));
+        return this;
+    }
+
+    /**
+     * Get the number of matching jumps.
+     * @return the jump count
+     */
+    public long getJumps() {
+        return jumps;
+    }
+
+    /**
+     * Get the total number of skydiver slots on matching jumps.
+     * @return the slot count
+     */
+    public long getSkydiverSlots() {
+        return skydiverSlots;
+    }
+
+    /**
+     * Get the number of distinct skydivers on matching jumps.
+     * @return the distinct skydiver count
+     */
+    public int getDistinctSkydivers() {
+        return skydivers.size();
+    }
+
+    /**
+     * Get the number of distinct pilots on matching jumps.
+     * @return the distinct pilot count
+     */
+    public int getDistinctPilots() {
+        return pilots.size();
+    }
+
+    /**
+     * Get the average exit altitude of matching jumps.
+     * @return the average altitude in feet, or {@code 0} when nothing matched
+     */
+    public double getAverageAltitudeFeet() {
+        return jumps == 0 ? 0 : (double) altitudeFeetSum / jumps;
+    }
+
+    /**
+     * Get the matching jump count per airport.
+     * @return map from airport id to jump count
+     */
+    public Map<UUID, Long> getJumpsByAirport() {
+        return Map.copyOf(jumpsByAirport);
+    }
+
+    /**
+     * Get the matching jump count per UTC month, in month order.
+     * @return map from month to jump count
+     */
+    public Map<YearMonth, Long> getJumpsByMonth() {
+        return new TreeMap<>(jumpsByMonth);
+    }
+}
@@ -0,0 +1,17 @@
+package xyz.soda.slowfall.archive.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A closed jump and its roster as written to the columnar archive.
+ *
+ * @param jumpTime     the time the jump took place
+ * @param airportId    the airport the jump took place at
+ * @param altitudeFeet exit altitude in feet
+ * @param skydivers    ids of the skydivers on the load
+ * @param pilots       ids of the pilots flying the load
+ */
+public record ArchivedJump(
+        Instant jumpTime, UUID airportId, int altitudeFeet, List<UUID> skydivers, List<UUID> pilots) {}
@@ -0,0 +1,323 @@
+package xyz.soda.slowfall.archive.domain;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An immutable, column-oriented block of archived jumps, sorted by jump time.
+ *
+ * <p>Each attribute lives in its own primitive array, and the repetitive UUID columns (airport, rosters) are
+ * dictionary-encoded into small integer codes. A scan therefore touches only the columns its filter and
+ * aggregates need, compares ints instead of UUIDs, and narrows the time filter to a row range with two binary
+ * searches.</p>
+ */
+public final class JumpArchiveSegment {
+    private final long[] times;
+    private final int[] airportCodes;
+    private final UUID[] airports;
+    private final int[] altitudes;
+    private final int[] rosterOffsets;
+    private final int[] rosterCodes;
+    private final UUID[] persons;
+    private final int[] pilotOffsets;
+    private final int[] pilotCodes;
+    private final UUID[] pilots;
+
+    /**
+     * Create a segment from decoded columns. Arrays are taken over, not copied.
+     *
+     * @param times         jump times in epoch seconds, ascending
+     * @param airportCodes  per-row index into {@code airports}
+     * @param airports      airport dictionary
+     * @param altitudes     per-row exit altitude in feet
+     * @param rosterOffsets start of each row's roster in {@code rosterCodes}; one more entry than rows
+     * @param rosterCodes   concatenated rosters as indexes into {@code persons}
+     * @param persons       skydiver dictionary
+     * @param pilotOffsets  start of each row's pilots in {@code pilotCodes}; one more entry than rows
+     * @param pilotCodes    concatenated pilot lists as indexes into {@code pilots}
+     * @param pilots        pilot dictionary
+     */
+    public JumpArchiveSegment(
+            long[] times,
+            int[] airportCodes,
+            UUID[] airports,
+            int[] altitudes,
+            int[] rosterOffsets,
+            int[] rosterCodes,
+            UUID[] persons,
+            int[] pilotOffsets,
+            int[] pilotCodes,
+            UUID[] pilots) {
+        int rows = times.length;
+        if (airportCodes.length != rows
+                || altitudes.length != rows
+                || rosterOffsets.length != rows + 1
+                || pilotOffsets.length != rows + 1) {
+            throw new IllegalArgumentException("Column lengths do not match");
+        }
+        this.times = times;
+        this.airportCodes = airportCodes;
+        this.airports = airports;
+        this.altitudes = altitudes;
+        this.rosterOffsets = rosterOffsets;
+        this.rosterCodes = rosterCodes;
+        this.persons = persons;
+        this.pilotOffsets = pilotOffsets;
+        this.pilotCodes = pilotCodes;
+        this.pilots = pilots;
+    }
+
+    /**
+     * Build a segment from row-oriented jumps, sorting them by time and building the dictionaries.
+     *
+     * @param jumps the jumps to encode
+     * @return the segment
+     */
+    public static JumpArchiveSegment of(List<ArchivedJump> jumps) {
+        List<ArchivedJump> sorted = new ArrayList<>(jumps);
+        sorted.sort(Comparator.comparing(ArchivedJump::jumpTime));
+        int rows = sorted.size();
+        long[] times = new long[rows];
+        int[] airportCodes = new int[rows];
+        int[] altitudes = new int[rows];
+        int[] rosterOffsets = new int[rows + 1];
+        int[] pilotOffsets = new int[rows + 1];
+        Map<UUID, Integer> airportDictionary = new HashMap<>();
+        Map<UUID, Integer> personDictionary = new HashMap<>();
+        Map<UUID, Integer> pilotDictionary = new HashMap<>();
+        List<Integer> rosterCodes = new ArrayList<>();
+        List<Integer> pilotCodes = new ArrayList<>();
+
+        for (int i = 0; i < rows; i++) {
+            ArchivedJump jump = sorted.get(i);
+            times[i] = jump.jumpTime().getEpochSecond();
+            airportCodes[i] = airportDictionary.computeIfAbsent(jump.airportId(), k -> airportDictionary.size());
+            altitudes[i] = jump.altitudeFeet();
+            for (UUID skydiver : jump.skydivers()) {
+                rosterCodes.add(personDictionary.computeIfAbsent(skydiver, k -> personDictionary.size()));
+            }
+            rosterOffsets[i + 1] = rosterCodes.size();
+            for (UUID pilot : jump.pilots()) {
+                pilotCodes.add(pilotDictionary.computeIfAbsent(pilot, k -> pilotDictionary.size()));
+            }
+            pilotOffsets[i + 1] = pilotCodes.size();
+        }
+        return new JumpArchiveSegment(
+                times,
+                airportCodes,
+                dictionary(airportDictionary),
+                altitudes,
+                rosterOffsets,
+                rosterCodes.stream().mapToInt(Integer::intValue).toArray(),
+                dictionary(personDictionary),
+                pilotOffsets,
+                pilotCodes.stream().mapToInt(Integer::intValue).toArray(),
+                dictionary(pilotDictionary));
+    }
+
+    /**
+     * Add the rows matching {@code query} to {@code stats}.
+     *
+     * @param query the filter
+     * @param stats the accumulator to fill
+     */
+    public void scan(ArchiveQuery query, ArchiveStats stats) {
+        int start = lowerBound(query.fromEpochSecond());
+        int end = lowerBound(query.toEpochSecond());
+        int airportFilter = query.airportId() == null ? -1 : indexOf(airports, query.airportId());
+        int personFilter = query.personId() == null ? -1 : indexOf(persons, query.personId());
+        if ((query.airportId() != null && airportFilter < 0) || (query.personId() != null && personFilter < 0)) {
+            return;
+        }
+
+        long[] perAirport = new long[airports.length];
+        boolean[] seen = new boolean[persons.length];
+        boolean[] flew = new boolean[pilots.length];
+        long count = 0;
+        long slots = 0;
+        long altitudeSum = 0;
+        YearMonth month = null;
+        long monthEnd = Long.MIN_VALUE;
+        long monthCount = 0;
+
+        for (int i = start; i < end; i++) {
+            if (airportFilter >= 0 && airportCodes[i] != airportFilter) continue;
+            if (personFilter >= 0 && !rosterContains(i, personFilter)) continue;
+
+            if (times[i] >= monthEnd) {
+                if (monthCount > 0) stats.addMonth(month, monthCount);
+                month = YearMonth.from(Instant.ofEpochSecond(times[i]).atOffset(ZoneOffset.UTC));
+                monthEnd = month.plusMonths(1).atDay(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+                monthCount = 0;
+            }
+            monthCount++;
+            count++;
+            altitudeSum += altitudes[i];
+            perAirport[airportCodes[i]]++;
+            for (int k = rosterOffsets[i]; k < rosterOffsets[i + 1]; k++) {
+                seen[rosterCodes[k]] = true;
+            }
+            slots += rosterOffsets[i + 1] - rosterOffsets[i];
+            for (int k = pilotOffsets[i]; k < pilotOffsets[i + 1]; k++) {
+                flew[pilotCodes[k]] = true;
+            }
+        }
+
+        if (monthCount > 0) stats.addMonth(month, monthCount);
+        stats.addJumps(count, slots, altitudeSum);
+        for (int code = 0; code < perAirport.length; code++) {
+            if (perAirport[code] > 0) stats.addAirport(airports[code], perAirport[code]);
+        }
+        for (int code = 0; code < seen.length; code++) {
+            if (seen[code]) stats.addSkydiver(persons[code]);
+        }
+        for (int code = 0; code < flew.length; code++) {
+            if (flew[code]) stats.addPilot(pilots[code]);
+        }
+    }
+
+    /**
+     * Get the number of rows.
+     * @return the row count
+     */
+    public int size() {
+        return times.length;
+    }
+
+    /**
+     * Get the earliest jump time.
+     * @return epoch seconds, or {@code 0} for an empty segment
+     */
+    public long minEpochSecond() {
+        return times.length == 0 ? 0 : times[0];
+    }
+
+    /**
+     * Get the latest jump time.
+     * @return epoch seconds, or {@code -1} for an empty segment
+     */
+    public long maxEpochSecond() {
+        return times.length == 0 ? -1 : times[times.length - 1];
+    }
+
+    /**
+     * Get the jump time column.
+     * @return epoch seconds per row; do not modify
+     */
+    public long[] times() {
+        return times;
+    }
+
+    /**
+     * Get the airport code column.
+     * @return per-row index into {@link #airports()}; do not modify
+     */
+    public int[] airportCodes() {
+        return airportCodes;
+    }
+
+    /**
+     * Get the airport dictionary.
+     * @return airport ids by code; do not modify
+     */
+    public UUID[] airports() {
+        return airports;
+    }
+
+    /**
+     * Get the altitude column.
+     * @return exit altitude in feet per row; do not modify
+     */
+    public int[] altitudes() {
+        return altitudes;
+    }
+
+    /**
+     * Get the roster offsets.
+     * @return start of each row's roster in {@link #rosterCodes()}, plus a final end offset; do not modify
+     */
+    public int[] rosterOffsets() {
+        return rosterOffsets;
+    }
+
+    /**
+     * Get the concatenated roster column.
+     * @return indexes into {@link #persons()}; do not modify
+     */
+    public int[] rosterCodes() {
+        return rosterCodes;
+    }
+
+    /**
+     * Get the skydiver dictionary.
+     * @return skydiver ids by code; do not modify
+     */
+    public UUID[] persons() {
+        return persons;
+    }
+
+    /**
+     * Get the pilot offsets.
+     * @return start of each row's pilots in {@link #pilotCodes()}, plus a final end offset; do not modify
+     */
+    public int[] pilotOffsets() {
+        return pilotOffsets;
+    }
+
+    /**
+     * Get the concatenated pilot column.
+     * @return indexes into {@link #pilots()}; do not modify
+     */
+    public int[] pilotCodes() {
+        return pilotCodes;
+    }
+
+    /**
+     * Get the pilot dictionary.
+     * @return pilot ids by code; do not modify
+     */
+    public UUID[] pilots() {
+        return pilots;
+    }
+
+    private boolean rosterContains(int row, int personCode) {
+        for (int k = rosterOffsets[row]; k < rosterOffsets[row + 1]; k++) {
+            if (rosterCodes[k] == personCode) return true;
+        }
+        return false;
+    }
+
+    private int lowerBound(long epochSecond) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] < epochSecond) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int indexOf(UUID[] dictionary, UUID id) {
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i].equals(id)) return i;
+        }
+        return -1;
+    }
+
+    private static UUID[] dictionary(Map<UUID, Integer> codes) {
+        UUID[] result = new UUID[codes.size()];
+        codes.forEach((id, code) -> result[code] = id);
+        return result;
+    }
+}
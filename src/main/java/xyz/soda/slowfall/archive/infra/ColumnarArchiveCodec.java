@@ -0,0 +1,402 @@
+package xyz.soda.slowfall.archive.infra;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import xyz.soda.slowfall.archive.domain.JumpArchiveSegment;
+
+/**
+ * Reads and writes {@link JumpArchiveSegment}s in a compact columnar file format.
+ *
+ * <p>Layout: the magic {@code SFJA}, a version byte, then a fixed header (row count, min and max jump time)
+ * that lets a scan skip a file after reading 25 bytes. Seven column blocks follow, each deflate-compressed
+ * on its own and prefixed by its raw and compressed length:</p>
+ * <ol>
+ *   <li>jump times, as zig-zag varint deltas from the previous row;</li>
+ *   <li>airports, as a UUID dictionary followed by one varint code per row;</li>
+ *   <li>altitudes, as zig-zag varint deltas;</li>
+ *   <li>roster sizes, one varint per row;</li>
+ *   <li>roster members, as a UUID dictionary followed by one varint code per entry;</li>
+ *   <li>pilot counts, one varint per row;</li>
+ *   <li>pilots, as a UUID dictionary followed by one varint code per entry.</li>
+ * </ol>
+ * <p>Sorted times and repeated altitudes make most deltas a single byte, and deflate squeezes the
+ * remaining repetition out of the code columns. Version 1 files end after the roster members and are read
+ * with empty pilot lists.</p>
+ */
+public final class ColumnarArchiveCodec {
+    private static final int MAGIC = 0x53464a41; // "SFJA"
+    private static final byte VERSION = 2;
+    private static final byte FIRST_VERSION = 1;
+
+    private ColumnarArchiveCodec() {}
+
+    /**
+     * Header of an archive file.
+     *
+     * @param rows           number of rows
+     * @param minEpochSecond earliest jump time
+     * @param maxEpochSecond latest jump time
+     */
+    public record Header(int rows, long minEpochSecond, long maxEpochSecond) {}
+
+    /**
+     * Write a segment atomically: the file is written next to {@code target} and then moved into place.
+     *
+     * @param target  the file to write
+     * @param segment the segment to encode
+     * @throws IOException if writing fails
+     */
+    public static void write(Path target, JumpArchiveSegment segment) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            write(out, segment);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read only the header of an archive file.
+     *
+     * @param file the archive file
+     * @return the header
+     * @throws IOException if the file cannot be read or is not an archive file
+     */
+    public static Header readHeader(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+            readVersion(in);
+            return readHeader(in);
+        }
+    }
+
+    /**
+     * Read and decode a whole archive file.
+     *
+     * @param file the archive file
+     * @return the decoded segment
+     * @throws IOException if the file cannot be read or is corrupt
+     */
+    public static JumpArchiveSegment read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return read(in);
+        }
+    }
+
+    static void write(DataOutputStream out, JumpArchiveSegment segment) throws IOException {
+        int rows = segment.size();
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeInt(rows);
+        out.writeLong(segment.minEpochSecond());
+        out.writeLong(segment.maxEpochSecond());
+
+        ColumnWriter times = new ColumnWriter(rows * 2);
+        long previousTime = segment.minEpochSecond();
+        for (long time : segment.times()) {
+            times.writeSignedVarLong(time - previousTime);
+            previousTime = time;
+        }
+        writeBlock(out, times);
+
+        ColumnWriter airports = new ColumnWriter(rows + segment.airports().length * 16);
+        airports.writeDictionary(segment.airports());
+        for (int code : segment.airportCodes()) {
+            airports.writeVarLong(code);
+        }
+        writeBlock(out, airports);
+
+        ColumnWriter altitudes = new ColumnWriter(rows * 2);
+        int previousAltitude = 0;
+        for (int altitude : segment.altitudes()) {
+            altitudes.writeSignedVarLong((long) altitude - previousAltitude);
+            previousAltitude = altitude;
+        }
+        writeBlock(out, altitudes);
+
+        int[] offsets = segment.rosterOffsets();
+        ColumnWriter rosterSizes = new ColumnWriter(rows);
+        for (int i = 0; i < rows; i++) {
+            rosterSizes.writeVarLong(offsets[i + 1] - offsets[i]);
+        }
+        writeBlock(out, rosterSizes);
+
+        ColumnWriter members = new ColumnWriter(segment.rosterCodes().length * 2 + segment.persons().length * 16);
+        members.writeDictionary(segment.persons());
+        for (int code : segment.rosterCodes()) {
+            members.writeVarLong(code);
+        }
+        writeBlock(out, members);
+
+        int[] pilotOffsets = segment.pilotOffsets();
+        ColumnWriter pilotCounts = new ColumnWriter(rows);
+        for (int i = 0; i < rows; i++) {
+            pilotCounts.writeVarLong(pilotOffsets[i + 1] - pilotOffsets[i]);
+        }
+        writeBlock(out, pilotCounts);
+
+        ColumnWriter pilots = new ColumnWriter(segment.pilotCodes().length * 2 + segment.pilots().length * 16);
+        pilots.writeDictionary(segment.pilots());
+        for (int code : segment.pilotCodes()) {
+            pilots.writeVarLong(code);
+        }
+        writeBlock(out, pilots);
+    }
+
+    static JumpArchiveSegment read(DataInputStream in) throws IOException {
+        byte version = readVersion(in);
+        Header header = readHeader(in);
+        int rows = header.rows();
+
+        ColumnReader timeColumn = readBlock(in);
+        long[] times = new long[rows];
+        long time = header.minEpochSecond();
+        for (int i = 0; i < rows; i++) {
+            time += timeColumn.readSignedVarLong();
+            times[i] = time;
+        }
+
+        ColumnReader airportColumn = readBlock(in);
+        UUID[] airports = airportColumn.readDictionary();
+        int[] airportCodes = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            airportCodes[i] = airportColumn.readCode(airports.length);
+        }
+
+        ColumnReader altitudeColumn = readBlock(in);
+        int[] altitudes = new int[rows];
+        long altitude = 0;
+        for (int i = 0; i < rows; i++) {
+            altitude += altitudeColumn.readSignedVarLong();
+            altitudes[i] = (int) altitude;
+        }
+
+        int[] offsets = readOffsets(in, rows);
+        ColumnReader memberColumn = readBlock(in);
+        UUID[] persons = memberColumn.readDictionary();
+        int[] rosterCodes = readCodes(memberColumn, offsets[rows], persons.length);
+
+        int[] pilotOffsets = new int[rows + 1];
+        int[] pilotCodes = new int[0];
+        UUID[] pilots = new UUID[0];
+        if (version > FIRST_VERSION) {
+            pilotOffsets = readOffsets(in, rows);
+            ColumnReader pilotColumn = readBlock(in);
+            pilots = pilotColumn.readDictionary();
+            pilotCodes = readCodes(pilotColumn, pilotOffsets[rows], pilots.length);
+        }
+        return new JumpArchiveSegment(
+                times,
+                airportCodes,
+                airports,
+                altitudes,
+                offsets,
+                rosterCodes,
+                persons,
+                pilotOffsets,
+                pilotCodes,
+                pilots);
+    }
+
+    private static int[] readOffsets(DataInputStream in, int rows) throws IOException {
+        ColumnReader sizeColumn = readBlock(in);
+        int[] offsets = new int[rows + 1];
+        for (int i = 0; i < rows; i++) {
+            offsets[i + 1] = Math.addExact(offsets[i], (int) sizeColumn.readVarLong());
+        }
+        return offsets;
+    }
+
+    private static int[] readCodes(ColumnReader column, int count, int dictionarySize) throws IOException {
+        int[] codes = new int[count];
+        for (int i = 0; i < count; i++) {
+            codes[i] = column.readCode(dictionarySize);
+        }
+        return codes;
+    }
+
+    private static byte readVersion(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a jump archive file");
+        }
+        byte version = in.readByte();
+        if (version < FIRST_VERSION || version > VERSION) {
+            throw new IOException("Unsupported jump archive version " + version);
+        }
+        return version;
+    }
+
+    private static Header readHeader(DataInputStream in) throws IOException {
+        int rows = in.readInt();
+        if (rows < 0) {
+            throw new IOException("Corrupt jump archive header");
+        }
+        return new Header(rows, in.readLong(), in.readLong());
+    }
+
+    private static void writeBlock(DataOutputStream out, ColumnWriter column) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(column.bytes, 0, column.length);
+            deflater.finish();
+            byte[] compressed = new byte[Math.max(64, column.length + column.length / 100 + 64)];
+            int compressedLength = 0;
+            while (!deflater.finished()) {
+                if (compressedLength == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                compressedLength +=
+                        deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+            }
+            out.writeInt(column.length);
+            out.writeInt(compressedLength);
+            out.write(compressed, 0, compressedLength);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static ColumnReader readBlock(DataInputStream in) throws IOException {
+        int rawLength = in.readInt();
+        int compressedLength = in.readInt();
+        if (rawLength < 0 || compressedLength < 0) {
+            throw new IOException("Corrupt jump archive block");
+        }
+        byte[] compressed = in.readNBytes(compressedLength);
+        if (compressed.length != compressedLength) {
+            throw new IOException("Truncated jump archive block");
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int chunk = inflater.inflate(raw, read, rawLength - read);
+                if (chunk == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += chunk;
+            }
+            if (read != rawLength) {
+                throw new IOException("Truncated jump archive block");
+            }
+            return new ColumnReader(raw);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt jump archive block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class ColumnWriter {
+        private byte[] bytes;
+        private int length;
+
+        ColumnWriter(int initialCapacity) {
+            this.bytes = new byte[Math.max(16, initialCapacity)];
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeVarLong(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void writeDictionary(UUID[] dictionary) {
+            writeVarLong(dictionary.length);
+            ensure(dictionary.length * 16);
+            for (UUID id : dictionary) {
+                writeLong(id.getMostSignificantBits());
+                writeLong(id.getLeastSignificantBits());
+            }
+        }
+
+        private void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[length++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+            }
+        }
+    }
+
+    private static final class ColumnReader {
+        private final byte[] bytes;
+        private int position;
+
+        ColumnReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readSignedVarLong() throws IOException {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        long readVarLong() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IOException("Truncated jump archive column");
+                }
+                byte current = bytes[position++];
+                result |= (long) (current & 0x7F) << shift;
+                if (current >= 0) {
+                    return result;
+                }
+            }
+            throw new IOException("Malformed varint in jump archive column");
+        }
+
+        int readCode(int dictionarySize) throws IOException {
+            long code = readVarLong();
+            if (code < 0 || code >= dictionarySize) {
+                throw new IOException("Dictionary code out of range in jump archive column");
+            }
+            return (int) code;
+        }
+
+        UUID[] readDictionary() throws IOException {
+            long size = readVarLong();
+            if (size < 0 || size * 16 > bytes.length - position) {
+                throw new IOException("Corrupt dictionary in jump archive column");
+            }
+            UUID[] dictionary = new UUID[(int) size];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = new UUID(readLong(), readLong());
+            }
+            return dictionary;
+        }
+
+        private long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package xyz.soda.slowfall.archive.infra;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.soda.slowfall.archive.domain.ArchivedJump;
+
+/**
+ * Reads closed jumps and their rosters straight from the {@code jumps}, {@code jump_skydiver} and
+ * {@code jump_pilots} tables.
+ *
+ * <p>Plain JDBC keeps a month-sized export from hydrating thousands of entities and their lazy rosters
+ * through the persistence context. Every query is bounded on {@code jump_time}, so on the partitioned
+ * table they read only the partition being exported.</p>
+ */
+@Repository
+public class JumpArchiveSource {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create a new JumpArchiveSource.
+     *
+     * @param jdbcTemplate template bound to the application data source
+     */
+    public JumpArchiveSource(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Get the time of the earliest jump on record.
+     *
+     * @return the earliest jump time, or {@code null} if there are no jumps
+     */
+    public Instant earliestJumpTime() {
+        Timestamp earliest = jdbcTemplate.queryForObject("select min(jump_time) from jumps", Timestamp.class);
+        return earliest == null ? null : earliest.toInstant();
+    }
+
+    /**
+     * Load the jumps in the half-open window {@code [from, to)} together with their rosters.
+     *
+     * @param from inclusive start of the window
+     * @param to   exclusive end of the window
+     * @return the jumps in the window
+     */
+    public List<ArchivedJump> load(Instant from, Instant to) {
+        Timestamp lower = Timestamp.from(from);
+        Timestamp upper = Timestamp.from(to);
+        Map<UUID, Row> rows = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "select id, jump_time, airport_id, altitude_feet from jumps"
+                        + " where jump_time >= ? and jump_time < ? order by jump_time",
+                resultSet -> {
+                    UUID id = resultSet.getObject("id", UUID.class);
+                    rows.put(
+                            id,
+                            new Row(
+                                    resultSet.getTimestamp("jump_time").toInstant(),
+                                    resultSet.getObject("airport_id", UUID.class),
+                                    resultSet.getInt("altitude_feet")));
+                },
+                lower,
+                upper);
+
+        Map<UUID, List<UUID>> skydivers = roster("jump_skydiver", lower, upper);
+        Map<UUID, List<UUID>> pilots = roster("jump_pilots", lower, upper);
+
+        List<ArchivedJump> jumps = new ArrayList<>(rows.size());
+        rows.forEach((id, row) -> jumps.add(new ArchivedJump(
+                row.jumpTime(),
+                row.airportId(),
+                row.altitudeFeet(),
+                skydivers.getOrDefault(id, List.of()),
+                pilots.getOrDefault(id, List.of()))));
+        return jumps;
+    }
+
+    private Map<UUID, List<UUID>> roster(String table, Timestamp lower, Timestamp upper) {
+        Map<UUID, List<UUID>> rosters = new HashMap<>();
+        jdbcTemplate.query(
+                "select r.jump_id, r.person_id from " + table + " r join jumps j on j.id = r.jump_id"
+                        + " where j.jump_time >= ? and j.jump_time < ?",
+                resultSet -> {
+                    rosters.computeIfAbsent(resultSet.getObject("jump_id", UUID.class), k -> new ArrayList<>())
+                            .add(resultSet.getObject("person_id", UUID.class));
+                },
+                lower,
+                upper);
+        return rosters;
+    }
+
+    private record Row(Instant jumpTime, UUID airportId, int altitudeFeet) {}
+}
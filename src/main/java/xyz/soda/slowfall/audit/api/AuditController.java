@@ -0,0 +1,44 @@
+package xyz.soda.slowfall.audit.api;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+
+@RestController
+@RequestMapping("/api/audit")
+public class AuditController {
+    private final ManifestAuditLog auditLog;
+
+    /**
+     * Create a new instance of {@code AuditController}.
+     *
+     * @param auditLog the manifest audit log
+     */
+    public AuditController(ManifestAuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * List manifest changes made in a time window, oldest first.
+     *
+     * @param from  inclusive start of the window (ISO-8601 instant)
+     * @param to    exclusive end of the window (ISO-8601 instant)
+     * @param limit maximum number of entries to return
+     * @return ResponseEntity with the entries and HTTP 200, or 400 if the window or limit is invalid
+     */
+    @GetMapping
+    public ResponseEntity<List<AuditEntryDto>> list(
+            @RequestParam(name = "from") Instant from,
+            @RequestParam(name = "to") Instant to,
+            @RequestParam(name = "limit", defaultValue = "1000") int limit) {
+        try {
+            return ResponseEntity.ok(auditLog.query(from, to, limit).stream()
+                    .map(AuditEntryDto::from)
+                    .toList());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package xyz.soda.slowfall.audit.api;
+
+import java.time.Instant;
+import java.util.UUID;
+import xyz.soda.slowfall.audit.domain.AuditRecord;
+
+/**
+ * Data transfer object for one manifest audit entry.
+ *
+ * @param sequence position in the journal
+ * @param time     when the change was committed
+ * @param action   what changed
+ * @param jumpId   the jump that changed
+ * @param personId the person involved, or {@code null}
+ * @param actor    who made the change
+ */
+public record AuditEntryDto(long sequence, Instant time, String action, UUID jumpId, UUID personId, String actor) {
+
+    /**
+     * Convert an AuditRecord to an AuditEntryDto.
+     * @param record the journal record
+     * @return a populated AuditEntryDto
+     */
+    public static AuditEntryDto from(AuditRecord record) {
+        return new AuditEntryDto(
+                record.sequence(),
+                record.time(),
+                record.action().name(),
+                record.jumpId(),
+                record.personId(),
+                record.actor());
+    }
+}
@@ -0,0 +1,21 @@
+package xyz.soda.slowfall.audit.application;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Manifest audit journal settings bound from {@code app.audit.*}.
+ *
+ * @param enabled           whether manifest changes are journaled
+ * @param directory         directory holding the journal segments; only one process may use it at a time
+ * @param recordsPerSegment number of fixed-size records per segment file before the journal rolls
+ * @param forceInterval     how often written records are forced to disk in the background
+ */
+@ConfigurationProperties(prefix = "app.audit")
+public record AuditProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("data/audit") Path directory,
+        @DefaultValue("262144") int recordsPerSegment,
+        @DefaultValue("1s") Duration forceInterval) {}
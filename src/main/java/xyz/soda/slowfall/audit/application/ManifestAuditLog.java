@@ -0,0 +1,161 @@
+package xyz.soda.slowfall.audit.application;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import xyz.soda.slowfall.audit.domain.AuditAction;
+import xyz.soda.slowfall.audit.domain.AuditRecord;
+import xyz.soda.slowfall.audit.infra.MappedAuditJournal;
+
+/**
+ * Records manifest changes in the audit journal and answers queries over it.
+ *
+ * <p>The actor and time are captured when the change is made, but inside a transaction the record is only
+ * appended once the transaction commits, so rolled-back changes never reach the journal. A failed append is
+ * logged rather than thrown: by then the change is committed and the request has succeeded.</p>
+ */
+public class ManifestAuditLog {
+    /** Largest number of records a single query may return. */
+    public static final int MAX_QUERY_LIMIT = 10_000;
+
+    private static final Logger log = LoggerFactory.getLogger(ManifestAuditLog.class);
+
+    private final MappedAuditJournal journal;
+    private final Clock clock;
+
+    /**
+     * Create a new ManifestAuditLog.
+     *
+     * @param journal the journal to append to, or {@code null} when auditing is disabled
+     * @param clock   clock used to timestamp changes
+     */
+    public ManifestAuditLog(MappedAuditJournal journal, Clock clock) {
+        this.journal = journal;
+        this.clock = clock;
+    }
+
+    /**
+     * Record that a jump was created.
+     *
+     * @param jumpId  the new jump
+     * @param pilotId the pilot assigned on creation, or {@code null}
+     */
+    public void jumpCreated(UUID jumpId, UUID pilotId) {
+        record(AuditAction.JUMP_CREATED, jumpId, pilotId);
+    }
+
+    /**
+     * Record that a skydiver was added to a jump.
+     *
+     * @param jumpId   the jump
+     * @param personId the skydiver
+     */
+    public void skydiverAdded(UUID jumpId, UUID personId) {
+        record(AuditAction.SKYDIVER_ADDED, jumpId, personId);
+    }
+
+    /**
+     * Record that a pilot was added to a jump.
+     *
+     * @param jumpId   the jump
+     * @param personId the pilot
+     */
+    public void pilotAdded(UUID jumpId, UUID personId) {
+        record(AuditAction.PILOT_ADDED, jumpId, personId);
+    }
+
+    /**
+     * Record that a skydiver was taken off a jump.
+     *
+     * @param jumpId   the jump
+     * @param personId the skydiver
+     */
+    public void skydiverRemoved(UUID jumpId, UUID personId) {
+        record(AuditAction.SKYDIVER_REMOVED, jumpId, personId);
+    }
+
+    /**
+     * Record that a pilot was taken off a jump.
+     *
+     * @param jumpId   the jump
+     * @param personId the pilot
+     */
+    public void pilotRemoved(UUID jumpId, UUID personId) {
+        record(AuditAction.PILOT_REMOVED, jumpId, personId);
+    }
+
+    /**
+     * Find the changes made in the half-open window {@code [from, to)}, oldest first.
+     *
+     * @param from  inclusive start of the window
+     * @param to    exclusive end of the window
+     * @param limit maximum number of records, at most {@link #MAX_QUERY_LIMIT}
+     * @return the matching records, empty when auditing is disabled
+     * @throws IllegalArgumentException if a bound is missing, {@code to} is not after {@code from}, or the limit
+     *                                  is out of range
+     */
+    public List<AuditRecord> query(Instant from, Instant to, int limit) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("Both from and to are required and to must be after from");
+        }
+        if (limit <= 0 || limit > MAX_QUERY_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_QUERY_LIMIT);
+        }
+        return journal == null ? List.of() : journal.query(from, to, limit);
+    }
+
+    /**
+     * Replay every change from {@code fromSequence} on, in journal order.
+     *
+     * @param fromSequence first sequence to replay
+     * @param consumer     receiver of the records
+     */
+    public void replay(long fromSequence, Consumer<AuditRecord> consumer) {
+        if (journal != null) {
+            journal.replay(fromSequence, consumer);
+        }
+    }
+
+    private void record(AuditAction action, UUID jumpId, UUID personId) {
+        if (journal == null) {
+            return;
+        }
+        Instant time = clock.instant();
+        String actor = currentActor();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(time, action, jumpId, personId, actor);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(time, action, jumpId, personId, actor);
+            }
+        });
+    }
+
+    private void append(Instant time, AuditAction action, UUID jumpId, UUID personId, String actor) {
+        try {
+            journal.append(time, action, jumpId, personId, actor);
+        } catch (RuntimeException e) {
+            log.error("Could not journal {} of jump {} (person {}, by {})", action, jumpId, personId, actor, e);
+        }
+    }
+
+    private static String currentActor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return auth.getName();
+        }
+        return "anonymous";
+    }
+}
@@ -0,0 +1,44 @@
+package xyz.soda.slowfall.audit.domain;
+
+/**
+ * Kind of manifest change recorded in the audit journal. Each action carries a stable one-byte code, which is
+ * what the journal stores, so constants may be reordered or added without breaking existing segments.
+ */
+public enum AuditAction {
+    JUMP_CREATED(1),
+    SKYDIVER_ADDED(2),
+    PILOT_ADDED(3),
+    SKYDIVER_REMOVED(4),
+    PILOT_REMOVED(5);
+
+    private final byte code;
+
+    AuditAction(int code) {
+        this.code = (byte) code;
+    }
+
+    /**
+     * Get the on-disk code of this action.
+     *
+     * @return the code
+     */
+    public byte code() {
+        return code;
+    }
+
+    /**
+     * Look up an action by its on-disk code.
+     *
+     * @param code the stored code
+     * @return the action
+     * @throws IllegalArgumentException if no action has the code
+     */
+    public static AuditAction fromCode(byte code) {
+        for (AuditAction action : values()) {
+            if (action.code == code) {
+                return action;
+            }
+        }
+        throw new IllegalArgumentException("Unknown audit action code " + code);
+    }
+}
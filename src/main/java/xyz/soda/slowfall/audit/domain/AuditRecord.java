@@ -0,0 +1,17 @@
+package xyz.soda.slowfall.audit.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One entry of the manifest audit journal.
+ *
+ * @param sequence position in the journal, starting at 0 and increasing by one per entry
+ * @param time     when the change was committed, with microsecond precision
+ * @param action   what changed
+ * @param jumpId   the jump (load) that changed
+ * @param personId the person added, or {@code null} when the action does not involve one
+ * @param actor    name of the user who made the change
+ */
+public record AuditRecord(
+        long sequence, Instant time, AuditAction action, UUID jumpId, UUID personId, String actor) {}
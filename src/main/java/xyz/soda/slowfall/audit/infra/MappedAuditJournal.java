@@ -0,0 +1,472 @@
+package xyz.soda.slowfall.audit.infra;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.soda.slowfall.audit.domain.AuditAction;
+import xyz.soda.slowfall.audit.domain.AuditRecord;
+
+/**
+ * Append-only audit journal made of memory-mapped segment files holding fixed-size records.
+ *
+ * <p>An append encodes the record into a scratch array and copies it into the mapped segment, so the caller
+ * only pays for a memory copy; a background thread forces written pages to disk every {@code forceInterval}
+ * and maps the next segment ahead of time so rolling does not touch the file system either. Records that
+ * were appended but not yet forced survive a process crash (the pages belong to the OS) but not a power
+ * loss.</p>
+ *
+ * <p>Segments are named after the sequence of their first record and hold {@code recordsPerSegment} slots of
+ * {@value #RECORD_SIZE} bytes each:</p>
+ * <pre>
+ *   0  sequence        (long)
+ *   8  epoch micros    (long)
+ *  16  jump id         (two longs)
+ *  32  person id       (two longs, zero when absent)
+ *  48  action code     (byte)
+ *  49  actor length    (byte)
+ *  50  actor, UTF-8    (up to 74 bytes)
+ * 124  CRC32C of bytes 0-123 (int)
+ * </pre>
+ * <p>On open, the last segment is scanned up to the first record whose checksum or sequence does not match,
+ * which drops a record torn by a crash. Times never go backwards within the journal, so a time-range query
+ * binary-searches the fixed-size slots instead of scanning them.</p>
+ */
+public class MappedAuditJournal implements AutoCloseable {
+    /** Size of one record in bytes. */
+    public static final int RECORD_SIZE = 128;
+
+    /** Longest actor name kept, in UTF-8 bytes; longer names are truncated. */
+    public static final int MAX_ACTOR_BYTES = 74;
+
+    private static final Logger log = LoggerFactory.getLogger(MappedAuditJournal.class);
+    private static final int TIME_OFFSET = 8;
+    private static final int JUMP_OFFSET = 16;
+    private static final int PERSON_OFFSET = 32;
+    private static final int ACTION_OFFSET = 48;
+    private static final int ACTOR_LENGTH_OFFSET = 49;
+    private static final int ACTOR_OFFSET = 50;
+    private static final int CHECKSUM_OFFSET = 124;
+    private static final String SEGMENT_PREFIX = "audit-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String LOCK_FILE = "journal.lock";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+    private final Map<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final AtomicReference<Segment> spare = new AtomicReference<>();
+    private final Queue<Segment> unforced = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService flusher;
+    private final byte[] scratch = new byte[RECORD_SIZE];
+    private final CRC32C checksum = new CRC32C();
+
+    private volatile Segment active;
+    private long lastMicros;
+    private boolean closed;
+
+    /**
+     * Open the journal in {@code directory}, creating it if needed, and recover the position to append at.
+     *
+     * @param directory         directory holding the segment files
+     * @param recordsPerSegment number of records per newly created segment
+     * @param forceInterval     how often written records are forced to disk
+     * @throws IOException           if the directory or segments cannot be read or created
+     * @throws IllegalStateException if another journal already has the directory open
+     */
+    public MappedAuditJournal(Path directory, int recordsPerSegment, Duration forceInterval) throws IOException {
+        if (recordsPerSegment <= 0 || recordsPerSegment > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("Records per segment must be between 1 and "
+                    + Integer.MAX_VALUE / RECORD_SIZE);
+        }
+        if (forceInterval.isNegative() || forceInterval.isZero()) {
+            throw new IllegalArgumentException("Force interval must be positive");
+        }
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(
+                directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.lock = tryLock(lockChannel);
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Audit journal directory is in use: " + directory);
+        }
+        try {
+            recover();
+        } catch (IOException | RuntimeException e) {
+            lock.release();
+            lockChannel.close();
+            throw e;
+        }
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1L, forceInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::maintain, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Append a record. Times are clamped so they never go backwards, which keeps range queries correct even
+     * if the wall clock steps back.
+     *
+     * @param time     when the change happened
+     * @param action   what changed
+     * @param jumpId   the jump that changed
+     * @param personId the person involved, or {@code null}
+     * @param actor    name of the user who made the change
+     * @return the sequence assigned to the record
+     * @throws IllegalStateException if the journal is closed
+     */
+    public long append(Instant time, AuditAction action, UUID jumpId, UUID personId, String actor) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(jumpId, "jumpId");
+        long micros = toMicros(time);
+        byte[] actorBytes = truncate(actor == null ? "" : actor);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Audit journal is closed");
+            }
+            Segment segment = active;
+            if (segment.count == segment.capacity) {
+                segment = roll(segment);
+            }
+            micros = Math.max(micros, lastMicros);
+            lastMicros = micros;
+            long sequence = segment.firstSequence + segment.count;
+
+            ByteBuffer record = ByteBuffer.wrap(scratch);
+            record.putLong(0, sequence)
+                    .putLong(TIME_OFFSET, micros)
+                    .putLong(JUMP_OFFSET, jumpId.getMostSignificantBits())
+                    .putLong(JUMP_OFFSET + 8, jumpId.getLeastSignificantBits())
+                    .putLong(PERSON_OFFSET, personId == null ? 0L : personId.getMostSignificantBits())
+                    .putLong(PERSON_OFFSET + 8, personId == null ? 0L : personId.getLeastSignificantBits())
+                    .put(ACTION_OFFSET, action.code())
+                    .put(ACTOR_LENGTH_OFFSET, (byte) actorBytes.length);
+            record.put(ACTOR_OFFSET, actorBytes);
+            Arrays.fill(scratch, ACTOR_OFFSET + actorBytes.length, CHECKSUM_OFFSET, (byte) 0);
+            checksum.reset();
+            checksum.update(scratch, 0, CHECKSUM_OFFSET);
+            record.putInt(CHECKSUM_OFFSET, (int) checksum.getValue());
+
+            segment.buffer.put(segment.count * RECORD_SIZE, scratch);
+            // The volatile write publishes the record to readers.
+            segment.count++;
+            return sequence;
+        }
+    }
+
+    /**
+     * Get the sequence the next appended record will receive, which is also the number of records so far.
+     *
+     * @return the next sequence
+     */
+    public long nextSequence() {
+        Segment segment = active;
+        return segment.firstSequence + segment.count;
+    }
+
+    /**
+     * Feed every record from {@code fromSequence} on to {@code consumer}, in sequence order. Records appended
+     * while the replay runs may or may not be included.
+     *
+     * @param fromSequence first sequence to replay
+     * @param consumer     receiver of the records
+     */
+    public void replay(long fromSequence, Consumer<AuditRecord> consumer) {
+        for (Segment segment : segments.values()) {
+            int count = segment.count;
+            if (segment.firstSequence + count <= fromSequence) {
+                continue;
+            }
+            int start = (int) Math.max(0L, fromSequence - segment.firstSequence);
+            for (int slot = start; slot < count; slot++) {
+                consumer.accept(segment.read(slot));
+            }
+        }
+    }
+
+    /**
+     * Find the records in the half-open time window {@code [from, to)}, oldest first.
+     *
+     * @param from  inclusive start of the window
+     * @param to    exclusive end of the window
+     * @param limit maximum number of records to return
+     * @return the matching records
+     */
+    public List<AuditRecord> query(Instant from, Instant to, int limit) {
+        long fromMicros = toMicros(from);
+        long toMicros = toMicros(to);
+        List<AuditRecord> result = new ArrayList<>();
+        for (Segment segment : segments.values()) {
+            int count = segment.count;
+            if (count == 0 || segment.timeAt(count - 1) < fromMicros) {
+                continue;
+            }
+            if (segment.timeAt(0) >= toMicros) {
+                break;
+            }
+            for (int slot = segment.firstSlotAtOrAfter(fromMicros, count); slot < count; slot++) {
+                if (segment.timeAt(slot) >= toMicros || result.size() >= limit) {
+                    return result;
+                }
+                result.add(segment.read(slot));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Force every appended record to disk now instead of waiting for the background flush.
+     */
+    public void force() {
+        Segment sealed;
+        while ((sealed = unforced.poll()) != null) {
+            sealed.buffer.force();
+        }
+        active.buffer.force();
+    }
+
+    /**
+     * Force outstanding records to disk and release the directory. Appends after closing fail.
+     */
+    @Override
+    public void close() throws IOException {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        force();
+        Segment unused = spare.getAndSet(null);
+        if (unused != null && unused.firstSequence > active.firstSequence) {
+            Files.deleteIfExists(unused.path);
+        }
+        lock.release();
+        lockChannel.close();
+    }
+
+    private Segment roll(Segment full) {
+        long firstSequence = full.firstSequence + full.capacity;
+        Segment next = spare.getAndSet(null);
+        if (next == null || next.firstSequence != firstSequence) {
+            // The flusher has not caught up; pay for the file creation on this thread.
+            try {
+                next = openSegment(firstSequence, recordsPerSegment);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot create audit journal segment", e);
+            }
+        }
+        unforced.add(full);
+        segments.put(firstSequence, next);
+        active = next;
+        return next;
+    }
+
+    private void maintain() {
+        try {
+            force();
+            Segment current = active;
+            long nextSequence = current.firstSequence + current.capacity;
+            Segment prepared = spare.get();
+            if (prepared == null || prepared.firstSequence < nextSequence) {
+                spare.set(openSegment(nextSequence, recordsPerSegment));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Audit journal maintenance failed", e);
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(MappedAuditJournal::isSegment)
+                    .sorted((left, right) -> Long.compare(sequenceOf(left), sequenceOf(right)))
+                    .toList();
+        }
+        List<Path> existing = new ArrayList<>(files);
+        Segment last = null;
+        while (!existing.isEmpty()) {
+            Path path = existing.remove(existing.size() - 1);
+            last = openSegment(sequenceOf(path), (int) (Files.size(path) / RECORD_SIZE));
+            last.count = last.countValid();
+            if (last.count > 0 || existing.isEmpty()) {
+                break;
+            }
+            // A segment mapped ahead of time but never written to.
+            Files.delete(path);
+            last = null;
+        }
+        for (Path path : existing) {
+            Segment sealed = openSegment(sequenceOf(path), (int) (Files.size(path) / RECORD_SIZE));
+            sealed.count = sealed.capacity;
+            segments.put(sealed.firstSequence, sealed);
+        }
+        if (last == null) {
+            last = openSegment(0L, recordsPerSegment);
+        }
+        segments.put(last.firstSequence, last);
+        active = last;
+        lastMicros = last.count == 0 ? Long.MIN_VALUE : last.timeAt(last.count - 1);
+    }
+
+    private Segment openSegment(long firstSequence, int capacity) throws IOException {
+        Path path = directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed.
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+            return new Segment(firstSequence, path, buffer, capacity);
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static long toMicros(Instant time) {
+        return Math.addExact(Math.multiplyExact(time.getEpochSecond(), 1_000_000L), time.getNano() / 1_000);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000);
+    }
+
+    private static byte[] truncate(String actor) {
+        byte[] bytes = actor.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_ACTOR_BYTES) {
+            return bytes;
+        }
+        int length = MAX_ACTOR_BYTES;
+        // Do not cut a multi-byte character in half.
+        while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+            length--;
+        }
+        byte[] truncated = new byte[length];
+        System.arraycopy(bytes, 0, truncated, 0, length);
+        return truncated;
+    }
+
+    /**
+     * One mapped segment file. {@code count} is only written by the appender and is the publication point
+     * for readers.
+     */
+    private static final class Segment {
+        private final long firstSequence;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private volatile int count;
+
+        Segment(long firstSequence, Path path, MappedByteBuffer buffer, int capacity) {
+            this.firstSequence = firstSequence;
+            this.path = path;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+
+        long timeAt(int slot) {
+            return buffer.getLong(slot * RECORD_SIZE + TIME_OFFSET);
+        }
+
+        int firstSlotAtOrAfter(long micros, int count) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (timeAt(mid) < micros) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        AuditRecord read(int slot) {
+            byte[] bytes = new byte[RECORD_SIZE];
+            buffer.get(slot * RECORD_SIZE, bytes);
+            ByteBuffer record = ByteBuffer.wrap(bytes);
+            long micros = record.getLong(TIME_OFFSET);
+            long personMost = record.getLong(PERSON_OFFSET);
+            long personLeast = record.getLong(PERSON_OFFSET + 8);
+            int actorLength = record.get(ACTOR_LENGTH_OFFSET);
+            return new AuditRecord(
+                    record.getLong(0),
+                    fromMicros(micros),
+                    AuditAction.fromCode(record.get(ACTION_OFFSET)),
+                    new UUID(record.getLong(JUMP_OFFSET), record.getLong(JUMP_OFFSET + 8)),
+                    personMost == 0L && personLeast == 0L ? null : new UUID(personMost, personLeast),
+                    new String(bytes, ACTOR_OFFSET, actorLength, StandardCharsets.UTF_8));
+        }
+
+        int countValid() {
+            byte[] bytes = new byte[RECORD_SIZE];
+            CRC32C crc = new CRC32C();
+            for (int slot = 0; slot < capacity; slot++) {
+                buffer.get(slot * RECORD_SIZE, bytes);
+                ByteBuffer record = ByteBuffer.wrap(bytes);
+                crc.reset();
+                crc.update(bytes, 0, CHECKSUM_OFFSET);
+                boolean intact = record.getInt(CHECKSUM_OFFSET) == (int) crc.getValue();
+                if (!intact || record.getLong(0) != firstSequence + slot) {
+                    return slot;
+                }
+            }
+            return capacity;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package xyz.soda.slowfall.board.api;
+
+import java.util.UUID;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.board.application.BoardService;
+import xyz.soda.slowfall.board.application.BoardSnapshot;
+
+@RestController
+@RequestMapping("/api/airports/{id}/board")
+public class BoardController {
+    private final BoardService service;
+
+    /**
+     * Create a new instance of {@code BoardController}.
+     *
+     * @param service the service holding the prebuilt boards
+     */
+    public BoardController(BoardService service) {
+        this.service = service;
+    }
+
+    /**
+     * Return the next loads at an airport with their pilots and skydivers, for the drop zone screens. The board
+     * is served from memory as prebuilt JSON and carries an ETag, so polling screens get a 304 until it changes.
+     *
+     * @param id          the airport id
+     * @param ifNoneMatch the ETag of the board the caller already has, if any
+     * @return ResponseEntity with the board and HTTP 200, 304 if unchanged, or 404 if the airport has no board
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> board(
+            @PathVariable("id") UUID id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        BoardSnapshot snapshot = service.snapshot(id);
+        if (snapshot == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.json());
+    }
+}
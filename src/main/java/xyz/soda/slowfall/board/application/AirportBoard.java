@@ -0,0 +1,121 @@
+package xyz.soda.slowfall.board.application;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * The upcoming loads of one airport, held in time order.
+ *
+ * <p>Only the first {@code capacity} upcoming loads are held. Once a load has been dropped off the end the
+ * board is <em>truncated</em>: the database may hold later loads that are not here, so loads changed beyond
+ * the last held one are ignored, and {@link #needsRefill(int)} reports when departures have used up the
+ * spare loads. Not thread-safe; {@link BoardService} only touches it from its refresh thread.</p>
+ */
+final class AirportBoard {
+    private final int capacity;
+    private final TreeSet<BoardLoad> loads = new TreeSet<>(BoardLoad.ORDER);
+    private final Map<UUID, BoardLoad> byId = new HashMap<>();
+    private boolean truncated;
+
+    /**
+     * Create an empty board.
+     *
+     * @param capacity maximum number of loads held
+     */
+    AirportBoard(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Replace the contents with loads read from the database.
+     *
+     * @param upcoming  the next loads in board order, at most {@code capacity}
+     * @param truncated whether more loads may follow the last one
+     */
+    void replace(List<BoardLoad> upcoming, boolean truncated) {
+        loads.clear();
+        byId.clear();
+        for (BoardLoad load : upcoming) {
+            loads.add(load);
+            byId.put(load.jumpId(), load);
+        }
+        this.truncated = truncated;
+    }
+
+    /**
+     * Insert or replace a load.
+     *
+     * @param load the current state of the load
+     * @return {@code true} if the board changed
+     */
+    boolean upsert(BoardLoad load) {
+        boolean held = remove(load.jumpId());
+        if (!held && truncated && !loads.isEmpty() && BoardLoad.ORDER.compare(load, loads.last()) > 0) {
+            return false;
+        }
+        loads.add(load);
+        byId.put(load.jumpId(), load);
+        if (loads.size() > capacity) {
+            byId.remove(loads.pollLast().jumpId());
+            truncated = true;
+        }
+        return true;
+    }
+
+    /**
+     * Remove a load if it is held.
+     *
+     * @param jumpId the jump id
+     * @return {@code true} if the load was held
+     */
+    boolean remove(UUID jumpId) {
+        BoardLoad existing = byId.remove(jumpId);
+        return existing != null && loads.remove(existing);
+    }
+
+    /**
+     * Drop every load whose time has come.
+     *
+     * @param now the current time
+     * @return {@code true} if any load was dropped
+     */
+    boolean depart(Instant now) {
+        boolean departed = false;
+        while (!loads.isEmpty() && !loads.first().jumpTime().isAfter(now)) {
+            byId.remove(loads.pollFirst().jumpId());
+            departed = true;
+        }
+        return departed;
+    }
+
+    /**
+     * Tell whether the board no longer holds enough loads to fill the screen and more exist in the database.
+     *
+     * @param shown the number of loads shown
+     * @return {@code true} if the board should be reloaded
+     */
+    boolean needsRefill(int shown) {
+        return truncated && loads.size() < shown;
+    }
+
+    /**
+     * Get the next loads.
+     *
+     * @param count the maximum number of loads
+     * @return up to {@code count} loads in board order
+     */
+    List<BoardLoad> next(int count) {
+        List<BoardLoad> next = new ArrayList<>(Math.min(count, loads.size()));
+        Iterator<BoardLoad> iterator = loads.iterator();
+        while (next.size() < count && iterator.hasNext()) {
+            next.add(iterator.next());
+        }
+        return next;
+    }
+}
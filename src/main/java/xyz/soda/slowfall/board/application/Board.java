@@ -0,0 +1,14 @@
+package xyz.soda.slowfall.board.application;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The next loads at an airport, as serialized into a {@link BoardSnapshot}.
+ *
+ * @param airportId   the airport id
+ * @param generatedAt when the board was built
+ * @param loads       the next loads in time order
+ */
+public record Board(UUID airportId, Instant generatedAt, List<BoardLoad> loads) {}
@@ -0,0 +1,50 @@
+package xyz.soda.slowfall.board.application;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.domain.Person;
+
+/**
+ * One load as shown on a drop zone board.
+ *
+ * @param jumpId       the jump id
+ * @param jumpTime     the scheduled time of the jump
+ * @param altitudeFeet altitude in feet
+ * @param pilots       pilot names, sorted by last name
+ * @param skydivers    skydiver names, sorted by last name
+ */
+public record BoardLoad(UUID jumpId, Instant jumpTime, int altitudeFeet, List<String> pilots, List<String> skydivers) {
+
+    /** Board order: by time, then id so loads at the same time keep a stable position. */
+    static final Comparator<BoardLoad> ORDER =
+            Comparator.comparing(BoardLoad::jumpTime).thenComparing(BoardLoad::jumpId);
+
+    private static final Comparator<Person> BY_NAME =
+            Comparator.comparing(Person::getLastName).thenComparing(Person::getFirstName);
+
+    /**
+     * Build a board load from a jump; must be called while the jump's rosters can still be loaded.
+     *
+     * @param jump the jump
+     * @return the board load
+     */
+    public static BoardLoad from(Jump jump) {
+        return new BoardLoad(
+                jump.getId(),
+                jump.getJumpTime(),
+                jump.getAltitudeFeet(),
+                names(jump.getPilots()),
+                names(jump.getSkydivers()));
+    }
+
+    private static List<String> names(Set<Person> persons) {
+        return persons.stream()
+                .sorted(BY_NAME)
+                .map(person -> person.getFirstName() + " " + person.getLastName())
+                .toList();
+    }
+}
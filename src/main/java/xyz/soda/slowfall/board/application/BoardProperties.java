@@ -0,0 +1,22 @@
+package xyz.soda.slowfall.board.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Load board settings bound from {@code app.board.*}.
+ *
+ * @param enabled         whether boards are built and refreshed; when off every airport answers 404
+ * @param loads           number of upcoming loads shown per airport
+ * @param refreshInterval how often changed jumps are applied and departed loads dropped; the board lags
+ *                        committed changes by at most this long
+ * @param resyncInterval  how often every board is rebuilt from the database, picking up changes made by other
+ *                        instances or outside the application
+ */
+@ConfigurationProperties(prefix = "app.board")
+public record BoardProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("6") int loads,
+        @DefaultValue("250ms") Duration refreshInterval,
+        @DefaultValue("5m") Duration resyncInterval) {}
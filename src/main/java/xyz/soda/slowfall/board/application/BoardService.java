@@ -0,0 +1,287 @@
+package xyz.soda.slowfall.board.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
+import xyz.soda.slowfall.invalidation.domain.InvalidationGapEvent;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+
+/**
+ * Keeps a pre-serialized "next loads" board per airport for the drop zone screens.
+ *
+ * <p>Screens poll far more often than rosters change, so boards are built ahead of time and a request only
+ * looks up the current {@link BoardSnapshot}: no database access and no serialization. A single background
+ * thread keeps them current. Committed {@link JumpsChangedEvent}s mark jumps dirty. Every
+ * {@code refreshInterval} the thread reloads the dirty jumps, drops loads whose time has passed and
+ * re-serializes only the boards that changed. Each board holds twice as many loads as it shows, so a departure
+ * rarely needs a query; once the spare loads are used up the board is refilled from the database.</p>
+ *
+ * <p>Jump changes made on other replicas arrive through the invalidation bus as the same event. All boards are
+ * rebuilt from the database when an airport is added or removed, when the bus may have missed changes, and
+ * every {@code resyncInterval} as a backstop.</p>
+ */
+public class BoardService implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(BoardService.class);
+    private static final int RELOAD_CHUNK = 500;
+
+    private final JumpRepository jumpRepository;
+    private final AirportRepository airportRepository;
+    private final TransactionTemplate readTransaction;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int shown;
+    private final Duration refreshInterval;
+    private final Duration resyncInterval;
+    private final Set<UUID> changedJumps = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, BoardSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+    // Only touched under the refresh monitor.
+    private final Map<UUID, AirportBoard> boards = new HashMap<>();
+    private Instant nextResync = Instant.MIN;
+    private volatile boolean resyncRequested;
+
+    /**
+     * Create a new BoardService. Boards are built once {@link #start()} is called.
+     *
+     * @param jumpRepository     repository the boards are read from
+     * @param airportRepository  repository listing the airports that get a board
+     * @param transactionManager transaction manager for the board reads
+     * @param objectMapper       mapper used to serialize the boards
+     * @param properties         the bound board settings
+     * @param clock              clock deciding which loads have departed
+     */
+    public BoardService(
+            JumpRepository jumpRepository,
+            AirportRepository airportRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            BoardProperties properties,
+            Clock clock) {
+        if (properties.loads() <= 0) {
+            throw new IllegalArgumentException("Board must show at least one load");
+        }
+        this.jumpRepository = jumpRepository;
+        this.airportRepository = airportRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.enabled = properties.enabled();
+        this.shown = properties.loads();
+        this.refreshInterval = properties.refreshInterval();
+        this.resyncInterval = properties.resyncInterval();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Build every board and start refreshing them in the background, unless boards are disabled.
+     */
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long intervalMillis = Math.max(1L, refreshInterval.toMillis());
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the current board of an airport.
+     *
+     * @param airportId the airport id
+     * @return the serialized board, or {@code null} if the airport has no board yet
+     */
+    public BoardSnapshot snapshot(UUID airportId) {
+        return snapshots.get(airportId);
+    }
+
+    /**
+     * Mark committed jump changes, local or from another replica, for the next refresh.
+     *
+     * @param event the changed jumps
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJumpsChanged(JumpsChangedEvent event) {
+        changedJumps.addAll(event.jumpIds());
+    }
+
+    /**
+     * Rebuild every board with the next refresh when airports were added or removed.
+     *
+     * @param event the changed entities
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        if (event.kind() == SyncKind.AIRPORT) {
+            resyncRequested = true;
+        }
+    }
+
+    /**
+     * Rebuild every board with the next refresh, since jump changes may have been missed.
+     *
+     * @param event the gap notice
+     */
+    @EventListener
+    public void onInvalidationGap(InvalidationGapEvent event) {
+        resyncRequested = true;
+    }
+
+    /**
+     * Apply pending jump changes and departures, or rebuild every board when a resync is due.
+     */
+    public synchronized void refresh() {
+        Instant now = clock.instant();
+        if (resyncRequested || !now.isBefore(nextResync)) {
+            // Cleared first, so a request arriving during the rebuild gets another one.
+            resyncRequested = false;
+            changedJumps.clear();
+            resync(now);
+            nextResync = now.plus(resyncInterval);
+            return;
+        }
+
+        Set<UUID> changedAirports = new HashSet<>();
+        List<UUID> changed = new ArrayList<>(changedJumps);
+        changedJumps.removeAll(changed);
+        if (!changed.isEmpty()) {
+            try {
+                apply(changed, now, changedAirports);
+            } catch (RuntimeException e) {
+                changedJumps.addAll(changed);
+                throw e;
+            }
+        }
+        boards.forEach((airportId, board) -> {
+            if (board.depart(now)) {
+                changedAirports.add(airportId);
+            }
+        });
+        for (UUID airportId : changedAirports) {
+            AirportBoard board = boards.get(airportId);
+            if (board.needsRefill(shown)) {
+                refill(airportId, board, now);
+            }
+            publish(airportId, board, now);
+        }
+    }
+
+    /**
+     * Stop refreshing the boards.
+     */
+    @Override
+    public void close() {
+        refresher.shutdown();
+        try {
+            refresher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void resync(Instant now) {
+        List<UUID> airportIds = readTransaction.execute(
+                status -> airportRepository.findAll().stream().map(Airport::getId).toList());
+        boards.keySet().retainAll(airportIds);
+        snapshots.keySet().retainAll(airportIds);
+        for (UUID airportId : airportIds) {
+            AirportBoard board = boards.computeIfAbsent(airportId, id -> new AirportBoard(capacity()));
+            refill(airportId, board, now);
+            publish(airportId, board, now);
+        }
+    }
+
+    private void apply(List<UUID> jumpIds, Instant now, Set<UUID> changedAirports) {
+        Map<UUID, BoardLoad> found = new HashMap<>();
+        Map<UUID, UUID> airportOf = new HashMap<>();
+        for (int from = 0; from < jumpIds.size(); from += RELOAD_CHUNK) {
+            List<UUID> chunk = jumpIds.subList(from, Math.min(jumpIds.size(), from + RELOAD_CHUNK));
+            readTransaction.executeWithoutResult(status -> {
+                for (Jump jump : jumpRepository.findAllById(chunk)) {
+                    found.put(jump.getId(), BoardLoad.from(jump));
+                    airportOf.put(jump.getId(), jump.getAirportId());
+                }
+            });
+        }
+        for (UUID jumpId : jumpIds) {
+            BoardLoad load = found.get(jumpId);
+            if (load == null) {
+                // Deleted or archived: drop it from whichever board holds it.
+                boards.forEach((airportId, board) -> {
+                    if (board.remove(jumpId)) {
+                        changedAirports.add(airportId);
+                    }
+                });
+                continue;
+            }
+            UUID airportId = airportOf.get(jumpId);
+            AirportBoard board = boards.computeIfAbsent(airportId, id -> new AirportBoard(capacity()));
+            boolean boardChanged = load.jumpTime().isAfter(now) ? board.upsert(load) : board.remove(jumpId);
+            if (boardChanged || !snapshots.containsKey(airportId)) {
+                changedAirports.add(airportId);
+            }
+        }
+    }
+
+    private void refill(UUID airportId, AirportBoard board, Instant now) {
+        int capacity = capacity();
+        List<BoardLoad> upcoming = readTransaction.execute(status -> jumpRepository
+                .findUpcomingAtAirport(airportId, now, Limit.of(capacity))
+                .stream()
+                .map(BoardLoad::from)
+                .toList());
+        board.replace(upcoming, upcoming.size() == capacity);
+    }
+
+    private void publish(UUID airportId, AirportBoard board, Instant now) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new Board(airportId, now, board.next(shown)));
+            snapshots.put(airportId, new BoardSnapshot(json, '"' + DigestUtils.md5DigestAsHex(json) + '"'));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize board for airport " + airportId, e);
+        }
+    }
+
+    private int capacity() {
+        return 2 * shown;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Board refresh failed; retrying with the next refresh", e);
+        }
+    }
+}
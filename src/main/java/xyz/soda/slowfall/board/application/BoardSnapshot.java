@@ -0,0 +1,9 @@
+package xyz.soda.slowfall.board.application;
+
+/**
+ * A serialized board, ready to be written to a response as is.
+ *
+ * @param json the board as UTF-8 JSON
+ * @param etag quoted entity tag of {@code json}
+ */
+public record BoardSnapshot(byte[] json, String etag) {}
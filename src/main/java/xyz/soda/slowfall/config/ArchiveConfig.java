@@ -0,0 +1,31 @@
+package xyz.soda.slowfall.config;
+
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import xyz.soda.slowfall.archive.application.ArchiveProperties;
+import xyz.soda.slowfall.archive.application.JumpArchiveService;
+import xyz.soda.slowfall.archive.infra.JumpArchiveSource;
+
+/**
+ * Wires the columnar jump archive. The export job only runs when {@code app.archive.export-cron} is set.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ArchiveProperties.class)
+public class ArchiveConfig {
+
+    /**
+     * Creates the archive service.
+     *
+     * @param source     reader for closed jumps
+     * @param properties the bound archive settings
+     * @return the archive service
+     */
+    @Bean
+    public JumpArchiveService jumpArchiveService(JumpArchiveSource source, ArchiveProperties properties) {
+        return new JumpArchiveService(source, properties, Clock.systemUTC());
+    }
+}
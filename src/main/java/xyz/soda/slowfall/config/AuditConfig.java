@@ -0,0 +1,46 @@
+package xyz.soda.slowfall.config;
+
+import java.io.IOException;
+import java.time.Clock;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.soda.slowfall.audit.application.AuditProperties;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.audit.infra.MappedAuditJournal;
+
+/**
+ * Wires the manifest audit journal. With {@code app.audit.enabled=false} changes are not journaled and audit
+ * queries return nothing.
+ */
+@Configuration
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditConfig {
+
+    /**
+     * Opens the memory-mapped journal; it is closed, and flushed, on shutdown.
+     *
+     * @param properties the bound audit settings
+     * @return the journal
+     * @throws IOException if the journal directory cannot be opened
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.audit.enabled", havingValue = "true", matchIfMissing = true)
+    public MappedAuditJournal mappedAuditJournal(AuditProperties properties) throws IOException {
+        return new MappedAuditJournal(
+                properties.directory(), properties.recordsPerSegment(), properties.forceInterval());
+    }
+
+    /**
+     * Creates the audit log used by the manifest write paths.
+     *
+     * @param journal the journal, if enabled
+     * @return the audit log
+     */
+    @Bean
+    public ManifestAuditLog manifestAuditLog(ObjectProvider<MappedAuditJournal> journal) {
+        return new ManifestAuditLog(journal.getIfAvailable(), Clock.systemUTC());
+    }
+}
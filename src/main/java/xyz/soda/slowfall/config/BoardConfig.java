@@ -0,0 +1,42 @@
+package xyz.soda.slowfall.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.board.application.BoardProperties;
+import xyz.soda.slowfall.board.application.BoardService;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+
+/**
+ * Wires the prebuilt per-airport load boards. Boards are built in the background right after startup and kept
+ * in memory per process.
+ */
+@Configuration
+@EnableConfigurationProperties(BoardProperties.class)
+public class BoardConfig {
+
+    /**
+     * Creates the board service and starts its refresh thread; it is stopped on shutdown.
+     *
+     * @param jumpRepository     repository the boards are read from
+     * @param airportRepository  repository listing the airports
+     * @param transactionManager transaction manager for the board reads
+     * @param objectMapper       the application's JSON mapper
+     * @param properties         the bound board settings
+     * @return the board service
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public BoardService boardService(
+            JumpRepository jumpRepository,
+            AirportRepository airportRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            BoardProperties properties) {
+        return new BoardService(
+                jumpRepository, airportRepository, transactionManager, objectMapper, properties, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,28 @@
+package xyz.soda.slowfall.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.soda.slowfall.jump.application.BookingGuard;
+import xyz.soda.slowfall.jump.application.BookingProperties;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+
+/**
+ * Wires the double-booking check shared by the roster write paths.
+ */
+@Configuration
+@EnableConfigurationProperties(BookingProperties.class)
+public class BookingConfig {
+
+    /**
+     * Creates the double-booking check.
+     *
+     * @param jumpRepository repository answering the check
+     * @param properties     the bound booking settings
+     * @return the booking guard
+     */
+    @Bean
+    public BookingGuard bookingGuard(JumpRepository jumpRepository, BookingProperties properties) {
+        return new BookingGuard(jumpRepository, properties);
+    }
+}
@@ -0,0 +1,104 @@
+package xyz.soda.slowfall.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Authentication manager for bearer JWTs that remembers tokens it has already verified.
+ *
+ * <p>Signature verification dominates the cost of bearer authentication, yet the frontend sends the same
+ * access token on every request until it is refreshed. Verified tokens are therefore kept in a bounded LRU
+ * keyed on the raw token string and mapped to their {@link JwtAuthenticationToken}. An entry is used until
+ * the earlier of the token's own expiry and {@code maxCacheAge}, so a rotated signing key is picked up
+ * within that window.</p>
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+    private final AuthenticationProvider delegate;
+    private final Duration maxCacheAge;
+    private final Clock clock;
+    private final Map<String, CachedAuthentication> cache;
+
+    /**
+     * Create a new CachingJwtAuthenticationManager.
+     *
+     * @param delegate    provider performing full JWT verification, typically a {@code JwtAuthenticationProvider}
+     * @param maxEntries  maximum number of verified tokens to remember
+     * @param maxCacheAge longest time a verified token is trusted without re-verification
+     * @param clock       clock used to expire cached entries
+     */
+    public CachingJwtAuthenticationManager(
+            AuthenticationProvider delegate, int maxEntries, Duration maxCacheAge, Clock clock) {
+        this.delegate = delegate;
+        this.maxCacheAge = maxCacheAge;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAuthentication> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Authenticate a bearer token, verifying it only if it is not already cached.
+     *
+     * @param authentication the {@link BearerTokenAuthenticationToken} extracted from the request
+     * @return the authenticated {@link JwtAuthenticationToken}
+     * @throws AuthenticationException if the token is invalid
+     */
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            return delegate.authenticate(authentication);
+        }
+        String token = bearer.getToken();
+        Instant now = clock.instant();
+
+        CachedAuthentication cached;
+        synchronized (cache) {
+            cached = cache.get(token);
+            if (cached != null && !now.isBefore(cached.validUntil())) {
+                cache.remove(token);
+                cached = null;
+            }
+        }
+        if (cached != null) {
+            return cached.authentication();
+        }
+
+        Authentication result = delegate.authenticate(bearer);
+        if (result instanceof JwtAuthenticationToken jwtAuthentication) {
+            Instant validUntil = now.plus(maxCacheAge);
+            Instant expiresAt = jwtAuthentication.getToken().getExpiresAt();
+            if (expiresAt != null && expiresAt.isBefore(validUntil)) {
+                validUntil = expiresAt;
+            }
+            synchronized (cache) {
+                cache.put(token, new CachedAuthentication(jwtAuthentication, validUntil));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of verified tokens currently remembered.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private record CachedAuthentication(JwtAuthenticationToken authentication, Instant validUntil) {}
+}
@@ -21,7 +21,7 @@ import xyz.soda.slowfall.person.infra.PersonRepository;
  * insertion is guarded by repository counts.</p>
  */
 @Configuration
-@Profile("!prod")
+@Profile("!prod & !seed-large")
 public class DataSeeder {
 
     /**
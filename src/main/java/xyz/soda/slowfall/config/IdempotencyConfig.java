@@ -0,0 +1,79 @@
+package xyz.soda.slowfall.config;
+
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.soda.slowfall.idempotency.api.IdempotencyFilter;
+import xyz.soda.slowfall.idempotency.application.IdempotencyProperties;
+import xyz.soda.slowfall.idempotency.application.IdempotencyStore;
+import xyz.soda.slowfall.idempotency.application.InMemoryIdempotencyStore;
+import xyz.soda.slowfall.idempotency.application.JpaIdempotencyStore;
+import xyz.soda.slowfall.idempotency.infra.IdempotencyRecordRepository;
+
+/**
+ * Wires the {@code Idempotency-Key} support.
+ *
+ * <p>{@code app.idempotency.store=memory} (the default) keeps keys in-process, which is enough for a single
+ * backend. Set it to {@code database} when several replicas run behind the proxy so that a retry landing on
+ * another replica still finds the original response.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    /**
+     * Creates the in-process idempotency store.
+     *
+     * @param properties the bound idempotency settings
+     * @return a bounded in-memory store
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.ttl(), properties.maxEntries(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates the database-backed idempotency store shared by all replicas.
+     *
+     * @param properties the bound idempotency settings
+     * @param repository repository for idempotency records
+     * @return a store backed by the {@code idempotency_keys} table
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.idempotency.store", havingValue = "database")
+    public IdempotencyStore jpaIdempotencyStore(
+            IdempotencyProperties properties, IdempotencyRecordRepository repository) {
+        return new JpaIdempotencyStore(repository, properties.ttl(), properties.lease(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates the filter that honours {@code Idempotency-Key} on POST requests.
+     *
+     * @param store      the configured idempotency store
+     * @param properties the bound idempotency settings
+     * @return the idempotency filter to insert into the security chain
+     */
+    @Bean
+    public IdempotencyFilter idempotencyFilter(IdempotencyStore store, IdempotencyProperties properties) {
+        return new IdempotencyFilter(store, properties.enabled(), properties.maxBodyBytes());
+    }
+
+    /**
+     * Keeps Spring Boot from also registering the idempotency filter as a plain servlet filter; it runs inside
+     * the security chain so keys can be scoped to the authenticated caller.
+     *
+     * @param idempotencyFilter the idempotency filter bean
+     * @return a disabled registration for the filter
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilterRegistration(
+            IdempotencyFilter idempotencyFilter) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(idempotencyFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+}
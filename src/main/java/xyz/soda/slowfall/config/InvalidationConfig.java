@@ -0,0 +1,73 @@
+package xyz.soda.slowfall.config;
+
+import javax.sql.DataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import xyz.soda.slowfall.invalidation.application.InMemoryInvalidationBus;
+import xyz.soda.slowfall.invalidation.application.InvalidationBus;
+import xyz.soda.slowfall.invalidation.application.InvalidationProperties;
+import xyz.soda.slowfall.invalidation.infra.PostgresInvalidationBus;
+
+/**
+ * Wires the cross-replica cache invalidation bus.
+ *
+ * <p>{@code app.invalidation.bus=memory} (the default) keeps invalidations in-process, which is enough for a
+ * single backend. Set it to {@code postgres} when several replicas run behind the proxy so that a write on one
+ * replica evicts the cached boards and rosters on the others.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+    /**
+     * Creates the in-process invalidation bus and starts its flush thread; it is stopped on shutdown.
+     *
+     * @param events     publisher for received invalidations
+     * @param properties the bound invalidation settings
+     * @return a bus whose channel has no other members
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.invalidation.bus", havingValue = "memory", matchIfMissing = true)
+    public InvalidationBus inMemoryInvalidationBus(
+            ApplicationEventPublisher events, InvalidationProperties properties) {
+        return new InMemoryInvalidationBus(new InMemoryInvalidationBus.Channel(), events, properties.flushInterval());
+    }
+
+    /**
+     * Creates the {@code LISTEN/NOTIFY} invalidation bus shared by all replicas and starts its flush and listener
+     * threads; they are stopped on shutdown.
+     *
+     * @param jdbcTemplate         template bound to the application pool
+     * @param dataSourceProperties the application's datasource settings, reused for the listener connection
+     * @param events               publisher for received invalidations
+     * @param properties           the bound invalidation settings
+     * @return a bus backed by Postgres notifications
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.invalidation.bus", havingValue = "postgres")
+    public InvalidationBus postgresInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties,
+            ApplicationEventPublisher events,
+            InvalidationProperties properties) {
+        // The listener holds its connection for the life of the process, so it stays out of the pool.
+        DataSource listenDataSource = dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(SimpleDriverDataSource.class)
+                .build();
+        return new PostgresInvalidationBus(
+                jdbcTemplate,
+                listenDataSource,
+                events,
+                properties.channel(),
+                properties.flushInterval(),
+                properties.pollInterval(),
+                properties.reconnectInterval());
+    }
+}
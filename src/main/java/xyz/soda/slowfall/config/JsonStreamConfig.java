@@ -0,0 +1,25 @@
+package xyz.soda.slowfall.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.soda.slowfall.web.JsonStreamHttpMessageConverter;
+
+/**
+ * Registers the converter for streamed JSON list responses. Spring Boot adds converter beans ahead of its
+ * defaults.
+ */
+@Configuration
+public class JsonStreamConfig {
+
+    /**
+     * Creates the converter writing {@code JsonStream} bodies.
+     *
+     * @param objectMapper the application's JSON mapper, whose generator settings are reused
+     * @return the converter
+     */
+    @Bean
+    public JsonStreamHttpMessageConverter jsonStreamHttpMessageConverter(ObjectMapper objectMapper) {
+        return new JsonStreamHttpMessageConverter(objectMapper);
+    }
+}
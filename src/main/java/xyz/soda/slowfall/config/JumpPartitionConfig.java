@@ -0,0 +1,41 @@
+package xyz.soda.slowfall.config;
+
+import java.time.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.jump.infra.JumpPartitionManager;
+import xyz.soda.slowfall.jump.infra.JumpPartitionProperties;
+
+/**
+ * Wires monthly partition maintenance for the {@code jumps} table. Enabled with
+ * {@code app.jump-partitions.enabled=true}, which only makes sense on Postgres.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(JumpPartitionProperties.class)
+@ConditionalOnProperty(name = "app.jump-partitions.enabled", havingValue = "true")
+public class JumpPartitionConfig {
+
+    /**
+     * Creates the partition maintenance job.
+     *
+     * @param jdbcTemplate       template bound to the application data source
+     * @param transactionManager transaction manager used to create partitions atomically
+     * @param properties         the bound partition settings
+     * @return the partition manager
+     */
+    @Bean
+    public JumpPartitionManager jumpPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            JumpPartitionProperties properties) {
+        return new JumpPartitionManager(
+                jdbcTemplate, new TransactionTemplate(transactionManager), properties, Clock.systemUTC());
+    }
+}
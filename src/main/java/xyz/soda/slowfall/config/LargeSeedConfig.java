@@ -0,0 +1,34 @@
+package xyz.soda.slowfall.config;
+
+import javax.sql.DataSource;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import xyz.soda.slowfall.seed.application.LargeDataSeeder;
+import xyz.soda.slowfall.seed.application.LargeSeedProperties;
+import xyz.soda.slowfall.seed.infra.SeedRowWriter;
+
+/**
+ * Seeds a production-sized synthetic dataset when the {@code seed-large} profile is active. See
+ * {@code application-seed-large.properties} for the defaults; the small {@link DataSeeder} is skipped under
+ * this profile.
+ */
+@Configuration
+@Profile("seed-large")
+@EnableConfigurationProperties(LargeSeedProperties.class)
+public class LargeSeedConfig {
+
+    /**
+     * Create a startup runner that writes the synthetic dataset into an empty database.
+     *
+     * @param properties the bound dataset settings
+     * @param dataSource the application data source
+     * @return a {@link CommandLineRunner} which performs the seeding when run
+     */
+    @Bean
+    public CommandLineRunner seedLargeDataset(LargeSeedProperties properties, DataSource dataSource) {
+        return args -> new LargeDataSeeder(properties, new SeedRowWriter(dataSource)).seed();
+    }
+}
@@ -0,0 +1,30 @@
+package xyz.soda.slowfall.config;
+
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import xyz.soda.slowfall.manifest.application.ManifestStore;
+import xyz.soda.slowfall.manifest.application.ManifestStoreProperties;
+import xyz.soda.slowfall.manifest.infra.ManifestSource;
+
+/**
+ * Wires the in-memory manifest store of the active window's jumps. It is loaded during startup, before the
+ * application serves requests, and held per process.
+ */
+@Configuration
+@EnableConfigurationProperties(ManifestStoreProperties.class)
+public class ManifestStoreConfig {
+
+    /**
+     * Creates and loads the manifest store and starts its reload thread; it is stopped on shutdown.
+     *
+     * @param source     source the jumps are read from
+     * @param properties the bound store settings
+     * @return the manifest store
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ManifestStore manifestStore(ManifestSource source, ManifestStoreProperties properties) {
+        return new ManifestStore(source, properties, Clock.systemUTC());
+    }
+}
@@ -1,5 +1,6 @@
 package xyz.soda.slowfall.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.Filter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,9 +8,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -20,12 +27,27 @@ import org.springframework.security.config.annotation.web.configurers.CsrfConfig
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import xyz.soda.slowfall.idempotency.api.IdempotencyFilter;
+import xyz.soda.slowfall.web.AdaptiveConcurrencyFilter;
+import xyz.soda.slowfall.web.CoalescingProperties;
+import xyz.soda.slowfall.web.ConcurrencyLimitProperties;
+import xyz.soda.slowfall.web.RateLimitFilter;
+import xyz.soda.slowfall.web.RateLimitProperties;
+import xyz.soda.slowfall.web.RequestCoalescingFilter;
 
 @Configuration
+@EnableConfigurationProperties({
+    RateLimitProperties.class,
+    CoalescingProperties.class,
+    ConcurrencyLimitProperties.class
+})
 public class SecurityConfig {
 
     /**
@@ -46,20 +68,151 @@ public class SecurityConfig {
         return new PseudoAuthFilter(pseudoEnabled, devUsername, devPassword);
     }
 
+    /**
+     * Creates the bearer-token authentication manager when {@code app.security.jwt.jwk-set-uri} is configured.
+     * The JWK set is fetched once and cached locally by the Nimbus decoder (it is only re-fetched when a token
+     * carries an unknown key id), and verified tokens are remembered by {@link CachingJwtAuthenticationManager}
+     * so repeated requests with the same token skip signature verification.
+     *
+     * @param jwkSetUri   the JWK set endpoint of the token issuer
+     * @param cacheSize   maximum number of verified tokens to remember
+     * @param maxCacheAge longest time a verified token is reused without re-verification
+     * @return the caching JWT authentication manager
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.security.jwt.jwk-set-uri")
+    public CachingJwtAuthenticationManager jwtAuthenticationManager(
+            @Value("${app.security.jwt.jwk-set-uri}") String jwkSetUri,
+            @Value("${app.security.jwt.cache-size:10000}") int cacheSize,
+            @Value("${app.security.jwt.max-cache-age:5m}") Duration maxCacheAge) {
+        JwtDecoder decoder = NimbusJwtDecoder.withJwkSetUri(jwkSetUri).build();
+        return new CachingJwtAuthenticationManager(
+                new JwtAuthenticationProvider(decoder), cacheSize, maxCacheAge, Clock.systemUTC());
+    }
+
+    /**
+     * Creates the per-client rate limit filter configured by {@code app.rate-limit.*}.
+     *
+     * @param properties the bound rate limit settings
+     * @param registry   meter registry used to publish rate limit metrics
+     * @return the rate limit filter to insert into the security chain
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties properties, MeterRegistry registry) {
+        return new RateLimitFilter(properties, registry);
+    }
+
+    /**
+     * Keeps Spring Boot from also registering the rate limit filter as a plain servlet filter; it only runs
+     * inside the security chain, after authentication, so it can key buckets on the principal.
+     *
+     * @param rateLimitFilter the rate limit filter bean
+     * @return a disabled registration for the filter
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Filter letting identical concurrent GETs on hot read routes share a single execution.
+     *
+     * @param properties the bound coalescing settings
+     * @param registry   meter registry used to publish coalescing metrics
+     * @return the request coalescing filter
+     */
+    @Bean
+    public RequestCoalescingFilter requestCoalescingFilter(CoalescingProperties properties, MeterRegistry registry) {
+        return new RequestCoalescingFilter(properties, registry);
+    }
+
+    /**
+     * Keeps Spring Boot from also registering the coalescing filter as a plain servlet filter; it must run
+     * after authentication so requests from different callers are never merged.
+     *
+     * @param requestCoalescingFilter the request coalescing filter bean
+     * @return a disabled registration for the filter
+     */
+    @Bean
+    public FilterRegistrationBean<RequestCoalescingFilter> requestCoalescingFilterRegistration(
+            RequestCoalescingFilter requestCoalescingFilter) {
+        FilterRegistrationBean<RequestCoalescingFilter> registration =
+                new FilterRegistrationBean<>(requestCoalescingFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * Filter shedding database-bound requests once the adaptive concurrency limit is reached.
+     *
+     * @param properties the bound concurrency limit settings
+     * @param registry   meter registry used to publish limit and shedding metrics
+     * @return the adaptive concurrency filter
+     */
+    @Bean
+    public AdaptiveConcurrencyFilter adaptiveConcurrencyFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry registry) {
+        return new AdaptiveConcurrencyFilter(properties, registry);
+    }
+
+    /**
+     * Keeps Spring Boot from also registering the concurrency filter as a plain servlet filter; it runs last
+     * in the security chain so replayed and coalesced requests, which never reach the database, hold no permit.
+     *
+     * @param adaptiveConcurrencyFilter the adaptive concurrency filter bean
+     * @return a disabled registration for the filter
+     */
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyFilter> adaptiveConcurrencyFilterRegistration(
+            AdaptiveConcurrencyFilter adaptiveConcurrencyFilter) {
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registration =
+                new FilterRegistrationBean<>(adaptiveConcurrencyFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * Configures the Spring Security filter chain for the application.
      * - Enables CORS, disables CSRF, and inserts the pseudo auth filter before basic auth.
+     * - Accepts bearer JWTs when a {@link CachingJwtAuthenticationManager} is configured.
+     * - Applies per-client rate limits once the caller has been authenticated.
+     * - Replays stored responses for repeated {@code Idempotency-Key} POSTs, after rate limiting.
+     * - Shares one execution between identical concurrent GETs on hot read routes.
+     * - Sheds database-bound requests with 503 once the adaptive concurrency limit is reached.
      * - Protects paths under /api/protected/** and permits other requests (useful for local/dev flows).
      *
      * @param http the HttpSecurity builder provided by Spring Security
      * @param pseudoAuthFilter the pseudo authentication filter to insert into the chain
+     * @param rateLimitFilter the rate limit filter to insert into the chain
+     * @param idempotencyFilter the idempotency key filter to insert into the chain
+     * @param requestCoalescingFilter the request coalescing filter to insert into the chain
+     * @param adaptiveConcurrencyFilter the adaptive concurrency filter to insert into the chain
+     * @param jwtAuthenticationManager the bearer-token authentication manager, if JWT auth is configured
      * @return the configured SecurityFilterChain
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, Filter pseudoAuthFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            Filter pseudoAuthFilter,
+            RateLimitFilter rateLimitFilter,
+            IdempotencyFilter idempotencyFilter,
+            RequestCoalescingFilter requestCoalescingFilter,
+            AdaptiveConcurrencyFilter adaptiveConcurrencyFilter,
+            ObjectProvider<CachingJwtAuthenticationManager> jwtAuthenticationManager)
+            throws Exception {
+        CachingJwtAuthenticationManager jwtManager = jwtAuthenticationManager.getIfAvailable();
+        if (jwtManager != null) {
+            http.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.authenticationManager(jwtManager)));
+        }
         http.cors(Customizer.withDefaults())
                 .csrf(CsrfConfigurer::disable)
                 .addFilterBefore(pseudoAuthFilter, BasicAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, BasicAuthenticationFilter.class)
+                .addFilterAfter(idempotencyFilter, RateLimitFilter.class)
+                .addFilterAfter(requestCoalescingFilter, IdempotencyFilter.class)
+                .addFilterAfter(adaptiveConcurrencyFilter, RequestCoalescingFilter.class)
                 .authorizeHttpRequests(
                         auth -> auth.requestMatchers(HttpMethod.OPTIONS, "/**")
                                 .permitAll()
@@ -74,16 +227,22 @@ public class SecurityConfig {
 
     /**
      * Private nested filter implementation to validate Basic auth against runtime env values when enabled.
+     * The expected header value is encoded once up front, so requests are checked with a constant-time
+     * comparison instead of Base64-decoding and splitting the presented credentials every time.
      */
     private static class PseudoAuthFilter extends OncePerRequestFilter implements Filter {
+        private static final String BASIC_PREFIX = "basic ";
+
         private final boolean enabled;
         private final String username;
-        private final String password;
+        private final String expectedCredentials;
 
         PseudoAuthFilter(boolean enabled, String username, String password) {
             this.enabled = enabled;
             this.username = username == null ? "" : username;
-            this.password = password == null ? "" : password;
+            String credentials = this.username + ":" + (password == null ? "" : password);
+            this.expectedCredentials =
+                    Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
         }
 
         @Override
@@ -94,16 +253,10 @@ public class SecurityConfig {
                 try {
                     String authHeader = request.getHeader("Authorization");
                     if (StringUtils.hasText(authHeader)
-                            && authHeader.toLowerCase().startsWith("basic ")) {
-                        String base64 = authHeader.substring(6).trim();
-                        String decoded = new String(Base64.getDecoder().decode(base64), StandardCharsets.UTF_8);
-                        int idx = decoded.indexOf(':');
-                        if (idx > -1) {
-                            String reqUser = decoded.substring(0, idx);
-                            String reqPass = decoded.substring(idx + 1);
-                            if (constantTimeEquals(reqUser, username) && constantTimeEquals(reqPass, password)) {
-                                setAuth(reqUser);
-                            }
+                            && authHeader.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+                        String presented = authHeader.substring(BASIC_PREFIX.length()).trim();
+                        if (constantTimeEquals(presented, expectedCredentials)) {
+                            setAuth(username);
                         }
                     }
                 } catch (Exception ex) {
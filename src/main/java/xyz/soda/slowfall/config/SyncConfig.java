@@ -0,0 +1,73 @@
+package xyz.soda.slowfall.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.application.SyncProperties;
+import xyz.soda.slowfall.sync.application.SyncService;
+import xyz.soda.slowfall.sync.domain.ChangeVersionSource;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+import xyz.soda.slowfall.sync.infra.PostgresChangeVersionSource;
+import xyz.soda.slowfall.sync.infra.TombstoneRepository;
+
+/**
+ * Wires the delta sync endpoint.
+ */
+@Configuration
+@EnableConfigurationProperties(SyncProperties.class)
+public class SyncConfig {
+
+    /**
+     * Creates the source of change versions and installs it for the entity listeners. On PostgreSQL versions
+     * follow the database's transaction ids, so every replica shares them; elsewhere they are kept in process.
+     *
+     * @param jdbcTemplate template bound to the application pool
+     * @return the installed source
+     */
+    @Bean
+    public ChangeVersionSource changeVersionSource(JdbcTemplate jdbcTemplate) {
+        boolean postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+        ChangeVersionSource source =
+                postgres ? new PostgresChangeVersionSource(jdbcTemplate) : ChangeVersions.local();
+        ChangeVersions.use(source);
+        return source;
+    }
+
+    /**
+     * Creates the sync service.
+     *
+     * @param personRepository    repository for persons
+     * @param craftRepository     repository for crafts
+     * @param airportRepository   repository for airports
+     * @param jumpRepository      repository for jumps
+     * @param tombstoneRepository repository for deletion markers
+     * @param properties          the bound sync settings
+     * @param changeVersionSource source of the stable version a response may read up to
+     * @return the sync service
+     */
+    @Bean
+    public SyncService syncService(
+            PersonRepository personRepository,
+            CraftRepository craftRepository,
+            AirportRepository airportRepository,
+            JumpRepository jumpRepository,
+            TombstoneRepository tombstoneRepository,
+            SyncProperties properties,
+            ChangeVersionSource changeVersionSource) {
+        return new SyncService(
+                personRepository,
+                craftRepository,
+                airportRepository,
+                jumpRepository,
+                tombstoneRepository,
+                properties,
+                changeVersionSource);
+    }
+}
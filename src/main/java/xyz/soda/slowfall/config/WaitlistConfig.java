@@ -0,0 +1,74 @@
+package xyz.soda.slowfall.config;
+
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import xyz.soda.slowfall.jump.application.JumpService;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.waitlist.application.LoadWaitlist;
+import xyz.soda.slowfall.waitlist.application.WaitlistProperties;
+import xyz.soda.slowfall.waitlist.application.WaitlistService;
+import xyz.soda.slowfall.waitlist.infra.WaitlistRepository;
+import xyz.soda.slowfall.waitlist.infra.WaitlistWriteBehind;
+import xyz.soda.slowfall.waitlist.infra.WaitlistWriter;
+
+/**
+ * Wires the in-memory load waitlists and their write-behind persistence. The waitlists are restored from the
+ * database at startup and flushed on shutdown. They are held per process, so only one replica should serve the
+ * waitlist endpoints.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(WaitlistProperties.class)
+public class WaitlistConfig {
+
+    /**
+     * Starts the background writer persisting waitlist changes; it is flushed on shutdown.
+     *
+     * @param writer     the batch writer
+     * @param properties the bound waitlist settings
+     * @return the write-behind buffer
+     */
+    @Bean(destroyMethod = "close")
+    public WaitlistWriteBehind waitlistWriteBehind(WaitlistWriter writer, WaitlistProperties properties) {
+        return new WaitlistWriteBehind(writer, properties.flushInterval());
+    }
+
+    /**
+     * Restores the waitlists from the persisted entries.
+     *
+     * @param writeBehind persistence for subsequent changes
+     * @param repository  repository holding the persisted entries
+     * @return the in-memory waitlists
+     */
+    @Bean
+    public LoadWaitlist loadWaitlist(WaitlistWriteBehind writeBehind, WaitlistRepository repository) {
+        return new LoadWaitlist(writeBehind, repository.findAllByOrderBySequenceAsc(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates the waitlist service, which also promotes waiting persons when slots are freed and purges the
+     * waitlists of departed loads.
+     *
+     * @param waitlist           the in-memory waitlists
+     * @param jumpRepository     repository used to check that a load exists
+     * @param personRepository   repository used to check that a person exists
+     * @param jumpService        service adding promoted persons to the roster
+     * @param transactionManager transaction manager for the promotion transactions
+     * @return the waitlist service
+     */
+    @Bean
+    public WaitlistService waitlistService(
+            LoadWaitlist waitlist,
+            JumpRepository jumpRepository,
+            PersonRepository personRepository,
+            JumpService jumpService,
+            PlatformTransactionManager transactionManager) {
+        return new WaitlistService(
+                waitlist, jumpRepository, personRepository, jumpService, transactionManager, Clock.systemUTC());
+    }
+}
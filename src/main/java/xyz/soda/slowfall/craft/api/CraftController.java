@@ -1,6 +1,7 @@
 package xyz.soda.slowfall.craft.api;
 
 import jakarta.validation.Valid;
+import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -55,4 +56,21 @@ public class CraftController {
     public java.util.List<CraftDto> listCrafts() {
         return service.listAllCrafts().stream().map(CraftDto::from).toList();
     }
+
+    /**
+     * Replace the loading stations and CG envelope used for weight and balance.
+     * @param id      the craft id
+     * @param request payload with the station layout
+     * @return a ResponseEntity with HTTP 204, or 400 if the craft is unknown or the layout is inconsistent
+     */
+    @PutMapping("/{id}/stations")
+    public ResponseEntity<Void> updateStations(
+            @PathVariable("id") UUID id, @Valid @RequestBody UpdateStationsRequest request) {
+        try {
+            service.updateStationLayout(id, request.toLayout());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package xyz.soda.slowfall.craft.api;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.util.List;
+import xyz.soda.slowfall.craft.domain.StationLayout;
+
+/**
+ * Request payload describing a craft's loading stations. Arms are in centimetres aft of datum.
+ *
+ * @param emptyWeight    basic empty weight in kilograms
+ * @param emptyArm       arm of the basic empty weight
+ * @param pilotArm       arm of the pilot seat(s)
+ * @param doorArm        arm of the jump door
+ * @param seatRowArms    arms of the cabin seat rows, front to back
+ * @param seatsPerRow    number of jumpers seated per row
+ * @param forwardCgLimit most forward permitted centre of gravity
+ * @param aftCgLimit     most aft permitted centre of gravity
+ */
+public record UpdateStationsRequest(
+        @NotNull @Positive Integer emptyWeight,
+        @NotNull Integer emptyArm,
+        @NotNull Integer pilotArm,
+        @NotNull Integer doorArm,
+        @NotEmpty List<@NotNull Integer> seatRowArms,
+        @NotNull @Positive Integer seatsPerRow,
+        @NotNull Integer forwardCgLimit,
+        @NotNull Integer aftCgLimit) {
+
+    /**
+     * Convert the request to a validated StationLayout.
+     * @return the station layout
+     * @throws IllegalArgumentException if the layout is inconsistent
+     */
+    public StationLayout toLayout() {
+        return new StationLayout(
+                emptyWeight, emptyArm, pilotArm, doorArm, seatRowArms, seatsPerRow, forwardCgLimit, aftCgLimit);
+    }
+}
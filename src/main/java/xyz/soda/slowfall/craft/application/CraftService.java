@@ -1,43 +1,56 @@
 package xyz.soda.slowfall.craft.application;
 
 import java.util.List;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import xyz.soda.slowfall.craft.api.CreateCraftRequest;
 import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.domain.StationLayout;
 import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
+import xyz.soda.slowfall.sync.domain.SyncKind;
 
 @Service
 public class CraftService {
     private final CraftRepository repository;
+    private final ApplicationEventPublisher events;
 
     /**
      * Create a new instance of {@code CraftService}.
      *
      * @param repository the repository used to persist crafts
+     * @param events     publisher notifying caches of committed craft changes
      */
-    public CraftService(CraftRepository repository) {
+    public CraftService(CraftRepository repository, ApplicationEventPublisher events) {
         this.repository = repository;
+        this.events = events;
     }
 
     /**
-     * Create and persist a new craft from the request. Validates uniqueness by name and registration number.
+     * Create and persist a new craft from the request. Name and registration number uniqueness is enforced by
+     * database constraints, so a create is a single insert and concurrent duplicates are still rejected.
      * @param request the request payload containing craft details
      * @return the saved Craft entity
      * @throws IllegalArgumentException if a craft with the same name or registration number exists
      */
     @Transactional
     public Craft createCraft(CreateCraftRequest request) {
-        repository.findByName(request.name()).ifPresent(existing -> {
-            throw new IllegalArgumentException("Craft named %s already exists.".formatted(request.name()));
-        });
-        repository.findByRegistrationNumber(request.registrationNumber()).ifPresent(existing -> {
-            throw new IllegalArgumentException("Craft %s already exists".formatted(request.registrationNumber()));
-        });
-
         Craft craft = new Craft(
                 request.name(), request.registrationNumber(), request.capacityWeight(), request.capacityPersons());
-        return repository.save(craft);
+        Craft saved;
+        try {
+            saved = repository.saveAndFlush(craft);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(
+                    "Craft named %s or registered %s already exists"
+                            .formatted(request.name(), request.registrationNumber()),
+                    e);
+        }
+        events.publishEvent(new EntitiesChangedEvent(SyncKind.CRAFT, List.of(saved.getId())));
+        return saved;
     }
 
     /**
@@ -48,4 +61,19 @@ public class CraftService {
     public List<Craft> listAllCrafts() {
         return repository.findAll();
     }
+
+    /**
+     * Replace the loading stations and CG envelope of a craft.
+     * @param id     the craft id
+     * @param layout the new station layout
+     * @return the updated Craft entity
+     * @throws IllegalArgumentException if the craft is not found
+     */
+    @Transactional
+    public Craft updateStationLayout(UUID id, StationLayout layout) {
+        Craft craft = repository.findById(id).orElseThrow(() -> new IllegalArgumentException("Craft not found"));
+        craft.setStationLayout(layout);
+        events.publishEvent(new EntitiesChangedEvent(SyncKind.CRAFT, List.of(id)));
+        return craft;
+    }
 }
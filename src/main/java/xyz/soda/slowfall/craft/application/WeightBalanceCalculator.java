@@ -0,0 +1,120 @@
+package xyz.soda.slowfall.craft.application;
+
+import java.util.Arrays;
+import xyz.soda.slowfall.craft.domain.StationLayout;
+
+/**
+ * Computes total weight and centre of gravity of a load for one craft.
+ *
+ * <p>The layout is flattened into primitive arrays once, so a recomputation after a roster change is a sort of
+ * at most a few dozen jumper weights plus a handful of multiply-adds and allocates nothing but the sorted copy
+ * and the result. Jumpers are seated heaviest first from the front row back, which is how loads are briefed
+ * and gives the most forward seated CG. The CG is also computed for climb-out, with every jumper at the door,
+ * because that is where an aft-loaded craft leaves its envelope.</p>
+ */
+public class WeightBalanceCalculator {
+    private final int capacityWeight;
+    private final int emptyWeight;
+    private final long emptyMoment;
+    private final int pilotArm;
+    private final int doorArm;
+    private final int[] seatArms;
+    private final int forwardLimit;
+    private final int aftLimit;
+
+    /**
+     * Create a new WeightBalanceCalculator.
+     *
+     * @param layout         the craft's loading stations and CG envelope
+     * @param capacityWeight the craft's payload limit (pilots and jumpers)
+     */
+    public WeightBalanceCalculator(StationLayout layout, int capacityWeight) {
+        this.capacityWeight = capacityWeight;
+        this.emptyWeight = layout.emptyWeight();
+        this.emptyMoment = (long) layout.emptyWeight() * layout.emptyArm();
+        this.pilotArm = layout.pilotArm();
+        this.doorArm = layout.doorArm();
+        this.forwardLimit = layout.forwardCgLimit();
+        this.aftLimit = layout.aftCgLimit();
+
+        int[] rows = layout.seatRowArms().stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(rows);
+        this.seatArms = new int[rows.length * layout.seatsPerRow()];
+        for (int i = 0; i < seatArms.length; i++) {
+            seatArms[i] = rows[i / layout.seatsPerRow()];
+        }
+    }
+
+    /**
+     * Compute the weight and balance of a load.
+     *
+     * @param pilotWeights  weights of the pilots on board
+     * @param jumperWeights weights of the jumpers on board, in any order
+     * @return the load's weight and balance
+     */
+    public LoadBalance compute(int[] pilotWeights, int[] jumperWeights) {
+        long moment = emptyMoment;
+        int payload = 0;
+        for (int weight : pilotWeights) {
+            payload += weight;
+            moment += (long) weight * pilotArm;
+        }
+        long exitMoment = moment;
+
+        int[] sorted = jumperWeights.clone();
+        Arrays.sort(sorted);
+        int seated = Math.min(sorted.length, seatArms.length);
+        for (int i = 0; i < sorted.length; i++) {
+            int weight = sorted[sorted.length - 1 - i];
+            payload += weight;
+            // Jumpers without a seat are counted at the door, the only floor space left.
+            moment += (long) weight * (i < seated ? seatArms[i] : doorArm);
+            exitMoment += (long) weight * doorArm;
+        }
+
+        int total = emptyWeight + payload;
+        double seatedCg = (double) moment / total;
+        double exitCg = (double) exitMoment / total;
+        return new LoadBalance(
+                total,
+                payload,
+                seatedCg,
+                exitCg,
+                sorted.length - seated,
+                payload > capacityWeight,
+                inEnvelope(seatedCg) && inEnvelope(exitCg));
+    }
+
+    private boolean inEnvelope(double cg) {
+        return cg >= forwardLimit && cg <= aftLimit;
+    }
+
+    /**
+     * Weight and balance of a load.
+     *
+     * @param totalWeight    empty weight plus payload, in kilograms
+     * @param payloadWeight  weight of pilots and jumpers, in kilograms
+     * @param seatedCgArm    centre of gravity with everyone seated, in centimetres aft of datum
+     * @param exitCgArm      centre of gravity with every jumper at the door, in centimetres aft of datum
+     * @param unseated       number of jumpers beyond the available seats
+     * @param overweight     whether the payload exceeds the craft's capacity
+     * @param withinEnvelope whether both centres of gravity are inside the CG envelope
+     */
+    public record LoadBalance(
+            int totalWeight,
+            int payloadWeight,
+            double seatedCgArm,
+            double exitCgArm,
+            int unseated,
+            boolean overweight,
+            boolean withinEnvelope) {
+
+        /**
+         * Whether the load may fly: within weight, within the envelope and everyone seated.
+         * @return {@code true} if the load is within all limits
+         */
+        public boolean withinLimits() {
+            return !overweight && withinEnvelope && unseated == 0;
+        }
+    }
+}
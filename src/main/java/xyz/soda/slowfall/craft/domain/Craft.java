@@ -1,21 +1,37 @@
 package xyz.soda.slowfall.craft.domain;
 
 import jakarta.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import org.hibernate.annotations.ColumnDefault;
+import xyz.soda.slowfall.sync.domain.ChangeVersionListener;
+import xyz.soda.slowfall.sync.domain.Versioned;
 
 @Entity
-@Table(name = "crafts")
-public class Craft {
+@EntityListeners(ChangeVersionListener.class)
+@Table(
+        name = "crafts",
+        indexes = @Index(name = "idx_crafts_change_version", columnList = "change_version"),
+        uniqueConstraints = {
+            @UniqueConstraint(name = "uk_crafts_name", columnNames = "name"),
+            @UniqueConstraint(name = "uk_crafts_registration_number", columnNames = "registration_number")
+        })
+public class Craft implements Versioned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     @Column(nullable = false)
     private String name;
 
-    @Column(nullable = false)
+    @Column(name = "registration_number", nullable = false)
     private String registrationNumber;
 
     @Column(nullable = false)
@@ -24,6 +40,26 @@ public class Craft {
     @Column(nullable = false)
     private Integer capacityPersons;
 
+    private Integer emptyWeight;
+
+    private Integer emptyArm;
+
+    private Integer pilotArm;
+
+    private Integer doorArm;
+
+    private Integer seatsPerRow;
+
+    private Integer forwardCgLimit;
+
+    private Integer aftCgLimit;
+
+    @ElementCollection
+    @CollectionTable(name = "craft_seat_rows", joinColumns = @JoinColumn(name = "craft_id"))
+    @OrderColumn(name = "row_index")
+    @Column(name = "arm", nullable = false)
+    private final List<Integer> seatRowArms = new ArrayList<>();
+
     /**
      * Protected no-args constructor required by JPA.
      */
@@ -116,6 +152,47 @@ public class Craft {
         this.capacityPersons = capacityPersons;
     }
 
+    /**
+     * Get the loading stations and CG envelope used for weight and balance.
+     * @return the station layout, or {@code null} if none has been configured
+     */
+    public StationLayout getStationLayout() {
+        if (emptyWeight == null) {
+            return null;
+        }
+        return new StationLayout(
+                emptyWeight, emptyArm, pilotArm, doorArm, seatRowArms, seatsPerRow, forwardCgLimit, aftCgLimit);
+    }
+
+    /**
+     * Set the loading stations and CG envelope used for weight and balance.
+     * @param layout the station layout to set
+     */
+    public void setStationLayout(StationLayout layout) {
+        this.emptyWeight = layout.emptyWeight();
+        this.emptyArm = layout.emptyArm();
+        this.pilotArm = layout.pilotArm();
+        this.doorArm = layout.doorArm();
+        this.seatsPerRow = layout.seatsPerRow();
+        this.forwardCgLimit = layout.forwardCgLimit();
+        this.aftCgLimit = layout.aftCgLimit();
+        this.seatRowArms.clear();
+        this.seatRowArms.addAll(layout.seatRowArms());
+    }
+
+    /**
+     * Get the version of the last change to this craft, used by delta sync.
+     * @return the change version
+     */
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void assignChangeVersion(long version) {
+        this.changeVersion = version;
+    }
+
     /**
      * Equality is based on the craft id.
      * @param object the object to compare
@@ -0,0 +1,46 @@
+package xyz.soda.slowfall.craft.domain;
+
+import java.util.List;
+
+/**
+ * Loading stations and centre-of-gravity envelope of a craft. Arms are in centimetres aft of the craft's datum,
+ * weights in kilograms.
+ *
+ * @param emptyWeight    basic empty weight including unusable fuel and oil
+ * @param emptyArm       arm of the basic empty weight
+ * @param pilotArm       arm of the pilot seat(s)
+ * @param doorArm        arm of the jump door, where the group gathers during climb-out
+ * @param seatRowArms    arms of the cabin seat rows, front to back
+ * @param seatsPerRow    number of jumpers seated per row
+ * @param forwardCgLimit most forward permitted centre of gravity
+ * @param aftCgLimit     most aft permitted centre of gravity
+ */
+public record StationLayout(
+        int emptyWeight,
+        int emptyArm,
+        int pilotArm,
+        int doorArm,
+        List<Integer> seatRowArms,
+        int seatsPerRow,
+        int forwardCgLimit,
+        int aftCgLimit) {
+
+    /**
+     * Validate the layout.
+     *
+     * @throws IllegalArgumentException if a weight or count is not positive, there are no seat rows, or the
+     *                                  envelope is empty
+     */
+    public StationLayout {
+        if (emptyWeight <= 0 || seatsPerRow <= 0) {
+            throw new IllegalArgumentException("Empty weight and seats per row must be positive");
+        }
+        if (seatRowArms == null || seatRowArms.isEmpty()) {
+            throw new IllegalArgumentException("At least one seat row is required");
+        }
+        if (forwardCgLimit >= aftCgLimit) {
+            throw new IllegalArgumentException("Forward CG limit must be ahead of the aft limit");
+        }
+        seatRowArms = List.copyOf(seatRowArms);
+    }
+}
@@ -1,8 +1,12 @@
 package xyz.soda.slowfall.craft.infra;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import xyz.soda.slowfall.craft.domain.Craft;
 
 public interface CraftRepository extends JpaRepository<Craft, UUID> {
@@ -21,4 +25,16 @@ public interface CraftRepository extends JpaRepository<Craft, UUID> {
      * @return an Optional containing the Craft if found
      */
     Optional<Craft> findByName(String name);
+
+    /**
+     * Find crafts with a change version in {@code (since, until]}, oldest change first.
+     *
+     * @param since exclusive lower version bound
+     * @param until inclusive upper version bound
+     * @param limit maximum number of rows
+     * @return the changed crafts
+     */
+    @Query("select c from Craft c where c.changeVersion > :since and c.changeVersion <= :until"
+            + " order by c.changeVersion")
+    List<Craft> findChangedBetween(@Param("since") long since, @Param("until") long until, Limit limit);
 }
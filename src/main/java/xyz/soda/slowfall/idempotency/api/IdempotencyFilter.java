@@ -0,0 +1,207 @@
+package xyz.soda.slowfall.idempotency.api;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import xyz.soda.slowfall.idempotency.application.IdempotencyStore;
+import xyz.soda.slowfall.idempotency.application.StoredResponse;
+
+/**
+ * Servlet filter honouring the {@code Idempotency-Key} header on {@code POST} requests.
+ *
+ * <p>The first request with a key runs normally and its response is stored; any retry with the same key
+ * (scoped to the caller) gets the stored response back without touching the controller. A retry that
+ * arrives while the first request is still running gets 409, and reusing a key for a different request
+ * gets 422. Server errors are not stored, so the client may retry them with the same key.</p>
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    /** Request header carrying the client-chosen idempotency key. */
+    public static final String HEADER = "Idempotency-Key";
+
+    /** Response header set on replayed responses. */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+
+    /**
+     * Create a new IdempotencyFilter.
+     *
+     * @param store        the store holding claimed keys and their responses
+     * @param enabled      whether the header is honoured at all
+     * @param maxBodyBytes responses larger than this are not stored
+     */
+    public IdempotencyFilter(IdempotencyStore store, boolean enabled, int maxBodyBytes) {
+        this.store = store;
+        this.enabled = enabled;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientKey = request.getHeader(HEADER).trim();
+        if (clientKey.isEmpty() || clientKey.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid Idempotency-Key");
+            return;
+        }
+
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        String key = scope() + ":" + clientKey;
+        String fingerprint = fingerprint(request, body);
+
+        Optional<IdempotencyStore.Entry> existing = store.begin(key, fingerprint);
+        if (existing.isPresent()) {
+            replay(existing.get(), fingerprint, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), wrapper);
+            int status = wrapper.getStatus();
+            if (status < 500 && wrapper.getContentSize() <= maxBodyBytes) {
+                StoredResponse captured =
+                        new StoredResponse(status, wrapper.getContentType(), wrapper.getContentAsByteArray());
+                store.complete(key, captured);
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(IdempotencyStore.Entry entry, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!entry.fingerprint().equals(fingerprint)) {
+            response.sendError(
+                    HttpStatus.UNPROCESSABLE_ENTITY.value(), "Idempotency-Key was already used for another request");
+            return;
+        }
+        StoredResponse stored = entry.response();
+        if (stored == null) {
+            response.sendError(HttpStatus.CONFLICT.value(), "A request with this Idempotency-Key is in progress");
+            return;
+        }
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static String scope() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "user:" + auth.getName();
+        }
+        return "anonymous";
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Request wrapper replaying a body that has already been read for fingerprinting.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int off, int len) {
+                    return in.read(buffer, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
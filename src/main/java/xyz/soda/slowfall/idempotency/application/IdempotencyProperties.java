@@ -0,0 +1,25 @@
+package xyz.soda.slowfall.idempotency.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Idempotency key settings bound from {@code app.idempotency.*}.
+ *
+ * @param enabled      whether {@code Idempotency-Key} headers are honoured
+ * @param store        {@code memory} for a single instance, {@code database} when several replicas share keys
+ * @param ttl          how long a key and its response are remembered
+ * @param lease        how long a request may hold its key unfinished before a retry may take the key over
+ *                     (database store only; the in-memory store loses its claims with the process anyway)
+ * @param maxEntries   upper bound on keys held by the in-memory store
+ * @param maxBodyBytes responses larger than this are not stored, so their keys can be retried
+ */
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("memory") String store,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("2m") Duration lease,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("65536") int maxBodyBytes) {}
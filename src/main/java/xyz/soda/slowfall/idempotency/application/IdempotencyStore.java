@@ -0,0 +1,45 @@
+package xyz.soda.slowfall.idempotency.application;
+
+import java.util.Optional;
+
+/**
+ * Storage for recently seen idempotency keys and the responses they produced.
+ *
+ * <p>A key is first claimed with {@link #begin(String, String)}; the caller then either records the
+ * outcome with {@link #complete(String, StoredResponse)} or gives the key back with {@link #release(String)}
+ * so a later retry can execute again. Entries expire after the store's configured time-to-live.</p>
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claim a key for a new request, or return what is already known about it.
+     *
+     * @param key         the scoped idempotency key
+     * @param fingerprint a hash identifying the request the key was first used with
+     * @return empty if the key was claimed by this call, otherwise the existing entry
+     */
+    Optional<Entry> begin(String key, String fingerprint);
+
+    /**
+     * Record the response produced for a claimed key.
+     *
+     * @param key      the scoped idempotency key
+     * @param response the response to replay for later requests with the same key
+     */
+    void complete(String key, StoredResponse response);
+
+    /**
+     * Forget a claimed key without recording a response, e.g. after a server error.
+     *
+     * @param key the scoped idempotency key
+     */
+    void release(String key);
+
+    /**
+     * An existing entry for a key.
+     *
+     * @param fingerprint the fingerprint of the request that first used the key
+     * @param response    the stored response, or {@code null} while the first request is still running
+     */
+    record Entry(String fingerprint, StoredResponse response) {}
+}
@@ -0,0 +1,71 @@
+package xyz.soda.slowfall.idempotency.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicting idempotency store for a single backend instance.
+ *
+ * <p>Entries are kept in insertion order, which with a fixed TTL is also expiry order, so expired keys are
+ * trimmed from the head on every claim and the oldest key is dropped once {@code maxEntries} is reached.
+ * Only {@code POST} requests carrying a key reach this store, so a single monitor is plenty.</p>
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Slot> entries;
+
+    /**
+     * Create a new InMemoryIdempotencyStore.
+     *
+     * @param ttl        how long keys are remembered
+     * @param maxEntries maximum number of keys held at once
+     * @param clock      clock used for expiry
+     */
+    public InMemoryIdempotencyStore(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Slot> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<Entry> begin(String key, String fingerprint) {
+        Instant now = clock.instant();
+        evictExpired(now);
+        Slot slot = entries.get(key);
+        if (slot != null) {
+            return Optional.of(new Entry(slot.fingerprint(), slot.response()));
+        }
+        entries.put(key, new Slot(fingerprint, null, now.plus(ttl)));
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized void complete(String key, StoredResponse response) {
+        entries.computeIfPresent(key, (k, slot) -> new Slot(slot.fingerprint(), response, slot.expiresAt()));
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        entries.remove(key);
+    }
+
+    private void evictExpired(Instant now) {
+        Iterator<Slot> it = entries.values().iterator();
+        while (it.hasNext() && !it.next().expiresAt().isAfter(now)) {
+            it.remove();
+        }
+    }
+
+    private record Slot(String fingerprint, StoredResponse response, Instant expiresAt) {}
+}
@@ -0,0 +1,97 @@
+package xyz.soda.slowfall.idempotency.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.dao.DataIntegrityViolationException;
+import xyz.soda.slowfall.idempotency.domain.IdempotencyRecord;
+import xyz.soda.slowfall.idempotency.infra.IdempotencyRecordRepository;
+
+/**
+ * Idempotency store backed by the {@code idempotency_keys} table, for deployments with several replicas.
+ *
+ * <p>Claims rely on the primary key: the first replica to insert a key wins and every other replica sees
+ * the existing row. Expired rows are purged at most once a minute from the claim path.</p>
+ *
+ * <p>A claim carries an in-flight deadline that is cleared when the response is stored. A key whose request
+ * is still unfinished after that deadline, typically because its replica died mid-request, is taken over by
+ * the next retry instead of answering it with a conflict until the key expires.</p>
+ */
+public class JpaIdempotencyStore implements IdempotencyStore {
+    private static final long PURGE_INTERVAL_MILLIS = 60_000L;
+
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Clock clock;
+    private final AtomicLong lastPurge = new AtomicLong();
+
+    /**
+     * Create a new JpaIdempotencyStore.
+     *
+     * @param repository repository for idempotency records
+     * @param ttl        how long keys are remembered
+     * @param lease      how long a claiming request may run before a retry may take its key over
+     * @param clock      clock used for expiry
+     */
+    public JpaIdempotencyStore(IdempotencyRecordRepository repository, Duration ttl, Duration lease, Clock clock) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<Entry> begin(String key, String fingerprint) {
+        Instant now = clock.instant();
+        purgeExpiredIfDue(now);
+        // Two attempts: the second covers a row that expired, was abandoned or was released in between.
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                repository.saveAndFlush(new IdempotencyRecord(key, fingerprint, now.plus(lease), now.plus(ttl)));
+                return Optional.empty();
+            } catch (DataIntegrityViolationException e) {
+                Optional<IdempotencyRecord> existing = repository.findById(key);
+                if (existing.isEmpty()) {
+                    continue;
+                }
+                IdempotencyRecord record = existing.get();
+                if (!record.getExpiresAt().isAfter(now)) {
+                    repository.delete(record);
+                } else if (record.isAbandoned(now)) {
+                    repository.deleteAbandoned(key, now);
+                } else {
+                    return Optional.of(toEntry(record));
+                }
+            }
+        }
+        throw new IllegalStateException("Could not claim idempotency key");
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        repository.complete(key, response.status(), response.contentType(), response.body());
+    }
+
+    @Override
+    public void release(String key) {
+        repository.deleteById(key);
+    }
+
+    private void purgeExpiredIfDue(Instant now) {
+        long last = lastPurge.get();
+        long nowMillis = now.toEpochMilli();
+        if (nowMillis - last >= PURGE_INTERVAL_MILLIS && lastPurge.compareAndSet(last, nowMillis)) {
+            repository.deleteExpired(now);
+        }
+    }
+
+    private static Entry toEntry(IdempotencyRecord stored) {
+        StoredResponse response = stored.getStatus() == null
+                ? null
+                : new StoredResponse(stored.getStatus(), stored.getContentType(), stored.getBody());
+        return new Entry(stored.getFingerprint(), response);
+    }
+}
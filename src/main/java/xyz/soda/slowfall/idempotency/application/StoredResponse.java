@@ -0,0 +1,10 @@
+package xyz.soda.slowfall.idempotency.application;
+
+/**
+ * A captured HTTP response that can be replayed for a repeated idempotency key.
+ *
+ * @param status      the HTTP status code of the original response
+ * @param contentType the content type of the original response (nullable)
+ * @param body        the raw response body bytes
+ */
+public record StoredResponse(int status, String contentType, byte[] body) {}
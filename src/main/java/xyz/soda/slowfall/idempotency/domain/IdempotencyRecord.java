@@ -0,0 +1,143 @@
+package xyz.soda.slowfall.idempotency.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * A claimed idempotency key and, once the original request finished, the response it produced.
+ *
+ * <p>The key is assigned by the client, so the entity implements {@link Persistable} to make Spring Data
+ * issue a plain {@code INSERT}; a concurrent claim of the same key then fails on the primary key instead
+ * of being merged over.</p>
+ */
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", nullable = false, length = 300)
+    private String key;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column()
+    private Integer status;
+
+    @Column()
+    private String contentType;
+
+    @Column(length = 65536)
+    private byte[] body;
+
+    @Column()
+    private Instant inFlightUntil;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * Protected no-args constructor for JPA.
+     */
+    protected IdempotencyRecord() {}
+
+    /**
+     * Create a new in-flight record for a claimed key.
+     *
+     * @param key           the scoped idempotency key
+     * @param fingerprint   hash of the request that claimed the key
+     * @param inFlightUntil when a retry may take the key over if the request has not completed by then
+     * @param expiresAt     when the key may be reused
+     */
+    public IdempotencyRecord(String key, String fingerprint, Instant inFlightUntil, Instant expiresAt) {
+        this.key = key;
+        this.fingerprint = fingerprint;
+        this.inFlightUntil = inFlightUntil;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Get the scoped idempotency key.
+     * @return the key
+     */
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    /**
+     * Whether the record has not been persisted yet.
+     * @return {@code true} until the record is persisted or loaded
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * Get the fingerprint of the request that claimed the key.
+     * @return the request fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Get the stored HTTP status.
+     * @return the status, or {@code null} while the original request is still running
+     */
+    public Integer getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the stored response content type.
+     * @return the content type (nullable)
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Get the stored response body.
+     * @return the body bytes (nullable)
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Get the deadline of the claiming request.
+     * @return the in-flight deadline, or {@code null} once the response is stored
+     */
+    public Instant getInFlightUntil() {
+        return inFlightUntil;
+    }
+
+    /**
+     * Check whether the claiming request stopped without completing, e.g. because its process died.
+     * @param now the current time
+     * @return {@code true} if no response is stored and the in-flight deadline has passed
+     */
+    public boolean isAbandoned(Instant now) {
+        return status == null && inFlightUntil != null && !inFlightUntil.isAfter(now);
+    }
+
+    /**
+     * Get the expiry time of the key.
+     * @return the expiry instant
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
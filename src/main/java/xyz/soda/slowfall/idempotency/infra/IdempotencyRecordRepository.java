@@ -0,0 +1,55 @@
+package xyz.soda.slowfall.idempotency.infra;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.idempotency.domain.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Store the response produced for a claimed key.
+     *
+     * @param key         the scoped idempotency key
+     * @param status      the HTTP status to replay
+     * @param contentType the response content type
+     * @param body        the response body
+     * @return the number of updated rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update IdempotencyRecord r set r.status = :status, r.contentType = :contentType, r.body = :body,"
+            + " r.inFlightUntil = null where r.key = :key")
+    int complete(
+            @Param("key") String key,
+            @Param("status") int status,
+            @Param("contentType") String contentType,
+            @Param("body") byte[] body);
+
+    /**
+     * Delete a key whose claiming request never completed and whose in-flight deadline has passed. The
+     * conditions are re-checked in the statement, so of several retries racing for the key only one deletes it.
+     *
+     * @param key the scoped idempotency key
+     * @param now the current time
+     * @return the number of deleted rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from IdempotencyRecord r where r.key = :key and r.status is null and r.inFlightUntil <= :now")
+    int deleteAbandoned(@Param("key") String key, @Param("now") Instant now);
+
+    /**
+     * Delete all keys that expired before the given instant.
+     *
+     * @param now the current time
+     * @return the number of deleted rows
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
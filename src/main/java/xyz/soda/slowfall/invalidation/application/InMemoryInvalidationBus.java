@@ -0,0 +1,54 @@
+package xyz.soda.slowfall.invalidation.application;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * In-JVM stand-in for the Postgres bus: every bus joined to the same {@link Channel} plays one replica. With a
+ * single instance the channel only loops back to the sender, which ignores its own messages. Messages go
+ * through their text form, like a {@code NOTIFY} payload would.
+ */
+public class InMemoryInvalidationBus extends InvalidationBus {
+    private final Channel channel;
+
+    /**
+     * Create a bus and join it to a channel.
+     *
+     * @param channel       the channel shared by the simulated replicas
+     * @param events        publisher for the changes received from other buses
+     * @param flushInterval how long changes are collected before they are sent
+     */
+    public InMemoryInvalidationBus(Channel channel, ApplicationEventPublisher events, Duration flushInterval) {
+        super(events, flushInterval);
+        this.channel = channel;
+        channel.members.add(this);
+    }
+
+    @Override
+    protected void send(List<InvalidationMessage> messages) {
+        for (InvalidationMessage message : messages) {
+            String payload = message.encode();
+            for (InMemoryInvalidationBus member : channel.members) {
+                member.receive(InvalidationMessage.decode(payload));
+            }
+        }
+    }
+
+    /**
+     * Leave the channel after sending what is still queued.
+     */
+    @Override
+    public void close() {
+        super.close();
+        channel.members.remove(this);
+    }
+
+    /**
+     * The buses that see each other's messages.
+     */
+    public static final class Channel {
+        private final List<InMemoryInvalidationBus> members = new CopyOnWriteArrayList<>();
+    }
+}
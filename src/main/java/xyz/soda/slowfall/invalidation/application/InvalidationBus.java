@@ -0,0 +1,178 @@
+package xyz.soda.slowfall.invalidation.application;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
+import xyz.soda.slowfall.invalidation.domain.InvalidationGapEvent;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+
+/**
+ * Tells the other replicas which entities changed, so their in-process caches do not go stale.
+ *
+ * <p>Committed {@link JumpsChangedEvent}s and {@link EntitiesChangedEvent}s are queued without blocking the
+ * writer. Every {@code flushInterval} a background thread collapses the queue into one
+ * {@link InvalidationMessage} per kind and up to {@link InvalidationMessage#MAX_IDS} ids, and hands the batch to
+ * {@link #send}. A failed send is retried with the next flush, ahead of newer changes.</p>
+ *
+ * <p>Messages from other replicas are republished locally as the same events, outside any transaction. They
+ * are not forwarded again: this bus only listens for events published inside a committing transaction.</p>
+ */
+public abstract class InvalidationBus implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final UUID origin = UUID.randomUUID();
+    private final ApplicationEventPublisher events;
+    private final Duration flushInterval;
+    private final Queue<Change> changes = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService flusher;
+    // Only touched under the flush monitor.
+    private final List<InvalidationMessage> unsent = new ArrayList<>();
+
+    /**
+     * Create a new bus. Changes are sent once {@link #start()} is called.
+     *
+     * @param events        publisher for the changes received from other replicas
+     * @param flushInterval how long changes are collected before they are sent
+     */
+    protected InvalidationBus(ApplicationEventPublisher events, Duration flushInterval) {
+        this.events = events;
+        this.flushInterval = flushInterval;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "invalidation-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start sending queued changes in the background.
+     */
+    public void start() {
+        long intervalMillis = Math.max(1L, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue committed jump changes for the other replicas.
+     *
+     * @param event the changed jumps
+     */
+    @TransactionalEventListener
+    public void onJumpsChanged(JumpsChangedEvent event) {
+        publish(SyncKind.JUMP, event.jumpIds());
+    }
+
+    /**
+     * Queue committed airport, craft or person changes for the other replicas.
+     *
+     * @param event the changed entities
+     */
+    @TransactionalEventListener
+    public void onEntitiesChanged(EntitiesChangedEvent event) {
+        publish(event.kind(), event.ids());
+    }
+
+    /**
+     * Queue changes for the other replicas.
+     *
+     * @param kind the kind of the changed entities
+     * @param ids  the changed entities
+     */
+    public void publish(SyncKind kind, Collection<UUID> ids) {
+        for (UUID id : ids) {
+            changes.add(new Change(kind, id));
+        }
+    }
+
+    /**
+     * Send all queued changes now.
+     */
+    public synchronized void flush() {
+        Map<SyncKind, Set<UUID>> byKind = new EnumMap<>(SyncKind.class);
+        Change change;
+        while ((change = changes.poll()) != null) {
+            byKind.computeIfAbsent(change.kind(), kind -> new LinkedHashSet<>()).add(change.id());
+        }
+        byKind.forEach((kind, ids) -> {
+            List<UUID> all = List.copyOf(ids);
+            for (int from = 0; from < all.size(); from += InvalidationMessage.MAX_IDS) {
+                List<UUID> chunk = all.subList(from, Math.min(all.size(), from + InvalidationMessage.MAX_IDS));
+                unsent.add(new InvalidationMessage(origin, kind, chunk));
+            }
+        });
+        if (!unsent.isEmpty()) {
+            send(List.copyOf(unsent));
+            unsent.clear();
+        }
+    }
+
+    /**
+     * Stop the flush thread and send whatever is still queued.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Deliver a batch to every replica, possibly including this one.
+     *
+     * @param messages the batch, in order
+     */
+    protected abstract void send(List<InvalidationMessage> messages);
+
+    /**
+     * Republish a message received from a replica. Messages this bus sent itself are ignored.
+     *
+     * @param message the received message
+     */
+    protected void receive(InvalidationMessage message) {
+        if (origin.equals(message.origin())) {
+            return;
+        }
+        events.publishEvent(
+                message.kind() == SyncKind.JUMP
+                        ? new JumpsChangedEvent(message.ids())
+                        : new EntitiesChangedEvent(message.kind(), message.ids()));
+    }
+
+    /**
+     * Tell the local caches that messages may have been missed and they should rebuild.
+     */
+    protected void receiveGap() {
+        events.publishEvent(new InvalidationGapEvent());
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Invalidation flush failed; retrying with the next flush", e);
+        }
+    }
+
+    private record Change(SyncKind kind, UUID id) {}
+}
@@ -0,0 +1,57 @@
+package xyz.soda.slowfall.invalidation.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+
+/**
+ * One batch of changed entities of one kind, as sent between replicas.
+ *
+ * <p>The text form is {@code <origin> <kind> <id>,<id>,...}. At most {@link #MAX_IDS} ids go into one message,
+ * which keeps it well under the 8000-byte limit Postgres puts on a notification payload.</p>
+ *
+ * @param origin the sending bus, so a replica can skip its own messages
+ * @param kind   the kind of the changed entities
+ * @param ids    the changed entities
+ */
+public record InvalidationMessage(UUID origin, SyncKind kind, List<UUID> ids) {
+    /** Upper bound on the ids in one message. */
+    public static final int MAX_IDS = 200;
+
+    /**
+     * Encode the message as text.
+     *
+     * @return the text form
+     */
+    public String encode() {
+        StringBuilder text = new StringBuilder(48 + 37 * ids.size());
+        text.append(origin).append(' ').append(kind.name()).append(' ');
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            text.append(ids.get(i));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Decode a message from its text form.
+     *
+     * @param text the text form
+     * @return the message
+     * @throws IllegalArgumentException if the text is not a valid message
+     */
+    public static InvalidationMessage decode(String text) {
+        String[] parts = text == null ? new String[0] : text.split(" ", 3);
+        if (parts.length != 3 || parts[2].isEmpty()) {
+            throw new IllegalArgumentException("Malformed invalidation message");
+        }
+        List<UUID> ids = new ArrayList<>();
+        for (String id : parts[2].split(",")) {
+            ids.add(UUID.fromString(id));
+        }
+        return new InvalidationMessage(UUID.fromString(parts[0]), SyncKind.valueOf(parts[1]), ids);
+    }
+}
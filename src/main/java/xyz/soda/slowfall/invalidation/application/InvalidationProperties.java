@@ -0,0 +1,24 @@
+package xyz.soda.slowfall.invalidation.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cross-replica cache invalidation settings bound from {@code app.invalidation.*}.
+ *
+ * @param bus               {@code memory} for a single instance, {@code postgres} to notify the other replicas
+ *                          through {@code LISTEN/NOTIFY}
+ * @param channel           the notification channel; an unquoted Postgres identifier
+ * @param flushInterval     how long changes are collected before they are sent as one batch
+ * @param pollInterval      how long the listener waits for notifications before checking its connection
+ * @param reconnectInterval first delay before reconnecting a lost listener connection; doubled on every failed
+ *                          attempt up to a minute
+ */
+@ConfigurationProperties(prefix = "app.invalidation")
+public record InvalidationProperties(
+        @DefaultValue("memory") String bus,
+        @DefaultValue("slowfall_invalidation") String channel,
+        @DefaultValue("5ms") Duration flushInterval,
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("1s") Duration reconnectInterval) {}
@@ -0,0 +1,18 @@
+package xyz.soda.slowfall.invalidation.domain;
+
+import java.util.Collection;
+import java.util.UUID;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+
+/**
+ * Published when airports, crafts or persons are created, changed or deleted, so in-process caches on this and
+ * the other replicas can evict or reload them. Jumps use {@code JumpsChangedEvent} instead.
+ *
+ * <p>Local changes are published inside the writing transaction. Changes received from other replicas are
+ * published outside any transaction, so listeners that should see both use
+ * {@code @TransactionalEventListener(fallbackExecution = true)}.</p>
+ *
+ * @param kind the kind of the changed entities
+ * @param ids  the changed entities
+ */
+public record EntitiesChangedEvent(SyncKind kind, Collection<UUID> ids) {}
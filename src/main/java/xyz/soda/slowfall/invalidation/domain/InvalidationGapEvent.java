@@ -0,0 +1,7 @@
+package xyz.soda.slowfall.invalidation.domain;
+
+/**
+ * Published when change notifications from other replicas may have been missed, such as after the invalidation
+ * bus reconnected. In-process caches should then rebuild from the database.
+ */
+public record InvalidationGapEvent() {}
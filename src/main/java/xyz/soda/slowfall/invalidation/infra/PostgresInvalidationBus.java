@@ -0,0 +1,152 @@
+package xyz.soda.slowfall.invalidation.infra;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import xyz.soda.slowfall.invalidation.application.InvalidationBus;
+import xyz.soda.slowfall.invalidation.application.InvalidationMessage;
+
+/**
+ * Sends invalidations to the other replicas with Postgres {@code NOTIFY} and receives theirs with
+ * {@code LISTEN}.
+ *
+ * <p>Notifications are sent through the application's pool with {@code pg_notify}. Receiving needs a
+ * connection that stays open, so the listener thread holds one of its own outside the pool and polls it every
+ * {@code pollInterval}. When that connection fails the thread reconnects with a doubling back-off. Postgres
+ * does not queue notifications for a listener that is gone, so every successful {@code LISTEN} is followed by
+ * an {@link xyz.soda.slowfall.invalidation.domain.InvalidationGapEvent}, and caches rebuild from the
+ * database.</p>
+ */
+public class PostgresInvalidationBus extends InvalidationBus {
+    private static final Logger log = LoggerFactory.getLogger(PostgresInvalidationBus.class);
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final Duration MAX_RECONNECT_INTERVAL = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource listenDataSource;
+    private final String channel;
+    private final Duration pollInterval;
+    private final Duration reconnectInterval;
+    private final Thread listener;
+    private volatile boolean running;
+
+    /**
+     * Create a new PostgresInvalidationBus. Nothing is sent or received until {@link #start()} is called.
+     *
+     * @param jdbcTemplate      template bound to the application pool, used to send notifications
+     * @param listenDataSource  unpooled source for the long-lived listener connection
+     * @param events            publisher for the changes received from other replicas
+     * @param channel           the notification channel
+     * @param flushInterval     how long changes are collected before they are sent
+     * @param pollInterval      how long the listener waits for notifications before checking its connection
+     * @param reconnectInterval first delay before reconnecting a lost listener connection
+     * @throws IllegalArgumentException if the channel is not a plain lower-case identifier
+     */
+    public PostgresInvalidationBus(
+            JdbcTemplate jdbcTemplate,
+            DataSource listenDataSource,
+            ApplicationEventPublisher events,
+            String channel,
+            Duration flushInterval,
+            Duration pollInterval,
+            Duration reconnectInterval) {
+        super(events, flushInterval);
+        if (channel == null || !IDENTIFIER.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalidation channel must be a lower-case identifier: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.listenDataSource = listenDataSource;
+        this.channel = channel;
+        this.pollInterval = pollInterval;
+        this.reconnectInterval = reconnectInterval;
+        this.listener = new Thread(this::listen, "invalidation-listen");
+        this.listener.setDaemon(true);
+    }
+
+    /**
+     * Start sending queued changes and listening for the other replicas' changes.
+     */
+    @Override
+    public void start() {
+        running = true;
+        listener.start();
+        super.start();
+    }
+
+    /**
+     * Stop listening, then send whatever is still queued.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            listener.join(Math.max(5_000L, 2 * pollInterval.toMillis()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        super.close();
+    }
+
+    @Override
+    protected void send(List<InvalidationMessage> messages) {
+        for (InvalidationMessage message : messages) {
+            jdbcTemplate.query("select pg_notify(?, ?)", resultSet -> {}, channel, message.encode());
+        }
+    }
+
+    private void listen() {
+        Duration backoff = reconnectInterval;
+        while (running) {
+            try (Connection connection = listenDataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + channel);
+                }
+                backoff = reconnectInterval;
+                receiveGap();
+                poll(connection.unwrap(PGConnection.class));
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener lost its connection; reconnecting in {}", backoff, e);
+                try {
+                    Thread.sleep(backoff.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoff = backoff.multipliedBy(2).compareTo(MAX_RECONNECT_INTERVAL) > 0
+                        ? MAX_RECONNECT_INTERVAL
+                        : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void poll(PGConnection connection) throws SQLException {
+        int timeoutMillis = (int) Math.max(1L, pollInterval.toMillis());
+        while (running) {
+            // Returns after the timeout when nothing arrived, and throws once the connection is broken.
+            PGNotification[] notifications = connection.getNotifications(timeoutMillis);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                try {
+                    receive(InvalidationMessage.decode(notification.getParameter()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Ignoring malformed invalidation on channel {}", channel, e);
+                }
+            }
+        }
+    }
+}
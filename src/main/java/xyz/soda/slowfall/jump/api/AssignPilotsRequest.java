@@ -0,0 +1,7 @@
+package xyz.soda.slowfall.jump.api;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record AssignPilotsRequest(@NotNull UUID airportId, @NotNull LocalDate date) {}
@@ -0,0 +1,17 @@
+package xyz.soda.slowfall.jump.api;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record CreateScheduleRequest(
+        @NotNull UUID airportId,
+        @NotNull LocalDate startDate,
+        @NotNull @Min(1) @Max(14) Integer days,
+        @NotNull LocalTime firstLoad,
+        @NotNull LocalTime lastLoad,
+        @NotNull @Min(5) @Max(1440) Integer intervalMinutes,
+        @NotNull Integer altitudeFeet) {}
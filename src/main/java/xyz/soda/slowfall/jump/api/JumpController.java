@@ -1,6 +1,7 @@
 package xyz.soda.slowfall.jump.api;
 
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -9,6 +10,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import xyz.soda.slowfall.jump.application.JumpService;
 import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.web.JsonStream;
 
 @RestController
 @RequestMapping("/api/jumps")
@@ -45,13 +47,25 @@ public class JumpController {
     }
 
     /**
-     * List all jumps.
+     * List the jumps in the half-open window {@code [from, to)}, or without bounds those from the start of
+     * the current UTC day through the next two weeks. The jumps are written to the response as they are read,
+     * in the JumpDto shape, without building a DTO list first.
      *
-     * @return a list of JumpDto for all scheduled jumps
+     * @param from inclusive start of the window (ISO-8601 instant), required together with {@code to}
+     * @param to   exclusive end of the window (ISO-8601 instant), required together with {@code from}
+     * @return ResponseEntity with the JumpDto array, or 400 if only one bound is given or the window is empty
      */
     @GetMapping
-    public List<JumpDto> listJumps() {
-        return service.listAllJumps().stream().map(JumpDto::from).toList();
+    public ResponseEntity<JsonStream> listJumps(
+            @RequestParam(name = "from", required = false) Instant from,
+            @RequestParam(name = "to", required = false) Instant to) {
+        try {
+            List<Jump> jumps =
+                    from == null && to == null ? service.listUpcomingJumps() : service.listJumpsInWindow(from, to);
+            return ResponseEntity.ok(generator -> JumpJsonWriter.writeJumps(generator, jumps));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
@@ -91,4 +105,38 @@ public class JumpController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * Take a skydiver off the specified jump.
+     *
+     * @param id       the jump id
+     * @param personId the skydiver id
+     * @return ResponseEntity with 204 on success or 400 on bad request
+     */
+    @DeleteMapping("/{id}/skydivers/{personId}")
+    public ResponseEntity<Void> removeSkydiver(@PathVariable("id") UUID id, @PathVariable("personId") UUID personId) {
+        try {
+            service.removeSkydiverFromJump(id, personId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Take a pilot off the specified jump.
+     *
+     * @param id       the jump id
+     * @param personId the pilot id
+     * @return ResponseEntity with 204 on success or 400 on bad request
+     */
+    @DeleteMapping("/{id}/pilots/{personId}")
+    public ResponseEntity<Void> removePilot(@PathVariable("id") UUID id, @PathVariable("personId") UUID personId) {
+        try {
+            service.removePilotFromJump(id, personId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package xyz.soda.slowfall.jump.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.UUID;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.api.PersonJsonWriter;
+import xyz.soda.slowfall.person.domain.Person;
+
+/**
+ * Writes jumps and their rosters straight from the entities in the same JSON shape as {@link JumpDto}, without
+ * building the DTOs and their nested person lists.
+ */
+public final class JumpJsonWriter {
+
+    private JumpJsonWriter() {}
+
+    /**
+     * Write jumps as a JSON array of {@link JumpDto} objects.
+     *
+     * @param generator the target generator
+     * @param jumps     the jumps, in response order
+     * @throws IOException if writing fails
+     */
+    public static void writeJumps(JsonGenerator generator, Collection<Jump> jumps) throws IOException {
+        generator.writeStartArray();
+        for (Jump jump : jumps) {
+            writeJump(generator, jump);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Write one jump as a {@link JumpDto} object.
+     *
+     * @param generator the target generator
+     * @param jump      the jump
+     * @throws IOException if writing fails
+     */
+    public static void writeJump(JsonGenerator generator, Jump jump) throws IOException {
+        generator.writeStartObject();
+        writeUuidField(generator, "id", jump.getId());
+        generator.writeStringField("jumpTime", jump.getJumpTime() == null ? null : jump.getJumpTime().toString());
+        writeUuidField(generator, "airportId", jump.getAirportId());
+        if (jump.getAltitudeFeet() == null) {
+            generator.writeNullField("altitudeFeet");
+        } else {
+            generator.writeNumberField("altitudeFeet", jump.getAltitudeFeet());
+        }
+        writePersons(generator, "skydivers", jump.getSkydivers());
+        writePersons(generator, "pilots", jump.getPilots());
+        generator.writeEndObject();
+    }
+
+    private static void writePersons(JsonGenerator generator, String name, Collection<Person> persons)
+            throws IOException {
+        generator.writeArrayFieldStart(name);
+        for (Person person : persons) {
+            PersonJsonWriter.writePerson(generator, person);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeUuidField(JsonGenerator generator, String name, UUID value) throws IOException {
+        generator.writeStringField(name, value == null ? null : value.toString());
+    }
+}
@@ -0,0 +1,38 @@
+package xyz.soda.slowfall.jump.api;
+
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.jump.application.LoadScheduleService;
+
+@RestController
+@RequestMapping("/api/jumps/schedule")
+public class LoadScheduleController {
+    private final LoadScheduleService service;
+
+    /**
+     * Create a new instance of {@code LoadScheduleController}.
+     *
+     * @param service the service expanding schedule templates
+     */
+    public LoadScheduleController(LoadScheduleService service) {
+        this.service = service;
+    }
+
+    /**
+     * Create all loads described by a recurring schedule template in one request.
+     *
+     * @param request the schedule template
+     * @return ResponseEntity with the created loads and HTTP 201, or 400 on bad request
+     */
+    @PostMapping
+    public ResponseEntity<LoadScheduleDto> createSchedule(@Valid @RequestBody CreateScheduleRequest request) {
+        try {
+            LoadScheduleDto created = LoadScheduleDto.from(service.createSchedule(request));
+            return ResponseEntity.status(HttpStatus.CREATED).body(created);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package xyz.soda.slowfall.jump.api;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import xyz.soda.slowfall.jump.infra.JumpBatchWriter.NewJump;
+
+/**
+ * Data transfer object for the jumps created from a schedule template.
+ *
+ * @param created number of jumps created
+ * @param loads   the created jumps, in time order
+ */
+public record LoadScheduleDto(int created, List<Load> loads) {
+
+    /**
+     * A created jump.
+     *
+     * @param jumpId   the jump id
+     * @param jumpTime the scheduled jump time
+     */
+    public record Load(UUID jumpId, Instant jumpTime) {}
+
+    /**
+     * Convert created rows to a LoadScheduleDto.
+     * @param jumps the created rows
+     * @return a populated LoadScheduleDto
+     */
+    public static LoadScheduleDto from(List<NewJump> jumps) {
+        List<Load> loads = jumps.stream().map(jump -> new Load(jump.id(), jump.jumpTime())).toList();
+        return new LoadScheduleDto(loads.size(), loads);
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.soda.slowfall.jump.api;
+
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.jump.application.LogbookService;
+
+@RestController
+@RequestMapping("/api/person/{id}")
+public class LogbookController {
+    private final LogbookService service;
+
+    /**
+     * Create a new instance of {@code LogbookController}.
+     *
+     * @param service the service reading logbooks
+     */
+    public LogbookController(LogbookService service) {
+        this.service = service;
+    }
+
+    /**
+     * Page through a person's jumps, latest first. Sorting is fixed; any sort parameter is ignored.
+     *
+     * @param id       the person id
+     * @param role     {@code skydiver} (default) or {@code pilot}
+     * @param pageable pagination information
+     * @return ResponseEntity with a page of LogbookEntryDto, or 400 if the person or role is unknown
+     */
+    @GetMapping("/jumps")
+    public ResponseEntity<Page<LogbookEntryDto>> jumps(
+            @PathVariable("id") UUID id,
+            @RequestParam(name = "role", defaultValue = "skydiver") String role,
+            @PageableDefault(size = 20) Pageable pageable) {
+        if (!"skydiver".equals(role) && !"pilot".equals(role)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            return ResponseEntity.ok(service.jumps(id, "pilot".equals(role), page).map(LogbookEntryDto::from));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get a person's logbook counters.
+     *
+     * @param id the person id
+     * @return ResponseEntity with the LogbookSummaryDto, or 400 if the person is unknown
+     */
+    @GetMapping("/logbook")
+    public ResponseEntity<LogbookSummaryDto> summary(@PathVariable("id") UUID id) {
+        try {
+            return ResponseEntity.ok(LogbookSummaryDto.from(service.summary(id)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
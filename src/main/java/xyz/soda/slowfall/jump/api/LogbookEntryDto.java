@@ -0,0 +1,26 @@
+package xyz.soda.slowfall.jump.api;
+
+import java.time.Instant;
+import java.util.UUID;
+import xyz.soda.slowfall.jump.domain.Jump;
+
+/**
+ * Data transfer object for a single logbook line. Carries only the jump's own columns, so a page of entries
+ * does not load any rosters.
+ *
+ * @param jumpId       the jump id
+ * @param jumpTime     the jump time
+ * @param airportId    the airport id
+ * @param altitudeFeet exit altitude in feet
+ */
+public record LogbookEntryDto(UUID jumpId, Instant jumpTime, UUID airportId, Integer altitudeFeet) {
+
+    /**
+     * Convert a Jump to a LogbookEntryDto.
+     * @param jump the Jump entity
+     * @return a populated LogbookEntryDto
+     */
+    public static LogbookEntryDto from(Jump jump) {
+        return new LogbookEntryDto(jump.getId(), jump.getJumpTime(), jump.getAirportId(), jump.getAltitudeFeet());
+    }
+}
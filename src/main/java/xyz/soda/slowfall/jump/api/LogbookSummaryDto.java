@@ -0,0 +1,26 @@
+package xyz.soda.slowfall.jump.api;
+
+import java.time.Instant;
+import java.util.UUID;
+import xyz.soda.slowfall.person.domain.Person;
+
+/**
+ * Data transfer object for a person's logbook counters.
+ *
+ * @param personId      the person id
+ * @param skydiverJumps number of jumps as skydiver
+ * @param pilotJumps    number of jumps flown as pilot
+ * @param lastJumpTime  time of the latest jump in either role, or {@code null}
+ */
+public record LogbookSummaryDto(UUID personId, long skydiverJumps, long pilotJumps, Instant lastJumpTime) {
+
+    /**
+     * Convert a Person's counters to a LogbookSummaryDto.
+     * @param person the Person entity
+     * @return a populated LogbookSummaryDto
+     */
+    public static LogbookSummaryDto from(Person person) {
+        return new LogbookSummaryDto(
+                person.getId(), person.getSkydiverJumps(), person.getPilotJumps(), person.getLastJumpTime());
+    }
+}
@@ -0,0 +1,15 @@
+package xyz.soda.slowfall.jump.api;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Request to move skydivers from one load to another.
+ *
+ * @param targetJumpId the load to move them to
+ * @param personIds    the skydivers to move; all must be on the source load and none on the target
+ * @param craftId      craft flying the target load, whose person capacity is enforced
+ */
+public record MoveSkydiversRequest(@NotNull UUID targetJumpId, @NotEmpty Set<UUID> personIds, @NotNull UUID craftId) {}
@@ -0,0 +1,37 @@
+package xyz.soda.slowfall.jump.api;
+
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.jump.application.PilotRotationService;
+
+@RestController
+@RequestMapping("/api/jumps/pilot-rotation")
+public class PilotRotationController {
+    private final PilotRotationService service;
+
+    /**
+     * Create a new instance of {@code PilotRotationController}.
+     *
+     * @param service the service computing pilot rotations
+     */
+    public PilotRotationController(PilotRotationService service) {
+        this.service = service;
+    }
+
+    /**
+     * Assign pilots to all loads of a day at an airport.
+     *
+     * @param request payload with airport id and local date
+     * @return ResponseEntity with the computed rotation and HTTP 200, or 400 on bad request
+     */
+    @PostMapping
+    public ResponseEntity<PilotRotationDto> assignPilots(@Valid @RequestBody AssignPilotsRequest request) {
+        try {
+            return ResponseEntity.ok(
+                    PilotRotationDto.from(service.assignPilots(request.airportId(), request.date())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
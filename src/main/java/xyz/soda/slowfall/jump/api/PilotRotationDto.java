@@ -0,0 +1,36 @@
+package xyz.soda.slowfall.jump.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.PilotRotation;
+
+/**
+ * Data transfer object for a computed pilot rotation.
+ *
+ * @param assignments   pilot assignment per load, in time order
+ * @param unassigned    jump ids of loads no pilot could be assigned to
+ * @param loadsPerPilot number of loads each pilot flies
+ */
+public record PilotRotationDto(List<Assignment> assignments, List<UUID> unassigned, Map<UUID, Integer> loadsPerPilot) {
+
+    /**
+     * A single load assignment.
+     *
+     * @param jumpId  the jump id
+     * @param pilotId the assigned pilot id, or {@code null} if the load could not be staffed
+     */
+    public record Assignment(UUID jumpId, UUID pilotId) {}
+
+    /**
+     * Convert a PilotRotation to a PilotRotationDto.
+     * @param rotation the computed rotation
+     * @return a populated PilotRotationDto
+     */
+    public static PilotRotationDto from(PilotRotation rotation) {
+        List<Assignment> assignments = rotation.assignments().entrySet().stream()
+                .map(entry -> new Assignment(entry.getKey(), entry.getValue()))
+                .toList();
+        return new PilotRotationDto(assignments, rotation.unassigned(), rotation.loadsPerPilot());
+    }
+}
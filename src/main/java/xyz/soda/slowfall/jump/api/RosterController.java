@@ -0,0 +1,56 @@
+package xyz.soda.slowfall.jump.api;
+
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.jump.application.RosterService;
+
+@RestController
+@RequestMapping("/api/jumps/{id}/skydivers")
+public class RosterController {
+    private final RosterService service;
+
+    /**
+     * Create a new instance of {@code RosterController}.
+     *
+     * @param service the service moving skydivers between loads
+     */
+    public RosterController(RosterService service) {
+        this.service = service;
+    }
+
+    /**
+     * Move skydivers from this jump to another in one transaction.
+     *
+     * @param id      the source jump id
+     * @param request the target jump, the skydivers to move and the target craft
+     * @return ResponseEntity with 204 on success, or 400 if the move is not possible (nothing is moved then)
+     */
+    @PostMapping("/move")
+    public ResponseEntity<Void> move(@PathVariable("id") UUID id, @Valid @RequestBody MoveSkydiversRequest request) {
+        try {
+            service.moveSkydivers(id, request.targetJumpId(), request.personIds(), request.craftId());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Exchange a skydiver on this jump with one on another jump in one transaction.
+     *
+     * @param id      the jump id
+     * @param request the skydiver on this jump and the other jump and skydiver
+     * @return ResponseEntity with 204 on success, or 400 if the swap is not possible
+     */
+    @PostMapping("/swap")
+    public ResponseEntity<Void> swap(@PathVariable("id") UUID id, @Valid @RequestBody SwapSkydiversRequest request) {
+        try {
+            service.swapSkydivers(id, request.personId(), request.otherJumpId(), request.otherPersonId());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package xyz.soda.slowfall.jump.api;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+/**
+ * Request to exchange two skydivers between loads.
+ *
+ * @param personId      the skydiver on the jump in the path
+ * @param otherJumpId   the other load
+ * @param otherPersonId the skydiver on the other load
+ */
+public record SwapSkydiversRequest(@NotNull UUID personId, @NotNull UUID otherJumpId, @NotNull UUID otherPersonId) {}
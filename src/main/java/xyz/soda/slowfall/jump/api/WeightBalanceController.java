@@ -0,0 +1,39 @@
+package xyz.soda.slowfall.jump.api;
+
+import java.util.UUID;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.jump.application.WeightBalanceService;
+
+@RestController
+@RequestMapping("/api/jumps/{id}/weight-balance")
+public class WeightBalanceController {
+    private final WeightBalanceService service;
+
+    /**
+     * Create a new instance of {@code WeightBalanceController}.
+     *
+     * @param service the service computing weight and balance
+     */
+    public WeightBalanceController(WeightBalanceService service) {
+        this.service = service;
+    }
+
+    /**
+     * Compute the weight and balance of a jump's current roster.
+     *
+     * @param id      the jump id
+     * @param craftId the craft flying the load
+     * @return ResponseEntity with the WeightBalanceDto, or 400 if the jump or craft is unknown or the craft has
+     *     no station layout
+     */
+    @GetMapping
+    public ResponseEntity<WeightBalanceDto> balance(
+            @PathVariable("id") UUID id, @RequestParam("craftId") UUID craftId) {
+        try {
+            return ResponseEntity.ok(WeightBalanceDto.from(service.balance(id, craftId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
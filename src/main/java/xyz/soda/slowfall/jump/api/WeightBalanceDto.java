@@ -0,0 +1,43 @@
+package xyz.soda.slowfall.jump.api;
+
+import xyz.soda.slowfall.craft.application.WeightBalanceCalculator.LoadBalance;
+
+/**
+ * Data transfer object for a load's weight and balance.
+ *
+ * @param totalWeight    empty weight plus payload, in kilograms
+ * @param payloadWeight  weight of pilots and jumpers, in kilograms
+ * @param seatedCgArm    centre of gravity with everyone seated, in centimetres aft of datum
+ * @param exitCgArm      centre of gravity with every jumper at the door, in centimetres aft of datum
+ * @param unseated       number of jumpers beyond the available seats
+ * @param overweight     whether the payload exceeds the craft's capacity
+ * @param withinEnvelope whether both centres of gravity are inside the CG envelope
+ * @param withinLimits   whether the load is within weight, within the envelope and fully seated
+ */
+public record WeightBalanceDto(
+        int totalWeight,
+        int payloadWeight,
+        double seatedCgArm,
+        double exitCgArm,
+        int unseated,
+        boolean overweight,
+        boolean withinEnvelope,
+        boolean withinLimits) {
+
+    /**
+     * Convert a computed LoadBalance to a WeightBalanceDto.
+     * @param balance the computed balance
+     * @return a populated WeightBalanceDto
+     */
+    public static WeightBalanceDto from(LoadBalance balance) {
+        return new WeightBalanceDto(
+                balance.totalWeight(),
+                balance.payloadWeight(),
+                balance.seatedCgArm(),
+                balance.exitCgArm(),
+                balance.unseated(),
+                balance.overweight(),
+                balance.withinEnvelope(),
+                balance.withinLimits());
+    }
+}
@@ -0,0 +1,84 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+
+/**
+ * Keeps persons off loads that overlap in time.
+ *
+ * <p>Every load occupies the same span, climb plus descent, from its jump time. Two loads therefore overlap
+ * exactly when their jump times are less than one span apart, and a person's conflicts are the jumps they are
+ * on with a time in the open range {@code (t - span, t + span)}.</p>
+ *
+ * <p>The database decides, in one query for all persons of a write. Callers check after their logbook update
+ * has row-locked the persons, so concurrent bookings of the same person queue up and the query reads the booking
+ * that committed first. Because every span is equal, the overlap test needs no interval tree: it is a range scan
+ * of {@code idx_jumps_jump_time} over the few loads in the window, joined to the rosters by jump id, and costs
+ * the same however long a person's logbook is.</p>
+ */
+public class BookingGuard {
+    private final JumpRepository jumpRepository;
+    private final Duration span;
+
+    /**
+     * Create a new BookingGuard.
+     *
+     * @param jumpRepository repository answering the check
+     * @param properties     the bound booking settings
+     * @throws IllegalArgumentException if climb plus descent is not positive
+     */
+    public BookingGuard(JumpRepository jumpRepository, BookingProperties properties) {
+        this.span = properties.climb().plus(properties.descent());
+        if (span.isNegative() || span.isZero()) {
+            throw new IllegalArgumentException("Climb plus descent must be positive");
+        }
+        this.jumpRepository = jumpRepository;
+    }
+
+    /**
+     * Get the span every load occupies from its jump time.
+     *
+     * @return climb plus descent
+     */
+    public Duration span() {
+        return span;
+    }
+
+    /**
+     * Check that a person is free for a load at the given time.
+     *
+     * @param personId       the person being booked
+     * @param jumpTime       jump time of the load they are booked on
+     * @param ignoredJumpIds the load itself and any load the person is leaving; must not be empty
+     * @throws IllegalArgumentException if the person is on another load that overlaps
+     */
+    public void requireFree(UUID personId, Instant jumpTime, Collection<UUID> ignoredJumpIds) {
+        requireFree(List.of(personId), jumpTime, ignoredJumpIds);
+    }
+
+    /**
+     * Check that persons are free for a load at the given time.
+     *
+     * @param personIds      the persons being booked
+     * @param jumpTime       jump time of the load they are booked on
+     * @param ignoredJumpIds the load itself and any load the persons are leaving; must not be empty
+     * @throws IllegalArgumentException if a person is on another load that overlaps
+     */
+    public void requireFree(Collection<UUID> personIds, Instant jumpTime, Collection<UUID> ignoredJumpIds) {
+        Instant after = jumpTime.minus(span);
+        Instant before = jumpTime.plus(span);
+        List<UUID> conflicting = jumpRepository.findBookedBetween(personIds, after, before, ignoredJumpIds);
+        if (!conflicting.isEmpty()) {
+            throw conflict(conflicting.getFirst());
+        }
+    }
+
+    private IllegalArgumentException conflict(UUID personId) {
+        return new IllegalArgumentException(
+                "Person %s is already on a load within %d minutes".formatted(personId, span.toMinutes()));
+    }
+}
@@ -0,0 +1,15 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Double-booking settings bound from {@code app.booking.*}. A load occupies everyone on it from its jump time
+ * for the climb plus the descent; nobody can be on two loads whose occupied windows overlap.
+ *
+ * @param climb   time from the jump time until exit altitude
+ * @param descent time from exit until everyone, aircraft included, is back on the ground
+ */
+@ConfigurationProperties(prefix = "app.booking")
+public record BookingProperties(@DefaultValue("15m") Duration climb, @DefaultValue("5m") Duration descent) {}
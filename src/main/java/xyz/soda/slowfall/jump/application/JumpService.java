@@ -1,26 +1,37 @@
 package xyz.soda.slowfall.jump.application;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import xyz.soda.slowfall.airport.domain.Airport;
 import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
 import xyz.soda.slowfall.jump.api.CreateJumpRequest;
 import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.domain.SlotsFreedEvent;
 import xyz.soda.slowfall.jump.infra.JumpRepository;
 import xyz.soda.slowfall.person.domain.Person;
 import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
 
 @Service
 public class JumpService {
+    private static final Duration UPCOMING_WINDOW = Duration.ofDays(14);
 
     private final JumpRepository jumpRepository;
     private final PersonRepository personRepository;
     private final AirportRepository airportRepository;
+    private final ManifestAuditLog auditLog;
+    private final ApplicationEventPublisher events;
+    private final BookingGuard bookingGuard;
 
     /**
      * Create a new JumpService.
@@ -28,12 +39,23 @@ public class JumpService {
      * @param jumpRepository    repository for persisting and retrieving jumps
      * @param personRepository  repository for retrieving persons
      * @param airportRepository repository for retrieving airports
+     * @param auditLog          journal of manifest changes
+     * @param events            publisher for roster events
+     * @param bookingGuard      check keeping persons off overlapping loads
      */
     public JumpService(
-            JumpRepository jumpRepository, PersonRepository personRepository, AirportRepository airportRepository) {
+            JumpRepository jumpRepository,
+            PersonRepository personRepository,
+            AirportRepository airportRepository,
+            ManifestAuditLog auditLog,
+            ApplicationEventPublisher events,
+            BookingGuard bookingGuard) {
         this.jumpRepository = jumpRepository;
         this.personRepository = personRepository;
         this.airportRepository = airportRepository;
+        this.auditLog = auditLog;
+        this.events = events;
+        this.bookingGuard = bookingGuard;
     }
 
     /**
@@ -42,8 +64,10 @@ public class JumpService {
      * relative to the airport timezone.
      * @param request the request containing jump details (time, airport, altitude, optional pilot)
      * @return the persisted Jump entity
-     * @throws IllegalArgumentException if the airport is not found, the time is in the past, or the pilot id is invalid
+     * @throws IllegalArgumentException if the airport is not found, the time is in the past, the pilot id is invalid,
+     *                                  or the pilot is on an overlapping load
      */
+    @Transactional
     public Jump createJump(CreateJumpRequest request) {
         Airport airport = airportRepository
                 .findById(request.airportId())
@@ -65,47 +89,142 @@ public class JumpService {
             jump.addPilot(pilot);
         }
 
-        return jumpRepository.save(jump);
+        Jump saved = jumpRepository.save(jump);
+        if (request.pilotId() != null) {
+            personRepository.recordPilotJump(request.pilotId(), saved.getJumpTime());
+            bookingGuard.requireFree(request.pilotId(), saved.getJumpTime(), List.of(saved.getId()));
+        }
+        auditLog.jumpCreated(saved.getId(), request.pilotId());
+        events.publishEvent(new JumpsChangedEvent(List.of(saved.getId())));
+        return saved;
     }
 
     /**
      * Add a skydiver to an existing jump.
+     *
+     * <p>The join row is inserted directly by id, so neither the roster nor the person is loaded and the cost
+     * does not depend on how many people are already manifested.</p>
+     *
      * @param jumpId the id of the jump to modify
      * @param personId the id of the person to add as skydiver
-     * @throws IllegalArgumentException if the jump or person is not found
+     * @return {@code true} if the person was added, {@code false} if they were already on the roster
+     * @throws IllegalArgumentException if the jump or person is not found, or the person is on an overlapping load
      */
     @Transactional
-    public void addSkydiverToJump(UUID jumpId, UUID personId) {
-        Jump jump = jumpRepository.findById(jumpId).orElseThrow(() -> new IllegalArgumentException("Jump not found"));
-
-        Person person =
-                personRepository.findById(personId).orElseThrow(() -> new IllegalArgumentException("Person not found"));
-
-        jump.addSkydiver(person);
+    public boolean addSkydiverToJump(UUID jumpId, UUID personId) {
+        Instant jumpTime = requireJumpTime(jumpId);
+        if (jumpRepository.insertSkydiver(jumpId, personId) == 0) {
+            requirePerson(personId);
+            return false;
+        }
+        jumpRepository.touch(jumpId, ChangeVersions.next());
+        personRepository.recordSkydiverJump(personId, jumpTime);
+        bookingGuard.requireFree(personId, jumpTime, List.of(jumpId));
+        auditLog.skydiverAdded(jumpId, personId);
+        events.publishEvent(new JumpsChangedEvent(List.of(jumpId)));
+        return true;
     }
 
     /**
-     * Add a pilot to an existing jump.
+     * Add a pilot to an existing jump, inserting the join row directly by id.
+     *
      * @param jumpId the id of the jump to modify
      * @param personId the id of the person to add as pilot
-     * @throws IllegalArgumentException if the jump or person is not found
+     * @throws IllegalArgumentException if the jump or person is not found, or the person is on an overlapping load
      */
     @Transactional
     public void addPilotToJump(UUID jumpId, UUID personId) {
-        Jump jump = jumpRepository.findById(jumpId).orElseThrow(() -> new IllegalArgumentException("Jump not found"));
+        Instant jumpTime = requireJumpTime(jumpId);
+        if (jumpRepository.insertPilot(jumpId, personId) == 0) {
+            requirePerson(personId);
+            return;
+        }
+        jumpRepository.touch(jumpId, ChangeVersions.next());
+        personRepository.recordPilotJump(personId, jumpTime);
+        bookingGuard.requireFree(personId, jumpTime, List.of(jumpId));
+        auditLog.pilotAdded(jumpId, personId);
+        events.publishEvent(new JumpsChangedEvent(List.of(jumpId)));
+    }
 
-        Person person =
-                personRepository.findById(personId).orElseThrow(() -> new IllegalArgumentException("Person not found"));
+    /**
+     * Take a skydiver off a jump, deleting the join row directly by id. Removing someone who is not on the
+     * roster is a no-op. The freed slot is announced with a {@link SlotsFreedEvent}.
+     *
+     * @param jumpId the id of the jump to modify
+     * @param personId the id of the skydiver to remove
+     * @throws IllegalArgumentException if the jump or person is not found
+     */
+    @Transactional
+    public void removeSkydiverFromJump(UUID jumpId, UUID personId) {
+        Instant jumpTime = requireJumpTime(jumpId);
+        if (jumpRepository.deleteSkydiver(jumpId, personId) == 0) {
+            requirePerson(personId);
+            return;
+        }
+        jumpRepository.touch(jumpId, ChangeVersions.next());
+        personRepository.forgetSkydiverJump(personId, jumpTime);
+        auditLog.skydiverRemoved(jumpId, personId);
+        events.publishEvent(new JumpsChangedEvent(List.of(jumpId)));
+        events.publishEvent(new SlotsFreedEvent(jumpId, 1));
+    }
 
-        jump.addPilot(person);
+    /**
+     * Take a pilot off a jump, deleting the join row directly by id. Removing someone who is not on the roster
+     * is a no-op.
+     *
+     * @param jumpId the id of the jump to modify
+     * @param personId the id of the pilot to remove
+     * @throws IllegalArgumentException if the jump or person is not found
+     */
+    @Transactional
+    public void removePilotFromJump(UUID jumpId, UUID personId) {
+        Instant jumpTime = requireJumpTime(jumpId);
+        if (jumpRepository.deletePilot(jumpId, personId) == 0) {
+            requirePerson(personId);
+            return;
+        }
+        jumpRepository.touch(jumpId, ChangeVersions.next());
+        personRepository.forgetPilotJump(personId, jumpTime);
+        auditLog.pilotRemoved(jumpId, personId);
+        events.publishEvent(new JumpsChangedEvent(List.of(jumpId)));
     }
 
     /**
-     * Retrieve all jumps.
+     * Retrieve the jumps from the start of the current UTC day through the following two weeks, ordered by
+     * time. The window keeps the default listing on the few partitions that hold current loads.
      *
-     * @return a list of all Jump entities
+     * @return the upcoming jumps
      */
-    public List<Jump> listAllJumps() {
-        return jumpRepository.findAll();
+    public List<Jump> listUpcomingJumps() {
+        Instant from = Instant.now().truncatedTo(ChronoUnit.DAYS);
+        return jumpRepository.findInWindow(from, from.plus(UPCOMING_WINDOW));
+    }
+
+    /**
+     * Retrieve the jumps scheduled in the half-open window {@code [from, to)}, ordered by time.
+     *
+     * @param from inclusive start of the window
+     * @param to   exclusive end of the window
+     * @return the jumps in the window
+     * @throws IllegalArgumentException if a bound is missing or {@code to} is not after {@code from}
+     */
+    public List<Jump> listJumpsInWindow(Instant from, Instant to) {
+        if (from == null || to == null || !to.isAfter(from)) {
+            throw new IllegalArgumentException("Both from and to are required and to must be after from");
+        }
+        return jumpRepository.findInWindow(from, to);
+    }
+
+    private Instant requireJumpTime(UUID jumpId) {
+        return jumpRepository
+                .findJumpTimeById(jumpId)
+                .orElseThrow(() -> new IllegalArgumentException("Jump not found"));
+    }
+
+    // Only reached when no join row changed, to tell a missing person apart from a no-op.
+    private void requirePerson(UUID personId) {
+        if (!personRepository.existsById(personId)) {
+            throw new IllegalArgumentException("Person not found");
+        }
     }
 }
@@ -0,0 +1,112 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.jump.api.CreateScheduleRequest;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpBatchWriter;
+import xyz.soda.slowfall.jump.infra.JumpBatchWriter.NewJump;
+
+@Service
+public class LoadScheduleService {
+    private final AirportRepository airportRepository;
+    private final JumpBatchWriter batchWriter;
+    private final ManifestAuditLog auditLog;
+    private final ApplicationEventPublisher events;
+    private final Clock clock;
+
+    /**
+     * Create a new LoadScheduleService.
+     *
+     * @param airportRepository repository for retrieving airports
+     * @param batchWriter       batched jump inserter
+     * @param auditLog          journal of manifest changes
+     * @param events            publisher for jump change events
+     */
+    @Autowired
+    public LoadScheduleService(
+            AirportRepository airportRepository,
+            JumpBatchWriter batchWriter,
+            ManifestAuditLog auditLog,
+            ApplicationEventPublisher events) {
+        this(airportRepository, batchWriter, auditLog, events, Clock.systemUTC());
+    }
+
+    LoadScheduleService(
+            AirportRepository airportRepository,
+            JumpBatchWriter batchWriter,
+            ManifestAuditLog auditLog,
+            ApplicationEventPublisher events,
+            Clock clock) {
+        this.airportRepository = airportRepository;
+        this.batchWriter = batchWriter;
+        this.auditLog = auditLog;
+        this.events = events;
+        this.clock = clock;
+    }
+
+    /**
+     * Expand a recurring schedule into jumps, insert them in one batched transaction and journal each of them.
+     *
+     * <p>Slot times are local wall-clock times at the airport. A slot that falls into a DST gap does not exist
+     * that day and is skipped rather than shifted onto a later slot; a slot in a DST overlap is created once,
+     * at the earlier offset. Slots that are already in the past are skipped.</p>
+     *
+     * @param request the schedule template
+     * @return the created jumps, in time order
+     * @throws IllegalArgumentException if the airport is not found or the last load is before the first
+     */
+    @Transactional
+    public List<NewJump> createSchedule(CreateScheduleRequest request) {
+        if (request.lastLoad().isBefore(request.firstLoad())) {
+            throw new IllegalArgumentException("Last load must not be before first load");
+        }
+        Airport airport = airportRepository
+                .findById(request.airportId())
+                .orElseThrow(() -> new IllegalArgumentException("Airport not found"));
+        ZoneRules rules = ZoneId.of(airport.getTimezone()).getRules();
+        Instant now = clock.instant();
+
+        List<NewJump> jumps = new ArrayList<>();
+        for (int day = 0; day < request.days(); day++) {
+            LocalDate date = request.startDate().plusDays(day);
+            for (LocalTime slot : slots(request.firstLoad(), request.lastLoad(), request.intervalMinutes())) {
+                LocalDateTime local = LocalDateTime.of(date, slot);
+                List<ZoneOffset> offsets = rules.getValidOffsets(local);
+                if (offsets.isEmpty()) continue;
+                Instant jumpTime = local.toInstant(offsets.get(0));
+                if (jumpTime.isBefore(now)) continue;
+                jumps.add(new NewJump(UUID.randomUUID(), jumpTime, request.airportId(), request.altitudeFeet()));
+            }
+        }
+        batchWriter.insertAll(jumps, now);
+        jumps.forEach(jump -> auditLog.jumpCreated(jump.id(), null));
+        events.publishEvent(new JumpsChangedEvent(jumps.stream().map(NewJump::id).toList()));
+        return jumps;
+    }
+
+    private static List<LocalTime> slots(LocalTime first, LocalTime last, int intervalMinutes) {
+        List<LocalTime> slots = new ArrayList<>();
+        long end = last.toSecondOfDay();
+        for (long second = first.toSecondOfDay(); second <= end; second += intervalMinutes * 60L) {
+            slots.add(LocalTime.ofSecondOfDay(second));
+        }
+        return slots;
+    }
+}
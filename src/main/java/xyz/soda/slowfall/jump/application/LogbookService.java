@@ -0,0 +1,60 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+@Service
+public class LogbookService {
+    private final JumpRepository jumpRepository;
+    private final PersonRepository personRepository;
+
+    /**
+     * Create a new LogbookService.
+     *
+     * @param jumpRepository   repository for retrieving jumps
+     * @param personRepository repository for retrieving persons and their jump counters
+     */
+    public LogbookService(JumpRepository jumpRepository, PersonRepository personRepository) {
+        this.jumpRepository = jumpRepository;
+        this.personRepository = personRepository;
+    }
+
+    /**
+     * Get a person with their logbook counters. The counters are maintained on every roster add, so this is a
+     * single row read.
+     *
+     * @param personId the person id
+     * @return the person
+     * @throws IllegalArgumentException if the person is not found
+     */
+    @Transactional(readOnly = true)
+    public Person summary(UUID personId) {
+        return personRepository.findById(personId).orElseThrow(() -> new IllegalArgumentException("Person not found"));
+    }
+
+    /**
+     * Page through a person's jumps, latest first.
+     *
+     * @param personId the person id
+     * @param asPilot  {@code true} for jumps flown as pilot, {@code false} for jumps as skydiver
+     * @param pageable pagination information
+     * @return a page of jumps
+     * @throws IllegalArgumentException if the person is not found
+     */
+    @Transactional(readOnly = true)
+    public Page<Jump> jumps(UUID personId, boolean asPilot, Pageable pageable) {
+        if (!personRepository.existsById(personId)) {
+            throw new IllegalArgumentException("Person not found");
+        }
+        return asPilot
+                ? jumpRepository.findByPilotId(personId, pageable)
+                : jumpRepository.findBySkydiverId(personId, pageable);
+    }
+}
@@ -0,0 +1,262 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Assigns pilots to a day's loads.
+ *
+ * <p>Loads are walked in time order and each one goes to the eligible pilot with the fewest loads so far,
+ * ties going to whoever has been on the ground longest. A pilot is eligible when the turnaround since their
+ * previous load has passed, they are below the per-pilot maximum, and the load ends early enough for them to
+ * make any load they are pinned to later in the day. Loads that already have a pilot are pinned to that
+ * pilot.</p>
+ *
+ * <p>Pilots are also kept off loads that overlap their bookings elsewhere: each pilot may come with
+ * {@link Busy} intervals, and a load whose time falls inside one of them is not offered to that pilot.</p>
+ */
+public class PilotRotationScheduler {
+    private static final int UNASSIGNED = -1;
+    private static final Comparator<Load> LOAD_ORDER =
+            Comparator.comparing(Load::time).thenComparing(Load::jumpId);
+
+    private final long turnaroundSeconds;
+    private final int maxLoadsPerPilot;
+
+    /**
+     * Create a new PilotRotationScheduler.
+     *
+     * @param turnaround       minimum time between the starts of two loads flown by the same pilot
+     * @param maxLoadsPerPilot maximum number of loads a pilot flies per day
+     */
+    public PilotRotationScheduler(Duration turnaround, int maxLoadsPerPilot) {
+        if (turnaround.isNegative() || maxLoadsPerPilot <= 0) {
+            throw new IllegalArgumentException("Turnaround must not be negative and max loads must be positive");
+        }
+        this.turnaroundSeconds = turnaround.toSeconds();
+        this.maxLoadsPerPilot = maxLoadsPerPilot;
+    }
+
+    /**
+     * Solve the rotation for a day from scratch, with no bookings elsewhere.
+     *
+     * @param pilots the available pilots
+     * @param loads  the loads to staff, in any order
+     * @return the computed rotation
+     */
+    public PilotRotation solve(List<UUID> pilots, List<Load> loads) {
+        return solve(pilots, loads, Map.of());
+    }
+
+    /**
+     * Solve the rotation for a day from scratch.
+     *
+     * @param pilots the available pilots
+     * @param loads  the loads to staff, in any order
+     * @param busy   per pilot, the intervals in which they are already booked elsewhere; pilots without an
+     *               entry are free all day
+     * @return the computed rotation
+     */
+    public PilotRotation solve(List<UUID> pilots, List<Load> loads, Map<UUID, List<Busy>> busy) {
+        List<UUID> pilotList = List.copyOf(pilots);
+        Load[] sorted = loads.toArray(Load[]::new);
+        Arrays.sort(sorted, LOAD_ORDER);
+
+        int pilotCount = pilotList.size();
+        Map<UUID, Integer> pilotIndex = new HashMap<>(pilotCount * 2);
+        long[][] blocked = new long[pilotCount][];
+        for (int i = 0; i < pilotCount; i++) {
+            pilotIndex.put(pilotList.get(i), i);
+            blocked[i] = merge(busy.getOrDefault(pilotList.get(i), List.of()));
+        }
+
+        long[] times = new long[sorted.length];
+        int[] pinned = new int[sorted.length];
+        List<List<Long>> pinnedTimes = new ArrayList<>(pilotCount);
+        for (int i = 0; i < pilotCount; i++) {
+            pinnedTimes.add(new ArrayList<>());
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            times[i] = sorted[i].time().getEpochSecond();
+            Integer pin = sorted[i].pinnedPilot() == null ? null : pilotIndex.get(sorted[i].pinnedPilot());
+            pinned[i] = pin == null ? UNASSIGNED : pin;
+            if (pin != null) pinnedTimes.get(pin).add(times[i]);
+        }
+
+        int[] pinCursor = new int[pilotCount];
+        int[] busyCursor = new int[pilotCount];
+        int[] loadCount = new int[pilotCount];
+        long[] lastTime = new long[pilotCount];
+        Arrays.fill(lastTime, Long.MIN_VALUE);
+        int[] assignment = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            long time = times[i];
+            int chosen = UNASSIGNED;
+            if (pinned[i] != UNASSIGNED) {
+                chosen = pinned[i];
+            } else {
+                for (int pilot = 0; pilot < pilotCount; pilot++) {
+                    if (eligible(pilot, time, loadCount, lastTime)
+                            && !pinnedSoon(pinnedTimes.get(pilot), pinCursor, pilot, time)
+                            && !busyAt(blocked[pilot], busyCursor, pilot, time)
+                            && better(pilot, chosen, loadCount, lastTime)) {
+                        chosen = pilot;
+                    }
+                }
+            }
+            assignment[i] = chosen;
+            if (chosen != UNASSIGNED) {
+                loadCount[chosen]++;
+                lastTime[chosen] = time;
+            }
+        }
+        return new PilotRotation(pilotList, sorted, assignment);
+    }
+
+    private boolean eligible(int pilot, long time, int[] loadCount, long[] lastTime) {
+        return loadCount[pilot] < maxLoadsPerPilot
+                && (lastTime[pilot] == Long.MIN_VALUE || time - lastTime[pilot] >= turnaroundSeconds);
+    }
+
+    private boolean pinnedSoon(List<Long> pins, int[] pinCursor, int pilot, long time) {
+        int cursor = pinCursor[pilot];
+        while (cursor < pins.size() && pins.get(cursor) < time) cursor++;
+        pinCursor[pilot] = cursor;
+        return cursor < pins.size() && pins.get(cursor) - time < turnaroundSeconds;
+    }
+
+    private static boolean busyAt(long[] blocked, int[] busyCursor, int pilot, long time) {
+        int cursor = busyCursor[pilot];
+        while (cursor < blocked.length && blocked[cursor + 1] <= time) cursor += 2;
+        busyCursor[pilot] = cursor;
+        return cursor < blocked.length && blocked[cursor] < time;
+    }
+
+    private static boolean better(int pilot, int best, int[] loadCount, long[] lastTime) {
+        return best == UNASSIGNED
+                || loadCount[pilot] < loadCount[best]
+                || (loadCount[pilot] == loadCount[best] && lastTime[pilot] < lastTime[best]);
+    }
+
+    // Sorts and merges the intervals into disjoint (from, to) pairs of epoch seconds, rounded outwards.
+    private static long[] merge(List<Busy> busy) {
+        Busy[] sorted = busy.toArray(Busy[]::new);
+        Arrays.sort(sorted, Comparator.comparing(Busy::from));
+        long[] pairs = new long[sorted.length * 2];
+        int size = 0;
+        for (Busy interval : sorted) {
+            long from = interval.from().getEpochSecond();
+            long to = interval.to().getEpochSecond() + (interval.to().getNano() > 0 ? 1 : 0);
+            if (size > 0 && from < pairs[size - 1]) {
+                pairs[size - 1] = Math.max(pairs[size - 1], to);
+            } else {
+                pairs[size++] = from;
+                pairs[size++] = to;
+            }
+        }
+        return Arrays.copyOf(pairs, size);
+    }
+
+    private static int indexOf(Load[] loads, UUID jumpId) {
+        for (int i = 0; i < loads.length; i++) {
+            if (loads[i].jumpId().equals(jumpId)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * A load to staff.
+     *
+     * @param jumpId      the jump id
+     * @param time        the scheduled jump time
+     * @param pinnedPilot a pilot already assigned to the jump, or {@code null}
+     */
+    public record Load(UUID jumpId, Instant time, UUID pinnedPilot) {}
+
+    /**
+     * An interval in which a pilot is already booked on another load. Loads whose time lies strictly between
+     * {@code from} and {@code to} are not given to them.
+     *
+     * @param from exclusive start of the interval
+     * @param to   exclusive end of the interval
+     */
+    public record Busy(Instant from, Instant to) {}
+
+    /**
+     * The result of a scheduling pass. Immutable.
+     */
+    public static final class PilotRotation {
+        private final List<UUID> pilots;
+        private final Load[] loads;
+        private final int[] assignment;
+
+        private PilotRotation(List<UUID> pilots, Load[] loads, int[] assignment) {
+            this.pilots = pilots;
+            this.loads = loads;
+            this.assignment = assignment;
+        }
+
+        /**
+         * Get the loads in time order.
+         * @return the loads
+         */
+        public List<Load> loads() {
+            return List.of(loads);
+        }
+
+        /**
+         * Get the pilot assigned to a load.
+         * @param jumpId the jump id
+         * @return the pilot id, or {@code null} if the load could not be staffed or is unknown
+         */
+        public UUID pilotFor(UUID jumpId) {
+            int index = indexOf(loads, jumpId);
+            return index < 0 || assignment[index] == UNASSIGNED ? null : pilots.get(assignment[index]);
+        }
+
+        /**
+         * Get all assignments in load order.
+         * @return map from jump id to pilot id (pilot id is {@code null} for unstaffed loads)
+         */
+        public Map<UUID, UUID> assignments() {
+            Map<UUID, UUID> result = new LinkedHashMap<>();
+            for (int i = 0; i < loads.length; i++) {
+                result.put(loads[i].jumpId(), assignment[i] == UNASSIGNED ? null : pilots.get(assignment[i]));
+            }
+            return result;
+        }
+
+        /**
+         * Get the jump ids of loads no pilot could be assigned to.
+         * @return list of unstaffed jump ids
+         */
+        public List<UUID> unassigned() {
+            List<UUID> result = new ArrayList<>();
+            for (int i = 0; i < loads.length; i++) {
+                if (assignment[i] == UNASSIGNED) result.add(loads[i].jumpId());
+            }
+            return result;
+        }
+
+        /**
+         * Get the number of loads each pilot flies.
+         * @return map from pilot id to load count
+         */
+        public Map<UUID, Integer> loadsPerPilot() {
+            Map<UUID, Integer> result = new LinkedHashMap<>();
+            pilots.forEach(pilot -> result.put(pilot, 0));
+            for (int pilot : assignment) {
+                if (pilot != UNASSIGNED) result.merge(pilots.get(pilot), 1, Integer::sum);
+            }
+            return result;
+        }
+    }
+}
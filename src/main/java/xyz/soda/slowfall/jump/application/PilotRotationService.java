@@ -0,0 +1,152 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.Busy;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.Load;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.PilotRotation;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+
+@Service
+public class PilotRotationService {
+    private final JumpRepository jumpRepository;
+    private final PersonRepository personRepository;
+    private final AirportRepository airportRepository;
+    private final ManifestAuditLog auditLog;
+    private final ApplicationEventPublisher events;
+    private final BookingGuard bookingGuard;
+    private final PilotRotationScheduler scheduler;
+
+    /**
+     * Create a new PilotRotationService.
+     *
+     * @param jumpRepository    repository for retrieving jumps
+     * @param personRepository  repository for retrieving pilots
+     * @param airportRepository repository for retrieving airports
+     * @param auditLog          journal of manifest changes
+     * @param events            publisher for roster events
+     * @param bookingGuard      check keeping pilots off overlapping loads
+     * @param turnaround        minimum time between two loads flown by the same pilot
+     * @param maxLoadsPerPilot  maximum number of loads a pilot flies per day
+     */
+    public PilotRotationService(
+            JumpRepository jumpRepository,
+            PersonRepository personRepository,
+            AirportRepository airportRepository,
+            ManifestAuditLog auditLog,
+            ApplicationEventPublisher events,
+            BookingGuard bookingGuard,
+            @Value("${app.pilot-rotation.turnaround:20m}") Duration turnaround,
+            @Value("${app.pilot-rotation.max-loads-per-pilot:15}") int maxLoadsPerPilot) {
+        this.jumpRepository = jumpRepository;
+        this.personRepository = personRepository;
+        this.airportRepository = airportRepository;
+        this.auditLog = auditLog;
+        this.events = events;
+        this.bookingGuard = bookingGuard;
+        this.scheduler = new PilotRotationScheduler(turnaround, maxLoadsPerPilot);
+    }
+
+    /**
+     * Assign pilots to every load of a day at an airport. Loads that already have a pilot keep it; the
+     * others get the pilot chosen by the {@link PilotRotationScheduler}, which keeps pilots off loads that
+     * overlap their bookings elsewhere. The join rows are inserted by id and
+     * the staffed loads are announced together with one {@link JumpsChangedEvent}.
+     *
+     * @param airportId the airport whose loads are staffed
+     * @param date      the local date at the airport
+     * @return the computed rotation
+     * @throws IllegalArgumentException if the airport is not found, or a chosen pilot was booked onto an
+     *                                  overlapping load concurrently; nothing is assigned then
+     */
+    @Transactional
+    public PilotRotation assignPilots(UUID airportId, LocalDate date) {
+        Airport airport = airportRepository
+                .findById(airportId)
+                .orElseThrow(() -> new IllegalArgumentException("Airport not found"));
+        ZoneId zone = ZoneId.of(airport.getTimezone());
+
+        Instant dayStart = date.atStartOfDay(zone).toInstant();
+        Instant dayEnd = date.plusDays(1).atStartOfDay(zone).toInstant();
+        List<Jump> jumps = jumpRepository.findByAirportIdInWindow(airportId, dayStart, dayEnd);
+        Map<UUID, Person> pilots = personRepository.findByPilot(true).stream()
+                .collect(Collectors.toMap(
+                        Person::getId, Function.identity(), (left, right) -> left, LinkedHashMap::new));
+
+        // Jumps flown by someone outside the pilot pool are left out; they neither need nor block a pilot.
+        List<Load> loads = jumps.stream()
+                .filter(jump -> jump.getPilots().isEmpty() || pinnedPilot(jump, pilots) != null)
+                .map(jump -> new Load(jump.getId(), jump.getJumpTime(), pinnedPilot(jump, pilots)))
+                .toList();
+        PilotRotation rotation =
+                scheduler.solve(List.copyOf(pilots.keySet()), loads, busyTimes(pilots.keySet(), dayStart, dayEnd));
+
+        List<UUID> staffed = new ArrayList<>();
+        for (Jump jump : jumps) {
+            UUID pilotId = rotation.pilotFor(jump.getId());
+            if (pilotId != null
+                    && jump.getPilots().isEmpty()
+                    && jumpRepository.insertPilot(jump.getId(), pilotId) == 1) {
+                personRepository.recordPilotJump(pilotId, jump.getJumpTime());
+                bookingGuard.requireFree(pilotId, jump.getJumpTime(), List.of(jump.getId()));
+                auditLog.pilotAdded(jump.getId(), pilotId);
+                staffed.add(jump.getId());
+            }
+        }
+        if (!staffed.isEmpty()) {
+            jumpRepository.touchAll(staffed, ChangeVersions.next());
+            events.publishEvent(new JumpsChangedEvent(staffed));
+        }
+        return rotation;
+    }
+
+    // Blocks out one booking span either side of every load a pilot is already on, as skydiver or pilot, so
+    // the scheduler only picks pilots the booking guard will accept.
+    private Map<UUID, List<Busy>> busyTimes(Collection<UUID> pilotIds, Instant dayStart, Instant dayEnd) {
+        if (pilotIds.isEmpty()) {
+            return Map.of();
+        }
+        Duration span = bookingGuard.span();
+        Instant after = dayStart.minus(span);
+        Instant before = dayEnd.plus(span);
+        Map<UUID, List<Busy>> busy = new HashMap<>();
+        Stream.concat(
+                        jumpRepository.findSkydiverBookings(pilotIds, after, before).stream(),
+                        jumpRepository.findPilotBookings(pilotIds, after, before).stream())
+                .forEach(booking -> busy.computeIfAbsent(booking.personId(), id -> new ArrayList<>())
+                        .add(new Busy(booking.jumpTime().minus(span), booking.jumpTime().plus(span))));
+        return busy;
+    }
+
+    private static UUID pinnedPilot(Jump jump, Map<UUID, Person> pilots) {
+        return jump.getPilots().stream()
+                .map(Person::getId)
+                .filter(pilots::containsKey)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,168 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.domain.SlotsFreedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.manifest.application.ManifestStore;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+
+/**
+ * Moves skydivers between loads, as when a load is cancelled or the day is rebalanced during a weather hold.
+ *
+ * <p>Every operation is a fixed number of set-based statements on the join tables, however many people are
+ * moved, and runs in one transaction: either everyone moves or nobody does. Both jumps are row-locked first by
+ * stamping their change versions, so concurrent moves onto the same load cannot overrun its capacity.</p>
+ */
+@Service
+public class RosterService {
+    /** Upper bound on the persons moved in one request, keeping the {@code in} lists reasonable. */
+    public static final int MAX_MOVE = 500;
+
+    private final JumpRepository jumpRepository;
+    private final PersonRepository personRepository;
+    private final CraftRepository craftRepository;
+    private final ManifestAuditLog auditLog;
+    private final ApplicationEventPublisher events;
+    private final ManifestStore manifestStore;
+    private final BookingGuard bookingGuard;
+
+    /**
+     * Create a new RosterService.
+     *
+     * @param jumpRepository   repository for jumps and their join tables
+     * @param personRepository repository for the persons' logbook fields
+     * @param craftRepository  repository for craft capacities
+     * @param auditLog         journal of manifest changes
+     * @param events           publisher for roster events
+     * @param manifestStore    in-memory rosters, used to turn away moves that cannot fit before taking any lock
+     * @param bookingGuard     check keeping persons off overlapping loads
+     */
+    public RosterService(
+            JumpRepository jumpRepository,
+            PersonRepository personRepository,
+            CraftRepository craftRepository,
+            ManifestAuditLog auditLog,
+            ApplicationEventPublisher events,
+            ManifestStore manifestStore,
+            BookingGuard bookingGuard) {
+        this.jumpRepository = jumpRepository;
+        this.personRepository = personRepository;
+        this.craftRepository = craftRepository;
+        this.auditLog = auditLog;
+        this.events = events;
+        this.manifestStore = manifestStore;
+        this.bookingGuard = bookingGuard;
+    }
+
+    /**
+     * Move skydivers from one jump to another. The slots freed on the source are announced with a
+     * {@link SlotsFreedEvent}.
+     *
+     * @param sourceJumpId the jump the skydivers are on
+     * @param targetJumpId the jump to move them to
+     * @param personIds    the skydivers to move
+     * @param craftId      craft flying the target load, whose person capacity is enforced; jumps do not record
+     *                     their craft, so it must be given
+     * @throws IllegalArgumentException if no craft is given, a jump or the craft is not found, a person is not on
+     *                                  the source jump or already on the target, the target would exceed the craft
+     *                                  capacity, or a person is on another load overlapping the target
+     */
+    @Transactional
+    public void moveSkydivers(UUID sourceJumpId, UUID targetJumpId, Set<UUID> personIds, UUID craftId) {
+        if (sourceJumpId.equals(targetJumpId)) {
+            throw new IllegalArgumentException("Source and target jump must differ");
+        }
+        if (personIds == null || personIds.isEmpty() || personIds.size() > MAX_MOVE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_MOVE + " persons can be moved at once");
+        }
+        if (craftId == null) {
+            throw new IllegalArgumentException("The craft flying the target load is required to check its capacity");
+        }
+        int capacity = craftRepository
+                .findById(craftId)
+                .map(Craft::getCapacityPersons)
+                .orElseThrow(() -> new IllegalArgumentException("Craft not found"));
+        // A move that cannot fit even on the committed roster fails without locking either jump; the count below
+        // stays the authoritative check.
+        int manifested = manifestStore.manifestedCount(targetJumpId);
+        if (manifested >= 0 && manifested + personIds.size() > capacity) {
+            throw new IllegalArgumentException("Target jump would exceed the craft capacity of " + capacity);
+        }
+        lockBoth(sourceJumpId, targetJumpId);
+
+        if (jumpRepository.copySkydivers(sourceJumpId, targetJumpId, personIds) != personIds.size()
+                || jumpRepository.deleteSkydivers(sourceJumpId, personIds) != personIds.size()) {
+            throw new IllegalArgumentException("Every person must be on the source jump and not on the target");
+        }
+        if (jumpRepository.countManifested(targetJumpId) > capacity) {
+            throw new IllegalArgumentException("Target jump would exceed the craft capacity of " + capacity);
+        }
+        Instant targetJumpTime = jumpTime(targetJumpId);
+        personRepository.recordMovedJump(personIds, jumpTime(sourceJumpId), targetJumpTime);
+        bookingGuard.requireFree(personIds, targetJumpTime, List.of(sourceJumpId, targetJumpId));
+        for (UUID personId : personIds) {
+            auditLog.skydiverRemoved(sourceJumpId, personId);
+            auditLog.skydiverAdded(targetJumpId, personId);
+        }
+        events.publishEvent(new JumpsChangedEvent(List.of(sourceJumpId, targetJumpId)));
+        events.publishEvent(new SlotsFreedEvent(sourceJumpId, personIds.size()));
+    }
+
+    /**
+     * Exchange two skydivers between jumps.
+     *
+     * @param jumpId        the first jump
+     * @param personId      the skydiver on the first jump
+     * @param otherJumpId   the second jump
+     * @param otherPersonId the skydiver on the second jump
+     * @throws IllegalArgumentException if a jump is not found, a person is not on their jump, either person is
+     *                                  already on the other jump, or either person is on a third load overlapping
+     *                                  the jump they move to
+     */
+    @Transactional
+    public void swapSkydivers(UUID jumpId, UUID personId, UUID otherJumpId, UUID otherPersonId) {
+        if (jumpId.equals(otherJumpId) || personId.equals(otherPersonId)) {
+            throw new IllegalArgumentException("A swap needs two different jumps and two different persons");
+        }
+        lockBoth(jumpId, otherJumpId);
+
+        if (jumpRepository.swapSkydivers(jumpId, personId, otherJumpId, otherPersonId) != 2) {
+            throw new IllegalArgumentException("Each person must be on their own jump and not on the other");
+        }
+        Instant jumpTime = jumpTime(jumpId);
+        Instant otherJumpTime = jumpTime(otherJumpId);
+        personRepository.recordMovedJump(List.of(personId), jumpTime, otherJumpTime);
+        personRepository.recordMovedJump(List.of(otherPersonId), otherJumpTime, jumpTime);
+        List<UUID> bothJumps = List.of(jumpId, otherJumpId);
+        bookingGuard.requireFree(personId, otherJumpTime, bothJumps);
+        bookingGuard.requireFree(otherPersonId, jumpTime, bothJumps);
+        auditLog.skydiverRemoved(jumpId, personId);
+        auditLog.skydiverAdded(otherJumpId, personId);
+        auditLog.skydiverRemoved(otherJumpId, otherPersonId);
+        auditLog.skydiverAdded(jumpId, otherPersonId);
+        events.publishEvent(new JumpsChangedEvent(List.of(jumpId, otherJumpId)));
+    }
+
+    private void lockBoth(UUID jumpId, UUID otherJumpId) {
+        if (jumpRepository.touchAll(List.of(jumpId, otherJumpId), ChangeVersions.next()) != 2) {
+            throw new IllegalArgumentException("Jump not found");
+        }
+    }
+
+    private Instant jumpTime(UUID jumpId) {
+        return jumpRepository
+                .findJumpTimeById(jumpId)
+                .orElseThrow(() -> new IllegalArgumentException("Jump not found"));
+    }
+}
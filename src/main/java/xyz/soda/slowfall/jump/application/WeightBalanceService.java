@@ -0,0 +1,65 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.craft.application.WeightBalanceCalculator;
+import xyz.soda.slowfall.craft.application.WeightBalanceCalculator.LoadBalance;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.domain.StationLayout;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.manifest.application.ManifestStore;
+import xyz.soda.slowfall.manifest.application.RosterWeights;
+import xyz.soda.slowfall.person.domain.Person;
+
+@Service
+public class WeightBalanceService {
+    private final JumpRepository jumpRepository;
+    private final CraftRepository craftRepository;
+    private final ManifestStore manifestStore;
+
+    /**
+     * Create a new WeightBalanceService.
+     *
+     * @param jumpRepository  repository for retrieving jumps and their rosters
+     * @param craftRepository repository for retrieving crafts and their station layouts
+     * @param manifestStore   in-memory rosters of the active window's jumps, used before the repository
+     */
+    public WeightBalanceService(
+            JumpRepository jumpRepository, CraftRepository craftRepository, ManifestStore manifestStore) {
+        this.jumpRepository = jumpRepository;
+        this.craftRepository = craftRepository;
+        this.manifestStore = manifestStore;
+    }
+
+    /**
+     * Compute the weight and balance of a jump's current roster in a craft. Rosters of today's jumps come from
+     * the {@link ManifestStore}; only the craft is read from the database.
+     *
+     * @param jumpId  the jump id
+     * @param craftId the craft flying the load
+     * @return the load's weight and balance
+     * @throws IllegalArgumentException if the jump or craft is not found, or the craft has no station layout
+     */
+    @Transactional(readOnly = true)
+    public LoadBalance balance(UUID jumpId, UUID craftId) {
+        RosterWeights weights = manifestStore.weights(jumpId);
+        if (weights == null) {
+            Jump jump =
+                    jumpRepository.findById(jumpId).orElseThrow(() -> new IllegalArgumentException("Jump not found"));
+            weights = new RosterWeights(
+                    jump.getPilots().stream().mapToInt(Person::getWeight).toArray(),
+                    jump.getSkydivers().stream().mapToInt(Person::getWeight).toArray());
+        }
+        Craft craft =
+                craftRepository.findById(craftId).orElseThrow(() -> new IllegalArgumentException("Craft not found"));
+        StationLayout layout = craft.getStationLayout();
+        if (layout == null) {
+            throw new IllegalArgumentException("Craft has no station layout");
+        }
+        return new WeightBalanceCalculator(layout, craft.getCapacityWeight())
+                .compute(weights.pilots(), weights.skydivers());
+    }
+}
@@ -6,19 +6,39 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.sync.domain.ChangeVersionListener;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+import xyz.soda.slowfall.sync.domain.Versioned;
 
 @Entity
-@EntityListeners(AuditingEntityListener.class)
-@Table(name = "jumps")
-public class Jump {
+@EntityListeners({AuditingEntityListener.class, ChangeVersionListener.class})
+@Table(
+        name = "jumps",
+        indexes = {
+            @Index(name = "idx_jumps_airport_time", columnList = "airport_id, jump_time"),
+            @Index(name = "idx_jumps_jump_time", columnList = "jump_time"),
+            @Index(name = "idx_jumps_change_version", columnList = "change_version")
+        })
+public class Jump implements Versioned {
+    /**
+     * Number of rosters initialised together when one is first touched. Mapping a list of jumps to DTOs then
+     * costs one roster query per role for up to this many jumps instead of one per jump.
+     */
+    private static final int ROSTER_BATCH_SIZE = 256;
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     @Column(nullable = false)
     private Instant jumpTime;
 
@@ -36,14 +56,18 @@ public class Jump {
     @JoinTable(
             name = "jump_skydiver",
             joinColumns = @JoinColumn(name = "jump_id"),
-            inverseJoinColumns = @JoinColumn(name = "person_id"))
+            inverseJoinColumns = @JoinColumn(name = "person_id"),
+            indexes = @Index(name = "idx_jump_skydiver_person", columnList = "person_id"))
+    @BatchSize(size = ROSTER_BATCH_SIZE)
     private final Set<Person> skydiver = new HashSet<>();
 
     @ManyToMany
     @JoinTable(
             name = "jump_pilots",
             joinColumns = @JoinColumn(name = "jump_id"),
-            inverseJoinColumns = @JoinColumn(name = "person_id"))
+            inverseJoinColumns = @JoinColumn(name = "person_id"),
+            indexes = @Index(name = "idx_jump_pilots_person", columnList = "person_id"))
+    @BatchSize(size = ROSTER_BATCH_SIZE)
     private final Set<Person> pilots = new HashSet<>();
 
     /**
@@ -123,17 +147,41 @@ public class Jump {
     /**
      * Add a skydiver to this jump.
      * @param person the Person to add as skydiver
+     * @return {@code true} if the person was not already a skydiver on this jump
      */
-    public void addSkydiver(Person person) {
-        this.skydiver.add(person);
+    public boolean addSkydiver(Person person) {
+        return touchIf(this.skydiver.add(person));
     }
 
     /**
      * Add a pilot to this jump.
      * @param person the Person to add as pilot
+     * @return {@code true} if the person was not already a pilot on this jump
+     */
+    public boolean addPilot(Person person) {
+        return touchIf(this.pilots.add(person));
+    }
+
+    // Roster changes only touch the join tables, which do not fire @PreUpdate; stamping a new version makes the
+    // jump row dirty so synced clients see the new roster.
+    private boolean touchIf(boolean changed) {
+        if (changed) {
+            changeVersion = ChangeVersions.next();
+        }
+        return changed;
+    }
+
+    /**
+     * Get the version of the last change to this jump, used by delta sync.
+     * @return the change version
      */
-    public void addPilot(Person person) {
-        this.pilots.add(person);
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void assignChangeVersion(long version) {
+        this.changeVersion = version;
     }
 
     /**
@@ -0,0 +1,12 @@
+package xyz.soda.slowfall.jump.domain;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Published when jumps are created or their rosters change, so read models kept outside the database can
+ * refresh those jumps once the change commits.
+ *
+ * @param jumpIds the created or changed jumps
+ */
+public record JumpsChangedEvent(Collection<UUID> jumpIds) {}
@@ -0,0 +1,11 @@
+package xyz.soda.slowfall.jump.domain;
+
+import java.util.UUID;
+
+/**
+ * Published when skydivers leave a load, so waiting skydivers can take their slots once the change commits.
+ *
+ * @param jumpId the load with free slots
+ * @param slots  how many skydivers left
+ */
+public record SlotsFreedEvent(UUID jumpId, int slots) {}
@@ -0,0 +1,62 @@
+package xyz.soda.slowfall.jump.infra;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+
+/**
+ * Inserts many jumps with JDBC batching, bypassing the persistence context.
+ *
+ * <p>Used for bulk creation where every row is new and nothing needs to be read back; callers run it inside
+ * their transaction so a failed batch leaves no partial schedule behind.</p>
+ */
+@Repository
+public class JumpBatchWriter {
+    private static final String INSERT = "insert into jumps (id, jump_time, airport_id, altitude_feet, created_at,"
+            + " change_version) values (?, ?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create a new JumpBatchWriter.
+     *
+     * @param jdbcTemplate template bound to the application data source
+     */
+    public JumpBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * A jump row to insert.
+     *
+     * @param id           the jump id
+     * @param jumpTime     the scheduled jump time
+     * @param airportId    the airport id
+     * @param altitudeFeet altitude in feet
+     */
+    public record NewJump(UUID id, Instant jumpTime, UUID airportId, int altitudeFeet) {}
+
+    /**
+     * Insert all rows in batches.
+     *
+     * @param jumps     the rows to insert
+     * @param createdAt creation timestamp written to every row
+     */
+    public void insertAll(List<NewJump> jumps, Instant createdAt) {
+        Timestamp created = Timestamp.from(createdAt);
+        jdbcTemplate.batchUpdate(INSERT, jumps, BATCH_SIZE, (statement, jump) -> {
+            statement.setObject(1, jump.id());
+            statement.setTimestamp(2, Timestamp.from(jump.jumpTime()));
+            statement.setObject(3, jump.airportId());
+            statement.setInt(4, jump.altitudeFeet());
+            statement.setTimestamp(5, created);
+            // Stamped here because the insert bypasses the entity listener.
+            statement.setLong(6, ChangeVersions.next());
+        });
+    }
+}
@@ -0,0 +1,212 @@
+package xyz.soda.slowfall.jump.infra;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+
+/**
+ * Keeps the monthly partitions of the Postgres {@code jumps} table in step with the calendar.
+ *
+ * <p>Every run creates the partitions for the current month and the configured number of months ahead, and
+ * detaches partitions that ended more than {@code retainMonths} ago. Detached partitions become ordinary
+ * tables, moved into the archive schema when one is configured, so history stays queryable without
+ * weighing on the live table. Their roster rows go with them into {@code jump_skydiver_pYYYYMM} and
+ * {@code jump_pilots_pYYYYMM}, in the same transaction as the detach, so the live join tables and the
+ * logbook counters only cover attached jumps. Each detached jump also gets a sync tombstone, since to a
+ * syncing client it is gone. Partitions are bounded in UTC and named
+ * {@code jumps_pYYYYMM}.</p>
+ *
+ * <p>Jumps booked beyond the prepared horizon land in {@code jumps_default}. When their month's partition is
+ * created later, those rows are moved out of the default partition in the same transaction, since Postgres
+ * refuses to attach a partition whose range still has rows in the default.</p>
+ */
+public class JumpPartitionManager {
+    private static final Logger log = LoggerFactory.getLogger(JumpPartitionManager.class);
+    private static final String PARENT = "jumps";
+    private static final String DEFAULT_PARTITION = "jumps_default";
+    private static final Pattern PARTITION_NAME = Pattern.compile("jumps_p(\\d{4})(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    // Roster join table and the persons counter it feeds.
+    private static final String[][] ROSTERS = {
+        {"jump_skydiver", "skydiver_jumps"},
+        {"jump_pilots", "pilot_jumps"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JumpPartitionProperties properties;
+    private final Clock clock;
+
+    /**
+     * Create a new JumpPartitionManager.
+     *
+     * @param jdbcTemplate        template bound to the application data source
+     * @param transactionTemplate template used to create or detach each partition atomically
+     * @param properties          the bound partition settings
+     * @param clock               clock used to determine the current month
+     */
+    public JumpPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            JumpPartitionProperties properties,
+            Clock clock) {
+        if (properties.monthsAhead() < 0 || properties.retainMonths() < 1) {
+            throw new IllegalArgumentException("monthsAhead must not be negative and retainMonths must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Create missing future partitions and detach expired ones. Does nothing if {@code jumps} is not a
+     * partitioned table. Runs once at startup and then on {@code app.jump-partitions.cron}.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.jump-partitions.cron:0 15 3 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!isPartitioned()) {
+            log.warn("Table {} is not partitioned; run db/partitioning/jumps_partitioned.sql first", PARENT);
+            return;
+        }
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        List<String> names = partitionNames();
+        List<YearMonth> existing = months(names);
+        boolean hasDefault = names.contains(DEFAULT_PARTITION);
+
+        for (int i = 0; i <= properties.monthsAhead(); i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                List<String> statements = createPartitionStatements(month, hasDefault);
+                transactionTemplate.executeWithoutResult(status -> statements.forEach(jdbcTemplate::execute));
+                log.info("Created partition {}", partitionName(month));
+            }
+        }
+
+        YearMonth oldestRetained = current.minusMonths(properties.retainMonths());
+        for (YearMonth month : existing) {
+            if (month.isBefore(oldestRetained)) {
+                detach(month);
+            }
+        }
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from pg_partitioned_table where partrelid = to_regclass(?)", Integer.class, PARENT);
+        return count != null && count > 0;
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+                "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid"
+                        + " where i.inhparent = to_regclass(?)",
+                String.class,
+                PARENT);
+    }
+
+    private static List<YearMonth> months(List<String> names) {
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : names) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))));
+            }
+        }
+        return months;
+    }
+
+    private void detach(YearMonth month) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Reserved inside the transaction, so sync readers wait for the tombstones before passing them.
+            Long rows = jdbcTemplate.queryForObject("select count(*) from " + partitionName(month), Long.class);
+            long firstVersion = rows == null || rows == 0 ? 0 : ChangeVersions.next(Math.toIntExact(rows));
+            detachStatements(month, properties.archiveSchema(), firstVersion).forEach(jdbcTemplate::execute);
+        });
+        log.info("Detached partition {}", partitionName(month));
+    }
+
+    /**
+     * Name of the partition holding a month.
+     *
+     * @param month the month
+     * @return the partition table name
+     */
+    static String partitionName(YearMonth month) {
+        return PARENT + "_p" + month.format(SUFFIX);
+    }
+
+    /**
+     * Statements detaching the partition for a month. The roster rows of its jumps are moved out of
+     * {@code jump_skydiver} and {@code jump_pilots} into tables named after the partition, next to it, and the
+     * persons' logbook counters are lowered by the moved rows so they keep matching the live rosters. Every
+     * jump of the partition gets a tombstone, numbered from {@code firstVersion} in id order.
+     *
+     * @param month         the month
+     * @param archiveSchema schema the detached tables are moved into, or blank to leave them in place
+     * @param firstVersion  the first of the change versions reserved for the partition's jumps
+     * @return the statements to run in one transaction
+     */
+    static List<String> detachStatements(YearMonth month, String archiveSchema, long firstVersion) {
+        String name = partitionName(month);
+        String suffix = "_p" + month.format(SUFFIX);
+        String prefix = archiveSchema == null || archiveSchema.isBlank() ? "" : archiveSchema + ".";
+        List<String> statements = new ArrayList<>();
+        statements.add("alter table " + PARENT + " detach partition " + name);
+        if (!prefix.isEmpty()) {
+            statements.add("create schema if not exists " + archiveSchema);
+            statements.add("alter table " + name + " set schema " + archiveSchema);
+        }
+        statements.add("insert into sync_tombstones (id, kind, entity_id, change_version)"
+                + " select gen_random_uuid(), 'JUMP', j.id, " + (firstVersion - 1)
+                + " + row_number() over (order by j.id) from " + prefix + name + " j");
+        for (String[] roster : ROSTERS) {
+            String archived = prefix + roster[0] + suffix;
+            statements.add("create table " + archived + " (like " + roster[0] + " including defaults)");
+            statements.add("with moved as (delete from " + roster[0] + " r using " + prefix + name + " j"
+                    + " where r.jump_id = j.id returning r.*) insert into " + archived + " select * from moved");
+            statements.add("update persons p set " + roster[1] + " = p." + roster[1] + " - m.moved"
+                    + " from (select person_id, count(*) as moved from " + archived + " group by person_id) m"
+                    + " where p.id = m.person_id");
+        }
+        return statements;
+    }
+
+    /**
+     * Statements creating the partition for a month, bounded by UTC midnight on the first of the month. The
+     * partition is built detached, filled with any rows of that month parked in the default partition, and
+     * then attached.
+     *
+     * @param month      the month
+     * @param hasDefault whether {@code jumps_default} exists
+     * @return the statements to run in one transaction
+     */
+    static List<String> createPartitionStatements(YearMonth month, boolean hasDefault) {
+        String name = partitionName(month);
+        String lower = "'" + month.atDay(1) + " 00:00:00+00'";
+        String upper = "'" + month.plusMonths(1).atDay(1) + " 00:00:00+00'";
+        List<String> statements = new ArrayList<>();
+        statements.add("create table " + name + " (like " + PARENT + " including defaults including constraints)");
+        if (hasDefault) {
+            statements.add("with moved as (delete from " + DEFAULT_PARTITION + " where jump_time >= " + lower
+                    + " and jump_time < " + upper + " returning *) insert into " + name + " select * from moved");
+        }
+        statements.add("alter table " + PARENT + " attach partition " + name + " for values from (" + lower
+                + ") to (" + upper + ")");
+        return statements;
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.soda.slowfall.jump.infra;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Partition maintenance settings bound from {@code app.jump-partitions.*}.
+ *
+ * <p>Only meaningful on Postgres once {@code jumps} has been converted with
+ * {@code db/partitioning/jumps_partitioned.sql}; the dev H2 database keeps a plain table.</p>
+ *
+ * @param enabled       whether the maintenance job runs
+ * @param monthsAhead   number of future monthly partitions kept ready, beyond the current month
+ * @param retainMonths  number of past months kept attached; older partitions are detached
+ * @param archiveSchema schema detached partitions are moved into, or blank to leave them in place
+ * @param cron          schedule of the maintenance job
+ */
+@ConfigurationProperties(prefix = "app.jump-partitions")
+public record JumpPartitionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("12") int monthsAhead,
+        @DefaultValue("24") int retainMonths,
+        @DefaultValue("archive") String archiveSchema,
+        @DefaultValue("0 15 3 * * *") String cron) {}
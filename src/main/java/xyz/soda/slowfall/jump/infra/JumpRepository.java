@@ -1,7 +1,314 @@
 package xyz.soda.slowfall.jump.infra;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import xyz.soda.slowfall.jump.domain.Jump;
 
-public interface JumpRepository extends JpaRepository<Jump, UUID> {}
+public interface JumpRepository extends JpaRepository<Jump, UUID> {
+
+    /**
+     * Find all jumps scheduled in the half-open window {@code [from, to)}, ordered by time. The bound on
+     * {@code jump_time} lets Postgres skip every monthly partition outside the window.
+     *
+     * @param from inclusive start of the window
+     * @param to   exclusive end of the window
+     * @return matching jumps ordered by jump time
+     */
+    @Query("select j from Jump j where j.jumpTime >= :from and j.jumpTime < :to order by j.jumpTime")
+    List<Jump> findInWindow(@Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Find the jumps at an airport scheduled in the half-open window {@code [from, to)}, ordered by time, with
+     * their pilots fetched in the same query.
+     *
+     * @param airportId the airport id
+     * @param from      inclusive start of the window
+     * @param to        exclusive end of the window
+     * @return matching jumps ordered by jump time
+     */
+    @Query("select distinct j from Jump j left join fetch j.pilots where j.airportId = :airportId"
+            + " and j.jumpTime >= :from and j.jumpTime < :to order by j.jumpTime")
+    List<Jump> findByAirportIdInWindow(
+            @Param("airportId") UUID airportId, @Param("from") Instant from, @Param("to") Instant to);
+
+    /**
+     * Find the next jumps at an airport strictly after an instant, ordered by time and then id.
+     *
+     * @param airportId the airport id
+     * @param after     exclusive lower bound on the jump time
+     * @param limit     maximum number of jumps to return
+     * @return the upcoming jumps
+     */
+    @Query("select j from Jump j where j.airportId = :airportId and j.jumpTime > :after order by j.jumpTime, j.id")
+    List<Jump> findUpcomingAtAirport(@Param("airportId") UUID airportId, @Param("after") Instant after, Limit limit);
+
+    /**
+     * Page through the jumps a person is manifested on as a skydiver, latest first.
+     *
+     * @param personId the person id
+     * @param pageable pagination information
+     * @return a page of jumps
+     */
+    @Query(
+            value = "select j from Jump j join j.skydiver s where s.id = :personId order by j.jumpTime desc",
+            countQuery = "select count(j) from Jump j join j.skydiver s where s.id = :personId")
+    Page<Jump> findBySkydiverId(@Param("personId") UUID personId, Pageable pageable);
+
+    /**
+     * Page through the jumps a person is manifested on as a pilot, latest first.
+     *
+     * @param personId the person id
+     * @param pageable pagination information
+     * @return a page of jumps
+     */
+    @Query(
+            value = "select j from Jump j join j.pilots p where p.id = :personId order by j.jumpTime desc",
+            countQuery = "select count(j) from Jump j join j.pilots p where p.id = :personId")
+    Page<Jump> findByPilotId(@Param("personId") UUID personId, Pageable pageable);
+
+    /**
+     * Find jumps with a change version in {@code (since, until]}, oldest change first.
+     *
+     * @param since exclusive lower version bound
+     * @param until inclusive upper version bound
+     * @param limit maximum number of rows
+     * @return the changed jumps
+     */
+    @Query("select j from Jump j where j.changeVersion > :since and j.changeVersion <= :until"
+            + " order by j.changeVersion")
+    List<Jump> findChangedBetween(@Param("since") long since, @Param("until") long until, Limit limit);
+
+    /**
+     * Check whether any jump takes place at an airport.
+     *
+     * @param airportId the airport id
+     * @return {@code true} if at least one jump references the airport
+     */
+    boolean existsByAirportId(UUID airportId);
+
+    /**
+     * Find the scheduled time of a jump without loading the entity or its rosters.
+     *
+     * @param id the jump id
+     * @return the jump time, or empty if the jump does not exist
+     */
+    @Query("select j.jumpTime from Jump j where j.id = :id")
+    Optional<Instant> findJumpTimeById(@Param("id") UUID id);
+
+    /**
+     * Find which of the given jumps still exist and have not departed yet.
+     *
+     * @param ids   the jump ids
+     * @param after exclusive lower bound of the jump time
+     * @return the ids of the jumps scheduled after {@code after}
+     */
+    @Query("select j.id from Jump j where j.id in :ids and j.jumpTime > :after")
+    List<UUID> findIdsDepartingAfter(@Param("ids") Collection<UUID> ids, @Param("after") Instant after);
+
+    /**
+     * Stamp a new change version on a jump, for roster changes made directly on the join tables.
+     *
+     * @param id      the jump id
+     * @param version the new change version
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("update Jump j set j.changeVersion = :version where j.id = :id")
+    int touch(@Param("id") UUID id, @Param("version") long version);
+
+    /**
+     * Insert one skydiver join row, unless the person is missing or already on the roster.
+     *
+     * @param jumpId   the jump id
+     * @param personId the person id
+     * @return {@code 1} if the row was inserted, otherwise {@code 0}
+     */
+    @Modifying
+    @Query(
+            value = "insert into jump_skydiver (jump_id, person_id) select :jumpId, p.id"
+                    + " from persons p where p.id = :personId and not exists (select 1 from jump_skydiver r"
+                    + " where r.jump_id = :jumpId and r.person_id = :personId)",
+            nativeQuery = true)
+    int insertSkydiver(@Param("jumpId") UUID jumpId, @Param("personId") UUID personId);
+
+    /**
+     * Insert one pilot join row, unless the person is missing or already on the roster.
+     *
+     * @param jumpId   the jump id
+     * @param personId the person id
+     * @return {@code 1} if the row was inserted, otherwise {@code 0}
+     */
+    @Modifying
+    @Query(
+            value = "insert into jump_pilots (jump_id, person_id) select :jumpId, p.id"
+                    + " from persons p where p.id = :personId and not exists (select 1 from jump_pilots r"
+                    + " where r.jump_id = :jumpId and r.person_id = :personId)",
+            nativeQuery = true)
+    int insertPilot(@Param("jumpId") UUID jumpId, @Param("personId") UUID personId);
+
+    /**
+     * Delete one skydiver join row.
+     *
+     * @param jumpId   the jump id
+     * @param personId the person id
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "delete from jump_skydiver where jump_id = :jumpId and person_id = :personId", nativeQuery = true)
+    int deleteSkydiver(@Param("jumpId") UUID jumpId, @Param("personId") UUID personId);
+
+    /**
+     * Delete one pilot join row.
+     *
+     * @param jumpId   the jump id
+     * @param personId the person id
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "delete from jump_pilots where jump_id = :jumpId and person_id = :personId", nativeQuery = true)
+    int deletePilot(@Param("jumpId") UUID jumpId, @Param("personId") UUID personId);
+
+    /**
+     * Stamp a new change version on several jumps at once. The update also row-locks the jumps, which
+     * serialises concurrent roster moves touching the same loads.
+     *
+     * @param ids     the jump ids
+     * @param version the new change version
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("update Jump j set j.changeVersion = :version where j.id in :ids")
+    int touchAll(@Param("ids") Collection<UUID> ids, @Param("version") long version);
+
+    /**
+     * Copy skydiver join rows from one jump to another, skipping persons already on the target.
+     *
+     * @param sourceJumpId the jump the persons are on
+     * @param targetJumpId the jump to add them to
+     * @param personIds    the persons to copy
+     * @return number of rows inserted
+     */
+    @Modifying
+    @Query(
+            value = "insert into jump_skydiver (jump_id, person_id) select :targetJumpId, s.person_id"
+                    + " from jump_skydiver s where s.jump_id = :sourceJumpId and s.person_id in (:personIds)"
+                    + " and not exists (select 1 from jump_skydiver t where t.jump_id = :targetJumpId"
+                    + " and t.person_id = s.person_id)",
+            nativeQuery = true)
+    int copySkydivers(
+            @Param("sourceJumpId") UUID sourceJumpId,
+            @Param("targetJumpId") UUID targetJumpId,
+            @Param("personIds") Collection<UUID> personIds);
+
+    /**
+     * Delete several skydiver join rows of one jump.
+     *
+     * @param jumpId    the jump id
+     * @param personIds the persons to remove
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(
+            value = "delete from jump_skydiver where jump_id = :jumpId and person_id in (:personIds)",
+            nativeQuery = true)
+    int deleteSkydivers(@Param("jumpId") UUID jumpId, @Param("personIds") Collection<UUID> personIds);
+
+    /**
+     * Exchange two skydivers between jumps by re-pointing both join rows in one statement. A row is only moved
+     * when its person is not already on the other jump, so a result below 2 means the swap is not possible.
+     *
+     * @param jumpId        the first jump
+     * @param personId      the skydiver on the first jump
+     * @param otherJumpId   the second jump
+     * @param otherPersonId the skydiver on the second jump
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query(
+            value = "update jump_skydiver r set jump_id = case when r.jump_id = :jumpId then :otherJumpId"
+                    + " else :jumpId end where (r.jump_id = :jumpId and r.person_id = :personId"
+                    + " and not exists (select 1 from jump_skydiver x where x.jump_id = :otherJumpId"
+                    + " and x.person_id = :personId)) or (r.jump_id = :otherJumpId and r.person_id = :otherPersonId"
+                    + " and not exists (select 1 from jump_skydiver x where x.jump_id = :jumpId"
+                    + " and x.person_id = :otherPersonId))",
+            nativeQuery = true)
+    int swapSkydivers(
+            @Param("jumpId") UUID jumpId,
+            @Param("personId") UUID personId,
+            @Param("otherJumpId") UUID otherJumpId,
+            @Param("otherPersonId") UUID otherPersonId);
+
+    /**
+     * Count everyone manifested on a jump, skydivers and pilots together.
+     *
+     * @param jumpId the jump id
+     * @return the number of people on the load
+     */
+    @Query(
+            value = "select (select count(*) from jump_skydiver where jump_id = :jumpId)"
+                    + " + (select count(*) from jump_pilots where jump_id = :jumpId)",
+            nativeQuery = true)
+    long countManifested(@Param("jumpId") UUID jumpId);
+
+    /**
+     * Find the skydiver bookings of the given persons on jumps whose time lies strictly between two instants.
+     *
+     * @param personIds the persons to look up; must not be empty
+     * @param after     exclusive lower bound of the jump time
+     * @param before    exclusive upper bound of the jump time
+     * @return one entry per booking
+     */
+    @Query("select new xyz.soda.slowfall.jump.infra.PersonBooking(s.id, j.jumpTime) from Jump j"
+            + " join j.skydiver s where s.id in :personIds and j.jumpTime > :after and j.jumpTime < :before")
+    List<PersonBooking> findSkydiverBookings(
+            @Param("personIds") Collection<UUID> personIds,
+            @Param("after") Instant after,
+            @Param("before") Instant before);
+
+    /**
+     * Find the pilot bookings of the given persons on jumps whose time lies strictly between two instants.
+     *
+     * @param personIds the persons to look up; must not be empty
+     * @param after     exclusive lower bound of the jump time
+     * @param before    exclusive upper bound of the jump time
+     * @return one entry per booking
+     */
+    @Query("select new xyz.soda.slowfall.jump.infra.PersonBooking(p.id, j.jumpTime) from Jump j"
+            + " join j.pilots p where p.id in :personIds and j.jumpTime > :after and j.jumpTime < :before")
+    List<PersonBooking> findPilotBookings(
+            @Param("personIds") Collection<UUID> personIds,
+            @Param("after") Instant after,
+            @Param("before") Instant before);
+
+    /**
+     * Find which of the given persons are on a jump, as skydiver or pilot, whose time lies strictly between two
+     * instants. The database can start from either side: the few loads in the range through
+     * {@code idx_jumps_jump_time}, or the given persons' roster rows through the person indexes of both join
+     * tables. Either way the cost does not grow with the number of jumps outside the range.
+     *
+     * @param personIds      the persons to check
+     * @param after          exclusive lower bound of the jump time
+     * @param before         exclusive upper bound of the jump time
+     * @param ignoredJumpIds jumps that do not count; must not be empty
+     * @return the persons with at least one such jump
+     */
+    @Query("select s.id from Jump j join j.skydiver s where s.id in :personIds and j.jumpTime > :after"
+            + " and j.jumpTime < :before and j.id not in :ignoredJumpIds"
+            + " union select p.id from Jump j join j.pilots p where p.id in :personIds and j.jumpTime > :after"
+            + " and j.jumpTime < :before and j.id not in :ignoredJumpIds")
+    List<UUID> findBookedBetween(
+            @Param("personIds") Collection<UUID> personIds,
+            @Param("after") Instant after,
+            @Param("before") Instant before,
+            @Param("ignoredJumpIds") Collection<UUID> ignoredJumpIds);
+}
@@ -0,0 +1,12 @@
+package xyz.soda.slowfall.jump.infra;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One roster entry of a person, reduced to what overlap checks need.
+ *
+ * @param personId the person on the roster
+ * @param jumpTime the jump time
+ */
+public record PersonBooking(UUID personId, Instant jumpTime) {}
@@ -0,0 +1,204 @@
+package xyz.soda.slowfall.manifest.application;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import xyz.soda.slowfall.manifest.domain.ManifestJump;
+import xyz.soda.slowfall.manifest.domain.ManifestMember;
+
+/**
+ * The jumps of one time window and their rosters, held in primitive arrays.
+ *
+ * <p>Jumps, persons and airports each get a dense index from a {@link UuidIndex}; per-jump fields are parallel
+ * arrays over the jump index. A roster is a sorted {@code int[]} of person indexes, so membership is a binary
+ * search and a count is an array length, and every person's weight is stored once. A day of a busy drop zone
+ * (a few hundred loads, a few thousand roster entries) fits in well under a megabyte. Not thread-safe.</p>
+ */
+final class ManifestState {
+    // Stamped on jumps that were deleted or could not be refreshed; no later read can bring them back.
+    private static final long RETIRED = Long.MAX_VALUE;
+    private static final int[] NONE = new int[0];
+
+    private final long fromMillis;
+    private final long toMillis;
+    private final UuidIndex jumpIndex = new UuidIndex();
+    private final UuidIndex personIndex = new UuidIndex();
+    private final UuidIndex airportIndex = new UuidIndex();
+    private long[] versions = new long[16];
+    private long[] jumpTimes = new long[16];
+    private int[] airports = new int[16];
+    private int[] altitudes = new int[16];
+    // Null while a jump is not held: outside the window, deleted or retired.
+    private int[][] skydivers = new int[16][];
+    private int[][] pilots = new int[16][];
+    private int[] weights = new int[64];
+    private int held;
+
+    /**
+     * Create an empty state for the half-open window {@code [from, to)}.
+     *
+     * @param from inclusive start of the window
+     * @param to   exclusive end of the window
+     */
+    ManifestState(Instant from, Instant to) {
+        this.fromMillis = from.toEpochMilli();
+        this.toMillis = to.toEpochMilli();
+    }
+
+    Instant from() {
+        return Instant.ofEpochMilli(fromMillis);
+    }
+
+    Instant to() {
+        return Instant.ofEpochMilli(toMillis);
+    }
+
+    /**
+     * Store a jump as read from the database, unless a newer read of it is already held. A jump outside the
+     * window is dropped.
+     *
+     * @param jump the jump and its roster
+     */
+    void put(ManifestJump jump) {
+        int slot = jumpSlot(jump.id());
+        if (jump.changeVersion() < versions[slot]) {
+            return;
+        }
+        versions[slot] = jump.changeVersion();
+        long jumpTime = jump.jumpTime().toEpochMilli();
+        if (jumpTime < fromMillis || jumpTime >= toMillis) {
+            drop(slot);
+            return;
+        }
+        int[] skydiverRoster = new int[jump.members().size()];
+        int[] pilotRoster = new int[jump.members().size()];
+        int skydiverCount = 0;
+        int pilotCount = 0;
+        for (ManifestMember member : jump.members()) {
+            int person = person(member.personId(), member.weight());
+            if (member.pilot()) {
+                pilotRoster[pilotCount++] = person;
+            } else {
+                skydiverRoster[skydiverCount++] = person;
+            }
+        }
+        if (skydivers[slot] == null) {
+            held++;
+        }
+        skydivers[slot] = sorted(skydiverRoster, skydiverCount);
+        pilots[slot] = sorted(pilotRoster, pilotCount);
+        jumpTimes[slot] = jumpTime;
+        airports[slot] = airportIndex.add(jump.airportId());
+        altitudes[slot] = jump.altitudeFeet();
+    }
+
+    /**
+     * Stop holding a jump for the lifetime of this state, whatever is read for it later.
+     *
+     * @param jumpId the deleted or unknown jump
+     */
+    void retire(UUID jumpId) {
+        int slot = jumpSlot(jumpId);
+        versions[slot] = RETIRED;
+        drop(slot);
+    }
+
+    boolean contains(UUID jumpId) {
+        return heldSlot(jumpId) >= 0;
+    }
+
+    /**
+     * Count the pilots and skydivers on a jump.
+     *
+     * @param jumpId the jump id
+     * @return the number of persons, or {@code -1} if the jump is not held
+     */
+    int manifestedCount(UUID jumpId) {
+        int slot = heldSlot(jumpId);
+        return slot < 0 ? -1 : skydivers[slot].length + pilots[slot].length;
+    }
+
+    /**
+     * Check whether a person is on a jump as pilot or skydiver.
+     *
+     * @param jumpId   the jump id
+     * @param personId the person id
+     * @return {@code true} if the jump is held and the person is on it
+     */
+    boolean isManifested(UUID jumpId, UUID personId) {
+        int slot = heldSlot(jumpId);
+        int person = personIndex.indexOf(personId);
+        if (slot < 0 || person < 0) {
+            return false;
+        }
+        return Arrays.binarySearch(skydivers[slot], person) >= 0 || Arrays.binarySearch(pilots[slot], person) >= 0;
+    }
+
+    /**
+     * Get the weights of everyone on a jump.
+     *
+     * @param jumpId the jump id
+     * @return the weights, or {@code null} if the jump is not held
+     */
+    RosterWeights weights(UUID jumpId) {
+        int slot = heldSlot(jumpId);
+        return slot < 0 ? null : new RosterWeights(weightsOf(pilots[slot]), weightsOf(skydivers[slot]));
+    }
+
+    int size() {
+        return held;
+    }
+
+    private int heldSlot(UUID jumpId) {
+        int slot = jumpIndex.indexOf(jumpId);
+        return slot >= 0 && skydivers[slot] != null ? slot : -1;
+    }
+
+    private int jumpSlot(UUID jumpId) {
+        int slot = jumpIndex.add(jumpId);
+        if (slot == versions.length) {
+            int capacity = 2 * slot;
+            versions = Arrays.copyOf(versions, capacity);
+            jumpTimes = Arrays.copyOf(jumpTimes, capacity);
+            airports = Arrays.copyOf(airports, capacity);
+            altitudes = Arrays.copyOf(altitudes, capacity);
+            skydivers = Arrays.copyOf(skydivers, capacity);
+            pilots = Arrays.copyOf(pilots, capacity);
+        }
+        return slot;
+    }
+
+    private int person(UUID personId, int weight) {
+        int person = personIndex.add(personId);
+        if (person == weights.length) {
+            weights = Arrays.copyOf(weights, 2 * person);
+        }
+        weights[person] = weight;
+        return person;
+    }
+
+    private void drop(int slot) {
+        if (skydivers[slot] != null) {
+            held--;
+        }
+        skydivers[slot] = null;
+        pilots[slot] = null;
+    }
+
+    private int[] weightsOf(int[] roster) {
+        int[] result = new int[roster.length];
+        for (int i = 0; i < roster.length; i++) {
+            result[i] = weights[roster[i]];
+        }
+        return result;
+    }
+
+    private static int[] sorted(int[] roster, int length) {
+        if (length == 0) {
+            return NONE;
+        }
+        int[] result = Arrays.copyOf(roster, length);
+        Arrays.sort(result);
+        return result;
+    }
+}
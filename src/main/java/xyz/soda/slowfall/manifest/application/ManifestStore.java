@@ -0,0 +1,286 @@
+package xyz.soda.slowfall.manifest.application;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+import xyz.soda.slowfall.invalidation.domain.InvalidationGapEvent;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.manifest.domain.ManifestJump;
+import xyz.soda.slowfall.manifest.infra.ManifestSource;
+
+/**
+ * Holds the rosters of the active window's jumps in memory, so roster and capacity lookups for today's loads
+ * need no database round trip.
+ *
+ * <p>The state is a compact {@link ManifestState} of primitive arrays. It is loaded when the application starts
+ * and kept current by the write paths: every committed {@link JumpsChangedEvent} re-reads the changed jumps on
+ * the committing thread, so a client reads its own writes. Reads of the same jump are applied in change
+ * version order, so a slow refresh never overwrites a newer one. Every {@code reloadInterval} a background
+ * thread rebuilds the state for a window moved up to the current time. Changes committed on other replicas
+ * arrive through the invalidation bus as the same event, and the state is rebuilt right away when the bus may
+ * have missed some.</p>
+ *
+ * <p>Lookups answer "unknown" ({@code -1} or {@code null}) for jumps outside the window, and callers then fall
+ * back to the database. The database stays authoritative: the store never decides anything a transaction
+ * could not re-check.</p>
+ */
+public class ManifestStore implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ManifestStore.class);
+
+    private final ManifestSource source;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration lookBehind;
+    private final Duration lookAhead;
+    private final Duration reloadInterval;
+    private final StampedLock lock = new StampedLock();
+    private final ScheduledExecutorService reloader;
+    // Both guarded by the lock. Jumps refreshed while a reload builds its state are re-read once it is swapped in.
+    private ManifestState state = new ManifestState(Instant.EPOCH, Instant.EPOCH);
+    private Set<UUID> refreshedDuringReload;
+
+    /**
+     * Create a new, empty ManifestStore. It is loaded once {@link #start()} is called.
+     *
+     * @param source     source the jumps are read from
+     * @param properties the bound store settings
+     * @param clock      clock placing the held window
+     */
+    public ManifestStore(ManifestSource source, ManifestStoreProperties properties, Clock clock) {
+        this.source = source;
+        this.clock = clock;
+        this.enabled = properties.enabled();
+        this.lookBehind = properties.lookBehind();
+        this.lookAhead = properties.lookAhead();
+        this.reloadInterval = properties.reloadInterval();
+        this.reloader = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "manifest-store-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Load the current window and start reloading it in the background, unless the store is disabled.
+     */
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        reload();
+        long intervalMillis = Math.max(1L, reloadInterval.toMillis());
+        reloader.scheduleWithFixedDelay(this::reloadQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Check whether a jump is held.
+     *
+     * @param jumpId the jump id
+     * @return {@code true} if the jump is in the window and its roster is current
+     */
+    public boolean contains(UUID jumpId) {
+        long stamp = lock.readLock();
+        try {
+            return state.contains(jumpId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Count the pilots and skydivers on a jump.
+     *
+     * @param jumpId the jump id
+     * @return the number of persons, or {@code -1} if the jump is not held
+     */
+    public int manifestedCount(UUID jumpId) {
+        long stamp = lock.readLock();
+        try {
+            return state.manifestedCount(jumpId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Check whether a person is on a jump as pilot or skydiver.
+     *
+     * @param jumpId   the jump id
+     * @param personId the person id
+     * @return {@code true} if the jump is held and the person is on it; {@code false} says nothing about jumps
+     *         that are not held
+     */
+    public boolean isManifested(UUID jumpId, UUID personId) {
+        long stamp = lock.readLock();
+        try {
+            return state.isManifested(jumpId, personId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Get the weights of everyone on a jump.
+     *
+     * @param jumpId the jump id
+     * @return the weights, or {@code null} if the jump is not held
+     */
+    public RosterWeights weights(UUID jumpId) {
+        long stamp = lock.readLock();
+        try {
+            return state.weights(jumpId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Count the held jumps.
+     *
+     * @return the number of jumps in the window
+     */
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return state.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Re-read jumps whose change committed. A jump that cannot be re-read is no longer held until the next
+     * reload, so lookups fall back to the database instead of answering from a stale roster.
+     *
+     * @param event the changed jumps, local or from another replica
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJumpsChanged(JumpsChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh(event.jumpIds());
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Manifest store refresh failed; {} jumps are read from the database until the next reload",
+                    event.jumpIds().size(),
+                    e);
+            retire(event.jumpIds());
+        }
+    }
+
+    /**
+     * Rebuild the state in the background, since changes from other replicas may have been missed.
+     *
+     * @param event the gap notice
+     */
+    @EventListener
+    public void onInvalidationGap(InvalidationGapEvent event) {
+        if (enabled && !reloader.isShutdown()) {
+            reloader.execute(this::reloadQuietly);
+        }
+    }
+
+    /**
+     * Re-read jumps from the database. Jumps that no longer exist stop being held.
+     *
+     * @param jumpIds the jump ids
+     */
+    public void refresh(Collection<UUID> jumpIds) {
+        List<ManifestJump> loaded = source.loadJumps(jumpIds);
+        Set<UUID> missing = new HashSet<>(jumpIds);
+        long stamp = lock.writeLock();
+        try {
+            if (refreshedDuringReload != null) {
+                refreshedDuringReload.addAll(jumpIds);
+            }
+            for (ManifestJump jump : loaded) {
+                state.put(jump);
+                missing.remove(jump.id());
+            }
+            missing.forEach(state::retire);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Rebuild the state for the window around the current time. Lookups keep using the previous state until the
+     * new one is complete.
+     */
+    public synchronized void reload() {
+        Set<UUID> refreshed = ConcurrentHashMap.newKeySet();
+        long stamp = lock.writeLock();
+        try {
+            refreshedDuringReload = refreshed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        Instant now = clock.instant();
+        ManifestState fresh = new ManifestState(now.minus(lookBehind), now.plus(lookAhead));
+        try {
+            source.loadWindow(fresh.from(), fresh.to()).forEach(fresh::put);
+        } catch (RuntimeException e) {
+            stamp = lock.writeLock();
+            refreshedDuringReload = null;
+            lock.unlockWrite(stamp);
+            throw e;
+        }
+        stamp = lock.writeLock();
+        try {
+            state = fresh;
+            refreshedDuringReload = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        // The window read may predate these refreshes; version ordering keeps whichever read is newer.
+        if (!refreshed.isEmpty()) {
+            refresh(refreshed);
+        }
+    }
+
+    /**
+     * Stop reloading the store.
+     */
+    @Override
+    public void close() {
+        reloader.shutdown();
+        try {
+            reloader.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void retire(Collection<UUID> jumpIds) {
+        long stamp = lock.writeLock();
+        try {
+            jumpIds.forEach(state::retire);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Manifest store reload failed; retrying with the next reload", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package xyz.soda.slowfall.manifest.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Manifest store settings bound from {@code app.manifest-store.*}.
+ *
+ * @param enabled        whether the store is loaded and kept current; when off every lookup falls back to the
+ *                       database
+ * @param lookBehind     how far before now the held window starts
+ * @param lookAhead      how far after now the held window ends
+ * @param reloadInterval how often the store is rebuilt for a window moved up to the current time, which also
+ *                       picks up changes made by other instances or outside the application
+ */
+@ConfigurationProperties(prefix = "app.manifest-store")
+public record ManifestStoreProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("12h") Duration lookBehind,
+        @DefaultValue("24h") Duration lookAhead,
+        @DefaultValue("15m") Duration reloadInterval) {}
@@ -0,0 +1,10 @@
+package xyz.soda.slowfall.manifest.application;
+
+/**
+ * The weights of everyone on a jump, as input for the weight and balance calculation. The arrays are copies
+ * owned by the caller.
+ *
+ * @param pilots    the pilots' weights
+ * @param skydivers the skydivers' weights
+ */
+public record RosterWeights(int[] pilots, int[] skydivers) {}
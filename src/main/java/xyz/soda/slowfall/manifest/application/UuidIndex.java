@@ -0,0 +1,93 @@
+package xyz.soda.slowfall.manifest.application;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Assigns dense {@code int} indexes to UUIDs, so the manifest state can keep everything else in plain arrays.
+ *
+ * <p>Ids are kept as pairs of longs and looked up through an open-addressing table with linear probing; no
+ * {@link UUID} or boxed value is allocated per entry. Indexes are never reused: entries cannot be removed.
+ * Not thread-safe.</p>
+ */
+final class UuidIndex {
+    private long[] most = new long[16];
+    private long[] least = new long[16];
+    // Index + 1 per slot; 0 marks an empty slot. The length is a power of two kept at least twice the size.
+    private int[] table = new int[32];
+    private int size;
+
+    /**
+     * Get the index of an id.
+     *
+     * @param id the id
+     * @return the index, or {@code -1} if the id was never added
+     */
+    int indexOf(UUID id) {
+        long hi = id.getMostSignificantBits();
+        long lo = id.getLeastSignificantBits();
+        int mask = table.length - 1;
+        for (int slot = hash(hi, lo) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            int index = table[slot] - 1;
+            if (most[index] == hi && least[index] == lo) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the index of an id, assigning the next free index if it is new.
+     *
+     * @param id the id
+     * @return the index
+     */
+    int add(UUID id) {
+        int existing = indexOf(id);
+        if (existing >= 0) {
+            return existing;
+        }
+        if (2 * (size + 1) > table.length) {
+            rehash(2 * table.length);
+        }
+        if (size == most.length) {
+            most = Arrays.copyOf(most, 2 * size);
+            least = Arrays.copyOf(least, 2 * size);
+        }
+        int index = size++;
+        most[index] = id.getMostSignificantBits();
+        least[index] = id.getLeastSignificantBits();
+        insert(index);
+        return index;
+    }
+
+    /**
+     * Count the ids added so far.
+     *
+     * @return the number of ids, which is also the next index to be assigned
+     */
+    int size() {
+        return size;
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        for (int index = 0; index < size; index++) {
+            insert(index);
+        }
+    }
+
+    private void insert(int index) {
+        int mask = table.length - 1;
+        int slot = hash(most[index], least[index]) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+    }
+
+    private static int hash(long hi, long lo) {
+        long mixed = (hi ^ lo) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
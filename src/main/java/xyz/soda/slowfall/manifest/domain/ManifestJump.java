@@ -0,0 +1,23 @@
+package xyz.soda.slowfall.manifest.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A jump and its roster as read for the manifest store.
+ *
+ * @param id            the jump id
+ * @param changeVersion the jump's change version when it was read; older reads never replace newer ones
+ * @param airportId     the airport the jump departs from
+ * @param jumpTime      the scheduled jump time
+ * @param altitudeFeet  the exit altitude
+ * @param members       the pilots and skydivers on the jump
+ */
+public record ManifestJump(
+        UUID id,
+        long changeVersion,
+        UUID airportId,
+        Instant jumpTime,
+        int altitudeFeet,
+        List<ManifestMember> members) {}
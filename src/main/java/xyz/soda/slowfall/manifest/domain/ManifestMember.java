@@ -0,0 +1,12 @@
+package xyz.soda.slowfall.manifest.domain;
+
+import java.util.UUID;
+
+/**
+ * One person on a jump's roster as read for the manifest store.
+ *
+ * @param personId the person id
+ * @param weight   the person's weight
+ * @param pilot    {@code true} for a pilot, {@code false} for a skydiver
+ */
+public record ManifestMember(UUID personId, int weight, boolean pilot) {}
@@ -0,0 +1,97 @@
+package xyz.soda.slowfall.manifest.infra;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.soda.slowfall.manifest.domain.ManifestJump;
+import xyz.soda.slowfall.manifest.domain.ManifestMember;
+
+/**
+ * Reads jumps, their rosters and the roster weights for the manifest store straight from the tables.
+ *
+ * <p>Each read is a single statement, so a jump's change version and roster always come from the same
+ * snapshot, and no entities or lazy collections are hydrated.</p>
+ */
+@Repository
+public class ManifestSource {
+    private static final String SELECT = "select j.id, j.change_version, j.airport_id, j.jump_time, j.altitude_feet,"
+            + " r.person_id, p.weight, r.pilot from jumps j"
+            + " left join (select jump_id, person_id, false as pilot from jump_skydiver"
+            + " union all select jump_id, person_id, true as pilot from jump_pilots) r on r.jump_id = j.id"
+            + " left join persons p on p.id = r.person_id";
+    private static final int CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create a new ManifestSource.
+     *
+     * @param jdbcTemplate template bound to the application data source
+     */
+    public ManifestSource(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Load the jumps in the half-open window {@code [from, to)} with their rosters.
+     *
+     * @param from inclusive start of the window
+     * @param to   exclusive end of the window
+     * @return the jumps in the window
+     */
+    public List<ManifestJump> loadWindow(Instant from, Instant to) {
+        List<ManifestJump> jumps = new ArrayList<>();
+        query(" where j.jump_time >= ? and j.jump_time < ?", jumps, Timestamp.from(from), Timestamp.from(to));
+        return jumps;
+    }
+
+    /**
+     * Load jumps by id with their rosters.
+     *
+     * @param jumpIds the jump ids
+     * @return the jumps that still exist
+     */
+    public List<ManifestJump> loadJumps(Collection<UUID> jumpIds) {
+        List<UUID> ids = List.copyOf(jumpIds);
+        List<ManifestJump> jumps = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += CHUNK) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            query(" where j.id in (" + placeholders + ")", jumps, chunk.toArray());
+        }
+        return jumps;
+    }
+
+    private void query(String where, List<ManifestJump> jumps, Object... args) {
+        // Ordered by jump so each jump's roster rows arrive together.
+        jdbcTemplate.query(
+                SELECT + where + " order by j.id",
+                resultSet -> {
+                    UUID jumpId = resultSet.getObject("id", UUID.class);
+                    ManifestJump last = jumps.isEmpty() ? null : jumps.get(jumps.size() - 1);
+                    if (last == null || !last.id().equals(jumpId)) {
+                        last = new ManifestJump(
+                                jumpId,
+                                resultSet.getLong("change_version"),
+                                resultSet.getObject("airport_id", UUID.class),
+                                resultSet.getTimestamp("jump_time").toInstant(),
+                                resultSet.getInt("altitude_feet"),
+                                new ArrayList<>());
+                        jumps.add(last);
+                    }
+                    UUID personId = resultSet.getObject("person_id", UUID.class);
+                    if (personId != null) {
+                        last.members()
+                                .add(new ManifestMember(
+                                        personId, resultSet.getInt("weight"), resultSet.getBoolean("pilot")));
+                    }
+                },
+                args);
+    }
+}
@@ -1,17 +1,16 @@
 package xyz.soda.slowfall.person.api;
 
 import jakarta.validation.Valid;
-import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.person.application.PersonCursor;
 import xyz.soda.slowfall.person.application.PersonService;
 import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.web.JsonStream;
 
 @RestController
 @RequestMapping("/api/person")
@@ -52,32 +51,51 @@ public class PersonController {
     }
 
     /**
-     * List all person.
-     * @return a list of PersonDto for all stored persons
+     * List persons in (lastName, firstName, id) order, one page at a time.
+     * @param after cursor returned as {@code nextCursor} by the previous page; omit for the first page
+     * @param size maximum number of persons to return
+     * @param approximateCount whether to include a cheap estimate of the total number of persons
+     * @return a ResponseEntity with the page and HTTP 200, or 400 if the cursor or size is invalid
      */
     @GetMapping
-    public List<PersonDto> listPerson() {
-        return service.listAllPerson().stream().map(PersonDto::from).toList();
+    public ResponseEntity<JsonStream> listPerson(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean approximateCount) {
+        try {
+            Slice<Person> slice = service.listPersons(PersonCursor.decode(after), size);
+            Long total = approximateCount ? service.approximatePersonCount() : null;
+            return ResponseEntity.ok(generator -> PersonJsonWriter.writeSlice(generator, slice, total));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     /**
-     * Search for persons with optional criteria and pagination.
+     * Search for persons with optional criteria, one page at a time in (lastName, firstName, id) order.
      * @param firstName optional first name filter
      * @param lastName optional last name filter
      * @param pilot optional pilot flag filter
      * @param skydiver optional sky diver flag filter
-     * @param pageable pagination information
-     * @return a paged ResponseEntity of PersonDto matching the criteria
+     * @param after cursor returned as {@code nextCursor} by the previous page; omit for the first page
+     * @param size maximum number of persons to return
+     * @return a ResponseEntity with the page of matching persons and HTTP 200, or 400 if the cursor or size is
+     *     invalid
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<PersonDto>> searchPersons(
+    public ResponseEntity<JsonStream> searchPersons(
             @RequestParam(required = false) String firstName,
             @RequestParam(required = false) String lastName,
             @RequestParam(required = false) Boolean pilot,
             @RequestParam(required = false) Boolean skydiver,
-            @PageableDefault(size = 20) Pageable pageable) {
-        Page<Person> results = service.searchPersons(firstName, lastName, pilot, skydiver, pageable);
-        Page<PersonDto> dtoPage = results.map(PersonDto::from);
-        return ResponseEntity.ok(dtoPage);
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Slice<Person> slice =
+                    service.searchPersons(firstName, lastName, pilot, skydiver, PersonCursor.decode(after), size);
+            return ResponseEntity.ok(generator -> PersonJsonWriter.writeSlice(generator, slice, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 }
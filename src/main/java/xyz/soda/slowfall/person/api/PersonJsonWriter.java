@@ -0,0 +1,74 @@
+package xyz.soda.slowfall.person.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Slice;
+import xyz.soda.slowfall.person.application.PersonCursor;
+import xyz.soda.slowfall.person.domain.Person;
+
+/**
+ * Writes persons straight from the entities in the same JSON shape as {@link PersonDto}, without building the
+ * DTOs or going through reflective serialization.
+ */
+public final class PersonJsonWriter {
+
+    private PersonJsonWriter() {}
+
+    /**
+     * Write one person as a {@link PersonDto} object.
+     *
+     * @param generator the target generator
+     * @param person    the person
+     * @throws IOException if writing fails
+     */
+    public static void writePerson(JsonGenerator generator, Person person) throws IOException {
+        generator.writeStartObject();
+        writeUuidField(generator, "id", person.getId());
+        generator.writeStringField("name", person.getFirstName() + " " + person.getLastName());
+        generator.writeBooleanField("pilot", person.getPilot());
+        generator.writeBooleanField("skydiver", person.getSkydiver());
+        if (person.getWeight() == null) {
+            generator.writeNullField("weight");
+        } else {
+            generator.writeNumberField("weight", person.getWeight());
+        }
+        generator.writeStringField("email", person.getEmail());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Write one page of a person listing as an object with {@code content}, {@code size}, {@code hasNext},
+     * {@code nextCursor} and {@code approximateTotal}.
+     *
+     * @param generator        the target generator
+     * @param slice            the page of persons
+     * @param approximateTotal estimated number of persons, or {@code null}
+     * @throws IOException if writing fails
+     */
+    public static void writeSlice(JsonGenerator generator, Slice<Person> slice, Long approximateTotal)
+            throws IOException {
+        List<Person> persons = slice.getContent();
+        String nextCursor = slice.hasNext() ? PersonCursor.of(persons.get(persons.size() - 1)).encode() : null;
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("content");
+        for (Person person : persons) {
+            writePerson(generator, person);
+        }
+        generator.writeEndArray();
+        generator.writeNumberField("size", slice.getSize());
+        generator.writeBooleanField("hasNext", slice.hasNext());
+        generator.writeStringField("nextCursor", nextCursor);
+        if (approximateTotal == null) {
+            generator.writeNullField("approximateTotal");
+        } else {
+            generator.writeNumberField("approximateTotal", approximateTotal);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeUuidField(JsonGenerator generator, String name, UUID value) throws IOException {
+        generator.writeStringField(name, value == null ? null : value.toString());
+    }
+}
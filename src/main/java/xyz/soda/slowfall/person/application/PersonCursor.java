@@ -0,0 +1,62 @@
+package xyz.soda.slowfall.person.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import xyz.soda.slowfall.person.domain.Person;
+
+/**
+ * Position in the person listing's stable (lastName, firstName, id) order: the key of the last person a client
+ * has seen. The next page starts strictly after it, so pages stay consistent while persons are added or
+ * removed and a deep page costs the same as the first one.
+ *
+ * @param lastName  last name of the last person seen
+ * @param firstName first name of the last person seen
+ * @param id        id of the last person seen
+ */
+public record PersonCursor(String lastName, String firstName, UUID id) {
+    private static final char SEPARATOR = '\u0000';
+
+    /**
+     * Create the cursor pointing at a person.
+     *
+     * @param person the last person of a page
+     * @return the cursor for the following page
+     */
+    public static PersonCursor of(Person person) {
+        return new PersonCursor(person.getLastName(), person.getFirstName(), person.getId());
+    }
+
+    /**
+     * Decode a cursor previously returned by {@link #encode()}.
+     *
+     * @param token the opaque cursor, or {@code null}
+     * @return the cursor, or {@code null} if {@code token} is {@code null} or blank
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PersonCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int first = decoded.indexOf(SEPARATOR);
+        int second = decoded.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return new PersonCursor(
+                decoded.substring(0, first),
+                decoded.substring(first + 1, second),
+                UUID.fromString(decoded.substring(second + 1)));
+    }
+
+    /**
+     * Encode this cursor as an opaque, URL-safe token.
+     *
+     * @return the token
+     */
+    public String encode() {
+        String raw = lastName + SEPARATOR + firstName + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,42 +1,57 @@
 package xyz.soda.slowfall.person.application;
 
 import java.util.List;
-import java.util.stream.Stream;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
 import xyz.soda.slowfall.person.api.CreatePersonRequest;
 import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonCountEstimator;
 import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.SyncKind;
 
 @Service
 public class PersonService {
+    /** Largest page a client may request from the person listings. */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    // Matches idx_persons_name_keyset; id makes the order total so the keyset cursor is unambiguous.
+    private static final Sort KEYSET_ORDER = Sort.by("lastName", "firstName", "id");
 
     private final PersonRepository repository;
+    private final PersonCountEstimator countEstimator;
+    private final ApplicationEventPublisher events;
 
     /**
      * Create a new instance of {@code PersonService}.
      *
-     * @param repository repository used to persist Person entities
+     * @param repository     repository used to persist Person entities
+     * @param countEstimator source of the approximate person count
+     * @param events         publisher notifying caches of committed person changes
      */
-    public PersonService(PersonRepository repository) {
+    public PersonService(
+            PersonRepository repository, PersonCountEstimator countEstimator, ApplicationEventPublisher events) {
         this.repository = repository;
+        this.countEstimator = countEstimator;
+        this.events = events;
     }
 
     /**
-     * Create and persist a new person from the request.
+     * Create and persist a new person from the request. Email uniqueness is enforced by the database
+     * constraint, so a create is a single insert and concurrent duplicates are still rejected.
      * @param request the CreatePersonRequest with person details
      * @return the saved Person entity
      * @throws IllegalArgumentException if a person with the same email already exists
      */
     @Transactional
     public Person createPerson(CreatePersonRequest request) {
-        repository.findByEmail(request.email()).ifPresent(existing -> {
-            throw new IllegalArgumentException("Person with email already exists: " + request.email());
-        });
-
         Person person = new Person(
                 request.firstName(),
                 request.lastName(),
@@ -44,38 +59,66 @@ public class PersonService {
                 request.skydiver(),
                 request.weight(),
                 request.email());
-        return repository.save(person);
+        Person saved;
+        try {
+            saved = repository.saveAndFlush(person);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("Person with email already exists: " + request.email(), e);
+        }
+        events.publishEvent(new EntitiesChangedEvent(SyncKind.PERSON, List.of(saved.getId())));
+        return saved;
     }
 
     /**
-     * List all persons.
-     * @return list of all Person entities
+     * List persons in (lastName, firstName, id) order, one page at a time.
+     * @param after the last person of the previous page, or null for the first page
+     * @param size the maximum number of persons to return
+     * @return a slice of persons; no total count is computed
+     * @throws IllegalArgumentException if {@code size} is outside 1..{@value #MAX_PAGE_SIZE}
      */
     @Transactional(readOnly = true)
-    public List<Person> listAllPerson() {
-        return repository.findAll();
+    public Slice<Person> listPersons(PersonCursor after, int size) {
+        return searchPersons(null, null, null, null, after, size);
     }
 
     /**
-     * Search persons using optional filters and pageable.
+     * Search persons using optional filters, one page at a time in (lastName, firstName, id) order. Each page is
+     * a single query seeking past the cursor and fetching one extra row to learn whether more follow, so there
+     * is no {@code COUNT(*)} and no {@code OFFSET} and a deep page costs the same as the first.
      * @param firstName optional first name filter
      * @param lastName optional last name filter
      * @param pilot optional pilot flag filter
      * @param skydiver optional sky diver flag filter
-     * @param pageable pagination information
-     * @return a page of Person entities matching the filters
+     * @param after the last person of the previous page, or null for the first page
+     * @param size the maximum number of persons to return
+     * @return a slice of persons matching the filters
+     * @throws IllegalArgumentException if {@code size} is outside 1..{@value #MAX_PAGE_SIZE}
      */
     @Transactional(readOnly = true)
-    public Page<Person> searchPersons(
-            String firstName, String lastName, Boolean pilot, Boolean skydiver, Pageable pageable) {
-        Specification<Person> spec = Stream.of(
-                        PersonSpecifications.firstNameContains(firstName),
-                        PersonSpecifications.lastNameContains(lastName),
-                        PersonSpecifications.isPilot(pilot),
-                        PersonSpecifications.isSkydiver(skydiver))
-                .reduce(Specification::and)
-                .orElse(null);
+    public Slice<Person> searchPersons(
+            String firstName, String lastName, Boolean pilot, Boolean skydiver, PersonCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Specification<Person> spec = Specification.allOf(List.of(
+                PersonSpecifications.firstNameContains(firstName),
+                PersonSpecifications.lastNameContains(lastName),
+                PersonSpecifications.isPilot(pilot),
+                PersonSpecifications.isSkydiver(skydiver),
+                PersonSpecifications.after(after)));
+
+        List<Person> rows = repository.findBy(spec, query -> query.sortBy(KEYSET_ORDER).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<Person> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size, KEYSET_ORDER), hasNext);
+    }
 
-        return repository.findAll(spec, pageable);
+    /**
+     * Estimate the number of persons cheaply, for display next to a paginated listing.
+     * @return the approximate person count
+     */
+    @Transactional(readOnly = true)
+    public long approximatePersonCount() {
+        return countEstimator.estimate();
     }
 }
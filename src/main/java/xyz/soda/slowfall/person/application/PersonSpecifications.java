@@ -1,6 +1,8 @@
 package xyz.soda.slowfall.person.application;
 
+import jakarta.persistence.criteria.Path;
 import java.util.Locale;
+import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 import xyz.soda.slowfall.person.domain.Person;
 
@@ -57,4 +59,25 @@ public final class PersonSpecifications {
             return cb.equal(root.get("skydiver"), skydiver);
         };
     }
+
+    /**
+     * Build a keyset specification matching persons after the cursor in (lastName, firstName, id) order.
+     * @param cursor the last person seen (null to start at the beginning)
+     * @return a Specification for Person or null if {@code cursor} is null
+     */
+    public static Specification<Person> after(PersonCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) return null;
+            Path<String> lastName = root.get("lastName");
+            Path<String> firstName = root.get("firstName");
+            Path<UUID> id = root.get("id");
+            return cb.or(
+                    cb.greaterThan(lastName, cursor.lastName()),
+                    cb.and(
+                            cb.equal(lastName, cursor.lastName()),
+                            cb.or(
+                                    cb.greaterThan(firstName, cursor.firstName()),
+                                    cb.and(cb.equal(firstName, cursor.firstName()), cb.greaterThan(id, cursor.id())))));
+        };
+    }
 }
@@ -1,17 +1,31 @@
 package xyz.soda.slowfall.person.domain;
 
 import jakarta.persistence.*;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
+import org.hibernate.annotations.ColumnDefault;
+import xyz.soda.slowfall.sync.domain.ChangeVersionListener;
+import xyz.soda.slowfall.sync.domain.Versioned;
 
 @Entity
-@Table(name = "persons")
-public class Person {
+@EntityListeners(ChangeVersionListener.class)
+@Table(
+        name = "persons",
+        indexes = {
+            @Index(name = "idx_persons_change_version", columnList = "change_version"),
+            @Index(name = "idx_persons_name_keyset", columnList = "last_name, first_name, id")
+        })
+public class Person implements Versioned {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     @Column(nullable = false)
     private String firstName;
 
@@ -30,6 +44,19 @@ public class Person {
     @Column(nullable = false, unique = true)
     private String email;
 
+    // Logbook counters. Written only by the atomic updates in PersonRepository, never from entity state,
+    // so a stale Person loaded earlier in a transaction cannot overwrite them.
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long skydiverJumps;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long pilotJumps;
+
+    @Column(insertable = false, updatable = false)
+    private Instant lastJumpTime;
+
     /**
      * Protected no-args constructor for JPA.
      */
@@ -174,6 +201,43 @@ public class Person {
         this.email = email.trim().toLowerCase();
     }
 
+    /**
+     * Get the number of jumps the person is manifested on as a skydiver.
+     * @return the skydiver jump count
+     */
+    public long getSkydiverJumps() {
+        return skydiverJumps;
+    }
+
+    /**
+     * Get the number of jumps the person is manifested on as a pilot.
+     * @return the pilot jump count
+     */
+    public long getPilotJumps() {
+        return pilotJumps;
+    }
+
+    /**
+     * Get the time of the latest jump the person is manifested on, in either role.
+     * @return the latest jump time, or {@code null} if the person has no jumps
+     */
+    public Instant getLastJumpTime() {
+        return lastJumpTime;
+    }
+
+    /**
+     * Get the version of the last change to this person, used by delta sync.
+     * @return the change version
+     */
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void assignChangeVersion(long version) {
+        this.changeVersion = version;
+    }
+
     /**
      * Equality is based on the person id.
      * @param object the object to compare
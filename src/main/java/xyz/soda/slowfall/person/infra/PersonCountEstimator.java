@@ -0,0 +1,57 @@
+package xyz.soda.slowfall.person.infra;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Estimates the number of persons without scanning the table.
+ *
+ * <p>On PostgreSQL the estimate is the planner statistic {@code pg_class.reltuples}, kept current by autovacuum
+ * and read in constant time. It falls back to an exact count when the table has never been analyzed and on
+ * other databases (H2 in dev and tests), where tables are small.</p>
+ */
+@Repository
+public class PersonCountEstimator {
+    private static final String ESTIMATE = "select reltuples::bigint from pg_class where oid = 'persons'::regclass";
+    private static final String EXACT = "select count(*) from persons";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    /**
+     * Create a new PersonCountEstimator.
+     *
+     * @param jdbcTemplate template bound to the application data source
+     */
+    public PersonCountEstimator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Estimate the number of persons.
+     *
+     * @return the approximate row count
+     */
+    public long estimate() {
+        if (isPostgres()) {
+            Long estimate = jdbcTemplate.queryForObject(ESTIMATE, Long.class);
+            // -1 until the table is first analyzed.
+            if (estimate != null && estimate >= 0) {
+                return estimate;
+            }
+        }
+        Long exact = jdbcTemplate.queryForObject(EXACT, Long.class);
+        return exact == null ? 0 : exact;
+    }
+
+    private boolean isPostgres() {
+        Boolean known = postgres;
+        if (known == null) {
+            known = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+            postgres = known;
+        }
+        return known;
+    }
+}
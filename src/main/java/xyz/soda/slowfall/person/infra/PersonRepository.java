@@ -1,14 +1,36 @@
 package xyz.soda.slowfall.person.infra;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import xyz.soda.slowfall.person.domain.Person;
 
 public interface PersonRepository extends JpaRepository<Person, UUID>, JpaSpecificationExecutor<Person> {
 
+    /** JPQL assignment keeping {@code lastJumpTime} at the latest of its current value and {@code :jumpTime}. */
+    String LAST_JUMP_TIME = " p.lastJumpTime = case when p.lastJumpTime is null or p.lastJumpTime < :jumpTime"
+            + " then :jumpTime else p.lastJumpTime end";
+
+    /** Native SQL subquery for the latest jump time of person {@code p} across both rosters. */
+    String LATEST_ROSTER_JUMP_TIME = "select max(j.jump_time) from jumps j where j.id in (select s.jump_id"
+            + " from jump_skydiver s where s.person_id = p.id union all select r.jump_id from jump_pilots r"
+            + " where r.person_id = p.id)";
+
+    /**
+     * Native SQL assignment recomputing {@code last_jump_time} from the rosters, but only when the removed jump
+     * was the latest one; the roster lookup is skipped in every other case.
+     */
+    String RECOMPUTED_LAST_JUMP_TIME = " last_jump_time = case when p.last_jump_time = :jumpTime then ("
+            + LATEST_ROSTER_JUMP_TIME + ") else p.last_jump_time end";
+
     /**
      * Find a person by email.
      *
@@ -44,4 +66,90 @@ public interface PersonRepository extends JpaRepository<Person, UUID>, JpaSpecif
      * @return list of matching Person entities
      */
     List<Person> findBySkydiver(boolean skydiver);
+
+    /**
+     * Atomically count one more jump as skydiver and move the last jump time forward if needed.
+     *
+     * @param id       the person id
+     * @param jumpTime time of the jump the person was added to
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Person p set p.skydiverJumps = p.skydiverJumps + 1," + LAST_JUMP_TIME + " where p.id = :id")
+    int recordSkydiverJump(@Param("id") UUID id, @Param("jumpTime") Instant jumpTime);
+
+    /**
+     * Atomically count one more jump as pilot and move the last jump time forward if needed.
+     *
+     * @param id       the person id
+     * @param jumpTime time of the jump the person was added to
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Person p set p.pilotJumps = p.pilotJumps + 1," + LAST_JUMP_TIME + " where p.id = :id")
+    int recordPilotJump(@Param("id") UUID id, @Param("jumpTime") Instant jumpTime);
+
+    /**
+     * Count one jump less as skydiver after the person was taken off a roster. Must run after the join row has
+     * been deleted.
+     *
+     * @param id       the person id
+     * @param jumpTime time of the jump the person was removed from
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "update persons p set skydiver_jumps = greatest(p.skydiver_jumps - 1, 0),"
+                    + RECOMPUTED_LAST_JUMP_TIME + " where p.id = :id",
+            nativeQuery = true)
+    int forgetSkydiverJump(@Param("id") UUID id, @Param("jumpTime") Instant jumpTime);
+
+    /**
+     * Count one jump less as pilot after the person was taken off a roster. Must run after the join row has
+     * been deleted.
+     *
+     * @param id       the person id
+     * @param jumpTime time of the jump the person was removed from
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "update persons p set pilot_jumps = greatest(p.pilot_jumps - 1, 0),"
+                    + RECOMPUTED_LAST_JUMP_TIME + " where p.id = :id",
+            nativeQuery = true)
+    int forgetPilotJump(@Param("id") UUID id, @Param("jumpTime") Instant jumpTime);
+
+    /**
+     * Fix up {@code last_jump_time} after persons were moved from one jump to another. Their counters do not
+     * change; the latest jump time is recomputed from the rosters only for those whose latest jump was the one
+     * they left. Must run after the join rows have been moved.
+     *
+     * @param ids      the moved persons
+     * @param jumpTime time of the jump they left
+     * @param newTime  time of the jump they joined
+     * @return number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            value = "update persons p set last_jump_time = case"
+                    + " when p.last_jump_time = :jumpTime then (" + LATEST_ROSTER_JUMP_TIME + ")"
+                    + " when p.last_jump_time is null or p.last_jump_time < :newTime then :newTime"
+                    + " else p.last_jump_time end where p.id in (:ids)",
+            nativeQuery = true)
+    int recordMovedJump(
+            @Param("ids") Collection<UUID> ids,
+            @Param("jumpTime") Instant jumpTime,
+            @Param("newTime") Instant newTime);
+
+    /**
+     * Find persons with a change version in {@code (since, until]}, oldest change first.
+     *
+     * @param since exclusive lower version bound
+     * @param until inclusive upper version bound
+     * @param limit maximum number of rows
+     * @return the changed persons
+     */
+    @Query("select p from Person p where p.changeVersion > :since and p.changeVersion <= :until"
+            + " order by p.changeVersion")
+    List<Person> findChangedBetween(@Param("since") long since, @Param("until") long until, Limit limit);
 }
@@ -0,0 +1,190 @@
+package xyz.soda.slowfall.seed.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.soda.slowfall.seed.application.SeedPlan.PlannedJump;
+import xyz.soda.slowfall.seed.infra.SeedRowWriter;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+
+/**
+ * Loads a production-sized synthetic dataset generated by a {@link SeedPlan}.
+ *
+ * <p>Rosters are planned twice: a first, CPU-only pass counts each person's jumps so persons can be written
+ * with logbook counters already matching their rosters, and the write pass regenerates the same jumps.
+ * Regenerating is far cheaper than holding tens of millions of roster entries in memory. Persons and jumps are
+ * written in chunks of {@code batchSize} on {@code threads} parallel connections; each jump chunk writes its
+ * jumps before their roster rows.</p>
+ */
+public class LargeDataSeeder {
+    private static final Logger log = LoggerFactory.getLogger(LargeDataSeeder.class);
+
+    private static final List<String> AIRPORT_COLUMNS =
+            List.of("id", "icao_code", "name", "timezone", "change_version");
+    private static final List<String> CRAFT_COLUMNS =
+            List.of("id", "name", "registration_number", "capacity_weight", "capacity_persons", "change_version");
+    private static final List<String> PERSON_COLUMNS = List.of(
+            "id",
+            "first_name",
+            "last_name",
+            "pilot",
+            "skydiver",
+            "weight",
+            "email",
+            "skydiver_jumps",
+            "pilot_jumps",
+            "last_jump_time",
+            "change_version");
+    private static final List<String> JUMP_COLUMNS =
+            List.of("id", "jump_time", "airport_id", "altitude_feet", "created_at", "change_version");
+    private static final List<String> ROSTER_COLUMNS = List.of("jump_id", "person_id");
+
+    private final LargeSeedProperties properties;
+    private final SeedRowWriter writer;
+
+    /**
+     * Create a new LargeDataSeeder.
+     *
+     * @param properties the dataset settings
+     * @param writer     writer used for all inserts
+     */
+    public LargeDataSeeder(LargeSeedProperties properties, SeedRowWriter writer) {
+        this.properties = properties;
+        this.writer = writer;
+    }
+
+    /**
+     * Generate and write the dataset, unless the database already holds persons.
+     *
+     * @return {@code true} if the dataset was written, {@code false} if seeding was skipped
+     */
+    public boolean seed() {
+        if (writer.count("persons") > 0) {
+            log.info("Skipping large dataset seed: persons table is not empty");
+            return false;
+        }
+        Instant started = Instant.now();
+        SeedPlan plan = new SeedPlan(properties);
+        ExecutorService executor = Executors.newFixedThreadPool(properties.threads());
+        try {
+            writeChunks(executor, "airports", AIRPORT_COLUMNS, properties.airports(), plan::airport);
+            writeChunks(executor, "crafts", CRAFT_COLUMNS, properties.crafts(), plan::craft);
+
+            RosterCounters counters = countRosters(executor, plan);
+            writeChunks(executor, "persons", PERSON_COLUMNS, properties.persons(), i -> plan.person(i, counters));
+            writeJumps(executor, plan, started);
+        } finally {
+            executor.shutdownNow();
+        }
+        log.info(
+                "Seeded {} airports, {} crafts, {} persons and {} jumps in {}",
+                properties.airports(),
+                properties.crafts(),
+                properties.persons(),
+                properties.jumps(),
+                Duration.between(started, Instant.now()));
+        return true;
+    }
+
+    private RosterCounters countRosters(ExecutorService executor, SeedPlan plan) {
+        int jumps = properties.jumps();
+        int ranges = properties.threads();
+        List<Future<RosterCounters>> futures = new ArrayList<>(ranges);
+        for (int range = 0; range < ranges; range++) {
+            int from = (int) ((long) jumps * range / ranges);
+            int to = (int) ((long) jumps * (range + 1) / ranges);
+            futures.add(executor.submit(() -> plan.countRosters(from, to)));
+        }
+        RosterCounters total = new RosterCounters(properties.persons());
+        for (Future<RosterCounters> future : futures) {
+            total.merge(await(future));
+        }
+        return total;
+    }
+
+    private void writeChunks(
+            ExecutorService executor, String table, List<String> columns, int count, IntFunction<Object[]> row) {
+        Instant started = Instant.now();
+        int batchSize = properties.batchSize();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < count; from += batchSize) {
+            int start = from;
+            int end = Math.min(count, from + batchSize);
+            futures.add(executor.submit(() -> {
+                List<Object[]> rows = new ArrayList<>(end - start);
+                long firstVersion = ChangeVersions.next(end - start);
+                for (int i = start; i < end; i++) {
+                    rows.add(stamp(row.apply(i), firstVersion + i - start));
+                }
+                writer.write(table, columns, rows);
+            }));
+        }
+        futures.forEach(LargeDataSeeder::await);
+        log.info("Wrote {} rows to {} in {}", count, table, Duration.between(started, Instant.now()));
+    }
+
+    private void writeJumps(ExecutorService executor, SeedPlan plan, Instant createdAt) {
+        Instant started = Instant.now();
+        int batchSize = properties.batchSize();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < properties.jumps(); from += batchSize) {
+            int start = from;
+            int end = Math.min(properties.jumps(), from + batchSize);
+            futures.add(executor.submit(() -> {
+                List<Object[]> jumps = new ArrayList<>(end - start);
+                List<Object[]> pilots = new ArrayList<>(end - start);
+                List<Object[]> skydivers = new ArrayList<>((end - start) * 10);
+                long firstVersion = ChangeVersions.next(end - start);
+                for (int i = start; i < end; i++) {
+                    PlannedJump jump = plan.jump(i);
+                    jumps.add(new Object[] {
+                        jump.id(),
+                        jump.time(),
+                        plan.airportId(jump.airport()),
+                        jump.altitude(),
+                        createdAt,
+                        firstVersion + i - start
+                    });
+                    pilots.add(new Object[] {jump.id(), plan.personId(jump.pilot())});
+                    for (int skydiver : jump.skydivers()) {
+                        skydivers.add(new Object[] {jump.id(), plan.personId(skydiver)});
+                    }
+                }
+                writer.write("jumps", JUMP_COLUMNS, jumps);
+                writer.write("jump_pilots", ROSTER_COLUMNS, pilots);
+                writer.write("jump_skydiver", ROSTER_COLUMNS, skydivers);
+            }));
+        }
+        futures.forEach(LargeDataSeeder::await);
+        log.info("Wrote {} jumps with rosters in {}", properties.jumps(), Duration.between(started, Instant.now()));
+    }
+
+    // Every row gets its own change version so delta sync can page through the seeded data. Each chunk reserves
+    // its versions in one call; they are final at once since the chunk writes on its own connection, so seeding
+    // is for a database no client syncs from yet.
+    private static Object[] stamp(Object[] row, long version) {
+        Object[] stamped = Arrays.copyOf(row, row.length + 1);
+        stamped[row.length] = version;
+        return stamped;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed", e.getCause());
+        }
+    }
+}
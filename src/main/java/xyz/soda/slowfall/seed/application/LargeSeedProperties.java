@@ -0,0 +1,45 @@
+package xyz.soda.slowfall.seed.application;
+
+import java.time.LocalDate;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Synthetic dataset settings bound from {@code app.seed-large.*}, used by the {@code seed-large} profile.
+ *
+ * @param seed        seed every generated value is derived from; the same seed always yields the same rows
+ * @param airports    number of airports
+ * @param crafts      number of crafts
+ * @param persons     number of persons
+ * @param jumps       number of jumps
+ * @param historyDays number of days of jump history, ending on {@code endDate}
+ * @param endDate     last day of jump history (fixed rather than "today" so runs are reproducible)
+ * @param threads     number of parallel writers; keep at or below the connection pool size
+ * @param batchSize   rows per COPY or JDBC batch
+ */
+@ConfigurationProperties(prefix = "app.seed-large")
+public record LargeSeedProperties(
+        @DefaultValue("42") long seed,
+        @DefaultValue("50") int airports,
+        @DefaultValue("200") int crafts,
+        @DefaultValue("250000") int persons,
+        @DefaultValue("2000000") int jumps,
+        @DefaultValue("730") int historyDays,
+        @DefaultValue("2025-12-31") LocalDate endDate,
+        @DefaultValue("4") int threads,
+        @DefaultValue("5000") int batchSize) {
+
+    /**
+     * Validate the bound values.
+     *
+     * @throws IllegalArgumentException if a count is not positive
+     */
+    public LargeSeedProperties {
+        if (airports <= 0 || crafts <= 0 || persons <= 1 || jumps <= 0 || historyDays <= 0) {
+            throw new IllegalArgumentException("Seed counts must be positive and at least two persons are needed");
+        }
+        if (threads <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Threads and batch size must be positive");
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package xyz.soda.slowfall.seed.application;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Per-person logbook counters accumulated while planning rosters, so persons can be written with counters that
+ * match the rosters written after them.
+ */
+public class RosterCounters {
+    private final int[] skydiverJumps;
+    private final int[] pilotJumps;
+    private final long[] lastJump;
+
+    /**
+     * Create empty counters.
+     *
+     * @param persons number of persons
+     */
+    public RosterCounters(int persons) {
+        this.skydiverJumps = new int[persons];
+        this.pilotJumps = new int[persons];
+        this.lastJump = new long[persons];
+        Arrays.fill(lastJump, Long.MIN_VALUE);
+    }
+
+    void recordSkydiver(int person, long epochSecond) {
+        skydiverJumps[person]++;
+        lastJump[person] = Math.max(lastJump[person], epochSecond);
+    }
+
+    void recordPilot(int person, long epochSecond) {
+        pilotJumps[person]++;
+        lastJump[person] = Math.max(lastJump[person], epochSecond);
+    }
+
+    /**
+     * Add another range's counters to these.
+     *
+     * @param other counters of a disjoint range of jumps
+     */
+    public void merge(RosterCounters other) {
+        for (int i = 0; i < skydiverJumps.length; i++) {
+            skydiverJumps[i] += other.skydiverJumps[i];
+            pilotJumps[i] += other.pilotJumps[i];
+            lastJump[i] = Math.max(lastJump[i], other.lastJump[i]);
+        }
+    }
+
+    /**
+     * Get the number of jumps a person made as skydiver.
+     * @param person the person index
+     * @return the count
+     */
+    public long skydiverJumps(int person) {
+        return skydiverJumps[person];
+    }
+
+    /**
+     * Get the number of jumps a person flew as pilot.
+     * @param person the person index
+     * @return the count
+     */
+    public long pilotJumps(int person) {
+        return pilotJumps[person];
+    }
+
+    /**
+     * Get the time of a person's latest jump in either role.
+     * @param person the person index
+     * @return the time, or {@code null} if the person is on no roster
+     */
+    public Instant lastJumpTime(int person) {
+        return lastJump[person] == Long.MIN_VALUE ? null : Instant.ofEpochSecond(lastJump[person]);
+    }
+}
@@ -0,0 +1,297 @@
+package xyz.soda.slowfall.seed.application;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic description of a synthetic dataset.
+ *
+ * <p>Every row is derived only from the seed and its own index, through a random generator seeded with a hash
+ * of both. Any range of rows can therefore be generated on any thread, in any order, and twice, always with
+ * the same result; ids are built the same way, so rows can refer to each other by index without keeping the
+ * generated ids around.</p>
+ *
+ * <p>Persons get a home airport and mostly jump there; about 2% are pilots. Busy airports are favoured with a
+ * quadratic skew, weekend days get twice the traffic, loads run between 08:00 and 19:00 local time, and most
+ * loads carry four to fifteen jumpers.</p>
+ */
+public class SeedPlan {
+    private static final long AIRPORT_TAG = 1;
+    private static final long CRAFT_TAG = 2;
+    private static final long PERSON_TAG = 3;
+    private static final long JUMP_TAG = 4;
+
+    private static final String[][] AIRPORT_SITES = {
+        {"Europe/London", "Hinton"}, {"Europe/Paris", "Gap"}, {"Europe/Berlin", "Saarlouis"},
+        {"Europe/Madrid", "Empuriabrava"}, {"Europe/Rome", "Ravenna"}, {"Europe/Stockholm", "Gryttjom"},
+        {"Europe/Athens", "Kopaida"}, {"Africa/Johannesburg", "Pretoria"}, {"Asia/Dubai", "Palm"},
+        {"Asia/Kolkata", "Mysore"}, {"Asia/Bangkok", "Pattaya"}, {"Asia/Tokyo", "Fujikawa"},
+        {"Australia/Sydney", "Picton"}, {"Australia/Perth", "York"}, {"Pacific/Auckland", "Taupo"},
+        {"America/Sao_Paulo", "Boituva"}, {"America/Argentina/Buenos_Aires", "Lobos"},
+        {"America/New_York", "Skydive Long Island"}, {"America/Chicago", "Ottawa"}, {"America/Denver", "Longmont"},
+        {"America/Phoenix", "Eloy"}, {"America/Los_Angeles", "Perris"}, {"America/Anchorage", "Palmer"},
+        {"America/Toronto", "Arthur"}, {"America/Mexico_City", "Tequesquitengo"}
+    };
+    private static final Object[][] CRAFT_TYPES = {
+        {"Cessna 182", 400, 4}, {"Pilatus PC-6", 1000, 10}, {"Cessna Caravan", 1400, 15},
+        {"Twin Otter", 2100, 22}, {"King Air", 1500, 15}
+    };
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Ben", "Chloe", "Dan", "Eva", "Felix", "Grace", "Hugo", "Ines", "Jonas", "Kira", "Liam", "Maya",
+        "Noah", "Olga", "Pablo", "Quinn", "Rosa", "Sam", "Tara", "Umar", "Vera", "Will", "Xena", "Yusuf", "Zoe"
+    };
+    private static final String[] LAST_NAMES = {
+        "Adams", "Berg", "Costa", "Dubois", "Evans", "Fischer", "Garcia", "Hansen", "Ito", "Jensen", "Kowalski",
+        "Larsen", "Moreau", "Nakamura", "Olsen", "Petrov", "Quintero", "Rossi", "Silva", "Tanaka", "Urban",
+        "Varga", "Weber", "Xu", "Young", "Zimmermann"
+    };
+    private static final int[] ALTITUDES = {4000, 10000, 13000, 13000, 13000, 13000, 14000, 15000};
+    private static final int FIRST_LOAD_MINUTES = 8 * 60;
+    private static final int LOAD_WINDOW_MINUTES = 11 * 60;
+
+    private final long seed;
+    private final int airports;
+    private final int crafts;
+    private final int persons;
+    private final int historyDays;
+    private final LocalDate firstDay;
+    private final ZoneId[] zones;
+    private final boolean[] pilot;
+    private final int[] allPilots;
+    private final int[][] pilotsByAirport;
+    private final int[][] skydiversByAirport;
+
+    /**
+     * Create a plan and index persons by home airport and role.
+     *
+     * @param properties the dataset settings
+     */
+    public SeedPlan(LargeSeedProperties properties) {
+        this.seed = properties.seed();
+        this.airports = properties.airports();
+        this.crafts = properties.crafts();
+        this.persons = properties.persons();
+        this.historyDays = properties.historyDays();
+        this.firstDay = properties.endDate().minusDays(historyDays - 1L);
+        this.zones = new ZoneId[airports];
+        for (int i = 0; i < airports; i++) {
+            zones[i] = ZoneId.of(AIRPORT_SITES[i % AIRPORT_SITES.length][0]);
+        }
+
+        this.pilot = new boolean[persons];
+        List<List<Integer>> pilots = buckets(airports);
+        List<List<Integer>> skydivers = buckets(airports);
+        List<Integer> everyPilot = new ArrayList<>();
+        for (int i = 0; i < persons; i++) {
+            SplittableRandom random = random(PERSON_TAG, i);
+            int home = random.nextInt(airports);
+            boolean drawnPilot = random.nextInt(50) == 0;
+            // Person 0 is always a pilot, so every load can be staffed.
+            pilot[i] = i == 0 || drawnPilot;
+            if (pilot[i]) {
+                pilots.get(home).add(i);
+                everyPilot.add(i);
+            } else {
+                skydivers.get(home).add(i);
+            }
+        }
+        this.allPilots = toArray(everyPilot);
+        this.pilotsByAirport = pilots.stream().map(SeedPlan::toArray).toArray(int[][]::new);
+        this.skydiversByAirport = skydivers.stream().map(SeedPlan::toArray).toArray(int[][]::new);
+    }
+
+    /**
+     * Get the id of an airport.
+     * @param index the airport index
+     * @return the airport id
+     */
+    public UUID airportId(int index) {
+        return id(AIRPORT_TAG, index);
+    }
+
+    /**
+     * Get the id of a person.
+     * @param index the person index
+     * @return the person id
+     */
+    public UUID personId(int index) {
+        return id(PERSON_TAG, index);
+    }
+
+    /**
+     * Generate an airport row: id, ICAO code, name, timezone.
+     * @param index the airport index
+     * @return the column values
+     */
+    public Object[] airport(int index) {
+        String[] site = AIRPORT_SITES[index % AIRPORT_SITES.length];
+        int round = index / AIRPORT_SITES.length;
+        String icao = "X" + letter(index / 676) + letter(index / 26) + letter(index);
+        return new Object[] {airportId(index), icao, round == 0 ? site[1] : site[1] + " " + (round + 1), site[0]};
+    }
+
+    /**
+     * Generate a craft row: id, name, registration number, capacity weight, capacity persons.
+     * @param index the craft index
+     * @return the column values
+     */
+    public Object[] craft(int index) {
+        Object[] type = CRAFT_TYPES[random(CRAFT_TAG, index).nextInt(CRAFT_TYPES.length)];
+        return new Object[] {
+            id(CRAFT_TAG, index), type[0] + " " + (index + 1), "SF%05d".formatted(index), type[1], type[2]
+        };
+    }
+
+    /**
+     * Generate a person row: id, first name, last name, pilot, skydiver, weight, email and the logbook counters.
+     * @param index    the person index
+     * @param counters roster counts from {@link #countRosters}
+     * @return the column values
+     */
+    public Object[] person(int index, RosterCounters counters) {
+        SplittableRandom random = random(PERSON_TAG, index);
+        random.nextInt(airports);
+        random.nextInt(50);
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        int weight = (int) Math.round(Math.max(45, Math.min(130, 78 + random.nextGaussian() * 13)));
+        // A few pilots also jump; everyone else is a skydiver.
+        boolean skydiver = !pilot[index] || random.nextInt(4) == 0;
+        String email = "%s.%s.%d@seed.slowfall.example".formatted(first, last, index).toLowerCase(Locale.ROOT);
+        return new Object[] {
+            personId(index),
+            first,
+            last,
+            pilot[index],
+            skydiver,
+            weight,
+            email,
+            counters.skydiverJumps(index),
+            counters.pilotJumps(index),
+            counters.lastJumpTime(index)
+        };
+    }
+
+    /**
+     * Generate a jump with its roster.
+     * @param index the jump index
+     * @return the planned jump
+     */
+    public PlannedJump jump(int index) {
+        SplittableRandom random = random(JUMP_TAG, index);
+        double skew = random.nextDouble();
+        int airport = (int) (airports * skew * skew);
+
+        LocalDate day = firstDay.plusDays(random.nextInt(historyDays));
+        if (day.getDayOfWeek().getValue() < 6 && random.nextBoolean()) {
+            // Re-draw half of the weekday picks; a weekend day ends up with roughly twice the traffic.
+            day = firstDay.plusDays(random.nextInt(historyDays));
+        }
+        int minutes = FIRST_LOAD_MINUTES + random.nextInt(LOAD_WINDOW_MINUTES / 5) * 5;
+        Instant time = day.atTime(LocalTime.ofSecondOfDay(minutes * 60L)).atZone(zones[airport]).toInstant();
+        int altitude = ALTITUDES[random.nextInt(ALTITUDES.length)];
+
+        int[] localPilots = pilotsByAirport[airport];
+        int pilotIndex = localPilots.length > 0
+                ? localPilots[random.nextInt(localPilots.length)]
+                : allPilots[random.nextInt(allPilots.length)];
+
+        int size = random.nextInt(20) == 0 ? 1 + random.nextInt(3) : 4 + random.nextInt(12);
+        int[] roster = new int[size];
+        int filled = 0;
+        int[] local = skydiversByAirport[airport];
+        for (int attempt = 0; filled < size && attempt < size * 4; attempt++) {
+            int candidate = local.length > 0 && random.nextInt(10) != 0
+                    ? local[random.nextInt(local.length)]
+                    : random.nextInt(persons);
+            if (candidate != pilotIndex && !contains(roster, filled, candidate)) {
+                roster[filled++] = candidate;
+            }
+        }
+        if (filled < size) {
+            int[] trimmed = new int[filled];
+            System.arraycopy(roster, 0, trimmed, 0, filled);
+            roster = trimmed;
+        }
+        return new PlannedJump(id(JUMP_TAG, index), time, airport, altitude, pilotIndex, roster);
+    }
+
+    /**
+     * Count how often each person appears on the rosters of jumps {@code [from, to)}.
+     * @param from first jump index, inclusive
+     * @param to   last jump index, exclusive
+     * @return the counters for that range
+     */
+    public RosterCounters countRosters(int from, int to) {
+        RosterCounters counters = new RosterCounters(persons);
+        for (int i = from; i < to; i++) {
+            PlannedJump jump = jump(i);
+            long epochSecond = jump.time().getEpochSecond();
+            counters.recordPilot(jump.pilot(), epochSecond);
+            for (int skydiver : jump.skydivers()) {
+                counters.recordSkydiver(skydiver, epochSecond);
+            }
+        }
+        return counters;
+    }
+
+    private UUID id(long tag, long index) {
+        return new UUID(mix(seed * 31 + tag), index);
+    }
+
+    private SplittableRandom random(long tag, long index) {
+        return new SplittableRandom(mix(mix(seed * 31 + tag) + index));
+    }
+
+    /**
+     * SplitMix64 finaliser; spreads consecutive inputs over the whole 64-bit range.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static char letter(int value) {
+        return (char) ('A' + value % 26);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    private static List<List<Integer>> buckets(int count) {
+        List<List<Integer>> buckets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        return buckets;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A generated jump. People are referenced by index; use {@link #personId} for their ids.
+     *
+     * @param id        the jump id
+     * @param time      the jump time
+     * @param airport   the airport index
+     * @param altitude  exit altitude in feet
+     * @param pilot     the pilot's person index
+     * @param skydivers the skydivers' person indexes, all distinct
+     */
+    public record PlannedJump(UUID id, Instant time, int airport, int altitude, int pilot, int[] skydivers) {}
+}
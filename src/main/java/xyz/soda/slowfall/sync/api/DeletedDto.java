@@ -0,0 +1,23 @@
+package xyz.soda.slowfall.sync.api;
+
+import java.util.UUID;
+import xyz.soda.slowfall.sync.domain.Tombstone;
+
+/**
+ * Data transfer object for a deletion the client should apply.
+ *
+ * @param kind the aggregate the deleted row belonged to ({@code PERSON}, {@code CRAFT}, {@code AIRPORT} or
+ *             {@code JUMP})
+ * @param id   the id of the deleted row
+ */
+public record DeletedDto(String kind, UUID id) {
+
+    /**
+     * Convert a Tombstone to a DeletedDto.
+     * @param tombstone the deletion marker
+     * @return a populated DeletedDto
+     */
+    public static DeletedDto from(Tombstone tombstone) {
+        return new DeletedDto(tombstone.getKind().name(), tombstone.getEntityId());
+    }
+}
@@ -0,0 +1,35 @@
+package xyz.soda.slowfall.sync.api;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.sync.application.SyncService;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+    private final SyncService service;
+
+    /**
+     * Create a new instance of {@code SyncController}.
+     *
+     * @param service the service collecting changed rows
+     */
+    public SyncController(SyncService service) {
+        this.service = service;
+    }
+
+    /**
+     * Return the persons, crafts, airports and jumps changed since a cursor, plus deletions.
+     *
+     * @param since the cursor returned by the previous sync; omit for a full download
+     * @return ResponseEntity with the changes and HTTP 200, or 400 if the cursor is invalid
+     */
+    @GetMapping
+    public ResponseEntity<SyncDto> sync(@RequestParam(name = "since", defaultValue = "0") long since) {
+        try {
+            return ResponseEntity.ok(SyncDto.from(service.changesSince(since)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package xyz.soda.slowfall.sync.api;
+
+import java.util.List;
+import xyz.soda.slowfall.airport.api.AirportDto;
+import xyz.soda.slowfall.craft.api.CraftDto;
+import xyz.soda.slowfall.jump.api.JumpDto;
+import xyz.soda.slowfall.person.api.PersonDto;
+import xyz.soda.slowfall.sync.application.SyncBatch;
+
+/**
+ * Data transfer object for a delta sync response.
+ *
+ * @param cursor   the value to pass as {@code since} on the next sync
+ * @param hasMore  whether the client should sync again right away to fetch further changes
+ * @param persons  inserted or updated persons
+ * @param crafts   inserted or updated crafts
+ * @param airports inserted or updated airports
+ * @param jumps    inserted or updated jumps
+ * @param deleted  rows to remove
+ */
+public record SyncDto(
+        long cursor,
+        boolean hasMore,
+        List<PersonDto> persons,
+        List<CraftDto> crafts,
+        List<AirportDto> airports,
+        List<JumpDto> jumps,
+        List<DeletedDto> deleted) {
+
+    /**
+     * Convert a SyncBatch to a SyncDto.
+     * @param batch the changed rows
+     * @return a populated SyncDto
+     */
+    public static SyncDto from(SyncBatch batch) {
+        return new SyncDto(
+                batch.cursor(),
+                batch.hasMore(),
+                batch.persons().stream().map(PersonDto::from).toList(),
+                batch.crafts().stream().map(CraftDto::from).toList(),
+                batch.airports().stream().map(AirportDto::from).toList(),
+                batch.jumps().stream().map(JumpDto::from).toList(),
+                batch.deleted().stream().map(DeletedDto::from).toList());
+    }
+}
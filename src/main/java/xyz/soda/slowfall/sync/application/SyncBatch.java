@@ -0,0 +1,28 @@
+package xyz.soda.slowfall.sync.application;
+
+import java.util.List;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.sync.domain.Tombstone;
+
+/**
+ * Rows changed since a client's cursor.
+ *
+ * @param cursor   the cursor to send on the next sync
+ * @param hasMore  whether more changes are waiting beyond {@code cursor}
+ * @param persons  inserted or updated persons
+ * @param crafts   inserted or updated crafts
+ * @param airports inserted or updated airports
+ * @param jumps    inserted or updated jumps, including roster changes
+ * @param deleted  deletions
+ */
+public record SyncBatch(
+        long cursor,
+        boolean hasMore,
+        List<Person> persons,
+        List<Craft> crafts,
+        List<Airport> airports,
+        List<Jump> jumps,
+        List<Tombstone> deleted) {}
@@ -0,0 +1,12 @@
+package xyz.soda.slowfall.sync.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Delta sync settings bound from {@code app.sync.*}.
+ *
+ * @param maxRows maximum number of rows per aggregate in one response
+ */
+@ConfigurationProperties(prefix = "app.sync")
+public record SyncProperties(@DefaultValue("1000") int maxRows) {}
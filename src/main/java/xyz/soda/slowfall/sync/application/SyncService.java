@@ -0,0 +1,115 @@
+package xyz.soda.slowfall.sync.application;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.ChangeVersionSource;
+import xyz.soda.slowfall.sync.domain.Tombstone;
+import xyz.soda.slowfall.sync.infra.TombstoneRepository;
+
+/**
+ * Serves the rows changed since a client's cursor, across persons, crafts, airports and jumps.
+ *
+ * <p>A cursor is a change version. A response covers the versions in {@code (since, until]}, where {@code until} starts
+ * at the source's stable version, since a version is taken while a transaction writes but only becomes visible when it
+ * commits, however long that takes. When an aggregate has more than {@code maxRows} changes in that range,
+ * {@code until} is lowered to just below its first row left out, so every aggregate is complete up to the returned
+ * cursor and the client can keep paging with {@code hasMore}. Clients upsert rows by id, so a row sent twice is
+ * harmless.</p>
+ */
+public class SyncService {
+    private final PersonRepository personRepository;
+    private final CraftRepository craftRepository;
+    private final AirportRepository airportRepository;
+    private final JumpRepository jumpRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final SyncProperties properties;
+    private final ChangeVersionSource versions;
+
+    /**
+     * Create a new SyncService.
+     *
+     * @param personRepository    repository for persons
+     * @param craftRepository     repository for crafts
+     * @param airportRepository   repository for airports
+     * @param jumpRepository      repository for jumps
+     * @param tombstoneRepository repository for deletion markers
+     * @param properties          the bound sync settings
+     * @param versions            source of the stable version a response may read up to
+     */
+    public SyncService(
+            PersonRepository personRepository,
+            CraftRepository craftRepository,
+            AirportRepository airportRepository,
+            JumpRepository jumpRepository,
+            TombstoneRepository tombstoneRepository,
+            SyncProperties properties,
+            ChangeVersionSource versions) {
+        this.personRepository = personRepository;
+        this.craftRepository = craftRepository;
+        this.airportRepository = airportRepository;
+        this.jumpRepository = jumpRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.properties = properties;
+        this.versions = versions;
+    }
+
+    /**
+     * Collect the changes after {@code since}.
+     *
+     * @param since the cursor from the previous sync, or {@code 0} for a full download
+     * @return the changed rows and the next cursor
+     * @throws IllegalArgumentException if {@code since} is negative
+     */
+    @Transactional(readOnly = true)
+    public SyncBatch changesSince(long since) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative");
+        }
+        long until = versions.stableVersion();
+        if (until <= since) {
+            return new SyncBatch(since, false, List.of(), List.of(), List.of(), List.of(), List.of());
+        }
+        Limit limit = Limit.of(properties.maxRows() + 1);
+        List<Person> persons = personRepository.findChangedBetween(since, until, limit);
+        List<Craft> crafts = craftRepository.findChangedBetween(since, until, limit);
+        List<Airport> airports = airportRepository.findChangedBetween(since, until, limit);
+        List<Jump> jumps = jumpRepository.findChangedBetween(since, until, limit);
+        List<Tombstone> deleted = tombstoneRepository.findChangedBetween(since, until, limit);
+
+        long bound = until;
+        bound = Math.min(bound, pageBound(persons, Person::getChangeVersion));
+        bound = Math.min(bound, pageBound(crafts, Craft::getChangeVersion));
+        bound = Math.min(bound, pageBound(airports, Airport::getChangeVersion));
+        bound = Math.min(bound, pageBound(jumps, Jump::getChangeVersion));
+        bound = Math.min(bound, pageBound(deleted, Tombstone::getChangeVersion));
+        return new SyncBatch(
+                bound,
+                bound < until,
+                upTo(persons, bound, Person::getChangeVersion),
+                upTo(crafts, bound, Craft::getChangeVersion),
+                upTo(airports, bound, Airport::getChangeVersion),
+                upTo(jumps, bound, Jump::getChangeVersion),
+                upTo(deleted, bound, Tombstone::getChangeVersion));
+    }
+
+    private <T> long pageBound(List<T> rows, ToLongFunction<T> version) {
+        // Stop just below the first row that did not fit, which also keeps rows sharing its version together.
+        return rows.size() > properties.maxRows()
+                ? version.applyAsLong(rows.get(properties.maxRows())) - 1
+                : Long.MAX_VALUE;
+    }
+
+    private static <T> List<T> upTo(List<T> rows, long bound, ToLongFunction<T> version) {
+        return rows.stream().filter(row -> version.applyAsLong(row) <= bound).toList();
+    }
+}
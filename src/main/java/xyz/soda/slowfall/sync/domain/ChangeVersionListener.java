@@ -0,0 +1,25 @@
+package xyz.soda.slowfall.sync.domain;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Entity listener stamping {@link Versioned} entities with a fresh change version before every insert and
+ * update. Changes that only touch a collection do not trigger {@code @PreUpdate}; entities stamp those
+ * themselves.
+ */
+public class ChangeVersionListener {
+
+    /**
+     * Stamp the entity about to be written.
+     *
+     * @param entity the entity being inserted or updated
+     */
+    @PrePersist
+    @PreUpdate
+    public void stamp(Object entity) {
+        if (entity instanceof Versioned versioned) {
+            versioned.assignChangeVersion(ChangeVersions.next());
+        }
+    }
+}
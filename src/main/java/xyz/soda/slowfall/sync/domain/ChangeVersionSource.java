@@ -0,0 +1,28 @@
+package xyz.soda.slowfall.sync.domain;
+
+/**
+ * Hands out change versions and tells the sync reader how far they are final.
+ *
+ * <p>A version handed out inside a transaction only becomes visible when that transaction commits, which can
+ * be long after later versions were committed by others. {@link #stableVersion()} is therefore bounded by the
+ * oldest transaction still writing, not by the clock.</p>
+ */
+public interface ChangeVersionSource {
+
+    /**
+     * Reserve consecutive change versions for the current transaction.
+     *
+     * @param count how many versions to reserve; must be positive
+     * @return the first reserved version; the others follow it without gaps
+     * @throws IllegalArgumentException if {@code count} is not positive
+     */
+    long next(int count);
+
+    /**
+     * Get the highest version below which no change can still appear: every version up to it was either
+     * committed or will never be.
+     *
+     * @return the stable version
+     */
+    long stableVersion();
+}
@@ -0,0 +1,64 @@
+package xyz.soda.slowfall.sync.domain;
+
+import java.time.Instant;
+
+/**
+ * Source of the change versions stamped on synced entities.
+ *
+ * <p>Entity listeners and domain methods stamp versions without access to beans, so the active
+ * {@link ChangeVersionSource} is held here. It starts as a {@link LocalChangeVersionSource}; the sync
+ * configuration replaces it with one backed by the database when the application runs on Postgres.</p>
+ */
+public final class ChangeVersions {
+    private static final ChangeVersionSource LOCAL = new LocalChangeVersionSource();
+    private static volatile ChangeVersionSource source = LOCAL;
+
+    private ChangeVersions() {}
+
+    /**
+     * Hand out the next change version.
+     *
+     * @return a version larger than every version handed out before by the active source
+     */
+    public static long next() {
+        return source.next(1);
+    }
+
+    /**
+     * Reserve consecutive change versions, for bulk statements that stamp many rows at once.
+     *
+     * @param count how many versions to reserve; must be positive
+     * @return the first reserved version
+     */
+    public static long next(int count) {
+        return source.next(count);
+    }
+
+    /**
+     * Get the in-process source used when no database-backed source is installed.
+     *
+     * @return the local source
+     */
+    public static ChangeVersionSource local() {
+        return LOCAL;
+    }
+
+    /**
+     * Install the source every later version is taken from.
+     *
+     * @param changeVersionSource the source
+     */
+    public static void use(ChangeVersionSource changeVersionSource) {
+        source = changeVersionSource;
+    }
+
+    /**
+     * Convert an instant to the wall-clock version a change made at that time would get from the local source.
+     *
+     * @param time the instant
+     * @return the corresponding version
+     */
+    public static long toVersion(Instant time) {
+        return Math.addExact(Math.multiplyExact(time.getEpochSecond(), 1_000_000L), time.getNano() / 1_000);
+    }
+}
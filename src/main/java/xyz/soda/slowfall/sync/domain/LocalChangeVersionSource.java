@@ -0,0 +1,54 @@
+package xyz.soda.slowfall.sync.domain;
+
+import java.time.Instant;
+import java.util.TreeSet;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Change versions for a single process, such as the embedded development database.
+ *
+ * <p>Versions are wall-clock microseconds, bumped by one whenever that would not be larger than the previous version
+ * handed out. The first version each transaction takes is held as in flight until the transaction completes, and
+ * {@link #stableVersion()} stops just below the oldest of them, whatever the clock says. Versions taken outside a
+ * transaction are final right away.</p>
+ */
+public class LocalChangeVersionSource implements ChangeVersionSource {
+    private final Object resourceKey = new Object();
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private long last;
+
+    @Override
+    public synchronized long next(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        long first = Math.max(last + 1, ChangeVersions.toVersion(Instant.now()));
+        last = first + count - 1;
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.hasResource(resourceKey)) {
+            inFlight.add(first);
+            TransactionSynchronizationManager.bindResource(resourceKey, first);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                    complete(first);
+                }
+            });
+        }
+        return first;
+    }
+
+    @Override
+    public synchronized long stableVersion() {
+        // Moving last up to the clock keeps rows stamped by an earlier run readable before anything is written.
+        last = Math.max(last, ChangeVersions.toVersion(Instant.now()));
+        return inFlight.isEmpty() ? last : inFlight.first() - 1;
+    }
+
+    private synchronized void complete(long first) {
+        inFlight.remove(first);
+    }
+}
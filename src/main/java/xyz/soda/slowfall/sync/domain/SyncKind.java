@@ -0,0 +1,11 @@
+package xyz.soda.slowfall.sync.domain;
+
+/**
+ * The aggregates clients keep copies of.
+ */
+public enum SyncKind {
+    PERSON,
+    CRAFT,
+    AIRPORT,
+    JUMP
+}
@@ -0,0 +1,73 @@
+package xyz.soda.slowfall.sync.domain;
+
+import jakarta.persistence.*;
+import java.util.UUID;
+
+/**
+ * Marker left behind when an entity is deleted, so clients syncing deltas learn to drop their copy.
+ */
+@Entity
+@EntityListeners(ChangeVersionListener.class)
+@Table(
+        name = "sync_tombstones",
+        indexes = @Index(name = "idx_sync_tombstones_change_version", columnList = "change_version"))
+public class Tombstone implements Versioned {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private SyncKind kind;
+
+    @Column(nullable = false)
+    private UUID entityId;
+
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    /**
+     * Protected no-args constructor for JPA.
+     */
+    protected Tombstone() {}
+
+    /**
+     * Create a tombstone for a deleted entity.
+     *
+     * @param kind     the aggregate the entity belonged to
+     * @param entityId the id of the deleted entity
+     */
+    public Tombstone(SyncKind kind, UUID entityId) {
+        this.kind = kind;
+        this.entityId = entityId;
+    }
+
+    /**
+     * Get the aggregate the deleted entity belonged to.
+     * @return the kind
+     */
+    public SyncKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Get the id of the deleted entity.
+     * @return the entity id
+     */
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Get the version of the deletion.
+     * @return the change version
+     */
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    @Override
+    public void assignChangeVersion(long version) {
+        this.changeVersion = version;
+    }
+}
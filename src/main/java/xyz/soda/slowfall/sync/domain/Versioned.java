@@ -0,0 +1,15 @@
+package xyz.soda.slowfall.sync.domain;
+
+/**
+ * An entity carrying a change version, stamped by {@link ChangeVersionListener} whenever it is inserted or
+ * updated.
+ */
+public interface Versioned {
+
+    /**
+     * Record the version of the change being written.
+     *
+     * @param version the new change version
+     */
+    void assignChangeVersion(long version);
+}
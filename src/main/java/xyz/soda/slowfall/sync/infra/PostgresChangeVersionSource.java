@@ -0,0 +1,100 @@
+package xyz.soda.slowfall.sync.infra;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import xyz.soda.slowfall.sync.domain.ChangeVersionSource;
+
+/**
+ * Change versions derived from the Postgres transaction id of the writing transaction.
+ *
+ * <p>A version is {@code BASE + (xid << 20) + n}, where {@code n} counts the versions the transaction has
+ * taken so far. Transaction ids are handed out by the database in one sequence shared by every replica, so no
+ * clock is involved. Every transaction older than the snapshot's {@code xmin} has finished, which makes all
+ * versions below {@code BASE + (xmin << 20)} final; {@link #stableVersion()} reads that bound with
+ * {@code pg_snapshot_xmin(pg_current_snapshot())}, however long a writer takes to commit.</p>
+ *
+ * <p>{@code BASE} is {@code 2^52}, above every wall-clock microsecond version stamped before, so existing
+ * client cursors keep working. Outside a transaction each call takes a transaction id of its own, which is
+ * final at once; rows written later on another connection with such versions can be passed by a reader.</p>
+ */
+public class PostgresChangeVersionSource implements ChangeVersionSource {
+    static final long BASE = 1L << 52;
+    private static final int COUNTER_BITS = 20;
+    private static final int MAX_PER_TRANSACTION = 1 << COUNTER_BITS;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Object resourceKey = new Object();
+
+    /**
+     * Create a new PostgresChangeVersionSource.
+     *
+     * @param jdbcTemplate template bound to the application data source, so it joins the running transaction
+     */
+    public PostgresChangeVersionSource(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the transaction takes more than {@code 2^20} versions
+     */
+    @Override
+    public long next(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new Allocation(versionOf(query("select pg_current_xact_id()::text::bigint"))).take(count);
+        }
+        Allocation allocation = (Allocation) TransactionSynchronizationManager.getResource(resourceKey);
+        if (allocation == null) {
+            allocation = new Allocation(versionOf(query("select pg_current_xact_id()::text::bigint")));
+            TransactionSynchronizationManager.bindResource(resourceKey, allocation);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+                }
+            });
+        }
+        return allocation.take(count);
+    }
+
+    @Override
+    public long stableVersion() {
+        return versionOf(query("select pg_snapshot_xmin(pg_current_snapshot())::text::bigint")) - 1;
+    }
+
+    private long query(String sql) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        if (value == null) {
+            throw new IllegalStateException("No transaction id returned");
+        }
+        return value;
+    }
+
+    private static long versionOf(long xid) {
+        return Math.addExact(BASE, Math.multiplyExact(xid, MAX_PER_TRANSACTION));
+    }
+
+    private static final class Allocation {
+        private final long first;
+        private int used;
+
+        Allocation(long first) {
+            this.first = first;
+        }
+
+        long take(int count) {
+            if (count > MAX_PER_TRANSACTION - used) {
+                throw new IllegalStateException("A transaction may stamp at most " + MAX_PER_TRANSACTION + " changes");
+            }
+            long version = first + used;
+            used += count;
+            return version;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package xyz.soda.slowfall.sync.infra;
+
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import xyz.soda.slowfall.sync.domain.Tombstone;
+
+public interface TombstoneRepository extends JpaRepository<Tombstone, UUID> {
+
+    /**
+     * Find deletions with a change version in {@code (since, until]}, oldest first.
+     *
+     * @param since exclusive lower version bound
+     * @param until inclusive upper version bound
+     * @param limit maximum number of rows
+     * @return the tombstones
+     */
+    @Query("select t from Tombstone t where t.changeVersion > :since and t.changeVersion <= :until"
+            + " order by t.changeVersion")
+    List<Tombstone> findChangedBetween(@Param("since") long since, @Param("until") long until, Limit limit);
+}
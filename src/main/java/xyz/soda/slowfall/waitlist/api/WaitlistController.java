@@ -0,0 +1,71 @@
+package xyz.soda.slowfall.waitlist.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import xyz.soda.slowfall.waitlist.application.WaitlistService;
+
+@RestController
+@RequestMapping("/api/jumps/{id}/waitlist")
+public class WaitlistController {
+    private final WaitlistService service;
+
+    /**
+     * Create a new instance of {@code WaitlistController}.
+     *
+     * @param service the waitlist service
+     */
+    public WaitlistController(WaitlistService service) {
+        this.service = service;
+    }
+
+    /**
+     * Put a person on the load's waitlist.
+     *
+     * @param id   the jump id
+     * @param body request body map containing key "personId" with the person UUID
+     * @return ResponseEntity with the new entry and HTTP 201, or 400 if the jump or person is unknown or the
+     *     person is already waiting
+     */
+    @PostMapping
+    public ResponseEntity<WaitlistEntryDto> join(@PathVariable("id") UUID id, @RequestBody Map<String, UUID> body) {
+        UUID personId = body.get("personId");
+        if (personId == null) return ResponseEntity.badRequest().build();
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(WaitlistEntryDto.from(service.join(id, personId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * List the load's waitlist, longest waiting first.
+     *
+     * @param id the jump id
+     * @return ResponseEntity with the entries and HTTP 200
+     */
+    @GetMapping
+    public ResponseEntity<List<WaitlistEntryDto>> list(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(service.list(id).stream().map(WaitlistEntryDto::from).toList());
+    }
+
+    /**
+     * Take a person off the load's waitlist.
+     *
+     * @param id       the jump id
+     * @param personId the person id
+     * @return ResponseEntity with 204 on success, or 400 if the person is not waiting
+     */
+    @DeleteMapping("/{personId}")
+    public ResponseEntity<Void> leave(@PathVariable("id") UUID id, @PathVariable("personId") UUID personId) {
+        try {
+            service.leave(id, personId);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
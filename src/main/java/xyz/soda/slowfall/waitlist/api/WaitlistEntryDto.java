@@ -0,0 +1,24 @@
+package xyz.soda.slowfall.waitlist.api;
+
+import java.time.Instant;
+import java.util.UUID;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+
+/**
+ * Data transfer object for one waitlist entry.
+ *
+ * @param jumpId     the load waited for
+ * @param personId   the waiting person
+ * @param enqueuedAt when the person joined the waitlist
+ */
+public record WaitlistEntryDto(UUID jumpId, UUID personId, Instant enqueuedAt) {
+
+    /**
+     * Convert a WaitlistEntry to a WaitlistEntryDto.
+     * @param entry the waitlist entry
+     * @return a populated WaitlistEntryDto
+     */
+    public static WaitlistEntryDto from(WaitlistEntry entry) {
+        return new WaitlistEntryDto(entry.getJumpId(), entry.getPersonId(), entry.getEnqueuedAt());
+    }
+}
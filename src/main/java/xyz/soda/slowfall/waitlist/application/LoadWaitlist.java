@@ -0,0 +1,203 @@
+package xyz.soda.slowfall.waitlist.application;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+import xyz.soda.slowfall.waitlist.infra.WaitlistWriteBehind;
+
+/**
+ * In-memory first-come-first-served waitlists, one per load.
+ *
+ * <p>Each load's queue is a lock-free {@link ConcurrentLinkedDeque}, so an entry whose promotion failed can go back to
+ * the head. Membership lives in a separate map keyed on (jump, person), and taking an entry out of that map is what
+ * claims it: promotion and cancellation race on {@link Map#remove(Object, Object)}, so exactly one of them wins and the
+ * queue itself never has to be locked. A queue may therefore briefly hold entries that were already cancelled; readers
+ * skip them. Every change is handed to a {@link WaitlistWriteBehind} so the waitlist can be restored after a
+ * restart.</p>
+ */
+public class LoadWaitlist {
+    private final Map<UUID, Deque<WaitlistEntry>> queues = new ConcurrentHashMap<>();
+    private final Map<Key, WaitlistEntry> waiting = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final WaitlistWriteBehind writeBehind;
+    private final Clock clock;
+
+    /**
+     * Create the waitlists from the persisted entries.
+     *
+     * @param writeBehind persistence for subsequent changes
+     * @param restored    persisted entries in sequence order
+     * @param clock       clock used to stamp new entries
+     */
+    public LoadWaitlist(WaitlistWriteBehind writeBehind, List<WaitlistEntry> restored, Clock clock) {
+        this.writeBehind = writeBehind;
+        this.clock = clock;
+        for (WaitlistEntry entry : restored) {
+            if (waiting.putIfAbsent(new Key(entry.getJumpId(), entry.getPersonId()), entry) == null) {
+                offer(entry, false);
+            }
+            sequence.accumulateAndGet(entry.getSequence(), Math::max);
+        }
+    }
+
+    /**
+     * Put a person at the end of a load's waitlist.
+     *
+     * @param jumpId   the load
+     * @param personId the person
+     * @return the new entry
+     * @throws IllegalArgumentException if the person is already waiting for the load
+     */
+    public WaitlistEntry enqueue(UUID jumpId, UUID personId) {
+        WaitlistEntry entry = new WaitlistEntry(sequence.incrementAndGet(), jumpId, personId, clock.instant());
+        if (waiting.putIfAbsent(new Key(jumpId, personId), entry) != null) {
+            throw new IllegalArgumentException("Person is already waiting for this jump");
+        }
+        offer(entry, false);
+        writeBehind.added(entry);
+        return entry;
+    }
+
+    /**
+     * Put an entry taken with {@link #pollNext} back at the head of its load's waitlist, keeping its place.
+     *
+     * @param entry the entry to restore
+     * @return {@code true} if it was restored, {@code false} if the person joined the load again meanwhile
+     */
+    public boolean requeue(WaitlistEntry entry) {
+        if (waiting.putIfAbsent(new Key(entry.getJumpId(), entry.getPersonId()), entry) != null) {
+            return false;
+        }
+        offer(entry, true);
+        writeBehind.added(entry);
+        return true;
+    }
+
+    /**
+     * Drop a load's whole waitlist, as when the load has departed.
+     *
+     * @param jumpId the load
+     * @return the number of entries dropped
+     */
+    public int removeAll(UUID jumpId) {
+        Deque<WaitlistEntry> queue = queues.remove(jumpId);
+        if (queue == null) {
+            return 0;
+        }
+        int removed = 0;
+        for (WaitlistEntry entry : queue) {
+            if (waiting.remove(new Key(jumpId, entry.getPersonId()), entry)) {
+                writeBehind.removed(entry.getSequence());
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * List the loads that have a waitlist.
+     *
+     * @return the load ids
+     */
+    public Set<UUID> jumpIds() {
+        return Set.copyOf(queues.keySet());
+    }
+
+    /**
+     * Take a person off a load's waitlist.
+     *
+     * @param jumpId   the load
+     * @param personId the person
+     * @return {@code true} if the person was waiting
+     */
+    public boolean remove(UUID jumpId, UUID personId) {
+        WaitlistEntry entry = waiting.remove(new Key(jumpId, personId));
+        if (entry == null) {
+            return false;
+        }
+        Deque<WaitlistEntry> queue = queues.get(jumpId);
+        if (queue != null) {
+            queue.remove(entry);
+        }
+        writeBehind.removed(entry.getSequence());
+        return true;
+    }
+
+    /**
+     * Take the person who has waited longest off a load's waitlist.
+     *
+     * @param jumpId the load
+     * @return the claimed entry, or {@code null} if nobody is waiting
+     */
+    public WaitlistEntry pollNext(UUID jumpId) {
+        Deque<WaitlistEntry> queue = queues.get(jumpId);
+        if (queue == null) {
+            return null;
+        }
+        WaitlistEntry entry;
+        while ((entry = queue.poll()) != null) {
+            if (waiting.remove(new Key(jumpId, entry.getPersonId()), entry)) {
+                writeBehind.removed(entry.getSequence());
+                break;
+            }
+        }
+        if (queue.isEmpty()) {
+            queues.computeIfPresent(jumpId, (id, current) -> current.isEmpty() ? null : current);
+        }
+        return entry;
+    }
+
+    /**
+     * List a load's waitlist in order.
+     *
+     * @param jumpId the load
+     * @return the waiting entries, longest waiting first
+     */
+    public List<WaitlistEntry> entries(UUID jumpId) {
+        Deque<WaitlistEntry> queue = queues.get(jumpId);
+        List<WaitlistEntry> result = new ArrayList<>();
+        if (queue != null) {
+            for (WaitlistEntry entry : queue) {
+                if (waiting.get(new Key(jumpId, entry.getPersonId())) == entry) {
+                    result.add(entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Count everyone waiting, across all loads.
+     *
+     * @return the number of waiting entries
+     */
+    public int size() {
+        return waiting.size();
+    }
+
+    private void offer(WaitlistEntry entry, boolean head) {
+        while (true) {
+            Deque<WaitlistEntry> queue = queues.computeIfAbsent(entry.getJumpId(), id -> new ConcurrentLinkedDeque<>());
+            if (head) {
+                queue.offerFirst(entry);
+            } else {
+                queue.offerLast(entry);
+            }
+            // An empty queue may have been dropped by pollNext between the lookup and the offer; if so, offer
+            // again to the queue that replaced it. The copy left behind is unreachable.
+            if (queues.get(entry.getJumpId()) == queue) {
+                return;
+            }
+        }
+    }
+
+    private record Key(UUID jumpId, UUID personId) {}
+}
@@ -0,0 +1,14 @@
+package xyz.soda.slowfall.waitlist.application;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Load waitlist settings bound from {@code app.waitlist.*}.
+ *
+ * @param flushInterval how often waitlist changes are written behind to the database; changes made in the last
+ *                      interval before a crash are lost
+ */
+@ConfigurationProperties(prefix = "app.waitlist")
+public record WaitlistProperties(@DefaultValue("200ms") Duration flushInterval) {}
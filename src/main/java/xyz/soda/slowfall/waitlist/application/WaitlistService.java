@@ -0,0 +1,177 @@
+package xyz.soda.slowfall.waitlist.application;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.jump.application.JumpService;
+import xyz.soda.slowfall.jump.domain.SlotsFreedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+
+/**
+ * Waitlists for full loads, with automatic promotion when skydivers leave.
+ *
+ * <p>Promotion is driven by {@link SlotsFreedEvent}s after the freeing transaction commits, so nothing polls
+ * the database. Each promoted person is added in a transaction of their own through
+ * {@link JumpService#addSkydiverToJump}, which keeps counters, sync versions and the audit journal in step with
+ * a manual add. Entries whose person or load has gone, who are already manifested, or who are booked on an
+ * overlapping load are dropped and the next person is tried. Any other failure puts the entry back at the head of
+ * the queue and stops the promotion, so nobody loses their place to an outage.</p>
+ *
+ * <p>Waitlists of loads that have departed or been deleted are purged at startup and then on
+ * {@code app.waitlist.purge-cron}, from memory and from {@code waitlist_entries}.</p>
+ */
+public class WaitlistService {
+    private static final Logger log = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final LoadWaitlist waitlist;
+    private final JumpRepository jumpRepository;
+    private final PersonRepository personRepository;
+    private final JumpService jumpService;
+    private final TransactionTemplate promotionTransaction;
+    private final Clock clock;
+
+    /**
+     * Create a new WaitlistService.
+     *
+     * @param waitlist           the in-memory waitlists
+     * @param jumpRepository     repository used to check that a load exists
+     * @param personRepository   repository used to check that a person exists
+     * @param jumpService        service adding promoted persons to the roster
+     * @param transactionManager transaction manager for the promotion transactions
+     * @param clock              clock used to tell which loads have departed
+     */
+    public WaitlistService(
+            LoadWaitlist waitlist,
+            JumpRepository jumpRepository,
+            PersonRepository personRepository,
+            JumpService jumpService,
+            PlatformTransactionManager transactionManager,
+            Clock clock) {
+        this.waitlist = waitlist;
+        this.jumpRepository = jumpRepository;
+        this.personRepository = personRepository;
+        this.jumpService = jumpService;
+        // Runs after the freeing transaction committed, whose resources are still bound to the thread.
+        this.promotionTransaction = new TransactionTemplate(transactionManager);
+        this.promotionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.clock = clock;
+    }
+
+    /**
+     * Put a person on a load's waitlist.
+     *
+     * @param jumpId   the load
+     * @param personId the person
+     * @return the new entry
+     * @throws IllegalArgumentException if the jump or person is not found, or the person is already waiting
+     */
+    public WaitlistEntry join(UUID jumpId, UUID personId) {
+        if (!jumpRepository.existsById(jumpId)) {
+            throw new IllegalArgumentException("Jump not found");
+        }
+        if (!personRepository.existsById(personId)) {
+            throw new IllegalArgumentException("Person not found");
+        }
+        return waitlist.enqueue(jumpId, personId);
+    }
+
+    /**
+     * Take a person off a load's waitlist.
+     *
+     * @param jumpId   the load
+     * @param personId the person
+     * @throws IllegalArgumentException if the person is not waiting for the load
+     */
+    public void leave(UUID jumpId, UUID personId) {
+        if (!waitlist.remove(jumpId, personId)) {
+            throw new IllegalArgumentException("Person is not waiting for this jump");
+        }
+    }
+
+    /**
+     * List a load's waitlist in order.
+     *
+     * @param jumpId the load
+     * @return the waiting entries, longest waiting first
+     */
+    public List<WaitlistEntry> list(UUID jumpId) {
+        return waitlist.entries(jumpId);
+    }
+
+    /**
+     * Promote waiting persons into slots freed by a committed roster change.
+     *
+     * @param event the freed slots
+     */
+    @TransactionalEventListener
+    public void onSlotsFreed(SlotsFreedEvent event) {
+        promote(event.jumpId(), event.slots());
+    }
+
+    /**
+     * Move up to {@code slots} persons from a load's waitlist onto its roster, longest waiting first.
+     *
+     * @param jumpId the load
+     * @param slots  the number of free slots
+     * @return the number of persons added to the roster
+     */
+    public int promote(UUID jumpId, int slots) {
+        int promoted = 0;
+        while (promoted < slots) {
+            WaitlistEntry next = waitlist.pollNext(jumpId);
+            if (next == null) {
+                break;
+            }
+            try {
+                if (Boolean.TRUE.equals(promotionTransaction.execute(
+                        status -> jumpService.addSkydiverToJump(jumpId, next.getPersonId())))) {
+                    promoted++;
+                }
+            } catch (IllegalArgumentException e) {
+                log.info("Dropping waitlist entry {} for jump {}: {}", next.getSequence(), jumpId, e.getMessage());
+            } catch (RuntimeException e) {
+                waitlist.requeue(next);
+                log.warn("Promotion for jump {} failed; entry {} stays first in line", jumpId, next.getSequence(), e);
+                break;
+            }
+        }
+        return promoted;
+    }
+
+    /**
+     * Drop the waitlists of loads that have departed or no longer exist.
+     *
+     * @return the number of entries dropped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.waitlist.purge-cron:0 */5 * * * *}", zone = "UTC")
+    public int purgeDeparted() {
+        Set<UUID> jumpIds = waitlist.jumpIds();
+        if (jumpIds.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> departed = new HashSet<>(jumpIds);
+        jumpRepository.findIdsDepartingAfter(jumpIds, clock.instant()).forEach(departed::remove);
+        int purged = 0;
+        for (UUID jumpId : departed) {
+            purged += waitlist.removeAll(jumpId);
+        }
+        if (purged > 0) {
+            log.info("Purged {} waitlist entries of {} departed loads", purged, departed.size());
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,82 @@
+package xyz.soda.slowfall.waitlist.domain;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A person waiting for a slot on a full load.
+ *
+ * <p>The in-memory waitlist is authoritative; rows are only written behind it so the queue survives a restart.
+ * The sequence is assigned in memory and orders the whole waitlist, so restoring by sequence rebuilds every
+ * load's queue in its original order.</p>
+ */
+@Entity
+@Table(
+        name = "waitlist_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_waitlist_jump_person", columnNames = {"jump_id", "person_id"}))
+public class WaitlistEntry {
+    @Id
+    private long sequence;
+
+    @Column(name = "jump_id", nullable = false)
+    private UUID jumpId;
+
+    @Column(name = "person_id", nullable = false)
+    private UUID personId;
+
+    @Column(nullable = false)
+    private Instant enqueuedAt;
+
+    /**
+     * Protected no-args constructor for JPA.
+     */
+    protected WaitlistEntry() {}
+
+    /**
+     * Create a new waitlist entry.
+     *
+     * @param sequence   position in the overall waitlist, increasing with every enqueue
+     * @param jumpId     the load the person is waiting for
+     * @param personId   the waiting person
+     * @param enqueuedAt when the person joined the waitlist
+     */
+    public WaitlistEntry(long sequence, UUID jumpId, UUID personId, Instant enqueuedAt) {
+        this.sequence = sequence;
+        this.jumpId = jumpId;
+        this.personId = personId;
+        this.enqueuedAt = enqueuedAt;
+    }
+
+    /**
+     * Get the position of this entry in the overall waitlist.
+     * @return the sequence
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Get the load the person is waiting for.
+     * @return the jump id
+     */
+    public UUID getJumpId() {
+        return jumpId;
+    }
+
+    /**
+     * Get the waiting person.
+     * @return the person id
+     */
+    public UUID getPersonId() {
+        return personId;
+    }
+
+    /**
+     * Get when the person joined the waitlist.
+     * @return the enqueue time
+     */
+    public Instant getEnqueuedAt() {
+        return enqueuedAt;
+    }
+}
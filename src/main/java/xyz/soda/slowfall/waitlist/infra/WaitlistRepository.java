@@ -0,0 +1,15 @@
+package xyz.soda.slowfall.waitlist.infra;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    /**
+     * Load the whole persisted waitlist in enqueue order, used once at startup.
+     *
+     * @return every entry ordered by sequence
+     */
+    List<WaitlistEntry> findAllByOrderBySequenceAsc();
+}
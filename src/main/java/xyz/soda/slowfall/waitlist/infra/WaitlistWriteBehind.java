@@ -0,0 +1,118 @@
+package xyz.soda.slowfall.waitlist.infra;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+
+/**
+ * Persists waitlist changes behind the in-memory queues.
+ *
+ * <p>Callers only append to a lock-free change queue; a single background thread drains it every
+ * {@code flushInterval} and writes the net result with {@link WaitlistWriter}. An entry added and removed
+ * within the same interval never reaches the database. A failed flush is retried with the next one, ahead of
+ * newer changes, so an entry is never deleted before it was inserted. Changes made in the last interval before
+ * a crash are lost; a clean shutdown flushes everything.</p>
+ */
+public class WaitlistWriteBehind implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(WaitlistWriteBehind.class);
+
+    private final WaitlistWriter writer;
+    private final Queue<Change> changes = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService flusher;
+    // Only touched under the flush monitor.
+    private final Map<Long, WaitlistEntry> pendingInserts = new LinkedHashMap<>();
+    private final List<Long> pendingDeletes = new ArrayList<>();
+
+    /**
+     * Create a write-behind buffer and start its flush thread.
+     *
+     * @param writer        the batch writer
+     * @param flushInterval delay between flushes
+     */
+    public WaitlistWriteBehind(WaitlistWriter writer, Duration flushInterval) {
+        this.writer = writer;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "waitlist-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = Math.max(1L, flushInterval.toMillis());
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue an entry for insertion.
+     *
+     * @param entry the new entry
+     */
+    public void added(WaitlistEntry entry) {
+        changes.add(new Change(entry, entry.getSequence()));
+    }
+
+    /**
+     * Queue an entry for deletion.
+     *
+     * @param sequence the sequence of the removed entry
+     */
+    public void removed(long sequence) {
+        changes.add(new Change(null, sequence));
+    }
+
+    /**
+     * Write all queued changes now.
+     */
+    public synchronized void flush() {
+        Change change;
+        while ((change = changes.poll()) != null) {
+            if (change.entry() != null) {
+                pendingInserts.put(change.sequence(), change.entry());
+            } else if (pendingInserts.remove(change.sequence()) == null) {
+                pendingDeletes.add(change.sequence());
+            }
+        }
+        // Deletes go first: a person who left and re-joined a load must lose the old row before the new one
+        // is written, or the (jump, person) constraint would reject it.
+        if (!pendingDeletes.isEmpty()) {
+            writer.deleteAll(List.copyOf(pendingDeletes));
+            pendingDeletes.clear();
+        }
+        if (!pendingInserts.isEmpty()) {
+            writer.insertAll(List.copyOf(pendingInserts.values()));
+            pendingInserts.clear();
+        }
+    }
+
+    /**
+     * Stop the flush thread and write whatever is still queued.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Waitlist write-behind flush failed; retrying with the next flush", e);
+        }
+    }
+
+    private record Change(WaitlistEntry entry, long sequence) {}
+}
@@ -0,0 +1,55 @@
+package xyz.soda.slowfall.waitlist.infra;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+
+/**
+ * Writes waitlist changes with JDBC batching, bypassing the persistence context.
+ */
+@Repository
+public class WaitlistWriter {
+    // Guarded so a batch retried after a partial failure does not trip over the rows it already wrote.
+    private static final String INSERT = "insert into waitlist_entries (sequence, jump_id, person_id, enqueued_at)"
+            + " select ?, ?, ?, ? where not exists (select 1 from waitlist_entries where sequence = ?)";
+    private static final String DELETE = "delete from waitlist_entries where sequence = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Create a new WaitlistWriter.
+     *
+     * @param jdbcTemplate template bound to the application data source
+     */
+    public WaitlistWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insert entries in batches, skipping any that already exist.
+     *
+     * @param entries the entries to insert
+     */
+    public void insertAll(Collection<WaitlistEntry> entries) {
+        jdbcTemplate.batchUpdate(INSERT, entries, BATCH_SIZE, (statement, entry) -> {
+            statement.setLong(1, entry.getSequence());
+            statement.setObject(2, entry.getJumpId());
+            statement.setObject(3, entry.getPersonId());
+            statement.setTimestamp(4, Timestamp.from(entry.getEnqueuedAt()));
+            statement.setLong(5, entry.getSequence());
+        });
+    }
+
+    /**
+     * Delete entries by sequence in batches. Missing rows are ignored.
+     *
+     * @param sequences the sequences of the entries to delete
+     */
+    public void deleteAll(Collection<Long> sequences) {
+        jdbcTemplate.batchUpdate(
+                DELETE, sequences, BATCH_SIZE, (statement, sequence) -> statement.setLong(1, sequence));
+    }
+}
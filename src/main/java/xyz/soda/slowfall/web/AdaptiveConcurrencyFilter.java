@@ -0,0 +1,153 @@
+package xyz.soda.slowfall.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter bounding the number of database-bound requests in flight with a {@link GradientLimit}.
+ *
+ * <p>Without a bound, a burst of requests simply queues on the connection pool until the pool's acquire
+ * timeout turns them all into slow 500s. Here requests beyond the adaptive limit are refused up front with
+ * HTTP 503 and {@code Retry-After: 1}, so the requests that are admitted keep their normal latency. Low-priority
+ * routes only get a share of the limit and are therefore shed before manifest writes. Requests ending in a
+ * 5xx or an exception count as drops and back the limit off.</p>
+ *
+ * <p>Connection pool wait time itself is published by the pool as {@code hikaricp.connections.acquire} and
+ * {@code hikaricp.connections.pending}; this filter adds the limit, the in-flight count and per-route
+ * accepted/rejected counters.</p>
+ */
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+    private final boolean enabled;
+    private final GradientLimit limit;
+    private final List<CompiledRule> rules;
+    private final LongSupplier nanoClock;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * Create a new AdaptiveConcurrencyFilter using the system monotonic clock.
+     *
+     * @param properties the bound concurrency limit settings
+     * @param registry   meter registry used to publish limit and shedding metrics
+     */
+    public AdaptiveConcurrencyFilter(ConcurrencyLimitProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    /**
+     * Create a new AdaptiveConcurrencyFilter with an explicit clock, mainly for tests.
+     *
+     * @param properties the bound concurrency limit settings
+     * @param registry   meter registry used to publish limit and shedding metrics
+     * @param nanoClock  supplier of monotonic nanosecond timestamps
+     */
+    public AdaptiveConcurrencyFilter(
+            ConcurrencyLimitProperties properties, MeterRegistry registry, LongSupplier nanoClock) {
+        this.enabled = properties.enabled();
+        this.limit = new GradientLimit(properties);
+        this.nanoClock = nanoClock;
+        this.rules = properties.rules().stream()
+                .map(rule -> new CompiledRule(rule, registry))
+                .toList();
+        Gauge.builder("slowfall.concurrency.limit", limit, GradientLimit::limit).register(registry);
+        Gauge.builder("slowfall.concurrency.inflight", limit, GradientLimit::inFlight)
+                .register(registry);
+    }
+
+    /**
+     * Get the current adaptive limit.
+     *
+     * @return the number of requests allowed in flight at full share
+     */
+    public int currentLimit() {
+        return limit.limit();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledRule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!limit.tryAcquire(rule.share)) {
+            rule.rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            return;
+        }
+
+        rule.accepted.increment();
+        long start = nanoClock.getAsLong();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            limit.release(nanoClock.getAsLong() - start, dropped);
+        }
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (CompiledRule rule : rules) {
+            if ((rule.methods.isEmpty() || rule.methods.contains(method)) && pathMatcher.match(rule.pattern, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A rule with its pre-registered meters, so the hot path does no meter lookups.
+     */
+    private static final class CompiledRule {
+        private final String pattern;
+        private final Set<String> methods;
+        private final double share;
+        private final Counter accepted;
+        private final Counter rejected;
+
+        CompiledRule(ConcurrencyLimitProperties.Rule rule, MeterRegistry registry) {
+            this.pattern = rule.pattern();
+            this.methods = rule.methods() == null
+                    ? Set.of()
+                    : rule.methods().stream()
+                            .map(method -> method.toUpperCase(Locale.ROOT))
+                            .collect(Collectors.toUnmodifiableSet());
+            this.share = rule.priority() == null
+                    ? ConcurrencyLimitProperties.Priority.NORMAL.share()
+                    : rule.priority().share();
+            this.accepted = Counter.builder("slowfall.concurrency.requests")
+                    .tag("route", rule.name())
+                    .tag("outcome", "accepted")
+                    .register(registry);
+            this.rejected = Counter.builder("slowfall.concurrency.requests")
+                    .tag("route", rule.name())
+                    .tag("outcome", "rejected")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package xyz.soda.slowfall.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes everything written straight on to a target stream and keeps a copy of it, up to a limit.
+ *
+ * <p>Once more than {@code limit} bytes have been written the copy is dropped and nothing more is kept, so the
+ * memory held stays bounded however large the output grows, and the target never waits for the copy.</p>
+ */
+public final class BoundedCopyOutputStream extends OutputStream {
+    private final OutputStream target;
+    private final int limit;
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+    /**
+     * Create a new BoundedCopyOutputStream.
+     *
+     * @param target the stream receiving the output
+     * @param limit  the most bytes copied
+     */
+    public BoundedCopyOutputStream(OutputStream target, int limit) {
+        this.target = target;
+        this.limit = limit;
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        target.write(value);
+        if (keep(1)) {
+            copy.write(value);
+        }
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) throws IOException {
+        target.write(buffer, offset, length);
+        if (keep(length)) {
+            copy.write(buffer, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        target.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        target.close();
+    }
+
+    /**
+     * Get the bytes written so far.
+     *
+     * @return a copy of the output, or {@code null} if it grew past the limit
+     */
+    public byte[] copy() {
+        return copy == null ? null : copy.toByteArray();
+    }
+
+    private boolean keep(int length) {
+        if (copy != null && copy.size() > limit - length) {
+            copy = null;
+        }
+        return copy != null;
+    }
+}
@@ -0,0 +1,27 @@
+package xyz.soda.slowfall.web;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Request coalescing settings bound from {@code app.coalescing.*}.
+ *
+ * @param enabled      whether identical concurrent GETs share one execution
+ * @param patterns     Ant-style paths of the read routes to coalesce
+ * @param ttl          how long a finished 2xx response keeps being served to identical requests
+ * @param maxWait      how long a request waits for an in-flight twin before running on its own
+ * @param maxEntries   most distinct keys kept; once reached, expired entries are swept and requests for new
+ *                     keys run uncoalesced while none has expired
+ * @param maxBodyBytes largest response body copied for identical requests; the first request always streams
+ *                     its response, and a larger one is not shared at all
+ */
+@ConfigurationProperties(prefix = "app.coalescing")
+public record CoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue({"/api/jumps", "/api/person/search"}) List<String> patterns,
+        @DefaultValue("500ms") Duration ttl,
+        @DefaultValue("2s") Duration maxWait,
+        @DefaultValue("1000") int maxEntries,
+        @DefaultValue("1048576") int maxBodyBytes) {}
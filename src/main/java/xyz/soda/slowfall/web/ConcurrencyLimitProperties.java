@@ -0,0 +1,87 @@
+package xyz.soda.slowfall.web;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Adaptive concurrency limit settings bound from {@code app.concurrency-limit.*}.
+ *
+ * <p>All matching routes share one in-flight limit that is tuned from observed latency. Each rule only gets a
+ * share of that limit according to its priority, so when the database slows down low-priority reads are shed
+ * first while manifest writes still have headroom. Routes no rule matches are not limited. When no rules are
+ * configured, manifest writes get high priority and all other API reads low priority.</p>
+ *
+ * @param enabled       whether the concurrency limit filter is active
+ * @param initialLimit  limit used until enough samples have been seen
+ * @param minLimit      lower bound of the limit
+ * @param maxLimit      upper bound of the limit
+ * @param smoothing     weight of each new estimate, between 0 (never move) and 1 (jump straight to it)
+ * @param rttTolerance  how far the recent latency may exceed the long-term average before the limit shrinks
+ * @param sampleWindow  number of completed requests folded into one limit update
+ * @param longWindow    number of sample windows averaged into the long-term latency
+ * @param rules         ordered list of route rules
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("100") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1.5") double rttTolerance,
+        @DefaultValue("25") int sampleWindow,
+        @DefaultValue("24") int longWindow,
+        List<Rule> rules) {
+
+    /**
+     * Normalise the bound values, falling back to the default rules when none are configured.
+     */
+    public ConcurrencyLimitProperties {
+        rules = rules == null || rules.isEmpty() ? defaultRules() : List.copyOf(rules);
+    }
+
+    /**
+     * How much of the shared limit a route may use.
+     */
+    public enum Priority {
+        /** May use the whole limit. */
+        HIGH(1.0),
+        /** Shed once 80% of the limit is in flight. */
+        NORMAL(0.8),
+        /** Shed once half of the limit is in flight. */
+        LOW(0.5);
+
+        private final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+
+        /**
+         * Get the fraction of the limit available to routes of this priority.
+         *
+         * @return the share, between 0 and 1
+         */
+        public double share() {
+            return share;
+        }
+    }
+
+    /**
+     * A single route rule.
+     *
+     * @param name     route name, used as the metrics tag
+     * @param methods  HTTP methods the rule applies to (empty for all methods)
+     * @param pattern  Ant-style path pattern, e.g. {@code /api/jumps/**}
+     * @param priority how much of the shared limit the route may use
+     */
+    public record Rule(String name, Set<String> methods, String pattern, Priority priority) {}
+
+    private static List<Rule> defaultRules() {
+        return List.of(
+                new Rule("manifest-write", Set.of("POST", "PUT", "PATCH", "DELETE"), "/api/**", Priority.HIGH),
+                new Rule("display-read", Set.of("GET"), "/api/**", Priority.LOW));
+    }
+}
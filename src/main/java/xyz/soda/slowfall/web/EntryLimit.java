@@ -0,0 +1,98 @@
+package xyz.soda.slowfall.web;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Caps the number of entries a filter keeps in a concurrent map and spaces out the sweeps that free them.
+ *
+ * <p>Callers reserve a slot before inserting and release it for every entry they remove, so the map never
+ * holds more than {@code maxEntries} entries, even under concurrent inserts. When no slot is left, at most one
+ * caller per {@code sweepInterval} scans the map; everyone else goes without an entry right away instead of
+ * paying for an O(n) scan that the previous one showed would free nothing.</p>
+ */
+final class EntryLimit {
+    private final int maxEntries;
+    private final long sweepIntervalNanos;
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicLong nextSweepNanos;
+
+    /**
+     * Create a new EntryLimit whose first sweep may run right away.
+     *
+     * @param maxEntries         the most entries the map may hold
+     * @param sweepIntervalNanos the minimum time between two sweeps
+     * @param nowNanos           the current monotonic time in nanoseconds
+     * @throws IllegalArgumentException if {@code maxEntries} is not positive
+     */
+    EntryLimit(int maxEntries, long sweepIntervalNanos, long nowNanos) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Entry limit must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.sweepIntervalNanos = sweepIntervalNanos;
+        this.nextSweepNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take a slot for one new entry.
+     *
+     * @return {@code true} if a slot was taken, {@code false} if the map is full
+     */
+    boolean tryReserve() {
+        while (true) {
+            int current = reserved.get();
+            if (current >= maxEntries) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give back the slot of an entry that was removed, or of a reservation that was not inserted.
+     */
+    void release() {
+        reserved.decrementAndGet();
+    }
+
+    /**
+     * Reserve a slot, sweeping the map first if it is full and a sweep is due.
+     *
+     * @param map       the bounded map
+     * @param removable which values the sweep may drop
+     * @param nowNanos  the current monotonic time in nanoseconds
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @return {@code true} if a slot was taken
+     */
+    <K, V> boolean tryReserve(Map<K, V> map, Predicate<? super V> removable, long nowNanos) {
+        if (tryReserve()) {
+            return true;
+        }
+        long due = nextSweepNanos.get();
+        if (nowNanos - due < 0 || !nextSweepNanos.compareAndSet(due, nowNanos + sweepIntervalNanos)) {
+            return false;
+        }
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            if (removable.test(entry.getValue()) && map.remove(entry.getKey(), entry.getValue())) {
+                release();
+            }
+        }
+        return tryReserve();
+    }
+
+    /**
+     * Time until the next sweep may run.
+     *
+     * @param nowNanos the current monotonic time in nanoseconds
+     * @return the remaining nanoseconds, or {@code 0} if a sweep is due
+     */
+    long nanosUntilSweep(long nowNanos) {
+        return Math.max(0L, nextSweepNanos.get() - nowNanos);
+    }
+}
@@ -0,0 +1,150 @@
+package xyz.soda.slowfall.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows the ratio between long-term and recent request latency.
+ *
+ * <p>Completed requests are folded into windows of {@code sampleWindow} samples. For each window the limit
+ * is moved towards {@code limit * gradient + sqrt(limit)}, where the gradient is the long-term average
+ * latency divided by the window's average (scaled by a tolerance and clamped to [0.5, 1]). While latency is
+ * stable the square-root term lets the limit grow; once requests start queueing on the connection pool the
+ * recent latency rises, the gradient drops below one and the limit shrinks until the queue drains. A window
+ * containing a failed request backs the limit off multiplicatively, and windows in which fewer than half of
+ * the permits were used leave it alone so an idle service does not inflate its limit.</p>
+ *
+ * <p>Admission is a lock-free check against the in-flight counter; only the per-window update takes the
+ * monitor.</p>
+ */
+final class GradientLimit {
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int sampleWindow;
+    private final int longWindow;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private double longRtt;
+
+    /**
+     * Create a limit from the bound settings.
+     *
+     * @param properties the concurrency limit settings
+     */
+    GradientLimit(ConcurrencyLimitProperties properties) {
+        if (properties.minLimit() <= 0
+                || properties.maxLimit() < properties.minLimit()
+                || properties.sampleWindow() <= 0
+                || properties.longWindow() <= 0
+                || properties.smoothing() <= 0
+                || properties.smoothing() > 1) {
+            throw new IllegalArgumentException("Invalid concurrency limit settings");
+        }
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.smoothing = properties.smoothing();
+        this.rttTolerance = properties.rttTolerance();
+        this.sampleWindow = properties.sampleWindow();
+        this.longWindow = properties.longWindow();
+        this.limit = clamp(properties.initialLimit(), minLimit, maxLimit);
+    }
+
+    /**
+     * Try to take a permit.
+     *
+     * @param share fraction of the limit the caller may use
+     * @return {@code true} if a permit was taken and must be returned with {@link #release}
+     */
+    boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return a permit and record how the request went.
+     *
+     * @param rttNanos how long the request held the permit
+     * @param dropped  whether the request failed in a way that suggests overload
+     */
+    void release(long rttNanos, boolean dropped) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightBefore, dropped);
+    }
+
+    /**
+     * Get the current limit.
+     *
+     * @return the number of requests allowed in flight at full share
+     */
+    int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Get the number of requests currently holding a permit.
+     *
+     * @return the in-flight count
+     */
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightBefore, boolean dropped) {
+        windowRttSum += Math.max(1L, rttNanos);
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+        windowDropped |= dropped;
+        if (windowCount < sampleWindow) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        boolean anyDropped = windowDropped;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+
+        double current = limit;
+        if (anyDropped) {
+            limit = clamp(current * BACKOFF_RATIO, minLimit, maxLimit);
+            return;
+        }
+
+        longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) / longWindow;
+        if (longRtt / shortRtt > 2) {
+            // Latency has recovered well below the long-term average; let the average catch up faster.
+            longRtt *= LONG_RTT_DECAY;
+        }
+        if (maxInFlight < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double estimate = current * gradient + Math.sqrt(current);
+        limit = clamp(current * (1 - smoothing) + estimate * smoothing, minLimit, maxLimit);
+    }
+
+    private static double clamp(double value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,22 @@
+package xyz.soda.slowfall.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+
+/**
+ * A response body that writes itself through a {@link JsonGenerator} instead of being serialized by
+ * reflection. Returned from a controller, it is written by {@link JsonStreamHttpMessageConverter} straight to
+ * the response while the request thread still holds the persistence context, so list endpoints can stream
+ * entities without first copying them into DTO lists.
+ */
+@FunctionalInterface
+public interface JsonStream {
+
+    /**
+     * Write exactly one JSON value.
+     *
+     * @param generator generator writing to the response body
+     * @throws IOException if the response cannot be written
+     */
+    void writeTo(JsonGenerator generator) throws IOException;
+}
@@ -0,0 +1,56 @@
+package xyz.soda.slowfall.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes {@link JsonStream} bodies as {@code application/json}. The generator writes to the response through
+ * Jackson's own buffer. On coalesced routes the {@link RequestCoalescingFilter} also keeps a copy of at most
+ * {@code app.coalescing.max-body-bytes} for identical requests; beyond that nothing is held in memory.
+ * Write-only.
+ */
+public class JsonStreamHttpMessageConverter extends AbstractHttpMessageConverter<JsonStream> {
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Create a new JsonStreamHttpMessageConverter.
+     *
+     * @param objectMapper mapper whose factory and generator settings are used
+     */
+    public JsonStreamHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return JsonStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected JsonStream readInternal(Class<? extends JsonStream> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("JsonStream bodies are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(JsonStream body, HttpOutputMessage outputMessage) throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(outputMessage.getBody(), JsonEncoding.UTF8)) {
+            // The container owns the response stream; the generator only flushes it.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            body.writeTo(generator);
+        }
+    }
+}
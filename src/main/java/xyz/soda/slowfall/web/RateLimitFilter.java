@@ -0,0 +1,173 @@
+package xyz.soda.slowfall.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter applying per-client token buckets to API routes.
+ *
+ * <p>Authenticated requests are charged to a bucket keyed on the principal name, anonymous ones to a bucket
+ * keyed on the client address. Each configured rule owns its own set of buckets, so exhausting the write
+ * budget does not affect reads. Rejected requests get HTTP 429 with a {@code Retry-After} header.</p>
+ *
+ * <p>Each rule tracks at most {@code maxTrackedClients} buckets. Once that many are tracked, idle buckets are
+ * swept at most once a second; while every tracked client is still active, requests from new clients are
+ * rejected until the next sweep rather than evicting a bucket that is still limiting someone.</p>
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final int maxTrackedClients;
+    private final List<CompiledRule> rules;
+    private final LongSupplier nanoClock;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * Create a new RateLimitFilter using the system monotonic clock.
+     *
+     * @param properties the bound rate limit settings
+     * @param registry   meter registry used to publish allowed/rejected counters
+     */
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    /**
+     * Create a new RateLimitFilter with an explicit clock, mainly for tests.
+     *
+     * @param properties the bound rate limit settings
+     * @param registry   meter registry used to publish allowed/rejected counters
+     * @param nanoClock  supplier of monotonic nanosecond timestamps
+     */
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry registry, LongSupplier nanoClock) {
+        this.enabled = properties.enabled();
+        this.maxTrackedClients = properties.maxTrackedClients();
+        this.nanoClock = nanoClock;
+        this.rules = properties.rules().stream()
+                .map(rule -> new CompiledRule(rule, registry, nanoClock.getAsLong()))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CompiledRule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rule.tryAcquire(clientKey(request), nanoClock.getAsLong());
+        if (waitNanos == 0L) {
+            rule.allowed.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rule.rejected.increment();
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    }
+
+    private CompiledRule match(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (CompiledRule rule : rules) {
+            if ((rule.methods.isEmpty() || rule.methods.contains(method)) && pathMatcher.match(rule.pattern, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "user:" + auth.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * A rule with its bucket table and pre-registered meters, so the hot path does no meter lookups.
+     */
+    private final class CompiledRule {
+        private final String pattern;
+        private final Set<String> methods;
+        private final int capacity;
+        private final double refillPerSecond;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final EntryLimit clients;
+        private final Counter allowed;
+        private final Counter rejected;
+
+        CompiledRule(RateLimitProperties.Rule rule, MeterRegistry registry, long nowNanos) {
+            this.pattern = rule.pattern();
+            this.methods = rule.methods() == null
+                    ? Set.of()
+                    : rule.methods().stream()
+                            .map(method -> method.toUpperCase(Locale.ROOT))
+                            .collect(Collectors.toUnmodifiableSet());
+            this.capacity = rule.capacity();
+            this.refillPerSecond = rule.refillPerSecond();
+            this.clients = new EntryLimit(maxTrackedClients, SWEEP_INTERVAL_NANOS, nowNanos);
+            this.allowed = Counter.builder("slowfall.ratelimit.requests")
+                    .tag("bucket", rule.name())
+                    .tag("outcome", "allowed")
+                    .register(registry);
+            this.rejected = Counter.builder("slowfall.ratelimit.requests")
+                    .tag("bucket", rule.name())
+                    .tag("outcome", "rejected")
+                    .register(registry);
+            Gauge.builder("slowfall.ratelimit.clients", buckets, Map::size)
+                    .tag("bucket", rule.name())
+                    .register(registry);
+        }
+
+        long tryAcquire(String key, long nowNanos) {
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                // Full buckets carry no state worth keeping; dropping them bounds memory under IP churn.
+                if (!clients.tryReserve(buckets, existing -> existing.isIdle(nowNanos), nowNanos)) {
+                    return Math.max(1L, clients.nanosUntilSweep(nowNanos));
+                }
+                TokenBucket created = new TokenBucket(capacity, refillPerSecond, nowNanos);
+                bucket = buckets.putIfAbsent(key, created);
+                if (bucket == null) {
+                    bucket = created;
+                } else {
+                    clients.release();
+                }
+            }
+            return bucket.tryAcquire(nowNanos);
+        }
+    }
+}
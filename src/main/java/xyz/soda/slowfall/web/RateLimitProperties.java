@@ -0,0 +1,47 @@
+package xyz.soda.slowfall.web;
+
+import java.util.List;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Rate limit settings bound from {@code app.rate-limit.*}.
+ *
+ * <p>Rules are matched in order and the first rule whose method and path pattern match a request decides
+ * which bucket is charged. When no rules are configured, manifest writes and display reads get separate
+ * default buckets so a polling screen can never starve the manifest desk (or the other way around).</p>
+ *
+ * @param enabled            whether the rate limit filter is active
+ * @param maxTrackedClients  most client buckets kept per rule; once reached, idle buckets are swept and new clients
+ *                           are rejected while none is idle
+ * @param rules              ordered list of route rules
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled, @DefaultValue("10000") int maxTrackedClients, List<Rule> rules) {
+
+    /**
+     * Normalise the bound values, falling back to the default rules when none are configured.
+     */
+    public RateLimitProperties {
+        rules = rules == null || rules.isEmpty() ? defaultRules() : List.copyOf(rules);
+    }
+
+    /**
+     * A single route rule.
+     *
+     * @param name            bucket name, also used as the metrics tag
+     * @param methods         HTTP methods the rule applies to (empty for all methods)
+     * @param pattern         Ant-style path pattern, e.g. {@code /api/jumps/**}
+     * @param capacity        burst size in requests
+     * @param refillPerSecond sustained requests per second
+     */
+    public record Rule(String name, Set<String> methods, String pattern, int capacity, double refillPerSecond) {}
+
+    private static List<Rule> defaultRules() {
+        return List.of(
+                new Rule("manifest-write", Set.of("POST", "PUT", "PATCH", "DELETE"), "/api/**", 20, 5),
+                new Rule("display-read", Set.of("GET"), "/api/**", 120, 40));
+    }
+}
@@ -0,0 +1,342 @@
+package xyz.soda.slowfall.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Servlet filter letting identical concurrent GETs share a single execution ("single flight").
+ *
+ * <p>Requests are keyed on path, query string, {@code Accept} header and caller. The first request for a key runs
+ * the chain and streams its response to its own client as it is written, keeping a copy of at most
+ * {@code maxBodyBytes}; requests with the same key arriving meanwhile wait for it and receive that copy. A larger
+ * response is not kept at all, and its waiting requests run the chain themselves. A 2xx response stays reusable for
+ * a short TTL after it completes, which absorbs the burst of display screens that all refresh within the same
+ * second. Other statuses are only shared with requests that were already waiting. If the first request fails or
+ * takes longer than {@code maxWait}, waiting requests fall back to running the chain themselves.</p>
+ *
+ * <p>At most {@code maxEntries} keys are tracked. Once that many are, expired entries are swept at most once a
+ * second, and requests for new keys run the chain on their own until a sweep frees a slot.</p>
+ */
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+    static final String COALESCED_HEADER = "Coalesced-Response";
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final List<String> patterns;
+    private final long ttlNanos;
+    private final long maxWaitNanos;
+    private final int maxBodyBytes;
+    private final LongSupplier nanoClock;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Flight> flights = new ConcurrentHashMap<>();
+    private final EntryLimit entries;
+    private final Counter leaders;
+    private final Counter joined;
+    private final Counter cached;
+    private final Counter fallbacks;
+    private final Counter untracked;
+
+    /**
+     * Create a new RequestCoalescingFilter using the system monotonic clock.
+     *
+     * @param properties the bound coalescing settings
+     * @param registry   meter registry used to publish coalescing counters
+     */
+    public RequestCoalescingFilter(CoalescingProperties properties, MeterRegistry registry) {
+        this(properties, registry, System::nanoTime);
+    }
+
+    /**
+     * Create a new RequestCoalescingFilter with an explicit clock, mainly for tests.
+     *
+     * @param properties the bound coalescing settings
+     * @param registry   meter registry used to publish coalescing counters
+     * @param nanoClock  supplier of monotonic nanosecond timestamps
+     */
+    public RequestCoalescingFilter(CoalescingProperties properties, MeterRegistry registry, LongSupplier nanoClock) {
+        this.enabled = properties.enabled();
+        this.patterns = List.copyOf(properties.patterns());
+        this.ttlNanos = properties.ttl().toNanos();
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.maxBodyBytes = properties.maxBodyBytes();
+        this.nanoClock = nanoClock;
+        this.entries = new EntryLimit(properties.maxEntries(), SWEEP_INTERVAL_NANOS, nanoClock.getAsLong());
+        this.leaders = outcome(registry, "leader");
+        this.joined = outcome(registry, "joined");
+        this.cached = outcome(registry, "cached");
+        this.fallbacks = outcome(registry, "fallback");
+        this.untracked = outcome(registry, "untracked");
+        Gauge.builder("slowfall.coalescing.keys", flights, Map::size).register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = key(request);
+        long now = nanoClock.getAsLong();
+        Flight mine = new Flight();
+        Flight flight = claim(key, mine, now);
+
+        if (flight == null) {
+            untracked.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (flight != mine) {
+            boolean alreadyDone = flight.future.isDone();
+            SharedResponse shared = await(flight);
+            if (shared != null) {
+                (alreadyDone ? cached : joined).increment();
+                write(shared, response);
+                return;
+            }
+            fallbacks.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        leaders.increment();
+        CopyingResponse wrapper = new CopyingResponse(response, maxBodyBytes);
+        try {
+            filterChain.doFilter(request, wrapper);
+            byte[] body = wrapper.body();
+            // An oversized body was not kept; completing with null sends the waiting requests down the chain.
+            SharedResponse shared =
+                    body == null ? null : new SharedResponse(wrapper.getStatus(), wrapper.getContentType(), body);
+            boolean reusable = shared != null && shared.status() >= 200 && shared.status() < 300;
+            mine.expiresAt = reusable ? nanoClock.getAsLong() + ttlNanos : Long.MIN_VALUE;
+            mine.future.complete(shared);
+            if (!reusable || ttlNanos <= 0) {
+                remove(key, mine);
+            }
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            mine.future.completeExceptionally(e);
+            remove(key, mine);
+            throw e;
+        } finally {
+            wrapper.flushWriter();
+        }
+    }
+
+    /**
+     * Register {@code mine} as the flight for {@code key} unless a live one exists.
+     *
+     * @return the live flight to join, {@code mine} if it was registered, or {@code null} if no slot was free
+     */
+    private Flight claim(String key, Flight mine, long now) {
+        while (true) {
+            Flight existing = flights.get(key);
+            if (existing == null) {
+                if (!entries.tryReserve(flights, flight -> flight.isExpired(now), now)) {
+                    return null;
+                }
+                existing = flights.putIfAbsent(key, mine);
+                if (existing == null) {
+                    return mine;
+                }
+                entries.release();
+            }
+            if (!existing.isExpired(now)) {
+                return existing;
+            }
+            remove(key, existing);
+        }
+    }
+
+    private void remove(String key, Flight flight) {
+        if (flights.remove(key, flight)) {
+            entries.release();
+        }
+    }
+
+    private SharedResponse await(Flight flight) {
+        try {
+            return flight.future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private static void write(SharedResponse shared, HttpServletResponse response) throws IOException {
+        response.setStatus(shared.status());
+        response.setHeader(COALESCED_HEADER, "true");
+        if (shared.contentType() != null) {
+            response.setContentType(shared.contentType());
+        }
+        response.setContentLength(shared.body().length);
+        response.getOutputStream().write(shared.body());
+    }
+
+    private static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(128).append(scope()).append(' ').append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null) {
+            key.append(' ').append(accept);
+        }
+        return key.toString();
+    }
+
+    private static String scope() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "user:" + auth.getName();
+        }
+        return "anonymous";
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder("slowfall.coalescing.requests")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record SharedResponse(int status, String contentType, byte[] body) {}
+
+    /**
+     * Writes the response through to the client while keeping a bounded copy of its body.
+     */
+    private static final class CopyingResponse extends HttpServletResponseWrapper {
+        private final int maxBodyBytes;
+        private BoundedCopyOutputStream copy;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CopyingResponse(HttpServletResponse response, int maxBodyBytes) {
+            super(response);
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called on this response");
+            }
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called on this response");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        void flushWriter() {
+            if (writer != null) {
+                writer.flush();
+            }
+        }
+
+        // The body written so far, or null if it outgrew maxBodyBytes.
+        byte[] body() {
+            flushWriter();
+            return copy == null ? new byte[0] : copy.copy();
+        }
+
+        private ServletOutputStream stream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream target = super.getOutputStream();
+                copy = new BoundedCopyOutputStream(target, maxBodyBytes);
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int value) throws IOException {
+                        copy.write(value);
+                    }
+
+                    @Override
+                    public void write(byte[] buffer, int offset, int length) throws IOException {
+                        copy.write(buffer, offset, length);
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        copy.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        copy.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return target.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        target.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+
+    /**
+     * One execution shared by every identical request that arrives while it is running or still fresh.
+     */
+    private static final class Flight {
+        private final CompletableFuture<SharedResponse> future = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        boolean isExpired(long now) {
+            return future.isDone() && now - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package xyz.soda.slowfall.web;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented in its "virtual scheduling" (GCRA) form.
+ *
+ * <p>Instead of storing a token count and a refill timestamp, the bucket keeps a single theoretical
+ * arrival time that a CAS loop pushes forward by one emission interval per accepted request. That keeps
+ * the whole state in one {@link AtomicLong}, so concurrent callers never block each other.</p>
+ */
+final class TokenBucket {
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Create a full bucket.
+     *
+     * @param capacity        the maximum number of requests that may be made in a burst
+     * @param refillPerSecond the sustained number of requests per second
+     * @param nowNanos        the current monotonic time in nanoseconds
+     */
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Capacity and refill rate must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Try to take one token from the bucket.
+     *
+     * @param nowNanos the current monotonic time in nanoseconds
+     * @return {@code 0} if a token was taken, otherwise the number of nanoseconds until one is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long overshoot = next - nowNanos - burstToleranceNanos;
+            if (overshoot > 0) {
+                return overshoot;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has fully refilled, meaning dropping it would not change any decision.
+     *
+     * @param nowNanos the current monotonic time in nanoseconds
+     * @return {@code true} if the bucket is full
+     */
+    boolean isIdle(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,7 @@
+-- Index behind the double-booking check (BookingGuard). Every load occupies the same span from its jump time, so
+-- a person's overlapping loads are the jumps they are on with a time inside one window around the new load's
+-- time. The window is a range scan of this index over a handful of loads, however long the jumps table or a
+-- person's logbook grows. On the partitioned table (db/partitioning/jumps_partitioned.sql) the index is created
+-- on every partition. Safe to re-run.
+
+create index if not exists idx_jumps_jump_time on jumps (jump_time);
@@ -0,0 +1,6 @@
+-- Unique craft names and registration numbers, enforced by the database so POST /api/crafts is a single
+-- insert that rejects duplicates even under concurrent creates. persons.email is already unique.
+-- Fails if duplicates exist; resolve them first. Safe to re-run.
+
+create unique index if not exists uk_crafts_name on crafts (name);
+create unique index if not exists uk_crafts_registration_number on crafts (registration_number);
@@ -0,0 +1,19 @@
+-- Shared store for Idempotency-Key replays when app.idempotency.store=database. A row is inserted when a key is
+-- claimed, completed with the response once the original request finished, and deleted by the store's
+-- periodic purge once expires_at has passed. A row still without a response after in_flight_until belongs to a
+-- request that died mid-flight and is taken over by the next retry. Safe to re-run.
+
+create table if not exists idempotency_keys (
+    idempotency_key varchar(300)                not null primary key,
+    fingerprint     varchar(64)                 not null,
+    status          integer,
+    content_type    varchar(255),
+    body            bytea,
+    in_flight_until timestamp(6) with time zone,
+    expires_at      timestamp(6) with time zone not null
+);
+
+-- Added after the first version of this script.
+alter table idempotency_keys add column if not exists in_flight_until timestamp(6) with time zone;
+
+create index if not exists idx_idempotency_keys_expires_at on idempotency_keys (expires_at);
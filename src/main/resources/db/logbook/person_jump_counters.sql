@@ -0,0 +1,18 @@
+-- Adds the logbook counters to persons and the roster indexes used by /api/person/{id}/jumps, then backfills
+-- the counters from the existing rosters. Safe to re-run; the backfill recomputes from scratch.
+
+alter table persons add column if not exists skydiver_jumps bigint default 0 not null;
+alter table persons add column if not exists pilot_jumps bigint default 0 not null;
+alter table persons add column if not exists last_jump_time timestamp(6) with time zone;
+
+create index if not exists idx_jump_skydiver_person on jump_skydiver (person_id);
+create index if not exists idx_jump_pilots_person on jump_pilots (person_id);
+
+update persons p set
+    skydiver_jumps = coalesce((select count(*) from jump_skydiver s where s.person_id = p.id), 0),
+    pilot_jumps = coalesce((select count(*) from jump_pilots r where r.person_id = p.id), 0),
+    last_jump_time = (
+        select max(j.jump_time) from jumps j
+        where j.id in (select s.jump_id from jump_skydiver s where s.person_id = p.id
+                       union all
+                       select r.jump_id from jump_pilots r where r.person_id = p.id));
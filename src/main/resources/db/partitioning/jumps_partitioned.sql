@@ -0,0 +1,96 @@
+-- One-time conversion of the jumps table into a table range-partitioned by month on jump_time (Postgres 13+).
+--
+-- Run during a maintenance window, then set app.jump-partitions.enabled=true so JumpPartitionManager keeps
+-- future partitions ready and detaches expired ones. Partition bounds are UTC month starts.
+--
+-- Notes:
+--  * A partitioned table's primary key must contain the partition key, so the key becomes (id, jump_time).
+--    Ids are still random UUIDs generated by the application, so they stay unique in practice.
+--  * Foreign keys cannot reference jumps(id) alone any more. The constraints from jump_pilots and
+--    jump_skydiver to jumps are dropped; the join tables stay unpartitioned and the application owns
+--    their integrity, as it already does for every write to them.
+--  * change_version (db/sync/change_versions.sql) is carried over when it exists, so the two scripts can run in
+--    either order. Without it the column is created with 0 and the sync script backfills it when run later.
+--  * Lookups by id alone (findById, findJumpTimeById, touch and the roster writes keyed by jump id) cannot be
+--    pruned to one partition: they probe the primary key index of every attached partition. Keeping only the
+--    retained months attached, as JumpPartitionManager does, bounds that cost; queries that also filter on
+--    jump_time are pruned as usual.
+
+begin;
+
+do $$
+declare
+    fk record;
+begin
+    for fk in
+        select conrelid::regclass as tbl, conname
+        from pg_constraint
+        where contype = 'f' and confrelid = 'jumps'::regclass
+    loop
+        execute format('alter table %s drop constraint %I', fk.tbl, fk.conname);
+    end loop;
+end $$;
+
+alter table jumps rename to jumps_unpartitioned;
+-- The renamed table keeps its index names; free them for the partitioned table.
+drop index if exists idx_jumps_airport_time;
+drop index if exists idx_jumps_jump_time;
+drop index if exists idx_jumps_change_version;
+
+create table jumps (
+    id             uuid                        not null,
+    jump_time      timestamp(6) with time zone not null,
+    airport_id     uuid                        not null,
+    altitude_feet  integer                     not null,
+    created_at     timestamp(6) with time zone not null,
+    change_version bigint                      not null default 0,
+    primary key (id, jump_time)
+) partition by range (jump_time);
+
+create index idx_jumps_airport_time on jumps (airport_id, jump_time);
+create index idx_jumps_jump_time on jumps (jump_time);
+create index idx_jumps_change_version on jumps (change_version);
+
+create table jumps_default partition of jumps default;
+
+-- One partition per month that has data, plus the current month and the next twelve.
+do $$
+declare
+    month_start date;
+    last_month  date;
+begin
+    select least(coalesce(date_trunc('month', min(jump_time) at time zone 'UTC'), now() at time zone 'UTC'),
+                 date_trunc('month', now() at time zone 'UTC'))::date,
+           greatest(coalesce(date_trunc('month', max(jump_time) at time zone 'UTC'), now() at time zone 'UTC'),
+                    date_trunc('month', now() at time zone 'UTC') + interval '12 months')::date
+    into month_start, last_month
+    from jumps_unpartitioned;
+
+    while month_start <= last_month loop
+        execute format(
+            'create table %I partition of jumps for values from (%L) to (%L)',
+            'jumps_p' || to_char(month_start, 'YYYYMM'),
+            month_start::text || ' 00:00:00+00',
+            (month_start + interval '1 month')::date::text || ' 00:00:00+00');
+        month_start := (month_start + interval '1 month')::date;
+    end loop;
+end $$;
+
+do $$
+begin
+    if exists (select 1 from information_schema.columns
+               where table_schema = current_schema() and table_name = 'jumps_unpartitioned'
+                 and column_name = 'change_version') then
+        insert into jumps (id, jump_time, airport_id, altitude_feet, created_at, change_version)
+        select id, jump_time, airport_id, altitude_feet, created_at, change_version
+        from jumps_unpartitioned;
+    else
+        insert into jumps (id, jump_time, airport_id, altitude_feet, created_at)
+        select id, jump_time, airport_id, altitude_feet, created_at
+        from jumps_unpartitioned;
+    end if;
+end $$;
+
+drop table jumps_unpartitioned;
+
+commit;
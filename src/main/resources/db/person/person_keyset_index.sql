@@ -0,0 +1,8 @@
+-- Index behind the keyset-paginated person listings (GET /api/person and /api/person/search). Each page seeks
+-- past the (last_name, first_name, id) of the previous page's last row and reads the next rows in index order,
+-- so a deep page costs the same as the first. Safe to re-run.
+
+create index if not exists idx_persons_name_keyset on persons (last_name, first_name, id);
+
+-- Refresh pg_class.reltuples, which backs the approximateCount option of GET /api/person.
+analyze persons;
@@ -0,0 +1,28 @@
+-- Change versions and deletion tombstones for GET /api/sync. Versions are derived by the application from the writing
+-- transaction's id (pg_current_xact_id), above any wall-clock version stamped before; existing rows are backfilled with
+-- small distinct values so a first full sync can page through them. Safe to re-run, and safe to run before or after
+-- db/partitioning/jumps_partitioned.sql, which carries jumps.change_version over into the partitioned table.
+
+alter table persons add column if not exists change_version bigint not null default 0;
+alter table crafts add column if not exists change_version bigint not null default 0;
+alter table airports add column if not exists change_version bigint not null default 0;
+alter table jumps add column if not exists change_version bigint not null default 0;
+
+create temporary sequence if not exists change_version_backfill;
+update persons set change_version = nextval('change_version_backfill') where change_version = 0;
+update crafts set change_version = nextval('change_version_backfill') where change_version = 0;
+update airports set change_version = nextval('change_version_backfill') where change_version = 0;
+update jumps set change_version = nextval('change_version_backfill') where change_version = 0;
+
+create index if not exists idx_persons_change_version on persons (change_version);
+create index if not exists idx_crafts_change_version on crafts (change_version);
+create index if not exists idx_airports_change_version on airports (change_version);
+create index if not exists idx_jumps_change_version on jumps (change_version);
+
+create table if not exists sync_tombstones (
+    id uuid primary key,
+    kind varchar(16) not null,
+    entity_id uuid not null,
+    change_version bigint not null
+);
+create index if not exists idx_sync_tombstones_change_version on sync_tombstones (change_version);
@@ -0,0 +1,10 @@
+-- Write-behind store for the in-memory load waitlists. Rows are written in batches by WaitlistWriteBehind and
+-- read once at startup, in sequence order, to rebuild every load's queue.
+
+create table if not exists waitlist_entries (
+    sequence     bigint                      not null primary key,
+    jump_id      uuid                        not null,
+    person_id    uuid                        not null,
+    enqueued_at  timestamp(6) with time zone not null,
+    constraint uk_waitlist_jump_person unique (jump_id, person_id)
+);
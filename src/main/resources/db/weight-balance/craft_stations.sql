@@ -0,0 +1,18 @@
+-- Adds the loading stations and CG envelope used by /api/jumps/{id}/weight-balance. Crafts without a layout
+-- keep null columns and are rejected by the calculator until PUT /api/crafts/{id}/stations is called.
+-- Safe to re-run.
+
+alter table crafts add column if not exists empty_weight integer;
+alter table crafts add column if not exists empty_arm integer;
+alter table crafts add column if not exists pilot_arm integer;
+alter table crafts add column if not exists door_arm integer;
+alter table crafts add column if not exists seats_per_row integer;
+alter table crafts add column if not exists forward_cg_limit integer;
+alter table crafts add column if not exists aft_cg_limit integer;
+
+create table if not exists craft_seat_rows (
+    craft_id uuid not null references crafts (id),
+    row_index integer not null,
+    arm integer not null,
+    primary key (craft_id, row_index)
+);
@@ -0,0 +1,26 @@
+package xyz.soda.slowfall;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Upper bound on the number of SQL statements a test method may issue.
+ *
+ * <p>Only statements issued by the test method body count; data set up in {@code @BeforeEach} is excluded. Put
+ * it on a class to give every test method in it the same budget; a method-level budget takes precedence.</p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+    /**
+     * Maximum number of statements.
+     *
+     * @return the budget
+     */
+    int value();
+}
@@ -0,0 +1,57 @@
+package xyz.soda.slowfall;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+/**
+ * JUnit extension enforcing {@link SqlBudget}. Recording starts right before the test method body and stops
+ * right after it, so {@code @BeforeEach} fixtures are not charged to the budget.
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    /**
+     * Start recording statements if the test has a budget.
+     *
+     * @param context the current extension context
+     */
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        if (budget(context).isEmpty()) {
+            return;
+        }
+        if (!SqlStatementRecorder.isInstalled()) {
+            throw new IllegalStateException("SqlStatementRecorder is not registered as Hibernate statement inspector");
+        }
+        SqlStatementRecorder.start();
+    }
+
+    /**
+     * Stop recording and fail the test if it issued more statements than its budget.
+     *
+     * @param context the current extension context
+     */
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Optional<SqlBudget> budget = budget(context);
+        if (budget.isEmpty()) {
+            return;
+        }
+        List<String> statements = SqlStatementRecorder.stop();
+        if (statements.size() > budget.get().value()) {
+            throw new AssertionFailedError("Expected at most %d SQL statements but %d were issued:%n  %s"
+                    .formatted(budget.get().value(), statements.size(), String.join("\n  ", statements)));
+        }
+    }
+
+    private static Optional<SqlBudget> budget(ExtensionContext context) {
+        return context.getTestMethod()
+                .map(method -> AnnotatedElementUtils.findMergedAnnotation(method, SqlBudget.class))
+                .or(() -> context.getTestClass()
+                        .map(type -> AnnotatedElementUtils.findMergedAnnotation(type, SqlBudget.class)));
+    }
+}
@@ -0,0 +1,56 @@
+package xyz.soda.slowfall;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} that records every SQL statement prepared while recording is on.
+ *
+ * <p>Registered for all Spring test contexts through {@code hibernate.session_factory.statement_inspector} in
+ * the test {@code application.properties}. Hibernate instantiates it by class name, so the recorded statements
+ * are kept in static state and read back by {@link SqlBudgetExtension}.</p>
+ */
+public class SqlStatementRecorder implements StatementInspector {
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+    private static volatile boolean installed;
+    private static volatile boolean recording;
+
+    /**
+     * Create a new SqlStatementRecorder. Called by Hibernate when a session factory is built.
+     */
+    public SqlStatementRecorder() {
+        installed = true;
+    }
+
+    /**
+     * Record the statement if recording is on and pass it through unchanged.
+     *
+     * @param sql the SQL about to be prepared
+     * @return the same SQL
+     */
+    @Override
+    public String inspect(String sql) {
+        if (recording) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    static boolean isInstalled() {
+        return installed;
+    }
+
+    static void start() {
+        STATEMENTS.clear();
+        recording = true;
+    }
+
+    static List<String> stop() {
+        recording = false;
+        List<String> statements = List.copyOf(STATEMENTS);
+        STATEMENTS.clear();
+        return statements;
+    }
+}
@@ -2,7 +2,10 @@ package xyz.soda.slowfall.airport.api;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -101,4 +104,23 @@ class AirportControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].name").value("Heathrow"));
     }
+
+    @Test
+    void deleteAirportReturns204() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        mvc.perform(delete("/api/airports/{id}", id)).andExpect(status().isNoContent());
+
+        verify(service).deleteAirport(id);
+    }
+
+    @Test
+    void deleteAirportReturns400WhenStillInUse() throws Exception {
+        UUID id = UUID.randomUUID();
+        doThrow(new IllegalArgumentException("Airport still has jumps"))
+                .when(service)
+                .deleteAirport(id);
+
+        mvc.perform(delete("/api/airports/{id}", id)).andExpect(status().isBadRequest());
+    }
 }
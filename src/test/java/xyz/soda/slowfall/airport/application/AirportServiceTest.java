@@ -1,19 +1,30 @@
 package xyz.soda.slowfall.airport.application;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import xyz.soda.slowfall.airport.api.CreateAirportRequest;
 import xyz.soda.slowfall.airport.domain.Airport;
 import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+import xyz.soda.slowfall.sync.domain.Tombstone;
+import xyz.soda.slowfall.sync.infra.TombstoneRepository;
 
 @ExtendWith(MockitoExtension.class)
 class AirportServiceTest {
@@ -21,6 +32,15 @@ class AirportServiceTest {
     @Mock
     AirportRepository repository;
 
+    @Mock
+    JumpRepository jumpRepository;
+
+    @Mock
+    TombstoneRepository tombstoneRepository;
+
+    @Mock
+    ApplicationEventPublisher events;
+
     @InjectMocks
     AirportService service;
 
@@ -34,6 +54,7 @@ class AirportServiceTest {
 
         assertEquals("Heathrow", created.getName());
         verify(repository).save(any(Airport.class));
+        verify(events).publishEvent(any(EntitiesChangedEvent.class));
     }
 
     @Test
@@ -46,4 +67,31 @@ class AirportServiceTest {
         assertEquals(1, results.size());
         assertEquals("Heathrow", results.getFirst().getName());
     }
+
+    @Test
+    void deleteAirportLeavesTombstone() {
+        UUID id = UUID.randomUUID();
+        Airport airport = new Airport("EGLL", "Heathrow", "Europe/London");
+        when(repository.findById(id)).thenReturn(Optional.of(airport));
+
+        service.deleteAirport(id);
+
+        verify(repository).delete(airport);
+        verify(tombstoneRepository)
+                .save(argThat(tombstone ->
+                        tombstone.getKind() == SyncKind.AIRPORT && tombstone.getEntityId().equals(id)));
+        verify(events).publishEvent(new EntitiesChangedEvent(SyncKind.AIRPORT, List.of(id)));
+    }
+
+    @Test
+    void deleteAirportRefusesWhenJumpsRemain() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.of(new Airport("EGLL", "Heathrow", "Europe/London")));
+        when(jumpRepository.existsByAirportId(id)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> service.deleteAirport(id));
+        verify(repository, never()).delete(any(Airport.class));
+        verify(tombstoneRepository, never()).save(any(Tombstone.class));
+        verify(events, never()).publishEvent(any(Object.class));
+    }
 }
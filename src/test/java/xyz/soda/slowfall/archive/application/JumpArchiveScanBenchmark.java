@@ -0,0 +1,109 @@
+package xyz.soda.slowfall.archive.application;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.soda.slowfall.archive.domain.ArchiveQuery;
+import xyz.soda.slowfall.archive.domain.ArchiveStats;
+import xyz.soda.slowfall.archive.domain.ArchivedJump;
+import xyz.soda.slowfall.archive.infra.JumpArchiveSource;
+
+/**
+ * Scans a synthetic season (April to October, 4 airports, 60 loads per airport per day, 15 skydivers per load
+ * drawn from 3000 people) from the columnar archive, cold and warm. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class JumpArchiveScanBenchmark {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void seasonScan() throws IOException {
+        Random random = new Random(42);
+        List<UUID> airports = Stream.generate(UUID::randomUUID).limit(4).toList();
+        List<UUID> people = Stream.generate(UUID::randomUUID).limit(3000).toList();
+        YearMonth first = YearMonth.of(2024, 4);
+        YearMonth last = YearMonth.of(2024, 10);
+
+        JumpArchiveSource source = mock(JumpArchiveSource.class);
+        when(source.earliestJumpTime()).thenReturn(first.atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC));
+        when(source.load(any(), any())).thenAnswer(invocation -> {
+            Instant from = invocation.getArgument(0);
+            Instant to = invocation.getArgument(1);
+            if (!from.isBefore(last.plusMonths(1).atDay(1).atStartOfDay().toInstant(ZoneOffset.UTC))) {
+                return List.of();
+            }
+            List<ArchivedJump> jumps = new ArrayList<>();
+            for (Instant day = from; day.isBefore(to); day = day.plusSeconds(86_400)) {
+                for (UUID airport : airports) {
+                    for (int load = 0; load < 60; load++) {
+                        List<UUID> roster = new ArrayList<>();
+                        for (int slot = 0; slot < 15; slot++) {
+                            roster.add(people.get(random.nextInt(people.size())));
+                        }
+                        Instant time = day.plusSeconds(8 * 3600 + load * 600L);
+                        UUID pilot = people.get(random.nextInt(people.size()));
+                        jumps.add(new ArchivedJump(
+                                time, airport, 13000 + 500 * random.nextInt(2), roster, List.of(pilot)));
+                    }
+                }
+            }
+            return jumps;
+        });
+
+        Clock clock = Clock.fixed(Instant.parse("2024-11-15T00:00:00Z"), ZoneOffset.UTC);
+        ArchiveProperties properties = new ArchiveProperties(directory, "-", 36);
+        long exportStart = System.nanoTime();
+        new JumpArchiveService(source, properties, clock).exportClosedMonths();
+        long exportMillis = (System.nanoTime() - exportStart) / 1_000_000;
+        long bytes;
+        try (Stream<Path> files = Files.list(directory)) {
+            bytes = files.mapToLong(file -> file.toFile().length()).sum();
+        }
+
+        ArchiveQuery season = new ArchiveQuery(null, null, null, null);
+        ArchiveQuery onePerson = new ArchiveQuery(null, null, airports.get(0), people.get(0));
+
+        JumpArchiveService cold = new JumpArchiveService(source, properties, clock);
+        long coldStart = System.nanoTime();
+        ArchiveStats stats = cold.scan(season);
+        long coldMillis = (System.nanoTime() - coldStart) / 1_000_000;
+
+        for (int i = 0; i < 20; i++) {
+            cold.scan(season);
+        }
+        long warmStart = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            cold.scan(season);
+        }
+        long warmMicros = (System.nanoTime() - warmStart) / 100 / 1_000;
+        long personStart = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            cold.scan(onePerson);
+        }
+        long personMicros = (System.nanoTime() - personStart) / 100 / 1_000;
+
+        System.out.printf("rows:                  %,d jumps, %,d slots%n", stats.getJumps(), stats.getSkydiverSlots());
+        System.out.printf("export:                %,d ms, %,d bytes on disk%n", exportMillis, bytes);
+        System.out.printf("season scan, cold:     %,d ms%n", coldMillis);
+        System.out.printf("season scan, warm:     %,d us%n", warmMicros);
+        System.out.printf("one person at airport: %,d us%n", personMicros);
+    }
+}
@@ -0,0 +1,99 @@
+package xyz.soda.slowfall.archive.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import xyz.soda.slowfall.archive.domain.ArchiveQuery;
+import xyz.soda.slowfall.archive.domain.ArchiveStats;
+import xyz.soda.slowfall.archive.domain.ArchivedJump;
+import xyz.soda.slowfall.archive.infra.JumpArchiveSource;
+
+@ExtendWith(MockitoExtension.class)
+class JumpArchiveServiceTest {
+
+    @Mock
+    JumpArchiveSource source;
+
+    @TempDir
+    Path directory;
+
+    JumpArchiveService service;
+
+    @BeforeEach
+    void setup() {
+        Clock clock = Clock.fixed(Instant.parse("2025-07-10T12:00:00Z"), ZoneOffset.UTC);
+        service = new JumpArchiveService(source, new ArchiveProperties(directory, "-", 4), clock);
+    }
+
+    @Test
+    void exportsClosedMonthsOnce() {
+        UUID airport = UUID.randomUUID();
+        when(source.earliestJumpTime()).thenReturn(Instant.parse("2025-05-20T10:00:00Z"));
+        when(source.load(Instant.parse("2025-05-01T00:00:00Z"), Instant.parse("2025-06-01T00:00:00Z")))
+                .thenReturn(List.of(jump("2025-05-20T10:00:00Z", airport)));
+        when(source.load(Instant.parse("2025-06-01T00:00:00Z"), Instant.parse("2025-07-01T00:00:00Z")))
+                .thenReturn(List.of(jump("2025-06-02T10:00:00Z", airport), jump("2025-06-03T10:00:00Z", airport)));
+
+        List<YearMonth> exported = service.exportClosedMonths();
+
+        assertEquals(List.of(YearMonth.of(2025, 5), YearMonth.of(2025, 6)), exported);
+        assertTrue(Files.exists(directory.resolve("jumps-2025-06.sfja")));
+        assertTrue(Files.notExists(directory.resolve("jumps-2025-07.sfja")));
+        assertEquals(List.of(), service.exportClosedMonths());
+    }
+
+    @Test
+    void scansOnlyOverlappingMonths() {
+        UUID airport = UUID.randomUUID();
+        when(source.earliestJumpTime()).thenReturn(Instant.parse("2025-05-20T10:00:00Z"));
+        when(source.load(any(), any()))
+                .thenReturn(List.of(jump("2025-05-20T10:00:00Z", airport)))
+                .thenReturn(List.of(jump("2025-06-02T10:00:00Z", airport), jump("2025-06-03T10:00:00Z", airport)));
+        service.exportClosedMonths();
+
+        ArchiveStats june = service.scan(new ArchiveQuery(Instant.parse("2025-06-01T00:00:00Z"), null, null, null));
+        ArchiveStats all = service.scan(new ArchiveQuery(null, null, airport, null));
+
+        assertEquals(2, june.getJumps());
+        assertEquals(3, all.getJumps());
+    }
+
+    @Test
+    void exportsNothingWithoutJumps() {
+        when(source.earliestJumpTime()).thenReturn(null);
+
+        assertEquals(List.of(), service.exportClosedMonths());
+        verify(source, never()).load(any(), any());
+    }
+
+    @Test
+    void scanOfMissingDirectoryIsEmpty() {
+        service = new JumpArchiveService(
+                source, new ArchiveProperties(directory.resolve("missing"), "-", 4), Clock.systemUTC());
+
+        assertEquals(0, service.scan(new ArchiveQuery(null, null, null, null)).getJumps());
+    }
+
+    private static ArchivedJump jump(String time, UUID airport) {
+        return new ArchivedJump(
+                Instant.parse(time), airport, 13000, List.of(UUID.randomUUID()), List.of(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,59 @@
+package xyz.soda.slowfall.archive.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class JumpArchiveSegmentTest {
+
+    private final UUID north = UUID.randomUUID();
+    private final UUID south = UUID.randomUUID();
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID pat = UUID.randomUUID();
+
+    private final JumpArchiveSegment segment = JumpArchiveSegment.of(List.of(
+            new ArchivedJump(Instant.parse("2025-05-31T18:00:00Z"), north, 10000, List.of(alice), List.of(pat)),
+            new ArchivedJump(Instant.parse("2025-06-01T09:00:00Z"), south, 13000, List.of(alice, bob), List.of()),
+            new ArchivedJump(Instant.parse("2025-06-01T08:00:00Z"), north, 14000, List.of(bob), List.of(pat))));
+
+    @Test
+    void scansEverythingWithoutFilters() {
+        ArchiveStats stats = new ArchiveStats();
+
+        segment.scan(new ArchiveQuery(null, null, null, null), stats);
+
+        assertEquals(3, stats.getJumps());
+        assertEquals(4, stats.getSkydiverSlots());
+        assertEquals(2, stats.getDistinctSkydivers());
+        assertEquals(1, stats.getDistinctPilots());
+        assertEquals(37000 / 3.0, stats.getAverageAltitudeFeet(), 1e-9);
+        assertEquals(Map.of(north, 2L, south, 1L), stats.getJumpsByAirport());
+        assertEquals(Map.of(YearMonth.of(2025, 5), 1L, YearMonth.of(2025, 6), 2L), stats.getJumpsByMonth());
+    }
+
+    @Test
+    void appliesTimeAirportAndPersonFilters() {
+        Instant juneFirst = Instant.parse("2025-06-01T00:00:00Z");
+        ArchiveStats byWindow = new ArchiveStats();
+        segment.scan(new ArchiveQuery(juneFirst, juneFirst.plusSeconds(9 * 3600), null, null), byWindow);
+        assertEquals(1, byWindow.getJumps());
+
+        ArchiveStats byAirport = new ArchiveStats();
+        segment.scan(new ArchiveQuery(null, null, north, null), byAirport);
+        assertEquals(2, byAirport.getJumps());
+
+        ArchiveStats byPerson = new ArchiveStats();
+        segment.scan(new ArchiveQuery(null, null, north, alice), byPerson);
+        assertEquals(1, byPerson.getJumps());
+
+        ArchiveStats unknown = new ArchiveStats();
+        segment.scan(new ArchiveQuery(null, null, UUID.randomUUID(), null), unknown);
+        assertEquals(0, unknown.getJumps());
+    }
+}
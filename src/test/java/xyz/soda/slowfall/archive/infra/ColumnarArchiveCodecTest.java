@@ -0,0 +1,75 @@
+package xyz.soda.slowfall.archive.infra;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.soda.slowfall.archive.domain.ArchivedJump;
+import xyz.soda.slowfall.archive.domain.JumpArchiveSegment;
+
+class ColumnarArchiveCodecTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsAllColumns() throws IOException {
+        List<UUID> people = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        UUID airport = UUID.randomUUID();
+        List<ArchivedJump> jumps = new ArrayList<>();
+        Instant start = Instant.parse("2025-06-01T08:00:00Z");
+        for (int i = 0; i < 500; i++) {
+            jumps.add(new ArchivedJump(
+                    start.plusSeconds(i * 600L),
+                    airport,
+                    i % 2 == 0 ? 13000 : 4000,
+                    people.subList(0, i % 4),
+                    List.of(people.get(i % 3))));
+        }
+        JumpArchiveSegment original = JumpArchiveSegment.of(jumps);
+        Path file = directory.resolve("jumps-2025-06.sfja");
+
+        ColumnarArchiveCodec.write(file, original);
+        JumpArchiveSegment decoded = ColumnarArchiveCodec.read(file);
+
+        assertArrayEquals(original.times(), decoded.times());
+        assertArrayEquals(original.airportCodes(), decoded.airportCodes());
+        assertArrayEquals(original.airports(), decoded.airports());
+        assertArrayEquals(original.altitudes(), decoded.altitudes());
+        assertArrayEquals(original.rosterOffsets(), decoded.rosterOffsets());
+        assertArrayEquals(original.rosterCodes(), decoded.rosterCodes());
+        assertArrayEquals(original.persons(), decoded.persons());
+        assertArrayEquals(original.pilotOffsets(), decoded.pilotOffsets());
+        assertArrayEquals(original.pilotCodes(), decoded.pilotCodes());
+        assertArrayEquals(original.pilots(), decoded.pilots());
+        assertEquals(
+                new ColumnarArchiveCodec.Header(500, original.minEpochSecond(), original.maxEpochSecond()),
+                ColumnarArchiveCodec.readHeader(file));
+    }
+
+    @Test
+    void roundTripsEmptySegment() throws IOException {
+        Path file = directory.resolve("jumps-2025-01.sfja");
+
+        ColumnarArchiveCodec.write(file, JumpArchiveSegment.of(List.of()));
+
+        assertEquals(0, ColumnarArchiveCodec.read(file).size());
+    }
+
+    @Test
+    void rejectsForeignFiles() throws IOException {
+        Path file = directory.resolve("jumps-2025-02.sfja");
+        Files.writeString(file, "not an archive at all");
+
+        assertThrows(IOException.class, () -> ColumnarArchiveCodec.read(file));
+    }
+}
@@ -0,0 +1,59 @@
+package xyz.soda.slowfall.audit.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.audit.domain.AuditAction;
+import xyz.soda.slowfall.audit.domain.AuditRecord;
+
+@ExtendWith(MockitoExtension.class)
+class AuditControllerTest {
+
+    @Mock
+    ManifestAuditLog auditLog;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new AuditController(auditLog)).build();
+    }
+
+    @Test
+    void listReturnsEntries() throws Exception {
+        Instant from = Instant.parse("2025-06-01T00:00:00Z");
+        Instant to = Instant.parse("2025-06-02T00:00:00Z");
+        AuditRecord record = new AuditRecord(
+                7, from.plusSeconds(60), AuditAction.SKYDIVER_ADDED, UUID.randomUUID(), UUID.randomUUID(), "dev");
+        when(auditLog.query(from, to, 1000)).thenReturn(List.of(record));
+
+        mvc.perform(get("/api/audit").param("from", from.toString()).param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].sequence").value(7))
+                .andExpect(jsonPath("$[0].action").value("SKYDIVER_ADDED"))
+                .andExpect(jsonPath("$[0].actor").value("dev"));
+    }
+
+    @Test
+    void listReturns400ForInvalidWindow() throws Exception {
+        when(auditLog.query(any(), any(), anyInt())).thenThrow(new IllegalArgumentException("bad window"));
+
+        mvc.perform(get("/api/audit").param("from", "2025-06-02T00:00:00Z").param("to", "2025-06-01T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+    }
+}
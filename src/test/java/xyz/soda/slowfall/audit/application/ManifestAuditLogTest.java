@@ -0,0 +1,97 @@
+package xyz.soda.slowfall.audit.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import xyz.soda.slowfall.audit.domain.AuditAction;
+import xyz.soda.slowfall.audit.domain.AuditRecord;
+import xyz.soda.slowfall.audit.infra.MappedAuditJournal;
+
+class ManifestAuditLogTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T09:00:00Z");
+
+    @TempDir
+    Path directory;
+
+    private MappedAuditJournal journal;
+    private ManifestAuditLog auditLog;
+
+    @BeforeEach
+    void setup() throws IOException {
+        journal = new MappedAuditJournal(directory, 16, Duration.ofSeconds(1));
+        auditLog = new ManifestAuditLog(journal, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        journal.close();
+    }
+
+    @Test
+    void recordsChangeWithCurrentUser() {
+        UUID jumpId = UUID.randomUUID();
+        UUID personId = UUID.randomUUID();
+        SecurityContextHolder.getContext()
+                .setAuthentication(UsernamePasswordAuthenticationToken.authenticated("manifest", null, List.of()));
+
+        auditLog.skydiverAdded(jumpId, personId);
+
+        assertEquals(
+                List.of(new AuditRecord(0, NOW, AuditAction.SKYDIVER_ADDED, jumpId, personId, "manifest")),
+                auditLog.query(NOW, NOW.plusSeconds(1), 10));
+    }
+
+    @Test
+    void appendsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        auditLog.pilotAdded(UUID.randomUUID(), UUID.randomUUID());
+        auditLog.jumpCreated(UUID.randomUUID(), null);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+
+        assertEquals(0, journal.nextSequence());
+        synchronizations.getFirst().afterCommit();
+        assertEquals(1, journal.nextSequence());
+        assertEquals("anonymous", auditLog.query(NOW, NOW.plusSeconds(1), 10).getFirst().actor());
+    }
+
+    @Test
+    void queryRejectsInvalidWindowAndLimit() {
+        assertThrows(IllegalArgumentException.class, () -> auditLog.query(NOW, NOW, 10));
+        assertThrows(IllegalArgumentException.class, () -> auditLog.query(null, NOW, 10));
+        assertThrows(IllegalArgumentException.class, () -> auditLog.query(NOW, NOW.plusSeconds(1), 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> auditLog.query(NOW, NOW.plusSeconds(1), ManifestAuditLog.MAX_QUERY_LIMIT + 1));
+    }
+
+    @Test
+    void disabledLogRecordsNothing() {
+        ManifestAuditLog disabled = new ManifestAuditLog(null, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        disabled.jumpCreated(UUID.randomUUID(), null);
+
+        assertTrue(disabled.query(NOW, NOW.plusSeconds(1), 10).isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+package xyz.soda.slowfall.audit.infra;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.soda.slowfall.audit.domain.AuditAction;
+
+/**
+ * Measures append latency of the audit journal with one and four writers, including segment rolls and the
+ * background force. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class MappedAuditJournalBenchmark {
+
+    private static final int APPENDS_PER_THREAD = 500_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendLatency() throws Exception {
+        try (MappedAuditJournal journal = new MappedAuditJournal(directory, 65_536, Duration.ofSeconds(1))) {
+            run(journal, 1);
+            run(journal, 4);
+        }
+    }
+
+    private static void run(MappedAuditJournal journal, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> appendAll(journal)));
+            }
+            long[] all = new long[threads * APPENDS_PER_THREAD];
+            for (int i = 0; i < threads; i++) {
+                System.arraycopy(futures.get(i).get(), 0, all, i * APPENDS_PER_THREAD, APPENDS_PER_THREAD);
+            }
+            Arrays.sort(all);
+            System.out.printf(
+                    "%d writer(s): p50 %,d ns, p99 %,d ns, p99.9 %,d ns, max %,d ns%n",
+                    threads,
+                    all[all.length / 2],
+                    all[(int) (all.length * 0.99)],
+                    all[(int) (all.length * 0.999)],
+                    all[all.length - 1]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long[] appendAll(MappedAuditJournal journal) {
+        UUID jump = UUID.randomUUID();
+        UUID person = UUID.randomUUID();
+        long[] latencies = new long[APPENDS_PER_THREAD];
+        for (int i = 0; i < APPENDS_PER_THREAD; i++) {
+            long begin = System.nanoTime();
+            journal.append(Instant.now(), AuditAction.SKYDIVER_ADDED, jump, person, "manifest-desk");
+            latencies[i] = System.nanoTime() - begin;
+        }
+        return latencies;
+    }
+}
@@ -0,0 +1,161 @@
+package xyz.soda.slowfall.audit.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import xyz.soda.slowfall.audit.domain.AuditAction;
+import xyz.soda.slowfall.audit.domain.AuditRecord;
+
+class MappedAuditJournalTest {
+
+    private static final Instant START = Instant.parse("2025-06-01T09:00:00Z");
+    private static final UUID JUMP = UUID.randomUUID();
+    private static final UUID PERSON = UUID.randomUUID();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendedRecordsReadBackIntact() throws IOException {
+        try (MappedAuditJournal journal = open(4)) {
+            assertEquals(0, journal.append(START, AuditAction.JUMP_CREATED, JUMP, null, "manifest"));
+            assertEquals(
+                    1, journal.append(START.plusNanos(1_500), AuditAction.SKYDIVER_ADDED, JUMP, PERSON, "\u00e5dmin"));
+
+            List<AuditRecord> records = journal.query(START, START.plusSeconds(1), 10);
+
+            assertEquals(2, records.size());
+            assertEquals(new AuditRecord(0, START, AuditAction.JUMP_CREATED, JUMP, null, "manifest"), records.get(0));
+            assertEquals(
+                    new AuditRecord(1, START.plusNanos(1_000), AuditAction.SKYDIVER_ADDED, JUMP, PERSON, "\u00e5dmin"),
+                    records.get(1));
+        }
+    }
+
+    @Test
+    void rollsSegmentsAndQueriesAcrossThem() throws IOException {
+        try (MappedAuditJournal journal = open(4)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(START.plusSeconds(i), AuditAction.SKYDIVER_ADDED, JUMP, PERSON, "manifest");
+            }
+
+            List<AuditRecord> window = journal.query(START.plusSeconds(3), START.plusSeconds(9), 100);
+
+            assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L), sequences(window));
+            assertEquals(List.of(3L, 4L), sequences(journal.query(START.plusSeconds(3), START.plusSeconds(9), 2)));
+            assertEquals(3, segmentCount());
+        }
+    }
+
+    @Test
+    void timesNeverGoBackwards() throws IOException {
+        try (MappedAuditJournal journal = open(4)) {
+            journal.append(START.plusSeconds(5), AuditAction.PILOT_ADDED, JUMP, PERSON, "manifest");
+            journal.append(START, AuditAction.PILOT_ADDED, JUMP, PERSON, "manifest");
+
+            List<AuditRecord> records = journal.query(START, START.plusSeconds(10), 10);
+
+            assertEquals(START.plusSeconds(5), records.get(1).time());
+        }
+    }
+
+    @Test
+    void replayStartsAtSequence() throws IOException {
+        try (MappedAuditJournal journal = open(3)) {
+            for (int i = 0; i < 7; i++) {
+                journal.append(START.plusSeconds(i), AuditAction.SKYDIVER_ADDED, JUMP, PERSON, "manifest");
+            }
+            List<AuditRecord> replayed = new ArrayList<>();
+
+            journal.replay(4, replayed::add);
+
+            assertEquals(List.of(4L, 5L, 6L), sequences(replayed));
+        }
+    }
+
+    @Test
+    void reopenContinuesAfterLastRecord() throws IOException {
+        try (MappedAuditJournal journal = open(4)) {
+            for (int i = 0; i < 6; i++) {
+                journal.append(START.plusSeconds(i), AuditAction.SKYDIVER_ADDED, JUMP, PERSON, "manifest");
+            }
+        }
+        try (MappedAuditJournal journal = open(4)) {
+            assertEquals(6, journal.nextSequence());
+            assertEquals(6, journal.append(START, AuditAction.PILOT_ADDED, JUMP, PERSON, "manifest"));
+
+            List<AuditRecord> all = journal.query(START, START.plusSeconds(60), 100);
+
+            assertEquals(7, all.size());
+            assertEquals(START.plusSeconds(5), all.get(6).time());
+        }
+    }
+
+    @Test
+    void tornRecordIsDroppedOnReopen() throws IOException {
+        try (MappedAuditJournal journal = open(8)) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(START.plusSeconds(i), AuditAction.SKYDIVER_ADDED, JUMP, PERSON, "manifest");
+            }
+        }
+        Path segment = directory.resolve("audit-0000000000000000000.journal");
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {42}), 2L * MappedAuditJournal.RECORD_SIZE + 60);
+        }
+
+        try (MappedAuditJournal journal = open(8)) {
+            assertEquals(2, journal.nextSequence());
+        }
+    }
+
+    @Test
+    void longActorIsTruncatedOnCharacterBoundary() throws IOException {
+        try (MappedAuditJournal journal = open(4)) {
+            journal.append(START, AuditAction.PILOT_ADDED, JUMP, null, "\u00e9".repeat(50));
+
+            AuditRecord record = journal.query(START, START.plusSeconds(1), 1).getFirst();
+
+            assertEquals("\u00e9".repeat(MappedAuditJournal.MAX_ACTOR_BYTES / 2), record.actor());
+            assertNull(record.personId());
+        }
+    }
+
+    @Test
+    void secondJournalOnSameDirectoryIsRejected() throws IOException {
+        try (MappedAuditJournal journal = open(4)) {
+            assertThrows(IllegalStateException.class, () -> open(4));
+        }
+    }
+
+    private MappedAuditJournal open(int recordsPerSegment) throws IOException {
+        return new MappedAuditJournal(directory, recordsPerSegment, Duration.ofMillis(50));
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            // Ignore a segment mapped ahead of time by the flusher.
+            return files.filter(path -> path.toString().endsWith(".journal"))
+                    .filter(path -> path.getFileName().toString().compareTo("audit-0000000000000000012") < 0)
+                    .count();
+        }
+    }
+
+    private static List<Long> sequences(List<AuditRecord> records) {
+        return records.stream().map(AuditRecord::sequence).toList();
+    }
+}
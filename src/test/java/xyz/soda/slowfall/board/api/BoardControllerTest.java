@@ -0,0 +1,62 @@
+package xyz.soda.slowfall.board.api;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import xyz.soda.slowfall.board.application.BoardService;
+import xyz.soda.slowfall.board.application.BoardSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class BoardControllerTest {
+    private static final UUID AIRPORT = UUID.randomUUID();
+    private static final String JSON = "{\"loads\":[]}";
+
+    @Mock
+    BoardService service;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new BoardController(service)).build();
+    }
+
+    @Test
+    void servesPrebuiltBoardWithEtag() throws Exception {
+        when(service.snapshot(AIRPORT)).thenReturn(new BoardSnapshot(JSON.getBytes(StandardCharsets.UTF_8), "\"v1\""));
+
+        mvc.perform(get("/api/airports/" + AIRPORT + "/board"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v1\""))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(JSON));
+    }
+
+    @Test
+    void unchangedBoardIsNotModified() throws Exception {
+        when(service.snapshot(AIRPORT)).thenReturn(new BoardSnapshot(JSON.getBytes(StandardCharsets.UTF_8), "\"v1\""));
+
+        mvc.perform(get("/api/airports/" + AIRPORT + "/board").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void airportWithoutBoardIsNotFound() throws Exception {
+        mvc.perform(get("/api/airports/" + AIRPORT + "/board")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,71 @@
+package xyz.soda.slowfall.board.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class AirportBoardTest {
+    private static final Instant T0 = Instant.parse("2025-06-01T09:00:00Z");
+
+    @Test
+    void keepsLoadsInTimeOrderAndReplacesById() {
+        AirportBoard board = new AirportBoard(4);
+        BoardLoad late = load(30);
+        BoardLoad early = load(10);
+        board.upsert(late);
+        board.upsert(early);
+
+        BoardLoad manifested = new BoardLoad(early.jumpId(), early.jumpTime(), 13000, List.of(), List.of("Sam Sky"));
+        board.upsert(manifested);
+
+        assertEquals(List.of(manifested, late), board.next(5));
+    }
+
+    @Test
+    void dropsLoadsBeyondCapacityAndIgnoresLaterOnes() {
+        AirportBoard board = new AirportBoard(2);
+        BoardLoad first = load(10);
+        BoardLoad second = load(20);
+        board.upsert(first);
+        board.upsert(second);
+        board.upsert(load(30));
+
+        assertFalse(board.upsert(load(40)));
+        assertEquals(List.of(first, second), board.next(5));
+        BoardLoad between = load(15);
+        assertTrue(board.upsert(between));
+        assertEquals(List.of(first, between), board.next(5));
+    }
+
+    @Test
+    void departedLoadsLeaveAndTruncatedBoardAsksForRefill() {
+        AirportBoard board = new AirportBoard(2);
+        board.replace(List.of(load(10), load(20)), true);
+
+        assertFalse(board.depart(T0.plusSeconds(5 * 60)));
+        assertTrue(board.depart(T0.plusSeconds(10 * 60)));
+
+        assertEquals(1, board.next(5).size());
+        assertTrue(board.needsRefill(2));
+        assertFalse(board.needsRefill(1));
+    }
+
+    @Test
+    void completeBoardNeverNeedsRefill() {
+        AirportBoard board = new AirportBoard(4);
+        board.replace(List.of(load(10)), false);
+        board.depart(T0.plusSeconds(3600));
+
+        assertFalse(board.needsRefill(3));
+        assertTrue(board.next(3).isEmpty());
+    }
+
+    private static BoardLoad load(int minutesAfterT0) {
+        return new BoardLoad(UUID.randomUUID(), T0.plusSeconds(minutesAfterT0 * 60L), 13000, List.of(), List.of());
+    }
+}
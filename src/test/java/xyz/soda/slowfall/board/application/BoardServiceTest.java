@@ -0,0 +1,166 @@
+package xyz.soda.slowfall.board.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * Runs the board refresh against the real repositories; each step commits so the board reads what a
+ * committed roster change would leave behind.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BoardServiceTest {
+    private static final Instant T0 = Instant.parse("2030-06-01T09:00:00Z");
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    AirportRepository airportRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final MutableClock clock = new MutableClock();
+    private final List<UUID> jumpIds = new ArrayList<>();
+    private UUID airportId;
+    private BoardService service;
+
+    @BeforeEach
+    void setup() {
+        airportId = airportRepository.save(new Airport("EDMB", "Board Field", "UTC")).getId();
+        for (int i = 1; i <= 10; i++) {
+            jumpIds.add(jumpRepository
+                    .save(new Jump(T0.plus(Duration.ofMinutes(10L * i)), airportId, 13000))
+                    .getId());
+        }
+        // Shows 3 loads and holds 6.
+        service = new BoardService(
+                jumpRepository,
+                airportRepository,
+                transactionManager,
+                objectMapper,
+                new BoardProperties(true, 3, Duration.ofMillis(250), Duration.ofHours(1)),
+                clock);
+        service.refresh();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        service.close();
+        jumpRepository.deleteAll();
+        personRepository.deleteAllInBatch();
+        airportRepository.deleteAll();
+    }
+
+    @Test
+    void showsNextLoadsOfEachAirport() throws IOException {
+        JsonNode board = board();
+
+        assertEquals(airportId.toString(), board.get("airportId").asText());
+        assertEquals(3, board.get("loads").size());
+        assertEquals(jumpIds.get(0).toString(), board.get("loads").get(0).get("jumpId").asText());
+        assertNull(service.snapshot(UUID.randomUUID()));
+    }
+
+    @Test
+    void changedRosterIsRebuiltOnNextRefresh() throws IOException {
+        String etag = service.snapshot(airportId).etag();
+        UUID personId = personRepository
+                .save(new Person("Sam", "Sky", false, true, 80, "sam@board.io"))
+                .getId();
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> jumpRepository.insertSkydiver(jumpIds.get(1), personId));
+
+        service.refresh();
+        assertEquals(etag, service.snapshot(airportId).etag());
+
+        service.onJumpsChanged(new JumpsChangedEvent(List.of(jumpIds.get(1))));
+        service.refresh();
+
+        assertNotEquals(etag, service.snapshot(airportId).etag());
+        assertEquals("Sam Sky", board().get("loads").get(1).get("skydivers").get(0).asText());
+    }
+
+    @Test
+    void departedLoadsLeaveAndBoardRefillsFromDatabase() throws IOException {
+        clock.advance(Duration.ofMinutes(45));
+
+        service.refresh();
+
+        JsonNode loads = board().get("loads");
+        assertEquals(3, loads.size());
+        assertEquals(jumpIds.get(4).toString(), loads.get(0).get("jumpId").asText());
+        assertEquals(jumpIds.get(6).toString(), loads.get(2).get("jumpId").asText());
+    }
+
+    @Test
+    void deletedJumpIsDropped() throws IOException {
+        jumpRepository.deleteById(jumpIds.get(0));
+
+        service.onJumpsChanged(new JumpsChangedEvent(List.of(jumpIds.get(0))));
+        service.refresh();
+
+        assertEquals(jumpIds.get(1).toString(), board().get("loads").get(0).get("jumpId").asText());
+    }
+
+    private JsonNode board() throws IOException {
+        return objectMapper.readTree(service.snapshot(airportId).json());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = T0;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package xyz.soda.slowfall.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+class CachingJwtAuthenticationManagerTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final MutableClock clock = new MutableClock();
+    private JwtTestSupport jwt;
+    private CachingJwtAuthenticationManager manager;
+
+    @BeforeEach
+    void setup() throws Exception {
+        jwt = new JwtTestSupport();
+        JwtDecoder verifying = jwt.decoder();
+        JwtDecoder counting = token -> {
+            verifications.incrementAndGet();
+            return verifying.decode(token);
+        };
+        manager = new CachingJwtAuthenticationManager(
+                new JwtAuthenticationProvider(counting), 2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void verifiesTokenOnlyOnce() {
+        String token = jwt.token("dev", Duration.ofHours(1));
+
+        Authentication first = manager.authenticate(new BearerTokenAuthenticationToken(token));
+        Authentication second = manager.authenticate(new BearerTokenAuthenticationToken(token));
+
+        assertTrue(first.isAuthenticated());
+        assertEquals("dev", first.getName());
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+    }
+
+    @Test
+    void reverifiesAfterMaxCacheAge() {
+        String token = jwt.token("dev", Duration.ofHours(1));
+        manager.authenticate(new BearerTokenAuthenticationToken(token));
+
+        clock.advance(Duration.ofMinutes(6));
+        manager.authenticate(new BearerTokenAuthenticationToken(token));
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void invalidTokensAreRejectedAndNotCached() {
+        String forged = jwt.token("dev", Duration.ofHours(1)) + "x";
+
+        assertThrows(
+                AuthenticationException.class, () -> manager.authenticate(new BearerTokenAuthenticationToken(forged)));
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int i = 0; i < 5; i++) {
+            manager.authenticate(new BearerTokenAuthenticationToken(jwt.token("user" + i, Duration.ofHours(1))));
+        }
+
+        assertEquals(2, manager.size());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.now();
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
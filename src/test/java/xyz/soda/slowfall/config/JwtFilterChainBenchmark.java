@@ -0,0 +1,57 @@
+package xyz.soda.slowfall.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+
+/**
+ * Measures the per-request cost of bearer authentication in the filter chain, with and without the
+ * verified-token cache. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class JwtFilterChainBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    void bearerFilterCostPerRequest() throws Exception {
+        JwtTestSupport jwt = new JwtTestSupport();
+        String token = jwt.token("dev", Duration.ofHours(1));
+
+        AuthenticationManager uncached = new ProviderManager(new JwtAuthenticationProvider(jwt.decoder()));
+        AuthenticationManager cached = new CachingJwtAuthenticationManager(
+                new JwtAuthenticationProvider(jwt.decoder()), 10_000, Duration.ofMinutes(5), Clock.systemUTC());
+
+        System.out.printf("bearer filter, full verification: %,d ns/request%n", measure(uncached, token));
+        System.out.printf("bearer filter, cached token:      %,d ns/request%n", measure(cached, token));
+    }
+
+    private static long measure(AuthenticationManager manager, String token) throws Exception {
+        BearerTokenAuthenticationFilter filter = new BearerTokenAuthenticationFilter(manager);
+        for (int i = 0; i < WARMUP; i++) {
+            runOnce(filter, token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            runOnce(filter, token);
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private static void runOnce(BearerTokenAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jumps");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+}
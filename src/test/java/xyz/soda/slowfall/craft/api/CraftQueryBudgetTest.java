@@ -0,0 +1,93 @@
+package xyz.soda.slowfall.craft.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import xyz.soda.slowfall.SqlBudget;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.domain.StationLayout;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+
+/**
+ * SQL statement budgets for the craft and airport endpoints, run against the real persistence layer.
+ */
+@SpringBootTest(properties = {"app.coalescing.enabled=false", "app.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class CraftQueryBudgetTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    CraftRepository craftRepository;
+
+    @Autowired
+    AirportRepository airportRepository;
+
+    private String existingRegistration;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < 10; i++) {
+            String suffix = UUID.randomUUID().toString().substring(0, 5);
+            existingRegistration = "N" + suffix;
+            Craft craft = new Craft("Caravan " + i, existingRegistration, 1400, 15);
+            craft.setStationLayout(new StationLayout(2150, 455, 330, 640, List.of(400, 460, 520), 3, 420, 560));
+            craftRepository.save(craft);
+            airportRepository.save(new Airport("C" + suffix.substring(0, 3), "Airport " + i, "UTC"));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        craftRepository.deleteAll();
+        airportRepository.deleteAll();
+    }
+
+    @Test
+    @SqlBudget(1)
+    void listCraftsDoesNotLoadSeatRows() throws Exception {
+        mvc.perform(get("/api/crafts")).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(1)
+    void listAirportsIsSingleQuery() throws Exception {
+        mvc.perform(get("/api/airports")).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(1)
+    void createCraftIsSingleInsert() throws Exception {
+        mvc.perform(post("/api/crafts").contentType(MediaType.APPLICATION_JSON).content(craftJson("Otter", "N1OTR")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @SqlBudget(1)
+    void duplicateRegistrationIsRejectedByConstraint() throws Exception {
+        mvc.perform(post("/api/crafts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(craftJson("Otter", existingRegistration)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String craftJson(String name, String registration) {
+        return """
+                {"name":"%s","registrationNumber":"%s","capacityWeight":2100,"capacityPersons":22}"""
+                .formatted(name, registration);
+    }
+}
@@ -3,18 +3,26 @@ package xyz.soda.slowfall.craft.application;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import xyz.soda.slowfall.craft.api.CreateCraftRequest;
 import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.domain.StationLayout;
 import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
+import xyz.soda.slowfall.sync.domain.SyncKind;
 
 @ExtendWith(MockitoExtension.class)
 class CraftServiceTest {
@@ -22,38 +30,32 @@ class CraftServiceTest {
     @Mock
     CraftRepository repository;
 
+    @Mock
+    ApplicationEventPublisher events;
+
     @InjectMocks
     CraftService service;
 
     @Test
     void createCraftSucceedsWhenUnique() {
         CreateCraftRequest req = new CreateCraftRequest("C1", "REG-1", 1000, 4);
-        when(repository.findByName("C1")).thenReturn(Optional.empty());
-        when(repository.findByRegistrationNumber("REG-1")).thenReturn(Optional.empty());
-        when(repository.save(any(Craft.class))).thenAnswer(i -> i.getArgument(0));
+        when(repository.saveAndFlush(any(Craft.class))).thenAnswer(i -> i.getArgument(0));
 
         Craft created = service.createCraft(req);
 
         assertEquals("C1", created.getName());
+        verify(repository, never()).findByName(any());
+        verify(repository, never()).findByRegistrationNumber(any());
     }
 
     @Test
-    void createCraftFailsWhenNameExists() {
+    void createCraftFailsWhenNameOrRegistrationExists() {
         CreateCraftRequest req = new CreateCraftRequest("C1", "REG-1", 1000, 4);
-        Craft existing = new Craft("C1", "REG-1", 1000, 4);
-        when(repository.findByName("C1")).thenReturn(Optional.of(existing));
-
-        assertThrows(IllegalArgumentException.class, () -> service.createCraft(req));
-    }
-
-    @Test
-    void createCraftFailsWhenRegistrationExists() {
-        CreateCraftRequest req = new CreateCraftRequest("C2", "REG-2", 1500, 5);
-        Craft existing = new Craft("C-EX", "REG-2", 1500, 5);
-        when(repository.findByName("C2")).thenReturn(Optional.empty());
-        when(repository.findByRegistrationNumber("REG-2")).thenReturn(Optional.of(existing));
+        when(repository.saveAndFlush(any(Craft.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
 
         assertThrows(IllegalArgumentException.class, () -> service.createCraft(req));
+        verify(events, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -66,4 +68,26 @@ class CraftServiceTest {
         assertEquals(1, results.size());
         assertEquals("C1", results.getFirst().getName());
     }
+
+    @Test
+    void updateStationLayoutSetsLayoutOnCraft() {
+        UUID id = UUID.randomUUID();
+        Craft craft = new Craft("C1", "REG-1", 1000, 4);
+        when(repository.findById(id)).thenReturn(Optional.of(craft));
+        StationLayout layout = new StationLayout(1000, 300, 200, 500, List.of(250, 350), 2, 280, 330);
+
+        service.updateStationLayout(id, layout);
+
+        assertEquals(layout, craft.getStationLayout());
+        verify(events).publishEvent(new EntitiesChangedEvent(SyncKind.CRAFT, List.of(id)));
+    }
+
+    @Test
+    void updateStationLayoutFailsForUnknownCraft() {
+        UUID id = UUID.randomUUID();
+        when(repository.findById(id)).thenReturn(Optional.empty());
+        StationLayout layout = new StationLayout(1000, 300, 200, 500, List.of(250), 2, 280, 330);
+
+        assertThrows(IllegalArgumentException.class, () -> service.updateStationLayout(id, layout));
+    }
 }
@@ -0,0 +1,49 @@
+package xyz.soda.slowfall.craft.application;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.craft.domain.StationLayout;
+
+/**
+ * Measures recomputation cost after a roster change for full loads: a Caravan with 15 jumpers and a Twin
+ * Otter with 22. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class WeightBalanceCalculatorBenchmark {
+
+    private static final int ITERATIONS = 1_000_000;
+
+    @Test
+    void fullLoads() {
+        StationLayout caravan = new StationLayout(2150, 455, 330, 640, List.of(400, 460, 520, 580, 620), 3, 420, 560);
+        StationLayout otter =
+                new StationLayout(3400, 560, 290, 780, List.of(380, 440, 500, 560, 620, 680, 740), 3, 480, 690);
+
+        System.out.printf("caravan, 15 jumpers:   %,d ns%n", time(new WeightBalanceCalculator(caravan, 1400), 15));
+        System.out.printf("twin otter, 22 jumpers: %,d ns%n", time(new WeightBalanceCalculator(otter, 2100), 22));
+    }
+
+    private static long time(WeightBalanceCalculator calculator, int jumpers) {
+        Random random = new Random(42);
+        int[][] rosters = new int[64][];
+        for (int i = 0; i < rosters.length; i++) {
+            rosters[i] = random.ints(jumpers, 55, 115).toArray();
+        }
+        int[] pilots = {85};
+        double sink = 0;
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            sink += calculator.compute(pilots, rosters[i & 63]).seatedCgArm();
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += calculator.compute(pilots, rosters[i & 63]).seatedCgArm();
+        }
+        long nanos = (System.nanoTime() - begin) / ITERATIONS;
+        if (sink == 0) {
+            System.out.println();
+        }
+        return nanos;
+    }
+}
@@ -0,0 +1,64 @@
+package xyz.soda.slowfall.craft.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.craft.application.WeightBalanceCalculator.LoadBalance;
+import xyz.soda.slowfall.craft.domain.StationLayout;
+
+class WeightBalanceCalculatorTest {
+
+    // Two rows of two seats; the door is aft of both rows.
+    private static final StationLayout LAYOUT = new StationLayout(1000, 300, 200, 500, List.of(350, 250), 2, 280, 330);
+
+    private final WeightBalanceCalculator calculator = new WeightBalanceCalculator(LAYOUT, 500);
+
+    @Test
+    void seatsHeaviestJumpersForwardAndChecksEnvelope() {
+        LoadBalance balance = calculator.compute(new int[] {80}, new int[] {90, 100});
+
+        assertEquals(1270, balance.totalWeight());
+        assertEquals(270, balance.payloadWeight());
+        assertEquals(363_500.0 / 1270, balance.seatedCgArm(), 1e-9);
+        assertEquals(411_000.0 / 1270, balance.exitCgArm(), 1e-9);
+        assertTrue(balance.withinEnvelope());
+        assertTrue(balance.withinLimits());
+    }
+
+    @Test
+    void climbOutCanLeaveTheEnvelope() {
+        LoadBalance balance = calculator.compute(new int[] {80}, new int[] {70, 90, 100, 60});
+
+        assertEquals(409_000.0 / 1400, balance.seatedCgArm(), 1e-9);
+        assertEquals(340.0, balance.exitCgArm(), 1e-9);
+        assertFalse(balance.withinEnvelope());
+        assertFalse(balance.overweight());
+    }
+
+    @Test
+    void resultDoesNotDependOnRosterOrder() {
+        assertEquals(
+                calculator.compute(new int[] {80}, new int[] {60, 100, 70, 90}),
+                calculator.compute(new int[] {80}, new int[] {90, 70, 100, 60}));
+    }
+
+    @Test
+    void flagsOverweightAndUnseatedLoads() {
+        LoadBalance balance = calculator.compute(new int[] {80}, new int[] {90, 90, 90, 90, 90});
+
+        assertEquals(1, balance.unseated());
+        assertTrue(balance.overweight());
+        assertFalse(balance.withinLimits());
+    }
+
+    @Test
+    void layoutRejectsEmptyEnvelope() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new StationLayout(1000, 300, 200, 500, List.of(250), 2, 330, 280));
+    }
+}
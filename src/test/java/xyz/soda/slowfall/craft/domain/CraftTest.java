@@ -1,7 +1,9 @@
 package xyz.soda.slowfall.craft.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class CraftTest {
@@ -21,4 +23,14 @@ class CraftTest {
         c.setRegistrationNumber("NEW-REG");
         assertEquals("NEW-REG", c.getRegistrationNumber());
     }
+
+    @Test
+    void stationLayoutRoundTrips() {
+        Craft c = new Craft("C1", "REG-1", 1000, 4);
+        assertNull(c.getStationLayout());
+
+        StationLayout layout = new StationLayout(1000, 300, 200, 500, List.of(250, 350), 2, 280, 330);
+        c.setStationLayout(layout);
+        assertEquals(layout, c.getStationLayout());
+    }
 }
@@ -0,0 +1,92 @@
+package xyz.soda.slowfall.idempotency.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import xyz.soda.slowfall.idempotency.application.InMemoryIdempotencyStore;
+
+class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private IdempotencyFilter filter;
+    private int nextStatus = 201;
+
+    @BeforeEach
+    void setup() {
+        var store = new InMemoryIdempotencyStore(Duration.ofHours(1), 100, Clock.systemUTC());
+        filter = new IdempotencyFilter(store, true, 65536);
+    }
+
+    @Test
+    void retryWithSameKeyReplaysOriginalResponse() throws Exception {
+        MockHttpServletResponse first = perform("/api/jumps", "key-1", "{\"a\":1}");
+        MockHttpServletResponse retry = perform("/api/jumps", "key-1", "{\"a\":1}");
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void reusingKeyForDifferentRequestIsRejected() throws Exception {
+        perform("/api/jumps", "key-1", "{\"a\":1}");
+
+        assertEquals(422, perform("/api/jumps", "key-1", "{\"a\":2}").getStatus());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void serverErrorsAreNotStored() throws Exception {
+        nextStatus = 500;
+        perform("/api/jumps", "key-1", "{}");
+        nextStatus = 201;
+
+        assertEquals(201, perform("/api/jumps", "key-1", "{}").getStatus());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void requestsWithoutKeyAlwaysExecute() throws Exception {
+        perform("/api/jumps", null, "{}");
+        MockHttpServletResponse second = perform("/api/jumps", null, "{}");
+
+        assertEquals(2, executions.get());
+        assertNull(second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    private MockHttpServletResponse perform(String uri, String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        if (key != null) request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain(new CountingServlet()));
+        return response;
+    }
+
+    private final class CountingServlet extends HttpServlet {
+        @Override
+        protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            int count = executions.incrementAndGet();
+            String echoed = StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8);
+            resp.setStatus(nextStatus);
+            resp.setContentType("application/json");
+            resp.getWriter().write("{\"run\":" + count + ",\"echo\":" + echoed + "}");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package xyz.soda.slowfall.idempotency.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class InMemoryIdempotencyStoreTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void secondBeginReturnsStoredResponse() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(5), 10, clock);
+
+        assertTrue(store.begin("k1", "fp").isEmpty());
+        assertNull(store.begin("k1", "fp").orElseThrow().response());
+
+        store.complete("k1", new StoredResponse(201, "application/json", "{}".getBytes()));
+        IdempotencyStore.Entry entry = store.begin("k1", "fp").orElseThrow();
+        assertEquals(201, entry.response().status());
+    }
+
+    @Test
+    void releasedKeysCanBeClaimedAgain() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(5), 10, clock);
+        store.begin("k1", "fp");
+        store.release("k1");
+
+        assertTrue(store.begin("k1", "fp").isEmpty());
+    }
+
+    @Test
+    void expiredKeysAreEvicted() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(5), 10, clock);
+        store.begin("k1", "fp");
+
+        clock.advance(Duration.ofMinutes(6));
+        assertTrue(store.begin("k1", "fp").isEmpty());
+    }
+
+    @Test
+    void oldestKeyIsDroppedWhenFull() {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(Duration.ofMinutes(5), 2, clock);
+        store.begin("k1", "fp");
+        store.begin("k2", "fp");
+        store.begin("k3", "fp");
+
+        assertTrue(store.begin("k1", "fp").isEmpty());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package xyz.soda.slowfall.idempotency.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.idempotency.infra.IdempotencyRecordRepository;
+
+/**
+ * Claims keys against the real table; runs outside a test transaction so a failed claim insert does not poison
+ * the following lookups.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaIdempotencyStoreTest {
+
+    @Autowired
+    IdempotencyRecordRepository repository;
+
+    private final MutableClock clock = new MutableClock();
+    private JpaIdempotencyStore store;
+
+    @BeforeEach
+    void setup() {
+        store = new JpaIdempotencyStore(repository, Duration.ofHours(24), Duration.ofMinutes(2), clock);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void unfinishedClaimBlocksRetriesUntilItsLeaseRunsOut() {
+        assertTrue(store.begin("anonymous:k1", "fp").isEmpty());
+
+        clock.advance(Duration.ofMinutes(1));
+        IdempotencyStore.Entry running = store.begin("anonymous:k1", "fp").orElseThrow();
+        assertNull(running.response());
+
+        clock.advance(Duration.ofMinutes(2));
+        assertTrue(store.begin("anonymous:k1", "fp").isEmpty());
+    }
+
+    @Test
+    void completedKeyIsReplayedAfterTheLease() {
+        store.begin("anonymous:k2", "fp");
+        store.complete("anonymous:k2", new StoredResponse(201, "application/json", "{}".getBytes()));
+
+        clock.advance(Duration.ofHours(1));
+
+        assertEquals(201, store.begin("anonymous:k2", "fp").orElseThrow().response().status());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2030-06-01T09:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package xyz.soda.slowfall.idempotency.infra;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import xyz.soda.slowfall.idempotency.domain.IdempotencyRecord;
+
+@DataJpaTest
+class IdempotencyRecordRepositoryTest {
+
+    @Autowired
+    IdempotencyRecordRepository repository;
+
+    @Test
+    void completeStoresResponse() {
+        repository.saveAndFlush(new IdempotencyRecord(
+                "anonymous:k1", "fp", Instant.now().plusSeconds(30), Instant.now().plusSeconds(60)));
+
+        repository.complete("anonymous:k1", 201, "application/json", "{}".getBytes());
+
+        IdempotencyRecord stored = repository.findById("anonymous:k1").orElseThrow();
+        assertEquals(201, stored.getStatus());
+        assertArrayEquals("{}".getBytes(), stored.getBody());
+        assertNull(stored.getInFlightUntil());
+    }
+
+    @Test
+    void deleteExpiredRemovesOnlyExpiredKeys() {
+        Instant now = Instant.now();
+        repository.saveAndFlush(new IdempotencyRecord("anonymous:old", "fp", now.minusSeconds(2), now.minusSeconds(1)));
+        repository.saveAndFlush(new IdempotencyRecord("anonymous:new", "fp", now.plusSeconds(30), now.plusSeconds(60)));
+
+        assertEquals(1, repository.deleteExpired(now));
+        assertTrue(repository.findById("anonymous:new").isPresent());
+    }
+
+    @Test
+    void deleteAbandonedSparesRunningAndCompletedKeys() {
+        Instant now = Instant.now();
+        Instant expiresAt = now.plusSeconds(60);
+        repository.saveAndFlush(new IdempotencyRecord("anonymous:dead", "fp", now.minusSeconds(1), expiresAt));
+        repository.saveAndFlush(new IdempotencyRecord("anonymous:running", "fp", now.plusSeconds(30), expiresAt));
+        repository.saveAndFlush(new IdempotencyRecord("anonymous:done", "fp", now.minusSeconds(1), expiresAt));
+        repository.complete("anonymous:done", 201, "application/json", "{}".getBytes());
+
+        assertEquals(1, repository.deleteAbandoned("anonymous:dead", now));
+        assertEquals(0, repository.deleteAbandoned("anonymous:running", now));
+        assertEquals(0, repository.deleteAbandoned("anonymous:done", now));
+    }
+}
@@ -0,0 +1,99 @@
+package xyz.soda.slowfall.invalidation.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryInvalidationBusTest {
+
+    @Mock
+    ApplicationEventPublisher senderEvents;
+
+    @Mock
+    ApplicationEventPublisher receiverEvents;
+
+    InMemoryInvalidationBus sender;
+    InMemoryInvalidationBus receiver;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryInvalidationBus.Channel channel = new InMemoryInvalidationBus.Channel();
+        // Not started: the tests flush by hand.
+        sender = new InMemoryInvalidationBus(channel, senderEvents, Duration.ofMillis(5));
+        receiver = new InMemoryInvalidationBus(channel, receiverEvents, Duration.ofMillis(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.close();
+        receiver.close();
+    }
+
+    @Test
+    void committedJumpChangesReachOtherReplicaOnly() {
+        UUID jumpId = UUID.randomUUID();
+
+        sender.onJumpsChanged(new JumpsChangedEvent(List.of(jumpId)));
+        sender.flush();
+
+        verify(receiverEvents).publishEvent(new JumpsChangedEvent(List.of(jumpId)));
+        verify(senderEvents, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void entityChangesKeepTheirKind() {
+        UUID airportId = UUID.randomUUID();
+
+        sender.onEntitiesChanged(new EntitiesChangedEvent(SyncKind.AIRPORT, List.of(airportId)));
+        sender.flush();
+
+        verify(receiverEvents).publishEvent(new EntitiesChangedEvent(SyncKind.AIRPORT, List.of(airportId)));
+    }
+
+    @Test
+    void flushCollapsesDuplicatesAndSplitsLargeBatches() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(InvalidationMessage.MAX_IDS + 1)
+                .toList();
+        sender.publish(SyncKind.JUMP, ids);
+        sender.publish(SyncKind.JUMP, ids.subList(0, 10));
+
+        sender.flush();
+
+        ArgumentCaptor<Object> received = ArgumentCaptor.forClass(Object.class);
+        verify(receiverEvents, atLeastOnce()).publishEvent(received.capture());
+        List<UUID> delivered = new ArrayList<>();
+        for (Object event : received.getAllValues()) {
+            delivered.addAll(((JumpsChangedEvent) event).jumpIds());
+        }
+        assertEquals(2, received.getAllValues().size());
+        assertEquals(ids, delivered);
+    }
+
+    @Test
+    void nothingIsSentWithoutChanges() {
+        sender.flush();
+
+        verify(receiverEvents, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,45 @@
+package xyz.soda.slowfall.invalidation.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+
+class InvalidationMessageTest {
+
+    @Test
+    void roundTripsThroughText() {
+        InvalidationMessage message = new InvalidationMessage(
+                UUID.randomUUID(), SyncKind.CRAFT, List.of(UUID.randomUUID(), UUID.randomUUID()));
+
+        assertEquals(message, InvalidationMessage.decode(message.encode()));
+    }
+
+    @Test
+    void fullMessageFitsInNotifyPayload() {
+        List<UUID> ids = Stream.generate(UUID::randomUUID)
+                .limit(InvalidationMessage.MAX_IDS)
+                .toList();
+        String text = new InvalidationMessage(UUID.randomUUID(), SyncKind.PERSON, ids).encode();
+
+        assertTrue(text.getBytes(StandardCharsets.UTF_8).length < 8000);
+    }
+
+    @Test
+    void rejectsMalformedText() {
+        String origin = UUID.randomUUID().toString();
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode(origin + " JUMP"));
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode(origin + " JUMP "));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> InvalidationMessage.decode(origin + " BOAT " + UUID.randomUUID()));
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode(origin + " JUMP nope"));
+    }
+}
@@ -1,7 +1,9 @@
 package xyz.soda.slowfall.jump.api;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -26,6 +28,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 import xyz.soda.slowfall.jump.application.JumpService;
 import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.web.JsonStreamHttpMessageConverter;
 
 @ExtendWith(MockitoExtension.class)
 class JumpControllerTest {
@@ -44,7 +47,9 @@ class JumpControllerTest {
     void setup() {
         var controller = new JumpController(service);
         mvc = MockMvcBuilders.standaloneSetup(controller)
-                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .setMessageConverters(
+                        new JsonStreamHttpMessageConverter(objectMapper),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
                 .setValidator(new LocalValidatorFactoryBean())
                 .build();
     }
@@ -113,10 +118,43 @@ class JumpControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void removeSkydiverAndPilotEndpoints() throws Exception {
+        UUID jumpId = UUID.randomUUID();
+        UUID personId = UUID.randomUUID();
+        doThrow(new IllegalArgumentException("Jump not found")).when(service).removePilotFromJump(jumpId, personId);
+
+        mvc.perform(delete("/api/jumps/{id}/skydivers/{personId}", jumpId, personId))
+                .andExpect(status().isNoContent());
+        mvc.perform(delete("/api/jumps/{id}/pilots/{personId}", jumpId, personId))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void listJumpsReturnsDtos() throws Exception {
-        when(service.listAllJumps()).thenReturn(java.util.List.of());
+        when(service.listUpcomingJumps()).thenReturn(java.util.List.of());
 
         mvc.perform(get("/api/jumps")).andExpect(status().isOk());
     }
+
+    @Test
+    void listJumpsInWindowUsesWindowQuery() throws Exception {
+        Instant from = Instant.parse("2025-06-01T00:00:00Z");
+        Instant to = Instant.parse("2025-06-03T00:00:00Z");
+        when(service.listJumpsInWindow(from, to))
+                .thenReturn(java.util.List.of(new Jump(from, UUID.randomUUID(), 13000)));
+
+        mvc.perform(get("/api/jumps").param("from", from.toString()).param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].jumpTime").value(from.toString()))
+                .andExpect(jsonPath("$[0].skydivers.length()").value(0));
+    }
+
+    @Test
+    void listJumpsWithOneBoundReturns400() throws Exception {
+        when(service.listJumpsInWindow(any(), any())).thenThrow(new IllegalArgumentException("bad window"));
+
+        mvc.perform(get("/api/jumps").param("from", "2025-06-01T00:00:00Z")).andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,47 @@
+package xyz.soda.slowfall.jump.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.domain.Person;
+
+class JumpJsonWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void writesTheSameJsonAsTheDtos() throws Exception {
+        Jump jump = withId(Jump.class, new Jump(Instant.parse("2030-06-01T09:30:00.250Z"), UUID.randomUUID(), 13000));
+        jump.addPilot(withId(Person.class, new Person("Pat", "Pilot", true, false, 80, "pat@example.com")));
+        jump.addSkydiver(withId(Person.class, new Person("Sam", "Sky", false, true, 95, "sam@example.com")));
+        jump.addSkydiver(withId(Person.class, new Person("Kim", "Sky", false, true, 70, "kim@example.com")));
+        Jump empty = new Jump(Instant.parse("2030-06-01T10:00:00Z"), UUID.randomUUID(), 4000);
+        List<Jump> jumps = List.of(jump, empty);
+
+        StringWriter streamed = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(streamed)) {
+            JumpJsonWriter.writeJumps(generator, jumps);
+        }
+
+        String reflected = objectMapper.writeValueAsString(jumps.stream().map(JumpDto::from).toList());
+        assertEquals(objectMapper.readTree(reflected), objectMapper.readTree(streamed.toString()));
+    }
+
+    private static <T> T withId(Class<T> type, T entity) throws Exception {
+        Field id = type.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(entity, UUID.randomUUID());
+        return entity;
+    }
+}
@@ -0,0 +1,126 @@
+package xyz.soda.slowfall.jump.api;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.web.BoundedCopyOutputStream;
+
+/**
+ * Compares the jump list response written through the DTO list and reflective serialization against
+ * {@link JumpJsonWriter}, for lists of growing size with a pilot and 20 skydivers per jump. {@code /api/jumps} is
+ * coalesced, so the streamed writer is also measured behind the copy the coalescing filter keeps for identical
+ * requests, bounded by the default {@code app.coalescing.max-body-bytes}. Reports throughput and the bytes
+ * allocated per response. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class JumpListSerializationBenchmark {
+
+    private static final int[] LIST_SIZES = {100, 1_000, 10_000};
+    private static final int ROUNDS = 50;
+    private static final int MAX_BODY_BYTES = 1_048_576;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void listJumps() throws Exception {
+        List<Person> persons = createPersons(500);
+        for (int size : LIST_SIZES) {
+            List<Jump> jumps = createJumps(size, persons);
+            Writer throughDtos = out -> objectMapper.writeValue(out, jumps.stream().map(JumpDto::from).toList());
+            Writer streamed = out -> {
+                try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                    JumpJsonWriter.writeJumps(generator, jumps);
+                }
+            };
+            Writer coalesced = out -> streamed.write(new BoundedCopyOutputStream(out, MAX_BODY_BYTES));
+            measure(throughDtos);
+            measure(streamed);
+            measure(coalesced);
+            System.out.printf(
+                    "%,6d jumps: through DTOs %s; streamed %s; streamed and coalesced %s%n",
+                    size,
+                    measure(throughDtos),
+                    measure(streamed),
+                    measure(coalesced));
+        }
+    }
+
+    private String measure(Writer writer) throws IOException {
+        CountingStream out = new CountingStream();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long begin = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            writer.write(out);
+        }
+        long nanos = System.nanoTime() - begin;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return String.format(
+                "%,7.1f MB/s, %,9d B allocated/response", out.bytes * 1_000.0 / nanos, allocated / ROUNDS);
+    }
+
+    private static List<Person> createPersons(int count) throws Exception {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(withId(Person.class, new Person("Bench", "Jumper" + i, i == 0, true, 80, i + "@x.io")));
+        }
+        return persons;
+    }
+
+    private static List<Jump> createJumps(int count, List<Person> persons) throws Exception {
+        List<Jump> jumps = new ArrayList<>(count);
+        Instant first = Instant.parse("2030-06-01T08:00:00Z");
+        for (int i = 0; i < count; i++) {
+            Jump jump = withId(Jump.class, new Jump(first.plusSeconds(600L * i), UUID.randomUUID(), 13000));
+            jump.addPilot(persons.get(0));
+            for (int k = 1; k <= 20; k++) {
+                jump.addSkydiver(persons.get(1 + (i + k) % (persons.size() - 1)));
+            }
+            jumps.add(jump);
+        }
+        return jumps;
+    }
+
+    private static <T> T withId(Class<T> type, T entity) throws Exception {
+        Field id = type.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(entity, UUID.randomUUID());
+        return entity;
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static final class CountingStream extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int value) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package xyz.soda.slowfall.jump.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import xyz.soda.slowfall.SqlBudget;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * SQL statement budgets for the jump and logbook endpoints, run against the real persistence layer. Every jump
+ * carries a pilot and skydivers so roster loading is exercised. Roster adds include the double-booking query.
+ */
+@SpringBootTest(properties = {"app.coalescing.enabled=false", "app.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class JumpQueryBudgetTest {
+    private static final int JUMPS = 100;
+    private static final Instant FIRST_JUMP = Instant.parse("2030-06-01T08:00:00Z");
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    AirportRepository airportRepository;
+
+    private Airport airport;
+    private Person pilot;
+    private Person skydiver;
+    private Person manifested;
+    private Jump firstJump;
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        airport = airportRepository.save(new Airport("B" + suffix.substring(0, 3), "Budget", "UTC"));
+        pilot = personRepository.save(new Person("Pat", "Pilot", true, false, 80, "pilot-" + suffix + "@example.com"));
+        List<Person> skydivers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            skydivers.add(personRepository.save(
+                    new Person("Sky", "Diver" + i, false, true, 75, "sky" + i + "-" + suffix + "@example.com")));
+        }
+        manifested = skydivers.getFirst();
+        skydiver = personRepository.save(
+                new Person("New", "Diver", false, true, 70, "new-" + suffix + "@example.com"));
+
+        List<Jump> jumps = new ArrayList<>();
+        for (int i = 0; i < JUMPS; i++) {
+            Jump jump = new Jump(FIRST_JUMP.plus(i * 15L, ChronoUnit.MINUTES), airport.getId(), 13000);
+            jump.addPilot(pilot);
+            skydivers.forEach(jump::addSkydiver);
+            jumps.add(jump);
+        }
+        firstJump = jumpRepository.saveAll(jumps).getFirst();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jumpRepository.deleteAll();
+        personRepository.deleteAll();
+        airportRepository.deleteAll();
+    }
+
+    @Test
+    @SqlBudget(3)
+    void listJumpsLoadsRostersInBatches() throws Exception {
+        mvc.perform(get("/api/jumps"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(JUMPS))
+                .andExpect(jsonPath("$[0].skydivers.length()").value(4));
+    }
+
+    @Test
+    @SqlBudget(3)
+    void listJumpsInWindowLoadsRostersInBatches() throws Exception {
+        mvc.perform(get("/api/jumps")
+                        .param("from", FIRST_JUMP.toString())
+                        .param("to", FIRST_JUMP.plus(1, ChronoUnit.DAYS).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(JUMPS));
+    }
+
+    @Test
+    @SqlBudget(5)
+    void addSkydiverWritesJoinRowWithoutLoadingRoster() throws Exception {
+        mvc.perform(post("/api/jumps/{id}/skydivers", firstJump.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"personId\":\"" + skydiver.getId() + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(4)
+    void removeSkydiverDeletesJoinRowWithoutLoadingRoster() throws Exception {
+        mvc.perform(delete("/api/jumps/{id}/skydivers/{personId}", firstJump.getId(), manifested.getId()))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @SqlBudget(6)
+    void createJumpWithPilot() throws Exception {
+        String body = """
+                {"jumpTime":"%s","airportId":"%s","craftRegistrationNumber":"N208SD","altitudeFeet":13000,\
+                "pilotId":"%s"}"""
+                .formatted(FIRST_JUMP.plus(30, ChronoUnit.DAYS), airport.getId(), pilot.getId());
+        mvc.perform(post("/api/jumps").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @SqlBudget(3)
+    void logbookPageDoesNotLoadRosters() throws Exception {
+        mvc.perform(get("/api/person/{id}/jumps", pilot.getId()).param("role", "pilot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(20));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void logbookSummaryIsSingleRowRead() throws Exception {
+        mvc.perform(get("/api/person/{id}/logbook", pilot.getId()))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,73 @@
+package xyz.soda.slowfall.jump.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import xyz.soda.slowfall.jump.application.LoadScheduleService;
+import xyz.soda.slowfall.jump.infra.JumpBatchWriter.NewJump;
+
+@ExtendWith(MockitoExtension.class)
+class LoadScheduleControllerTest {
+
+    @Mock
+    LoadScheduleService service;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new LoadScheduleController(service))
+                .setValidator(new LocalValidatorFactoryBean())
+                .build();
+    }
+
+    @Test
+    void createScheduleReturns201WithLoads() throws Exception {
+        UUID airportId = UUID.randomUUID();
+        NewJump jump = new NewJump(UUID.randomUUID(), Instant.parse("2025-06-01T09:00:00Z"), airportId, 13000);
+        when(service.createSchedule(any(CreateScheduleRequest.class))).thenReturn(List.of(jump));
+
+        mvc.perform(post("/api/jumps/schedule").contentType(MediaType.APPLICATION_JSON).content(body(airportId, 25)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created").value(1));
+    }
+
+    @Test
+    void tooShortIntervalReturns400() throws Exception {
+        mvc.perform(post("/api/jumps/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(UUID.randomUUID(), 1)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void intervalLongerThanADayReturns400() throws Exception {
+        mvc.perform(post("/api/jumps/schedule")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(UUID.randomUUID(), Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String body(UUID airportId, int intervalMinutes) {
+        return """
+                {"airportId": "%s", "startDate": "2025-06-01", "days": 1, "firstLoad": "09:00",
+                 "lastLoad": "18:00", "intervalMinutes": %d, "altitudeFeet": 13000}
+                """
+                .formatted(airportId, intervalMinutes);
+    }
+}
@@ -0,0 +1,75 @@
+package xyz.soda.slowfall.jump.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import xyz.soda.slowfall.jump.application.LogbookService;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.domain.Person;
+
+@ExtendWith(MockitoExtension.class)
+class LogbookControllerTest {
+
+    @Mock
+    LogbookService service;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new LogbookController(service))
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void jumpsReturnsPageOfEntries() throws Exception {
+        UUID personId = UUID.randomUUID();
+        Jump jump = new Jump(Instant.parse("2025-06-01T09:00:00Z"), UUID.randomUUID(), 13000);
+        when(service.jumps(eq(personId), eq(false), any())).thenReturn(new PageImpl<>(List.of(jump)));
+
+        mvc.perform(get("/api/person/{id}/jumps", personId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].altitudeFeet").value(13000));
+    }
+
+    @Test
+    void jumpsRejectsUnknownRole() throws Exception {
+        mvc.perform(get("/api/person/{id}/jumps", UUID.randomUUID()).param("role", "tandem"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void summaryReturnsCounters() throws Exception {
+        UUID personId = UUID.randomUUID();
+        when(service.summary(personId)).thenReturn(new Person("S", "D", false, true, 75, "s@d.com"));
+
+        mvc.perform(get("/api/person/{id}/logbook", personId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.skydiverJumps").value(0));
+    }
+
+    @Test
+    void summaryOfUnknownPersonReturns400() throws Exception {
+        UUID personId = UUID.randomUUID();
+        when(service.summary(personId)).thenThrow(new IllegalArgumentException("Person not found"));
+
+        mvc.perform(get("/api/person/{id}/logbook", personId)).andExpect(status().isBadRequest());
+    }
+}
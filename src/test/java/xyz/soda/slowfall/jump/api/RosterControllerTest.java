@@ -0,0 +1,88 @@
+package xyz.soda.slowfall.jump.api;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import xyz.soda.slowfall.jump.application.RosterService;
+
+@ExtendWith(MockitoExtension.class)
+class RosterControllerTest {
+
+    @Mock
+    RosterService service;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new RosterController(service))
+                .setValidator(new LocalValidatorFactoryBean())
+                .build();
+    }
+
+    @Test
+    void moveReturns204() throws Exception {
+        UUID source = UUID.randomUUID();
+        UUID target = UUID.randomUUID();
+        UUID person = UUID.randomUUID();
+        UUID craft = UUID.randomUUID();
+
+        mvc.perform(post("/api/jumps/{id}/skydivers/move", source)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetJumpId\":\"%s\",\"personIds\":[\"%s\"],\"craftId\":\"%s\"}"
+                                .formatted(target, person, craft)))
+                .andExpect(status().isNoContent());
+
+        verify(service).moveSkydivers(source, target, Set.of(person), craft);
+    }
+
+    @Test
+    void moveWithoutCraftIsRejected() throws Exception {
+        mvc.perform(post("/api/jumps/{id}/skydivers/move", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetJumpId\":\"%s\",\"personIds\":[\"%s\"]}"
+                                .formatted(UUID.randomUUID(), UUID.randomUUID())))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    void moveWithoutPersonsIsRejected() throws Exception {
+        mvc.perform(post("/api/jumps/{id}/skydivers/move", UUID.randomUUID())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetJumpId\":\"" + UUID.randomUUID() + "\",\"personIds\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void impossibleSwapReturns400() throws Exception {
+        UUID jump = UUID.randomUUID();
+        UUID person = UUID.randomUUID();
+        UUID otherJump = UUID.randomUUID();
+        UUID otherPerson = UUID.randomUUID();
+        doThrow(new IllegalArgumentException("not on jump"))
+                .when(service)
+                .swapSkydivers(jump, person, otherJump, otherPerson);
+
+        mvc.perform(post("/api/jumps/{id}/skydivers/swap", jump)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"personId\":\"%s\",\"otherJumpId\":\"%s\",\"otherPersonId\":\"%s\"}"
+                                .formatted(person, otherJump, otherPerson)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,104 @@
+package xyz.soda.slowfall.jump.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import xyz.soda.slowfall.SqlBudget;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * SQL statement budgets for moving and swapping skydivers between loads. The budgets do not depend on how many
+ * people are moved. They include the double-booking query.
+ */
+@SpringBootTest(properties = {"app.coalescing.enabled=false", "app.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class RosterQueryBudgetTest {
+    private static final int ROSTER = 12;
+    private static final Instant JUMP_TIME = Instant.parse("2030-07-01T09:00:00Z");
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    CraftRepository craftRepository;
+
+    private Jump source;
+    private Jump target;
+    private List<Person> skydivers;
+    private Person onTarget;
+    private Craft craft;
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        craft = craftRepository.save(new Craft("Caravan " + suffix, "N" + suffix, 2500, 16));
+        skydivers = new ArrayList<>();
+        for (int i = 0; i < ROSTER; i++) {
+            skydivers.add(personRepository.save(
+                    new Person("Sky", "Diver" + i, false, true, 75, "move" + i + "-" + suffix + "@example.com")));
+        }
+        onTarget = personRepository.save(
+                new Person("Other", "Diver", false, true, 70, "other-" + suffix + "@example.com"));
+
+        Jump first = new Jump(JUMP_TIME, UUID.randomUUID(), 13000);
+        skydivers.forEach(first::addSkydiver);
+        Jump second = new Jump(JUMP_TIME.plusSeconds(3600), UUID.randomUUID(), 13000);
+        second.addSkydiver(onTarget);
+        source = jumpRepository.save(first);
+        target = jumpRepository.save(second);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jumpRepository.deleteAll();
+        personRepository.deleteAll();
+        craftRepository.deleteAll();
+    }
+
+    @Test
+    @SqlBudget(9)
+    void moveIsSetBasedWhateverTheGroupSize() throws Exception {
+        String personIds = skydivers.subList(0, ROSTER - 2).stream()
+                .map(person -> "\"" + person.getId() + "\"")
+                .collect(Collectors.joining(","));
+        mvc.perform(post("/api/jumps/{id}/skydivers/move", source.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetJumpId\":\"%s\",\"personIds\":[%s],\"craftId\":\"%s\"}"
+                                .formatted(target.getId(), personIds, craft.getId())))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @SqlBudget(8)
+    void swapIsSingleUpdate() throws Exception {
+        mvc.perform(post("/api/jumps/{id}/skydivers/swap", source.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"personId\":\"%s\",\"otherJumpId\":\"%s\",\"otherPersonId\":\"%s\"}"
+                                .formatted(skydivers.getFirst().getId(), target.getId(), onTarget.getId())))
+                .andExpect(status().isNoContent());
+    }
+}
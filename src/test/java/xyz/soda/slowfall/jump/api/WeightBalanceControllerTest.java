@@ -0,0 +1,53 @@
+package xyz.soda.slowfall.jump.api;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import xyz.soda.slowfall.craft.application.WeightBalanceCalculator.LoadBalance;
+import xyz.soda.slowfall.jump.application.WeightBalanceService;
+
+@ExtendWith(MockitoExtension.class)
+class WeightBalanceControllerTest {
+
+    @Mock
+    WeightBalanceService service;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new WeightBalanceController(service)).build();
+    }
+
+    @Test
+    void balanceReturnsComputedLoad() throws Exception {
+        UUID jumpId = UUID.randomUUID();
+        UUID craftId = UUID.randomUUID();
+        when(service.balance(jumpId, craftId)).thenReturn(new LoadBalance(1270, 270, 286.2, 323.6, 0, false, true));
+
+        mvc.perform(get("/api/jumps/{id}/weight-balance", jumpId).param("craftId", craftId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalWeight").value(1270))
+                .andExpect(jsonPath("$.withinLimits").value(true));
+    }
+
+    @Test
+    void balanceReturns400WhenCraftHasNoLayout() throws Exception {
+        UUID jumpId = UUID.randomUUID();
+        UUID craftId = UUID.randomUUID();
+        when(service.balance(jumpId, craftId)).thenThrow(new IllegalArgumentException("no layout"));
+
+        mvc.perform(get("/api/jumps/{id}/weight-balance", jumpId).param("craftId", craftId.toString()))
+                .andExpect(status().isBadRequest());
+    }
+}
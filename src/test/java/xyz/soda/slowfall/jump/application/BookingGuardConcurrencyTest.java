@@ -0,0 +1,115 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.config.AuditConfig;
+import xyz.soda.slowfall.config.BookingConfig;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * Races bookings of one person onto overlapping loads against the embedded database; only the check inside the
+ * booking transaction can stop the second one. Runs outside a test transaction so each booking commits on its
+ * own connection.
+ */
+@DataJpaTest
+@Import({JumpService.class, AuditConfig.class, BookingConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingGuardConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    JumpService service;
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    UUID personId;
+    List<UUID> jumpIds;
+
+    @BeforeEach
+    void setup() {
+        personId = personRepository
+                .save(new Person("Ada", "Race", false, true, 70, "booking-race@example.com"))
+                .getId();
+        // Five minutes apart, so every pair of loads overlaps.
+        Instant first = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MINUTES);
+        jumpIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Jump jump = new Jump(first.plus(5L * i, ChronoUnit.MINUTES), UUID.randomUUID(), 13000);
+            jumpIds.add(jumpRepository.save(jump).getId());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jumpRepository.deleteAll();
+        personRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentOverlappingBookingsLeaveOne() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (UUID jumpId : jumpIds) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        return service.addSkydiverToJump(jumpId, personId);
+                    } catch (IllegalArgumentException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int booked = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) booked++;
+            }
+            assertEquals(1, booked);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, personRepository.findById(personId).orElseThrow().getSkydiverJumps());
+    }
+
+    @Test
+    void bookingCommittedOutsideTheServiceIsRejected() {
+        // Commits the first booking without the service, so nothing but the database knows about it.
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> jumpRepository.insertSkydiver(jumpIds.get(0), personId));
+
+        assertThrows(IllegalArgumentException.class, () -> service.addSkydiverToJump(jumpIds.get(1), personId));
+    }
+}
@@ -0,0 +1,60 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookingGuardTest {
+    private static final Instant JUMP_TIME = Instant.parse("2030-06-01T12:00:00Z");
+    private static final Instant AFTER = JUMP_TIME.minus(Duration.ofMinutes(20));
+    private static final Instant BEFORE = JUMP_TIME.plus(Duration.ofMinutes(20));
+    private static final UUID JUMP = UUID.randomUUID();
+
+    @Mock
+    JumpRepository jumpRepository;
+
+    BookingGuard guard;
+
+    @BeforeEach
+    void setup() {
+        guard = new BookingGuard(jumpRepository, new BookingProperties(Duration.ofMinutes(15), Duration.ofMinutes(5)));
+    }
+
+    @Test
+    void overlappingJumpIsRejected() {
+        UUID person = UUID.randomUUID();
+        when(jumpRepository.findBookedBetween(List.of(person), AFTER, BEFORE, List.of(JUMP)))
+                .thenReturn(List.of(person));
+
+        assertThrows(IllegalArgumentException.class, () -> guard.requireFree(person, JUMP_TIME, List.of(JUMP)));
+    }
+
+    @Test
+    void allPersonsAreLookedUpTogether() {
+        List<UUID> persons = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(jumpRepository.findBookedBetween(persons, AFTER, BEFORE, List.of(JUMP))).thenReturn(List.of());
+
+        guard.requireFree(persons, JUMP_TIME, List.of(JUMP));
+
+        verify(jumpRepository).findBookedBetween(persons, AFTER, BEFORE, List.of(JUMP));
+    }
+
+    @Test
+    void rejectsEmptySpan() {
+        BookingProperties none = new BookingProperties(Duration.ZERO, Duration.ZERO);
+
+        assertThrows(IllegalArgumentException.class, () -> new BookingGuard(jumpRepository, none));
+    }
+}
@@ -3,12 +3,20 @@ package xyz.soda.slowfall.jump.application;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
@@ -16,10 +24,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 import xyz.soda.slowfall.airport.domain.Airport;
 import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
 import xyz.soda.slowfall.jump.api.CreateJumpRequest;
 import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.domain.SlotsFreedEvent;
 import xyz.soda.slowfall.jump.infra.JumpRepository;
 import xyz.soda.slowfall.person.domain.Person;
 import xyz.soda.slowfall.person.infra.PersonRepository;
@@ -36,9 +48,26 @@ class JumpServiceTest {
     @Mock
     AirportRepository airportRepository;
 
+    @Mock
+    ManifestAuditLog auditLog;
+
+    @Mock
+    ApplicationEventPublisher events;
+
+    @Mock
+    BookingGuard bookingGuard;
+
     @InjectMocks
     JumpService service;
 
+    @Test
+    void listUpcomingJumpsQueriesABoundedWindow() {
+        service.listUpcomingJumps();
+
+        Instant today = Instant.now().truncatedTo(ChronoUnit.DAYS);
+        verify(jumpRepository).findInWindow(today, today.plus(Duration.ofDays(14)));
+    }
+
     @Test
     void createJumpThrowsWhenAirportMissing() {
         CreateJumpRequest req = new CreateJumpRequest(Instant.now(), UUID.randomUUID(), "REG-1", 12000, null);
@@ -72,11 +101,89 @@ class JumpServiceTest {
 
         CreateJumpRequest req = new CreateJumpRequest(
                 ZonedDateTime.now(ZoneId.of("UTC")).plusDays(1).toInstant(), airportId, "REG-1", 12000, pilotId);
-        when(jumpRepository.save(any(Jump.class))).thenAnswer(i -> i.getArgument(0));
+        when(jumpRepository.save(any(Jump.class))).thenAnswer(i -> {
+            Jump jump = i.getArgument(0);
+            ReflectionTestUtils.setField(jump, "id", UUID.randomUUID());
+            return jump;
+        });
 
         Jump created = service.createJump(req);
 
         verify(jumpRepository).save(any(Jump.class));
+        verify(auditLog).jumpCreated(created.getId(), pilotId);
+        verify(bookingGuard).requireFree(pilotId, req.jumpTime(), List.of(created.getId()));
         assertEquals(1, created.getPilots().size());
     }
+
+    @Test
+    void addSkydiverCountsEachJumpOnce() {
+        UUID jumpId = UUID.randomUUID();
+        UUID personId = UUID.randomUUID();
+        Instant jumpTime = Instant.parse("2025-06-01T09:00:00Z");
+        when(jumpRepository.findJumpTimeById(jumpId)).thenReturn(Optional.of(jumpTime));
+        when(jumpRepository.insertSkydiver(jumpId, personId)).thenReturn(1, 0);
+        when(personRepository.existsById(personId)).thenReturn(true);
+
+        service.addSkydiverToJump(jumpId, personId);
+        service.addSkydiverToJump(jumpId, personId);
+
+        verify(personRepository, times(1)).recordSkydiverJump(personId, jumpTime);
+        verify(jumpRepository, times(1)).touch(eq(jumpId), anyLong());
+        verify(auditLog, times(1)).skydiverAdded(jumpId, personId);
+        verify(bookingGuard, times(1)).requireFree(personId, jumpTime, List.of(jumpId));
+        verify(personRepository, never()).findById(any());
+    }
+
+    @Test
+    void addSkydiverRejectsOverlappingBooking() {
+        UUID jumpId = UUID.randomUUID();
+        UUID personId = UUID.randomUUID();
+        Instant jumpTime = Instant.parse("2025-06-01T09:00:00Z");
+        when(jumpRepository.findJumpTimeById(jumpId)).thenReturn(Optional.of(jumpTime));
+        when(jumpRepository.insertSkydiver(jumpId, personId)).thenReturn(1);
+        doThrow(new IllegalArgumentException("Person is already on a load"))
+                .when(bookingGuard)
+                .requireFree(personId, jumpTime, List.of(jumpId));
+
+        assertThrows(IllegalArgumentException.class, () -> service.addSkydiverToJump(jumpId, personId));
+        verify(auditLog, never()).skydiverAdded(any(), any());
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void addPilotThrowsWhenPersonMissing() {
+        UUID jumpId = UUID.randomUUID();
+        UUID personId = UUID.randomUUID();
+        when(jumpRepository.findJumpTimeById(jumpId)).thenReturn(Optional.of(Instant.now()));
+        when(personRepository.existsById(personId)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> service.addPilotToJump(jumpId, personId));
+        verify(auditLog, never()).pilotAdded(any(), any());
+    }
+
+    @Test
+    void addSkydiverThrowsWhenJumpMissing() {
+        UUID jumpId = UUID.randomUUID();
+        when(jumpRepository.findJumpTimeById(jumpId)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.addSkydiverToJump(jumpId, UUID.randomUUID()));
+        verify(jumpRepository, never()).insertSkydiver(any(), any());
+    }
+
+    @Test
+    void removeSkydiverForgetsJumpOnlyWhenRowWasDeleted() {
+        UUID jumpId = UUID.randomUUID();
+        UUID personId = UUID.randomUUID();
+        Instant jumpTime = Instant.parse("2025-06-01T09:00:00Z");
+        when(jumpRepository.findJumpTimeById(jumpId)).thenReturn(Optional.of(jumpTime));
+        when(jumpRepository.deleteSkydiver(jumpId, personId)).thenReturn(1, 0);
+        when(personRepository.existsById(personId)).thenReturn(true);
+
+        service.removeSkydiverFromJump(jumpId, personId);
+        service.removeSkydiverFromJump(jumpId, personId);
+
+        verify(personRepository, times(1)).forgetSkydiverJump(personId, jumpTime);
+        verify(auditLog, times(1)).skydiverRemoved(jumpId, personId);
+        verify(events, times(1)).publishEvent(new SlotsFreedEvent(jumpId, 1));
+    }
 }
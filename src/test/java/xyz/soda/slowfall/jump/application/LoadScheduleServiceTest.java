@@ -0,0 +1,133 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.jump.api.CreateScheduleRequest;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpBatchWriter;
+import xyz.soda.slowfall.jump.infra.JumpBatchWriter.NewJump;
+
+@ExtendWith(MockitoExtension.class)
+class LoadScheduleServiceTest {
+
+    @Mock
+    AirportRepository airportRepository;
+
+    @Mock
+    JumpBatchWriter batchWriter;
+
+    @Mock
+    ManifestAuditLog auditLog;
+
+    @Mock
+    ApplicationEventPublisher events;
+
+    UUID airportId = UUID.randomUUID();
+    LoadScheduleService service;
+
+    @BeforeEach
+    void setup() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), ZoneOffset.UTC);
+        service = new LoadScheduleService(airportRepository, batchWriter, auditLog, events, clock);
+    }
+
+    @Test
+    void expandsEveryDayOfTheTemplate() {
+        when(airportRepository.findById(airportId)).thenReturn(Optional.of(new Airport("EDDM", "Munich", "UTC")));
+
+        List<NewJump> jumps = service.createSchedule(
+                request(LocalDate.of(2025, 6, 1), 2, LocalTime.of(9, 0), LocalTime.of(18, 0), 25));
+
+        // 09:00 to 17:45 every 25 minutes is 22 slots per day
+        assertEquals(44, jumps.size());
+        assertEquals(Instant.parse("2025-06-01T09:00:00Z"), jumps.get(0).jumpTime());
+        assertEquals(Instant.parse("2025-06-02T17:45:00Z"), jumps.get(43).jumpTime());
+        verify(batchWriter).insertAll(jumps, Instant.parse("2025-03-01T00:00:00Z"));
+        verify(events).publishEvent(new JumpsChangedEvent(jumps.stream().map(NewJump::id).toList()));
+        jumps.forEach(jump -> verify(auditLog).jumpCreated(jump.id(), null));
+    }
+
+    @Test
+    void skipsSlotsInTheSpringForwardGap() {
+        when(airportRepository.findById(airportId))
+                .thenReturn(Optional.of(new Airport("EDDM", "Munich", "Europe/Berlin")));
+
+        List<NewJump> jumps = service.createSchedule(
+                request(LocalDate.of(2025, 3, 30), 1, LocalTime.of(1, 0), LocalTime.of(4, 0), 30));
+
+        assertEquals(
+                List.of(
+                        Instant.parse("2025-03-30T00:00:00Z"),
+                        Instant.parse("2025-03-30T00:30:00Z"),
+                        Instant.parse("2025-03-30T01:00:00Z"),
+                        Instant.parse("2025-03-30T01:30:00Z"),
+                        Instant.parse("2025-03-30T02:00:00Z")),
+                jumps.stream().map(NewJump::jumpTime).toList());
+    }
+
+    @Test
+    void createsOverlapSlotsOnceAtTheEarlierOffset() {
+        when(airportRepository.findById(airportId))
+                .thenReturn(Optional.of(new Airport("EDDM", "Munich", "Europe/Berlin")));
+
+        List<NewJump> jumps = service.createSchedule(
+                request(LocalDate.of(2025, 10, 26), 1, LocalTime.of(2, 0), LocalTime.of(3, 0), 30));
+
+        assertEquals(
+                List.of(
+                        Instant.parse("2025-10-26T00:00:00Z"),
+                        Instant.parse("2025-10-26T00:30:00Z"),
+                        Instant.parse("2025-10-26T02:00:00Z")),
+                jumps.stream().map(NewJump::jumpTime).toList());
+    }
+
+    @Test
+    void skipsSlotsInThePast() {
+        when(airportRepository.findById(airportId)).thenReturn(Optional.of(new Airport("EDDM", "Munich", "UTC")));
+
+        List<NewJump> jumps = service.createSchedule(
+                request(LocalDate.of(2025, 2, 28), 2, LocalTime.of(23, 0), LocalTime.of(23, 30), 30));
+
+        assertEquals(2, jumps.size());
+        assertEquals(Instant.parse("2025-03-01T23:00:00Z"), jumps.get(0).jumpTime());
+    }
+
+    @Test
+    void rejectsUnknownAirport() {
+        when(airportRepository.findById(airportId)).thenReturn(Optional.empty());
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.createSchedule(
+                        request(LocalDate.of(2025, 6, 1), 1, LocalTime.of(9, 0), LocalTime.of(18, 0), 25)));
+        verify(batchWriter, never()).insertAll(anyList(), any());
+    }
+
+    private CreateScheduleRequest request(
+            LocalDate startDate, int days, LocalTime firstLoad, LocalTime lastLoad, int intervalMinutes) {
+        return new CreateScheduleRequest(airportId, startDate, days, firstLoad, lastLoad, intervalMinutes, 13000);
+    }
+}
@@ -0,0 +1,65 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.Busy;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.Load;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.PilotRotation;
+
+/**
+ * Measures the full solve time for a busy day: 100 loads across 8 pilots, each already booked on a few loads
+ * elsewhere.
+ * Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+class PilotRotationSchedulerBenchmark {
+
+    private static final int ITERATIONS = 20_000;
+
+    @Test
+    void hundredLoadsEightPilots() {
+        PilotRotationScheduler scheduler = new PilotRotationScheduler(Duration.ofMinutes(20), 15);
+        List<UUID> pilots = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            pilots.add(UUID.randomUUID());
+        }
+        Instant start = Instant.parse("2025-06-01T07:00:00Z");
+        List<Load> loads = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            loads.add(new Load(UUID.randomUUID(), start.plusSeconds(i * 7L * 60), null));
+        }
+        Map<UUID, List<Busy>> busy = new HashMap<>();
+        for (int i = 0; i < pilots.size(); i++) {
+            List<Busy> intervals = new ArrayList<>();
+            for (int hour = 1 + i % 3; hour < 12; hour += 3) {
+                Instant booked = start.plusSeconds(hour * 3600L);
+                intervals.add(new Busy(booked.minusSeconds(1800), booked.plusSeconds(1800)));
+            }
+            busy.put(pilots.get(i), intervals);
+        }
+        PilotRotation base = scheduler.solve(pilots, loads, busy);
+
+        long fullNanos = time(() -> scheduler.solve(pilots, loads, busy));
+
+        System.out.printf("full solve:          %,d ns%n", fullNanos);
+        System.out.printf("unassigned loads:    %d%n", base.unassigned().size());
+    }
+
+    private static long time(Runnable task) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            task.run();
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - begin) / ITERATIONS;
+    }
+}
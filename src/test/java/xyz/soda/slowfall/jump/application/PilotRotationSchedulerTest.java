@@ -0,0 +1,88 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.Busy;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.Load;
+import xyz.soda.slowfall.jump.application.PilotRotationScheduler.PilotRotation;
+
+class PilotRotationSchedulerTest {
+
+    private static final Instant NINE = Instant.parse("2025-06-01T09:00:00Z");
+
+    private final PilotRotationScheduler scheduler = new PilotRotationScheduler(Duration.ofMinutes(30), 3);
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+
+    @Test
+    void respectsTurnaroundBetweenLoads() {
+        Load first = load(0);
+        Load second = load(10);
+
+        PilotRotation rotation = scheduler.solve(List.of(alice, bob), List.of(first, second));
+
+        assertNotEquals(rotation.pilotFor(first.jumpId()), rotation.pilotFor(second.jumpId()));
+    }
+
+    @Test
+    void leavesLoadUnassignedWhenNoPilotIsAvailable() {
+        Load first = load(0);
+        Load second = load(10);
+
+        PilotRotation rotation = scheduler.solve(List.of(alice), List.of(first, second));
+
+        assertEquals(alice, rotation.pilotFor(first.jumpId()));
+        assertEquals(List.of(second.jumpId()), rotation.unassigned());
+    }
+
+    @Test
+    void capsLoadsPerPilotAndBalancesWork() {
+        List<Load> loads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            loads.add(load(i * 40));
+        }
+
+        PilotRotation rotation = scheduler.solve(List.of(alice, bob), loads);
+
+        assertEquals(3, rotation.loadsPerPilot().get(alice));
+        assertEquals(3, rotation.loadsPerPilot().get(bob));
+        assertEquals(2, rotation.unassigned().size());
+    }
+
+    @Test
+    void keepsPinnedPilotFreeForTheirLoad() {
+        Load pinned = new Load(UUID.randomUUID(), NINE.plusSeconds(20 * 60), alice);
+        Load open = load(0);
+
+        PilotRotation rotation = scheduler.solve(List.of(alice, bob), List.of(pinned, open));
+
+        assertEquals(alice, rotation.pilotFor(pinned.jumpId()));
+        assertEquals(bob, rotation.pilotFor(open.jumpId()));
+    }
+
+    @Test
+    void skipsPilotsBookedElsewhere() {
+        Load first = load(0);
+        Load second = load(60);
+        Map<UUID, List<Busy>> busy =
+                Map.of(alice, List.of(new Busy(NINE.minusSeconds(600), NINE.plusSeconds(600))));
+
+        PilotRotation rotation = scheduler.solve(List.of(alice, bob), List.of(first, second), busy);
+
+        assertEquals(bob, rotation.pilotFor(first.jumpId()));
+        assertEquals(alice, rotation.pilotFor(second.jumpId()));
+    }
+
+    private static Load load(int minutesAfterNine) {
+        return new Load(UUID.randomUUID(), NINE.plusSeconds(minutesAfterNine * 60L), null);
+    }
+}
@@ -0,0 +1,160 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.jump.infra.PersonBooking;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PilotRotationServiceTest {
+
+    private static final Duration SPAN = Duration.ofMinutes(30);
+
+    @Mock
+    JumpRepository jumpRepository;
+
+    @Mock
+    PersonRepository personRepository;
+
+    @Mock
+    AirportRepository airportRepository;
+
+    @Mock
+    ManifestAuditLog auditLog;
+
+    @Mock
+    ApplicationEventPublisher events;
+
+    @Mock
+    BookingGuard bookingGuard;
+
+    PilotRotationService service;
+
+    @BeforeEach
+    void setup() {
+        service = new PilotRotationService(
+                jumpRepository,
+                personRepository,
+                airportRepository,
+                auditLog,
+                events,
+                bookingGuard,
+                Duration.ofMinutes(20),
+                10);
+    }
+
+    @Test
+    void assignsPilotsToUnstaffedJumpsOnly() throws Exception {
+        UUID airportId = UUID.randomUUID();
+        when(airportRepository.findById(airportId)).thenReturn(Optional.of(new Airport("EGLL", "Heathrow", "UTC")));
+
+        Person alice = withId(new Person("Alice", "A", true, false, 70, "alice@example.com"));
+        Person bob = withId(new Person("Bob", "B", true, false, 80, "bob@example.com"));
+        when(personRepository.findByPilot(true)).thenReturn(List.of(alice, bob));
+
+        Instant nine = Instant.parse("2025-06-01T09:00:00Z");
+        Jump open = withId(new Jump(nine, airportId, 13000));
+        Jump staffed = withId(new Jump(nine.plusSeconds(600), airportId, 13000));
+        staffed.addPilot(alice);
+        when(jumpRepository.findByAirportIdInWindow(eq(airportId), any(), any()))
+                .thenReturn(List.of(open, staffed));
+        when(jumpRepository.insertPilot(open.getId(), bob.getId())).thenReturn(1);
+        when(bookingGuard.span()).thenReturn(SPAN);
+
+        var rotation = service.assignPilots(airportId, LocalDate.of(2025, 6, 1));
+
+        assertEquals(bob.getId(), rotation.pilotFor(open.getId()));
+        verify(jumpRepository, never()).insertPilot(eq(staffed.getId()), any());
+        verify(bookingGuard).requireFree(bob.getId(), nine, List.of(open.getId()));
+        verify(jumpRepository).touchAll(eq(List.of(open.getId())), anyLong());
+        verify(events).publishEvent(new JumpsChangedEvent(List.of(open.getId())));
+        verify(auditLog).pilotAdded(open.getId(), bob.getId());
+        verify(auditLog, never()).pilotAdded(eq(staffed.getId()), any());
+    }
+
+    @Test
+    void pilotOnOverlappingLoadIsRejected() throws Exception {
+        UUID airportId = UUID.randomUUID();
+        when(airportRepository.findById(airportId)).thenReturn(Optional.of(new Airport("EGLL", "Heathrow", "UTC")));
+        Person alice = withId(new Person("Alice", "A", true, false, 70, "alice@example.com"));
+        when(personRepository.findByPilot(true)).thenReturn(List.of(alice));
+        Instant nine = Instant.parse("2025-06-01T09:00:00Z");
+        Jump open = withId(new Jump(nine, airportId, 13000));
+        when(jumpRepository.findByAirportIdInWindow(eq(airportId), any(), any()))
+                .thenReturn(List.of(open));
+        when(jumpRepository.insertPilot(open.getId(), alice.getId())).thenReturn(1);
+        when(bookingGuard.span()).thenReturn(SPAN);
+        doThrow(new IllegalArgumentException("overlap"))
+                .when(bookingGuard)
+                .requireFree(alice.getId(), nine, List.of(open.getId()));
+
+        assertThrows(
+                IllegalArgumentException.class, () -> service.assignPilots(airportId, LocalDate.of(2025, 6, 1)));
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void skipsPilotBookedOnAnOverlappingLoadElsewhere() throws Exception {
+        UUID airportId = UUID.randomUUID();
+        when(airportRepository.findById(airportId)).thenReturn(Optional.of(new Airport("EGLL", "Heathrow", "UTC")));
+        Person alice = withId(new Person("Alice", "A", true, false, 70, "alice@example.com"));
+        Person bob = withId(new Person("Bob", "B", true, false, 80, "bob@example.com"));
+        when(personRepository.findByPilot(true)).thenReturn(List.of(alice, bob));
+        Instant nine = Instant.parse("2025-06-01T09:00:00Z");
+        Jump open = withId(new Jump(nine, airportId, 13000));
+        when(jumpRepository.findByAirportIdInWindow(eq(airportId), any(), any()))
+                .thenReturn(List.of(open));
+        when(bookingGuard.span()).thenReturn(SPAN);
+        when(jumpRepository.findSkydiverBookings(any(), any(), any()))
+                .thenReturn(List.of(new PersonBooking(alice.getId(), nine.plusSeconds(600))));
+        when(jumpRepository.insertPilot(open.getId(), bob.getId())).thenReturn(1);
+
+        var rotation = service.assignPilots(airportId, LocalDate.of(2025, 6, 1));
+
+        assertEquals(bob.getId(), rotation.pilotFor(open.getId()));
+        verify(jumpRepository, never()).insertPilot(open.getId(), alice.getId());
+    }
+
+    @Test
+    void throwsWhenAirportMissing() {
+        UUID airportId = UUID.randomUUID();
+        when(airportRepository.findById(airportId)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> service.assignPilots(airportId, LocalDate.now()));
+    }
+
+    private static <T> T withId(T entity) throws Exception {
+        Field idField = entity.getClass().getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(entity, UUID.randomUUID());
+        return entity;
+    }
+}
@@ -0,0 +1,83 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.config.AuditConfig;
+import xyz.soda.slowfall.config.BookingConfig;
+import xyz.soda.slowfall.config.ManifestStoreConfig;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.manifest.application.ManifestStore;
+import xyz.soda.slowfall.manifest.infra.ManifestSource;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * Runs a pilot rotation with the manifest store enabled and checks that the committed assignment reaches the
+ * store through the same change event as every other roster write.
+ */
+@DataJpaTest(properties = "app.manifest-store.enabled=true")
+@Import({
+    PilotRotationService.class,
+    AuditConfig.class,
+    BookingConfig.class,
+    ManifestStoreConfig.class,
+    ManifestSource.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PilotRotationStoreTest {
+
+    @Autowired
+    PilotRotationService service;
+
+    @Autowired
+    ManifestStore manifestStore;
+
+    @Autowired
+    AirportRepository airportRepository;
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @AfterEach
+    void cleanUp() {
+        jumpRepository.deleteAll();
+        personRepository.deleteAll();
+        airportRepository.deleteAll();
+    }
+
+    @Test
+    void assignedPilotReachesTheStore() {
+        UUID airportId = airportRepository.save(new Airport("EDDM", "Munich", "UTC")).getId();
+        UUID pilotId = personRepository
+                .save(new Person("Pat", "Pilot", true, false, 80, "rotation@store.io"))
+                .getId();
+        Instant jumpTime = Instant.now().plus(1, ChronoUnit.HOURS);
+        UUID jumpId = jumpRepository.save(new Jump(jumpTime, airportId, 13000)).getId();
+        long version = jumpRepository.findById(jumpId).orElseThrow().getChangeVersion();
+
+        service.assignPilots(airportId, LocalDate.ofInstant(jumpTime, ZoneOffset.UTC));
+
+        assertTrue(manifestStore.isManifested(jumpId, pilotId));
+        assertEquals(1, manifestStore.manifestedCount(jumpId));
+        assertTrue(jumpRepository.findById(jumpId).orElseThrow().getChangeVersion() > version);
+    }
+}
@@ -0,0 +1,198 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import xyz.soda.slowfall.audit.application.ManifestAuditLog;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.domain.SlotsFreedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.manifest.application.ManifestStore;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RosterServiceTest {
+    private static final UUID SOURCE = UUID.randomUUID();
+    private static final UUID TARGET = UUID.randomUUID();
+    private static final Instant SOURCE_TIME = Instant.parse("2025-06-01T09:00:00Z");
+    private static final Instant TARGET_TIME = Instant.parse("2025-06-01T10:00:00Z");
+    private static final UUID CRAFT = UUID.randomUUID();
+
+    @Mock
+    JumpRepository jumpRepository;
+
+    @Mock
+    PersonRepository personRepository;
+
+    @Mock
+    CraftRepository craftRepository;
+
+    @Mock
+    ManifestAuditLog auditLog;
+
+    @Mock
+    ApplicationEventPublisher events;
+
+    @Mock
+    ManifestStore manifestStore;
+
+    @Mock
+    BookingGuard bookingGuard;
+
+    RosterService service;
+
+    @BeforeEach
+    void setup() {
+        service = new RosterService(
+                jumpRepository, personRepository, craftRepository, auditLog, events, manifestStore, bookingGuard);
+    }
+
+    @Test
+    void moveCopiesDeletesAndFixesLastJumpTime() {
+        stubCraft();
+        Set<UUID> persons = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(jumpRepository.touchAll(any(), anyLong())).thenReturn(2);
+        when(jumpRepository.copySkydivers(SOURCE, TARGET, persons)).thenReturn(2);
+        when(jumpRepository.deleteSkydivers(SOURCE, persons)).thenReturn(2);
+        when(jumpRepository.findJumpTimeById(SOURCE)).thenReturn(Optional.of(SOURCE_TIME));
+        when(jumpRepository.findJumpTimeById(TARGET)).thenReturn(Optional.of(TARGET_TIME));
+        when(jumpRepository.countManifested(TARGET)).thenReturn(4L);
+
+        service.moveSkydivers(SOURCE, TARGET, persons, CRAFT);
+
+        verify(personRepository).recordMovedJump(persons, SOURCE_TIME, TARGET_TIME);
+        verify(bookingGuard).requireFree(persons, TARGET_TIME, List.of(SOURCE, TARGET));
+        persons.forEach(person -> verify(auditLog).skydiverAdded(TARGET, person));
+        verify(events).publishEvent(new SlotsFreedEvent(SOURCE, 2));
+    }
+
+    @Test
+    void moveRejectsPersonsBookedOnOverlappingLoad() {
+        stubCraft();
+        Set<UUID> persons = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(jumpRepository.touchAll(any(), anyLong())).thenReturn(2);
+        when(jumpRepository.copySkydivers(SOURCE, TARGET, persons)).thenReturn(2);
+        when(jumpRepository.deleteSkydivers(SOURCE, persons)).thenReturn(2);
+        when(jumpRepository.findJumpTimeById(SOURCE)).thenReturn(Optional.of(SOURCE_TIME));
+        when(jumpRepository.findJumpTimeById(TARGET)).thenReturn(Optional.of(TARGET_TIME));
+        when(jumpRepository.countManifested(TARGET)).thenReturn(2L);
+        doThrow(new IllegalArgumentException("Person is already on a load"))
+                .when(bookingGuard)
+                .requireFree(persons, TARGET_TIME, List.of(SOURCE, TARGET));
+
+        assertThrows(IllegalArgumentException.class, () -> service.moveSkydivers(SOURCE, TARGET, persons, CRAFT));
+        verify(auditLog, never()).skydiverAdded(any(), any());
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void moveFailsWhenSomeoneIsNotOnSource() {
+        stubCraft();
+        Set<UUID> persons = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(jumpRepository.touchAll(any(), anyLong())).thenReturn(2);
+        when(jumpRepository.copySkydivers(SOURCE, TARGET, persons)).thenReturn(1);
+
+        assertThrows(IllegalArgumentException.class, () -> service.moveSkydivers(SOURCE, TARGET, persons, CRAFT));
+        verify(personRepository, never()).recordMovedJump(any(), any(), any());
+        verify(auditLog, never()).skydiverAdded(any(), any());
+    }
+
+    @Test
+    void moveEnforcesTargetCraftCapacity() {
+        Set<UUID> persons = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(craftRepository.findById(CRAFT)).thenReturn(Optional.of(new Craft("Otter", "N1", 2000, 4)));
+        when(jumpRepository.touchAll(any(), anyLong())).thenReturn(2);
+        when(jumpRepository.copySkydivers(SOURCE, TARGET, persons)).thenReturn(2);
+        when(jumpRepository.deleteSkydivers(SOURCE, persons)).thenReturn(2);
+        when(jumpRepository.countManifested(TARGET)).thenReturn(5L);
+
+        assertThrows(IllegalArgumentException.class, () -> service.moveSkydivers(SOURCE, TARGET, persons, CRAFT));
+        verify(personRepository, never()).recordMovedJump(any(), any(), any());
+    }
+
+    @Test
+    void moveThatCannotFitHeldRosterFailsBeforeLocking() {
+        Set<UUID> persons = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(craftRepository.findById(CRAFT)).thenReturn(Optional.of(new Craft("Otter", "N1", 2000, 4)));
+        when(manifestStore.manifestedCount(TARGET)).thenReturn(3);
+
+        assertThrows(IllegalArgumentException.class, () -> service.moveSkydivers(SOURCE, TARGET, persons, CRAFT));
+        verify(jumpRepository, never()).touchAll(any(), anyLong());
+    }
+
+    @Test
+    void moveFailsWhenJumpMissing() {
+        stubCraft();
+        when(jumpRepository.touchAll(any(), anyLong())).thenReturn(1);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.moveSkydivers(SOURCE, TARGET, Set.of(UUID.randomUUID()), CRAFT));
+        verify(jumpRepository, never()).copySkydivers(any(), any(), any());
+    }
+
+    @Test
+    void moveRejectsSameJump() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.moveSkydivers(SOURCE, SOURCE, Set.of(UUID.randomUUID()), CRAFT));
+    }
+
+    @Test
+    void moveWithoutCraftIsRejectedBeforeLocking() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.moveSkydivers(SOURCE, TARGET, Set.of(UUID.randomUUID()), null));
+        verify(jumpRepository, never()).touchAll(any(), anyLong());
+    }
+
+    @Test
+    void swapFixesBothPersons() {
+        UUID person = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        when(jumpRepository.touchAll(any(), anyLong())).thenReturn(2);
+        when(jumpRepository.swapSkydivers(SOURCE, person, TARGET, other)).thenReturn(2);
+        when(jumpRepository.findJumpTimeById(SOURCE)).thenReturn(Optional.of(SOURCE_TIME));
+        when(jumpRepository.findJumpTimeById(TARGET)).thenReturn(Optional.of(TARGET_TIME));
+
+        service.swapSkydivers(SOURCE, person, TARGET, other);
+
+        verify(personRepository).recordMovedJump(List.of(person), SOURCE_TIME, TARGET_TIME);
+        verify(personRepository).recordMovedJump(List.of(other), TARGET_TIME, SOURCE_TIME);
+        verify(bookingGuard).requireFree(person, TARGET_TIME, List.of(SOURCE, TARGET));
+        verify(bookingGuard).requireFree(other, SOURCE_TIME, List.of(SOURCE, TARGET));
+        verify(auditLog).skydiverAdded(SOURCE, other);
+    }
+
+    @Test
+    void swapFailsUnlessBothRowsMove() {
+        UUID person = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        when(jumpRepository.touchAll(any(), anyLong())).thenReturn(2);
+        when(jumpRepository.swapSkydivers(SOURCE, person, TARGET, other)).thenReturn(1);
+
+        assertThrows(IllegalArgumentException.class, () -> service.swapSkydivers(SOURCE, person, TARGET, other));
+        verify(auditLog, never()).skydiverAdded(any(), any());
+    }
+
+    private void stubCraft() {
+        when(craftRepository.findById(CRAFT)).thenReturn(Optional.of(new Craft("Otter", "N1", 2000, 4)));
+    }
+}
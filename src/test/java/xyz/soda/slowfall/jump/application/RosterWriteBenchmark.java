@@ -0,0 +1,111 @@
+package xyz.soda.slowfall.jump.application;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.config.AuditConfig;
+import xyz.soda.slowfall.config.BookingConfig;
+import xyz.soda.slowfall.config.ManifestStoreConfig;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.manifest.infra.ManifestSource;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * Compares adding one skydiver to rosters of growing size through the mapped collection, which loads the
+ * roster and the person first, against the id-only join row insert in {@link JumpService}. Each add runs in its
+ * own transaction. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({JumpService.class, AuditConfig.class, BookingConfig.class, ManifestStoreConfig.class, ManifestSource.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RosterWriteBenchmark {
+
+    private static final int ADDS = 200;
+    private static final int[] ROSTER_SIZES = {10, 100, 1_000, 5_000};
+    private static final Instant FIRST_JUMP = Instant.parse("2030-06-01T09:00:00Z");
+
+    @Autowired
+    JumpService service;
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void addSkydiver() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        BiConsumer<UUID, UUID> throughCollection = (jumpId, personId) -> transaction.executeWithoutResult(status -> {
+            Jump jump = jumpRepository.findById(jumpId).orElseThrow();
+            Person person = personRepository.findById(personId).orElseThrow();
+            if (jump.addSkydiver(person)) {
+                personRepository.recordSkydiverJump(personId, jump.getJumpTime());
+            }
+        });
+        BiConsumer<UUID, UUID> byId = service::addSkydiverToJump;
+
+        List<UUID> persons = createPersons(ROSTER_SIZES[ROSTER_SIZES.length - 1] + 2 * ADDS);
+        try {
+            for (int i = 0; i < ROSTER_SIZES.length; i++) {
+                int rosterSize = ROSTER_SIZES[i];
+                // An hour apart, so persons reused across rosters are not double-booked.
+                UUID jumpId = createJump(FIRST_JUMP.plus(i, ChronoUnit.HOURS), persons.subList(0, rosterSize));
+                List<UUID> firstBatch = persons.subList(rosterSize, rosterSize + ADDS);
+                List<UUID> secondBatch = persons.subList(rosterSize + ADDS, rosterSize + 2 * ADDS);
+                long collection = time(jumpId, firstBatch, throughCollection);
+                long direct = time(jumpId, secondBatch, byId);
+                System.out.printf(
+                        "roster of %,5d: through collection %,7d us/add, by id %,5d us/add%n",
+                        rosterSize, collection, direct);
+            }
+        } finally {
+            jumpRepository.deleteAll();
+            personRepository.deleteAllInBatch();
+        }
+    }
+
+    private long time(UUID jumpId, List<UUID> personIds, BiConsumer<UUID, UUID> add) {
+        long begin = System.nanoTime();
+        for (UUID personId : personIds) {
+            add.accept(jumpId, personId);
+        }
+        return (System.nanoTime() - begin) / 1_000 / personIds.size();
+    }
+
+    private List<UUID> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new Person("Bench", "Jumper" + i, false, true, 80, "roster" + i + "@x.io"));
+        }
+        return personRepository.saveAll(persons).stream().map(Person::getId).toList();
+    }
+
+    private UUID createJump(Instant jumpTime, List<UUID> roster) {
+        UUID jumpId = jumpRepository.save(new Jump(jumpTime, UUID.randomUUID(), 13000)).getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (UUID personId : roster) {
+                jumpRepository.insertSkydiver(jumpId, personId);
+            }
+        });
+        return jumpId;
+    }
+}
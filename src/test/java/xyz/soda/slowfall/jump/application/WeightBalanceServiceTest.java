@@ -0,0 +1,100 @@
+package xyz.soda.slowfall.jump.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import xyz.soda.slowfall.craft.application.WeightBalanceCalculator.LoadBalance;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.domain.StationLayout;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.manifest.application.ManifestStore;
+import xyz.soda.slowfall.manifest.application.RosterWeights;
+import xyz.soda.slowfall.person.domain.Person;
+
+@ExtendWith(MockitoExtension.class)
+class WeightBalanceServiceTest {
+
+    @Mock
+    JumpRepository jumpRepository;
+
+    @Mock
+    CraftRepository craftRepository;
+
+    @Mock
+    ManifestStore manifestStore;
+
+    WeightBalanceService service;
+
+    @BeforeEach
+    void setup() {
+        service = new WeightBalanceService(jumpRepository, craftRepository, manifestStore);
+    }
+
+    @Test
+    void balanceCombinesRosterWeightsWithCraftStations() throws Exception {
+        Jump jump = new Jump(Instant.parse("2025-06-01T09:00:00Z"), UUID.randomUUID(), 13000);
+        jump.addPilot(withId(new Person("Pat", "Pilot", true, false, 80, "pat@example.com")));
+        jump.addSkydiver(withId(new Person("Sam", "Sky", false, true, 100, "sam@example.com")));
+        jump.addSkydiver(withId(new Person("Kim", "Sky", false, true, 90, "kim@example.com")));
+        Craft craft = new Craft("Caravan", "N208SD", 500, 4);
+        craft.setStationLayout(new StationLayout(1000, 300, 200, 500, List.of(250, 350), 2, 280, 330));
+        UUID jumpId = UUID.randomUUID();
+        UUID craftId = UUID.randomUUID();
+        when(jumpRepository.findById(jumpId)).thenReturn(Optional.of(jump));
+        when(craftRepository.findById(craftId)).thenReturn(Optional.of(craft));
+
+        LoadBalance balance = service.balance(jumpId, craftId);
+
+        assertEquals(1270, balance.totalWeight());
+        assertEquals(363_500.0 / 1270, balance.seatedCgArm(), 1e-9);
+    }
+
+    @Test
+    void heldRosterIsNotReadFromRepository() {
+        Craft craft = new Craft("Caravan", "N208SD", 500, 4);
+        craft.setStationLayout(new StationLayout(1000, 300, 200, 500, List.of(250, 350), 2, 280, 330));
+        UUID jumpId = UUID.randomUUID();
+        UUID craftId = UUID.randomUUID();
+        when(manifestStore.weights(jumpId)).thenReturn(new RosterWeights(new int[] {80}, new int[] {100, 90}));
+        when(craftRepository.findById(craftId)).thenReturn(Optional.of(craft));
+
+        LoadBalance balance = service.balance(jumpId, craftId);
+
+        assertEquals(1270, balance.totalWeight());
+        verify(jumpRepository, never()).findById(any());
+    }
+
+    @Test
+    void balanceRejectsCraftWithoutLayout() {
+        UUID jumpId = UUID.randomUUID();
+        UUID craftId = UUID.randomUUID();
+        when(jumpRepository.findById(jumpId))
+                .thenReturn(Optional.of(new Jump(Instant.parse("2025-06-01T09:00:00Z"), UUID.randomUUID(), 13000)));
+        when(craftRepository.findById(craftId)).thenReturn(Optional.of(new Craft("Caravan", "N208SD", 500, 4)));
+
+        assertThrows(IllegalArgumentException.class, () -> service.balance(jumpId, craftId));
+    }
+
+    private static Person withId(Person person) throws Exception {
+        Field id = Person.class.getDeclaredField("id");
+        id.setAccessible(true);
+        id.set(person, UUID.randomUUID());
+        return person;
+    }
+}
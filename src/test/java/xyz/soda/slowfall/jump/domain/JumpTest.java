@@ -1,6 +1,7 @@
 package xyz.soda.slowfall.jump.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -21,4 +22,17 @@ class JumpTest {
         assertEquals(1, j.getSkydivers().size());
         assertEquals(1, j.getPilots().size());
     }
+
+    @Test
+    void rosterChangeBumpsChangeVersion() {
+        Jump j = new Jump(Instant.now(), UUID.randomUUID(), 13000);
+        Person p = new Person("A", "B", false, true, 70, "a@b.com");
+
+        j.addSkydiver(p);
+        long afterAdd = j.getChangeVersion();
+        j.addSkydiver(p);
+
+        assertTrue(afterAdd > 0);
+        assertEquals(afterAdd, j.getChangeVersion());
+    }
 }
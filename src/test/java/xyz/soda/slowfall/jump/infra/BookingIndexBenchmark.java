@@ -0,0 +1,99 @@
+package xyz.soda.slowfall.jump.infra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * Measures the double-booking query, {@link JumpRepository#findBookedBetween}, as the jumps table grows to
+ * 10,000 jumps four minutes apart with 10 persons each, drawn from 5,000 persons, so that everyone ends up on
+ * about 20 loads. Each check looks up one person in a 40-minute window; with {@code idx_jumps_jump_time} the
+ * time per check should stay flat while the table and every logbook grow tenfold. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingIndexBenchmark {
+
+    private static final int STEP = 1_000;
+    private static final int JUMPS = 10_000;
+    private static final int PERSONS = 5_000;
+    private static final int ROSTER = 10;
+    private static final int CHECKS = 2_000;
+    private static final Instant FROM = Instant.parse("2030-06-01T00:00:00Z");
+    private static final Duration SPAN = Duration.ofMinutes(20);
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void tenThousandJumpsFiveThousandPersons() {
+        Random random = new Random(42);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<UUID> persons = createPersons();
+        List<UUID> ignored = List.of(UUID.randomUUID());
+        try {
+            for (int created = 0; created < JUMPS; created += STEP) {
+                createJumps(transaction, random, persons, created);
+                Duration populated = Duration.ofMinutes(4L * (created + STEP));
+                int conflicts = 0;
+                long begin = System.nanoTime();
+                for (int i = 0; i < CHECKS; i++) {
+                    UUID personId = persons.get(random.nextInt(PERSONS));
+                    Instant jumpTime = FROM.plusMillis((long) (random.nextDouble() * populated.toMillis()));
+                    conflicts += jumpRepository
+                            .findBookedBetween(
+                                    List.of(personId), jumpTime.minus(SPAN), jumpTime.plus(SPAN), ignored)
+                            .size();
+                }
+                long micros = (System.nanoTime() - begin) / 1_000 / CHECKS;
+                System.out.printf("%,6d jumps: %,5d us/check (%,d conflicts)%n", created + STEP, micros, conflicts);
+            }
+        } finally {
+            jumpRepository.deleteAll();
+            personRepository.deleteAllInBatch();
+        }
+    }
+
+    private List<UUID> createPersons() {
+        List<Person> persons = new ArrayList<>(PERSONS);
+        for (int i = 0; i < PERSONS; i++) {
+            persons.add(new Person("Bench", "Booked" + i, false, true, 80, "booking" + i + "@x.io"));
+        }
+        return personRepository.saveAll(persons).stream().map(Person::getId).toList();
+    }
+
+    // Adds the next STEP jumps with their rosters, one transaction per step.
+    private void createJumps(TransactionTemplate transaction, Random random, List<UUID> persons, int first) {
+        transaction.executeWithoutResult(status -> {
+            for (int i = first; i < first + STEP; i++) {
+                Jump jump = new Jump(FROM.plus(Duration.ofMinutes(4L * i)), UUID.randomUUID(), 13000);
+                UUID jumpId = jumpRepository.save(jump).getId();
+                for (int j = 0; j < ROSTER; j++) {
+                    jumpRepository.insertSkydiver(jumpId, persons.get(random.nextInt(PERSONS)));
+                }
+            }
+        });
+    }
+}
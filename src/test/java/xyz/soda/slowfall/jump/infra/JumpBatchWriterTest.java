@@ -0,0 +1,42 @@
+package xyz.soda.slowfall.jump.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpBatchWriter.NewJump;
+
+@DataJpaTest
+@Import(JumpBatchWriter.class)
+class JumpBatchWriterTest {
+
+    @Autowired
+    JumpBatchWriter writer;
+
+    @Autowired
+    JumpRepository repository;
+
+    @Test
+    void insertsRowsReadableThroughJpa() {
+        UUID airportId = UUID.randomUUID();
+        Instant start = Instant.parse("2025-06-01T09:00:00Z");
+        List<NewJump> jumps = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            jumps.add(new NewJump(UUID.randomUUID(), start.plusSeconds(i * 60L), airportId, 13000));
+        }
+
+        writer.insertAll(jumps, Instant.parse("2025-05-31T00:00:00Z"));
+
+        List<Jump> found = repository.findByAirportIdInWindow(airportId, start, start.plusSeconds(3600));
+        assertEquals(60, found.size());
+        assertEquals(jumps.get(0).id(), found.get(0).getId());
+        assertEquals(1200, repository.count());
+    }
+}
@@ -0,0 +1,150 @@
+package xyz.soda.slowfall.jump.infra;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Compares "today's loads" latency on a plain and a monthly-partitioned {@code jumps} table holding five years
+ * of synthetic history (one load every three minutes, spread over 20 airports, about 880k rows).
+ *
+ * <p>Needs a scratch Postgres database: set {@code SLOWFALL_BENCHMARK_PG_URL} (and optionally
+ * {@code SLOWFALL_BENCHMARK_PG_USER} / {@code SLOWFALL_BENCHMARK_PG_PASSWORD}) and run
+ * {@code ./gradlew benchmark}. Everything is created in, and dropped with, the {@code bench_partitions}
+ * schema.</p>
+ */
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "SLOWFALL_BENCHMARK_PG_URL", matches = ".+")
+class JumpPartitionBenchmark {
+
+    private static final int AIRPORTS = 20;
+    private static final int YEARS = 5;
+    private static final int ITERATIONS = 2_000;
+
+    private static final String TODAY_AT_AIRPORT =
+            "select id, jump_time, altitude_feet from %s where airport_id = ? and jump_time >= ? and jump_time < ?"
+                    + " order by jump_time";
+    private static final String NEXT_48_HOURS =
+            "select id, airport_id, jump_time from %s where jump_time >= ? and jump_time < ? order by jump_time";
+
+    @Test
+    void todaysLoadsOnFiveYearsOfHistory() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                System.getenv("SLOWFALL_BENCHMARK_PG_URL"),
+                System.getenv("SLOWFALL_BENCHMARK_PG_USER"),
+                System.getenv("SLOWFALL_BENCHMARK_PG_PASSWORD"))) {
+            Instant now = Instant.now();
+            UUID airport = createSchema(connection, now);
+            try {
+                Instant today = now.truncatedTo(ChronoUnit.DAYS);
+                Instant tomorrow = today.plus(1, ChronoUnit.DAYS);
+                Instant in48Hours = now.plus(48, ChronoUnit.HOURS);
+
+                for (String table : new String[] {"jumps_plain", "jumps"}) {
+                    long todayNanos = time(connection, TODAY_AT_AIRPORT.formatted(table), airport, today, tomorrow);
+                    long upcomingNanos = time(connection, NEXT_48_HOURS.formatted(table), null, now, in48Hours);
+                    System.out.printf(
+                            "%-12s today at one airport: %,10d ns   next 48h all airports: %,10d ns%n",
+                            table, todayNanos, upcomingNanos);
+                }
+                printPlan(connection, airport, today, tomorrow);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("drop schema bench_partitions cascade");
+                }
+            }
+        }
+    }
+
+    private static UUID createSchema(Connection connection, Instant now) throws SQLException {
+        UUID firstAirport = UUID.randomUUID();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop schema if exists bench_partitions cascade");
+            statement.execute("create schema bench_partitions");
+            statement.execute("set search_path to bench_partitions");
+            String columns = "id uuid not null, jump_time timestamp(6) with time zone not null,"
+                    + " airport_id uuid not null, altitude_feet integer not null,"
+                    + " created_at timestamp(6) with time zone not null";
+            statement.execute("create table jumps_plain (" + columns + ", primary key (id))");
+            statement.execute("create index on jumps_plain (airport_id, jump_time)");
+            statement.execute(
+                    "create table jumps (" + columns + ", primary key (id, jump_time)) partition by range (jump_time)");
+            statement.execute("create index on jumps (airport_id, jump_time)");
+
+            YearMonth current = YearMonth.from(now.atZone(ZoneOffset.UTC));
+            for (YearMonth month = current.minusYears(YEARS); !month.isAfter(current.plusMonths(1)); ) {
+                for (String sql : JumpPartitionManager.createPartitionStatements(month, false)) {
+                    statement.execute(sql);
+                }
+                month = month.plusMonths(1);
+            }
+
+            statement.execute("create temporary table bench_airports as select (array['" + firstAirport
+                    + "'::uuid] || array(select gen_random_uuid() from generate_series(2, " + AIRPORTS
+                    + "))) as ids");
+            String fill = " select gen_random_uuid(), slot, a.ids[1 + (n % " + AIRPORTS + ")], 13000, slot"
+                    + " from bench_airports a, generate_series(now() - interval '" + YEARS
+                    + " years', now() + interval '2 days', interval '3 minutes') with ordinality as s(slot, n)";
+            statement.execute("insert into jumps_plain" + fill);
+            statement.execute("insert into jumps select * from jumps_plain");
+            statement.execute("analyze jumps_plain");
+            statement.execute("analyze jumps");
+        }
+        return firstAirport;
+    }
+
+    private static long time(Connection connection, String sql, UUID airport, Instant from, Instant to)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            if (airport != null) {
+                statement.setObject(index++, airport);
+            }
+            statement.setTimestamp(index++, Timestamp.from(from));
+            statement.setTimestamp(index, Timestamp.from(to));
+            for (int i = 0; i < ITERATIONS / 10; i++) {
+                drain(statement);
+            }
+            long begin = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                drain(statement);
+            }
+            return (System.nanoTime() - begin) / ITERATIONS;
+        }
+    }
+
+    private static void drain(PreparedStatement statement) throws SQLException {
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                rows.getObject(1);
+            }
+        }
+    }
+
+    private static void printPlan(Connection connection, UUID airport, Instant from, Instant to)
+            throws SQLException {
+        try (PreparedStatement statement =
+                connection.prepareStatement("explain " + TODAY_AT_AIRPORT.formatted("jumps"))) {
+            statement.setObject(1, airport);
+            statement.setTimestamp(2, Timestamp.from(from));
+            statement.setTimestamp(3, Timestamp.from(to));
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    System.out.println(rows.getString(1));
+                }
+            }
+        }
+    }
+}
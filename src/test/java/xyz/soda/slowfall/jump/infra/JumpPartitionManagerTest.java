@@ -0,0 +1,101 @@
+package xyz.soda.slowfall.jump.infra;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class JumpPartitionManagerTest {
+
+    JdbcTemplate jdbcTemplate;
+    JumpPartitionManager manager;
+
+    @BeforeEach
+    void setup() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T12:00:00Z"), ZoneOffset.UTC);
+        JumpPartitionProperties properties = new JumpPartitionProperties(true, 2, 3, "archive", "0 15 3 * * *");
+        manager = new JumpPartitionManager(
+                jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)), properties, clock);
+    }
+
+    @Test
+    void skipsTableThatIsNotPartitioned() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("jumps"))).thenReturn(0);
+
+        manager.maintain();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void createsFuturePartitionsAndArchivesExpiredOnes() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("jumps"))).thenReturn(1);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("jumps")))
+                .thenReturn(List.of("jumps_default", "jumps_p202502", "jumps_p202503", "jumps_p202506"));
+
+        manager.maintain();
+
+        verify(jdbcTemplate).execute(create("jumps_p202507"));
+        verify(jdbcTemplate).execute(create("jumps_p202508"));
+        verify(jdbcTemplate, never()).execute(create("jumps_p202506"));
+        verify(jdbcTemplate).execute("alter table jumps detach partition jumps_p202502");
+        verify(jdbcTemplate).execute("alter table jumps_p202502 set schema archive");
+        verify(jdbcTemplate, never()).execute("alter table jumps detach partition jumps_p202503");
+    }
+
+    @Test
+    void partitionStatementsMoveRowsOutOfDefault() {
+        List<String> statements = JumpPartitionManager.createPartitionStatements(YearMonth.of(2025, 12), true);
+
+        assertEquals(3, statements.size());
+        assertTrue(statements.get(1).startsWith("with moved as (delete from jumps_default"));
+        assertEquals(
+                "alter table jumps attach partition jumps_p202512"
+                        + " for values from ('2025-12-01 00:00:00+00') to ('2026-01-01 00:00:00+00')",
+                statements.get(2));
+        assertEquals(2, JumpPartitionManager.createPartitionStatements(YearMonth.of(2025, 12), false).size());
+    }
+
+    @Test
+    void detachMovesRosterRowsAlongWithThePartition() {
+        List<String> statements = JumpPartitionManager.detachStatements(YearMonth.of(2025, 2), "archive", 500);
+
+        assertEquals(10, statements.size());
+        assertEquals(
+                "with moved as (delete from jump_pilots r using archive.jumps_p202502 j where r.jump_id = j.id"
+                        + " returning r.*) insert into archive.jump_pilots_p202502 select * from moved",
+                statements.get(8));
+        assertTrue(statements.get(9).startsWith("update persons p set pilot_jumps = p.pilot_jumps - m.moved"));
+        assertEquals(8, JumpPartitionManager.detachStatements(YearMonth.of(2025, 2), "", 500).size());
+    }
+
+    @Test
+    void detachWritesATombstonePerJump() {
+        List<String> statements = JumpPartitionManager.detachStatements(YearMonth.of(2025, 2), "archive", 500);
+
+        assertEquals(
+                "insert into sync_tombstones (id, kind, entity_id, change_version) select gen_random_uuid(), 'JUMP',"
+                        + " j.id, 499 + row_number() over (order by j.id) from archive.jumps_p202502 j",
+                statements.get(3));
+    }
+
+    private static String create(String partition) {
+        return "create table " + partition + " (like jumps including defaults including constraints)";
+    }
+}
@@ -1,13 +1,23 @@
 package xyz.soda.slowfall.jump.infra;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
 
 @DataJpaTest
 class JumpRepositoryTest {
@@ -15,6 +25,12 @@ class JumpRepositoryTest {
     @Autowired
     JumpRepository repository;
 
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
     @Test
     void saveAndFind() {
         Jump j = new Jump(Instant.now(), UUID.randomUUID(), 12000);
@@ -24,4 +40,124 @@ class JumpRepositoryTest {
         var all = repository.findAll();
         assertFalse(all.isEmpty());
     }
+
+    @Test
+    void findInWindowIsHalfOpenAndOrdered() {
+        Instant start = Instant.parse("2025-06-01T00:00:00Z");
+        UUID airportId = UUID.randomUUID();
+        repository.save(new Jump(start.plusSeconds(3600), airportId, 13000));
+        repository.save(new Jump(start, airportId, 13000));
+        repository.save(new Jump(start.plusSeconds(86_400), airportId, 13000));
+
+        List<Jump> found = repository.findInWindow(start, start.plusSeconds(86_400));
+
+        assertEquals(List.of(start, start.plusSeconds(3600)), found.stream().map(Jump::getJumpTime).toList());
+    }
+
+    @Test
+    void findBySkydiverIdPagesLatestFirst() {
+        Person skydiver = personRepository.save(new Person("Sky", "Diver", false, true, 75, "sky@diver.com"));
+        Instant start = Instant.parse("2025-06-01T08:00:00Z");
+        for (int i = 0; i < 3; i++) {
+            Jump jump = new Jump(start.plusSeconds(i * 3600L), UUID.randomUUID(), 13000);
+            jump.addSkydiver(skydiver);
+            repository.save(jump);
+        }
+        repository.save(new Jump(start, UUID.randomUUID(), 13000));
+
+        Page<Jump> page = repository.findBySkydiverId(skydiver.getId(), PageRequest.of(0, 2));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(
+                List.of(start.plusSeconds(7200), start.plusSeconds(3600)),
+                page.getContent().stream().map(Jump::getJumpTime).toList());
+        assertEquals(0, repository.findByPilotId(skydiver.getId(), PageRequest.of(0, 2)).getTotalElements());
+    }
+
+    @Test
+    void rosterRowsAreWrittenByIdOnly() {
+        Person skydiver = personRepository.save(new Person("Sky", "Diver", false, true, 75, "roster@diver.com"));
+        Instant jumpTime = Instant.parse("2025-06-01T08:00:00Z");
+        Jump jump = repository.save(new Jump(jumpTime, UUID.randomUUID(), 13000));
+        entityManager.flush();
+
+        assertEquals(1, repository.insertSkydiver(jump.getId(), skydiver.getId()));
+        assertEquals(0, repository.insertSkydiver(jump.getId(), skydiver.getId()));
+        assertEquals(0, repository.insertSkydiver(jump.getId(), UUID.randomUUID()));
+        personRepository.recordSkydiverJump(skydiver.getId(), jumpTime);
+        entityManager.clear();
+        assertEquals(Set.of(skydiver), repository.findById(jump.getId()).orElseThrow().getSkydivers());
+        assertEquals(jumpTime, repository.findJumpTimeById(jump.getId()).orElseThrow());
+
+        assertEquals(1, repository.deleteSkydiver(jump.getId(), skydiver.getId()));
+        assertEquals(0, repository.deleteSkydiver(jump.getId(), skydiver.getId()));
+        personRepository.forgetSkydiverJump(skydiver.getId(), jumpTime);
+        entityManager.clear();
+        assertTrue(repository.findById(jump.getId()).orElseThrow().getSkydivers().isEmpty());
+        Person forgotten = personRepository.findById(skydiver.getId()).orElseThrow();
+        assertEquals(0, forgotten.getSkydiverJumps());
+        assertNull(forgotten.getLastJumpTime());
+    }
+
+    @Test
+    void skydiversMoveAndSwapBetweenJumps() {
+        Person first = personRepository.save(new Person("First", "Diver", false, true, 75, "first@diver.com"));
+        Person second = personRepository.save(new Person("Second", "Diver", false, true, 75, "second@diver.com"));
+        Person third = personRepository.save(new Person("Third", "Diver", false, true, 75, "third@diver.com"));
+        Instant early = Instant.parse("2025-06-01T08:00:00Z");
+        Instant late = early.plusSeconds(3600);
+        Jump source = new Jump(early, UUID.randomUUID(), 13000);
+        source.addSkydiver(first);
+        source.addSkydiver(second);
+        Jump target = new Jump(late, UUID.randomUUID(), 13000);
+        target.addSkydiver(third);
+        UUID sourceId = repository.save(source).getId();
+        UUID targetId = repository.save(target).getId();
+        entityManager.flush();
+
+        Set<UUID> moved = Set.of(first.getId());
+        assertEquals(2, repository.touchAll(List.of(sourceId, targetId), 42L));
+        assertEquals(1, repository.copySkydivers(sourceId, targetId, moved));
+        assertEquals(0, repository.copySkydivers(sourceId, targetId, moved));
+        assertEquals(1, repository.deleteSkydivers(sourceId, moved));
+        assertEquals(2, repository.countManifested(targetId));
+        personRepository.recordMovedJump(moved, early, late);
+        entityManager.clear();
+        assertEquals(Set.of(second), repository.findById(sourceId).orElseThrow().getSkydivers());
+        assertEquals(Set.of(first, third), repository.findById(targetId).orElseThrow().getSkydivers());
+        assertEquals(late, personRepository.findById(first.getId()).orElseThrow().getLastJumpTime());
+
+        assertEquals(2, repository.swapSkydivers(sourceId, second.getId(), targetId, third.getId()));
+        entityManager.clear();
+        assertEquals(Set.of(third), repository.findById(sourceId).orElseThrow().getSkydivers());
+        assertEquals(Set.of(first, second), repository.findById(targetId).orElseThrow().getSkydivers());
+    }
+
+    @Test
+    void findBookedBetweenChecksBothRolesAndSkipsIgnoredJumps() {
+        Person skydiver = personRepository.save(new Person("Sky", "Diver", false, true, 75, "booked@diver.com"));
+        Person pilot = personRepository.save(new Person("Pat", "Pilot", true, false, 80, "booked@pilot.com"));
+        Person idle = personRepository.save(new Person("Idle", "Diver", false, true, 75, "idle@diver.com"));
+        Instant noon = Instant.parse("2025-06-01T12:00:00Z");
+        Jump onTime = new Jump(noon, UUID.randomUUID(), 13000);
+        onTime.addSkydiver(skydiver);
+        Jump later = new Jump(noon.plusSeconds(1200), UUID.randomUUID(), 13000);
+        later.addPilot(pilot);
+        UUID onTimeId = repository.save(onTime).getId();
+        UUID laterId = repository.save(later).getId();
+        entityManager.flush();
+        List<UUID> everyone = List.of(skydiver.getId(), pilot.getId(), idle.getId());
+        List<UUID> unrelated = List.of(UUID.randomUUID());
+        Instant after = noon.minusSeconds(1);
+        Instant before = noon.plusSeconds(1201);
+
+        assertEquals(
+                Set.of(skydiver.getId(), pilot.getId()),
+                Set.copyOf(repository.findBookedBetween(everyone, after, before, unrelated)));
+        assertEquals(
+                List.of(skydiver.getId()),
+                repository.findBookedBetween(everyone, after, noon.plusSeconds(1200), unrelated));
+        assertEquals(List.of(pilot.getId()), repository.findBookedBetween(everyone, after, before, List.of(onTimeId)));
+        assertTrue(repository.findBookedBetween(everyone, after, before, List.of(onTimeId, laterId)).isEmpty());
+    }
 }
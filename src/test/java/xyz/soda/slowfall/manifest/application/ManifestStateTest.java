@@ -0,0 +1,105 @@
+package xyz.soda.slowfall.manifest.application;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.manifest.domain.ManifestJump;
+import xyz.soda.slowfall.manifest.domain.ManifestMember;
+
+class ManifestStateTest {
+    private static final Instant FROM = Instant.parse("2030-06-01T00:00:00Z");
+    private static final Instant TO = FROM.plus(Duration.ofDays(1));
+    private static final UUID AIRPORT = UUID.randomUUID();
+
+    private final ManifestState state = new ManifestState(FROM, TO);
+
+    @Test
+    void answersRosterQueriesForHeldJumps() {
+        UUID jumpId = UUID.randomUUID();
+        UUID pilot = UUID.randomUUID();
+        UUID skydiver = UUID.randomUUID();
+        state.put(jump(
+                jumpId,
+                1,
+                FROM.plusSeconds(3600),
+                new ManifestMember(pilot, 80, true),
+                new ManifestMember(skydiver, 95, false)));
+
+        assertTrue(state.contains(jumpId));
+        assertEquals(2, state.manifestedCount(jumpId));
+        assertTrue(state.isManifested(jumpId, pilot));
+        assertTrue(state.isManifested(jumpId, skydiver));
+        assertFalse(state.isManifested(jumpId, UUID.randomUUID()));
+        RosterWeights weights = state.weights(jumpId);
+        assertArrayEquals(new int[] {80}, weights.pilots());
+        assertArrayEquals(new int[] {95}, weights.skydivers());
+    }
+
+    @Test
+    void unknownAndOutOfWindowJumpsAreNotHeld() {
+        UUID late = UUID.randomUUID();
+        state.put(jump(late, 1, TO, new ManifestMember(UUID.randomUUID(), 80, false)));
+
+        assertEquals(-1, state.manifestedCount(late));
+        assertEquals(-1, state.manifestedCount(UUID.randomUUID()));
+        assertNull(state.weights(late));
+        assertEquals(0, state.size());
+    }
+
+    @Test
+    void olderReadsNeverReplaceNewerOnes() {
+        UUID jumpId = UUID.randomUUID();
+        state.put(jump(jumpId, 5, FROM, new ManifestMember(UUID.randomUUID(), 80, false)));
+        state.put(jump(jumpId, 4, FROM));
+
+        assertEquals(1, state.manifestedCount(jumpId));
+
+        state.put(jump(jumpId, 6, FROM));
+        assertEquals(0, state.manifestedCount(jumpId));
+    }
+
+    @Test
+    void retiredJumpStaysGone() {
+        UUID jumpId = UUID.randomUUID();
+        state.put(jump(jumpId, 1, FROM));
+
+        state.retire(jumpId);
+        state.put(jump(jumpId, 2, FROM));
+
+        assertFalse(state.contains(jumpId));
+        assertEquals(0, state.size());
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        List<UUID> jumpIds = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            UUID jumpId = UUID.randomUUID();
+            jumpIds.add(jumpId);
+            state.put(jump(
+                    jumpId,
+                    1,
+                    FROM.plusSeconds(i),
+                    new ManifestMember(UUID.randomUUID(), i, false),
+                    new ManifestMember(UUID.randomUUID(), i, false)));
+        }
+
+        assertEquals(1_000, state.size());
+        for (int i = 0; i < jumpIds.size(); i++) {
+            assertArrayEquals(new int[] {i, i}, state.weights(jumpIds.get(i)).skydivers());
+        }
+    }
+
+    private static ManifestJump jump(UUID id, long version, Instant jumpTime, ManifestMember... members) {
+        return new ManifestJump(id, version, AIRPORT, jumpTime, 13000, List.of(members));
+    }
+}
@@ -0,0 +1,143 @@
+package xyz.soda.slowfall.manifest.application;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.domain.JumpsChangedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.manifest.infra.ManifestSource;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+
+/**
+ * Loads the store from the real tables; each step commits so the store reads what a committed roster change
+ * would leave behind.
+ */
+@DataJpaTest
+@Import(ManifestSource.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ManifestStoreTest {
+    private static final Instant NOW = Instant.parse("2030-06-01T09:00:00Z");
+
+    @Autowired
+    ManifestSource source;
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private ManifestStore store;
+    private UUID today;
+    private UUID nextWeek;
+    private UUID pilot;
+    private UUID skydiver;
+
+    @BeforeEach
+    void setup() {
+        UUID airportId = UUID.randomUUID();
+        today = jumpRepository.save(new Jump(NOW.plusSeconds(3600), airportId, 13000)).getId();
+        nextWeek = jumpRepository
+                .save(new Jump(NOW.plus(Duration.ofDays(7)), airportId, 13000))
+                .getId();
+        pilot = personRepository
+                .save(new Person("Pat", "Pilot", true, false, 80, "pat@store.io"))
+                .getId();
+        skydiver = personRepository
+                .save(new Person("Sam", "Sky", false, true, 95, "sam@store.io"))
+                .getId();
+        inTransaction(() -> {
+            jumpRepository.insertPilot(today, pilot);
+            jumpRepository.insertSkydiver(today, skydiver);
+        });
+        store = new ManifestStore(
+                source,
+                new ManifestStoreProperties(true, Duration.ofHours(12), Duration.ofHours(24), Duration.ofHours(1)),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        store.start();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        store.close();
+        jumpRepository.deleteAll();
+        personRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void loadsTheActiveWindowAtStartup() {
+        assertEquals(1, store.size());
+        assertEquals(2, store.manifestedCount(today));
+        assertTrue(store.isManifested(today, skydiver));
+        assertArrayEquals(new int[] {80}, store.weights(today).pilots());
+        assertArrayEquals(new int[] {95}, store.weights(today).skydivers());
+        assertEquals(-1, store.manifestedCount(nextWeek));
+        assertNull(store.weights(nextWeek));
+    }
+
+    @Test
+    void committedChangesAreAppliedFromTheirEvent() {
+        inTransaction(() -> {
+            jumpRepository.deleteSkydiver(today, skydiver);
+            jumpRepository.touch(today, ChangeVersions.next());
+        });
+        assertEquals(2, store.manifestedCount(today));
+
+        store.onJumpsChanged(new JumpsChangedEvent(List.of(today)));
+
+        assertEquals(1, store.manifestedCount(today));
+        assertFalse(store.isManifested(today, skydiver));
+    }
+
+    @Test
+    void deletedJumpIsNoLongerHeld() {
+        jumpRepository.deleteById(today);
+
+        store.onJumpsChanged(new JumpsChangedEvent(List.of(today)));
+
+        assertFalse(store.contains(today));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void disabledStoreHoldsNothing() {
+        ManifestStore disabled = new ManifestStore(
+                source,
+                new ManifestStoreProperties(false, Duration.ofHours(12), Duration.ofHours(24), Duration.ofHours(1)),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        disabled.start();
+        disabled.onJumpsChanged(new JumpsChangedEvent(List.of(today)));
+
+        assertEquals(-1, disabled.manifestedCount(today));
+        disabled.close();
+    }
+
+    private void inTransaction(Runnable work) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> work.run());
+    }
+}
@@ -9,16 +9,22 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import xyz.soda.slowfall.person.application.PersonCursor;
 import xyz.soda.slowfall.person.application.PersonService;
 import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.web.JsonStreamHttpMessageConverter;
 
 @ExtendWith(MockitoExtension.class)
 class PersonControllerWebSliceTest {
@@ -33,7 +39,11 @@ class PersonControllerWebSliceTest {
     @BeforeEach
     void setup() {
         PersonController controller = new PersonController(service);
-        this.mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        this.mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(
+                        new JsonStreamHttpMessageConverter(objectMapper),
+                        new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
     }
 
     @Test
@@ -50,12 +60,45 @@ class PersonControllerWebSliceTest {
     }
 
     @Test
-    void listPersonReturnsOk() throws Exception {
+    void listPersonReturnsFirstPage() throws Exception {
         Person p = new Person("A", "B", false, false, 70, "a@b.com");
-        when(service.listAllPerson()).thenReturn(List.of(p));
+        when(service.listPersons(null, 50)).thenReturn(new SliceImpl<>(List.of(p), PageRequest.ofSize(50), false));
 
         mockMvc.perform(get("/api/person"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].email").value("a@b.com"));
+                .andExpect(jsonPath("$.content[0].email").value("a@b.com"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.approximateTotal").doesNotExist());
+    }
+
+    @Test
+    void listPersonReturnsCursorForNextPage() throws Exception {
+        Person p = new Person("A", "B", false, false, 70, "a@b.com");
+        PersonCursor after = new PersonCursor("A", "A", UUID.randomUUID());
+        when(service.listPersons(after, 1)).thenReturn(new SliceImpl<>(List.of(p), PageRequest.ofSize(1), true));
+        when(service.approximatePersonCount()).thenReturn(1200L);
+
+        mockMvc.perform(get("/api/person")
+                        .param("after", after.encode())
+                        .param("size", "1")
+                        .param("approximateCount", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value(PersonCursor.of(p).encode()))
+                .andExpect(jsonPath("$.approximateTotal").value(1200));
+    }
+
+    @Test
+    void listPersonRejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/person").param("after", "not-a-cursor")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchRejectsOversizedPage() throws Exception {
+        when(service.searchPersons(null, null, true, null, null, 1000))
+                .thenThrow(new IllegalArgumentException("Page size must be between 1 and 200"));
+
+        mockMvc.perform(get("/api/person/search").param("pilot", "true").param("size", "1000"))
+                .andExpect(status().isBadRequest());
     }
 }
@@ -0,0 +1,108 @@
+package xyz.soda.slowfall.person.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import xyz.soda.slowfall.SqlBudget;
+import xyz.soda.slowfall.person.application.PersonCursor;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * SQL statement budgets for the person endpoints, run against the real persistence layer.
+ */
+@SpringBootTest(properties = {"app.coalescing.enabled=false", "app.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class PersonQueryBudgetTest {
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    private String existingEmailUser;
+    private final List<Person> seeded = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        existingEmailUser = "sky0-" + suffix;
+        for (int i = 0; i < 30; i++) {
+            seeded.add(personRepository.save(
+                    new Person("Sky", "Diver" + i, false, true, 75, "sky" + i + "-" + suffix + "@example.com")));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        personRepository.deleteAll();
+    }
+
+    @Test
+    @SqlBudget(1)
+    void searchIsSingleQueryWithoutCount() throws Exception {
+        mvc.perform(get("/api/person/search").param("skydiver", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(20))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void listIsSingleQuery() throws Exception {
+        mvc.perform(get("/api/person")).andExpect(status().isOk());
+    }
+
+    @Test
+    @SqlBudget(1)
+    void deepPageIsSingleQuery() throws Exception {
+        // Last names compare as text, so Diver26..Diver29 and then Diver3..Diver9 follow Diver25.
+        String after = PersonCursor.of(seeded.get(25)).encode();
+
+        mvc.perform(get("/api/person/search")
+                        .param("skydiver", "true")
+                        .param("after", after)
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(10))
+                .andExpect(jsonPath("$.content[0].name").value("Sky Diver26"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @SqlBudget(1)
+    void createIsSingleInsert() throws Exception {
+        mvc.perform(post("/api/person").contentType(MediaType.APPLICATION_JSON).content(personJson("pat-budget")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @SqlBudget(1)
+    void duplicateEmailIsRejectedByConstraint() throws Exception {
+        mvc.perform(post("/api/person")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(personJson(existingEmailUser)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String personJson(String emailUser) {
+        return """
+                {"firstName":"Pat","lastName":"Pilot","pilot":true,"skydiver":false,"weight":80,\
+                "email":"%s@example.com"}"""
+                .formatted(emailUser);
+    }
+}
@@ -0,0 +1,115 @@
+package xyz.soda.slowfall.person.application;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import xyz.soda.slowfall.person.api.CreatePersonRequest;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonCountEstimator;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * Compares person create throughput with uniqueness left to the database constraint against the former
+ * check-then-insert path, at several thread counts with about 5% duplicate emails. Also reports how many
+ * duplicates slipped past the pre-check and were only caught by the constraint. Run with
+ * {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import({PersonService.class, PersonCountEstimator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PersonCreateBenchmark {
+
+    private static final int CREATES = 4_000;
+    private static final int DUPLICATE_EVERY = 20;
+
+    @Autowired
+    PersonService service;
+
+    @Autowired
+    PersonRepository repository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Test
+    void parallelCreates() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger racedPastCheck = new AtomicInteger();
+        Consumer<CreatePersonRequest> checkThenInsert = request -> {
+            try {
+                transaction.executeWithoutResult(status -> {
+                    if (repository.findByEmail(request.email()).isPresent()) {
+                        throw new IllegalArgumentException("Person with email already exists");
+                    }
+                    repository.saveAndFlush(new Person(
+                            request.firstName(),
+                            request.lastName(),
+                            request.pilot(),
+                            request.skydiver(),
+                            request.weight(),
+                            request.email()));
+                });
+            } catch (IllegalArgumentException e) {
+                // Rejected by the pre-check.
+            } catch (RuntimeException e) {
+                racedPastCheck.incrementAndGet();
+            }
+        };
+        Consumer<CreatePersonRequest> constraintOnly = request -> {
+            try {
+                service.createPerson(request);
+            } catch (IllegalArgumentException e) {
+                // Rejected by the constraint.
+            }
+        };
+
+        for (int threads : new int[] {1, 4, 8}) {
+            racedPastCheck.set(0);
+            long checked = time(threads, checkThenInsert);
+            System.out.printf(
+                    "check-then-insert, %d threads: %,d creates/s (%d duplicates caught only by the constraint)%n",
+                    threads, checked, racedPastCheck.get());
+            System.out.printf("constraint-only,   %d threads: %,d creates/s%n", threads, time(threads, constraintOnly));
+        }
+    }
+
+    private long time(int threads, Consumer<CreatePersonRequest> create) throws Exception {
+        repository.deleteAllInBatch();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long begin = System.nanoTime();
+            for (int worker = 0; worker < threads; worker++) {
+                int offset = worker;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < CREATES; i += threads) {
+                        // Every twentieth create reuses the previous email, which a neighbouring thread is inserting.
+                        int id = i % DUPLICATE_EVERY == 0 && i > 0 ? i - 1 : i;
+                        create.accept(new CreatePersonRequest("Bench", "Jumper", false, true, 80, "b" + id + "@x.io"));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return CREATES * 1_000_000_000L / (System.nanoTime() - begin);
+        } finally {
+            executor.shutdownNow();
+            repository.deleteAllInBatch();
+        }
+    }
+}
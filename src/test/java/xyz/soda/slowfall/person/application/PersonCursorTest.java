@@ -0,0 +1,36 @@
+package xyz.soda.slowfall.person.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PersonCursorTest {
+
+    @Test
+    void encodedCursorRoundTrips() {
+        PersonCursor cursor = new PersonCursor("\u00c5ngstr\u00f6m", "Zo\u00eb Anne", UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertEquals(cursor, PersonCursor.decode(token));
+        assertEquals(token, URLEncoder.encode(token, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() {
+        assertNull(PersonCursor.decode(null));
+        assertNull(PersonCursor.decode(" "));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PersonCursor.decode("%%%"));
+        String withoutId = new PersonCursor("a", "b", null).encode();
+        assertThrows(IllegalArgumentException.class, () -> PersonCursor.decode(withoutId));
+    }
+}
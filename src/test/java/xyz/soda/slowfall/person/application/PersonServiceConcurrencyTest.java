@@ -0,0 +1,73 @@
+package xyz.soda.slowfall.person.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.person.api.CreatePersonRequest;
+import xyz.soda.slowfall.person.infra.PersonCountEstimator;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+
+/**
+ * Races several creates for the same email against the embedded database. Runs outside a test transaction so
+ * each create commits on its own connection and only the unique constraint can stop the duplicates.
+ */
+@DataJpaTest
+@Import({PersonService.class, PersonCountEstimator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PersonServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    PersonService service;
+
+    @Autowired
+    PersonRepository repository;
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void concurrentDuplicateCreatesLeaveOneRow() throws Exception {
+        CreatePersonRequest request = new CreatePersonRequest("Ada", "Race", false, true, 70, "race@example.com");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        service.createPerson(request);
+                        return true;
+                    } catch (IllegalArgumentException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) created++;
+            }
+            assertEquals(1, created);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, repository.count());
+    }
+}
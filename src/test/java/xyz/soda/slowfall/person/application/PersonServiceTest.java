@@ -3,17 +3,21 @@ package xyz.soda.slowfall.person.application;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import xyz.soda.slowfall.invalidation.domain.EntitiesChangedEvent;
 import xyz.soda.slowfall.person.api.CreatePersonRequest;
 import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonCountEstimator;
 import xyz.soda.slowfall.person.infra.PersonRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +26,12 @@ class PersonServiceTest {
     @Mock
     PersonRepository repository;
 
+    @Mock
+    PersonCountEstimator countEstimator;
+
+    @Mock
+    ApplicationEventPublisher events;
+
     @InjectMocks
     PersonService service;
 
@@ -29,22 +39,41 @@ class PersonServiceTest {
     void createPersonSucceedsWhenEmailNotPresent() {
         CreatePersonRequest req = new CreatePersonRequest("John", "Doe", false, true, 75, "john@example.com");
 
-        when(repository.findByEmail("john@example.com")).thenReturn(Optional.empty());
-        when(repository.save(any(Person.class))).thenAnswer(i -> i.getArgument(0));
+        when(repository.saveAndFlush(any(Person.class))).thenAnswer(i -> i.getArgument(0));
 
         Person created = service.createPerson(req);
 
         assertEquals("john@example.com", created.getEmail());
-        verify(repository).save(any(Person.class));
+        verify(repository).saveAndFlush(any(Person.class));
+        verify(repository, never()).findByEmail(any());
+        verify(events).publishEvent(any(EntitiesChangedEvent.class));
     }
 
     @Test
     void createPersonThrowsWhenEmailExists() {
         CreatePersonRequest req = new CreatePersonRequest("John", "Doe", false, true, 75, "john@example.com");
-        Person existing = new Person("Existing", "User", false, false, 80, "john@example.com");
 
-        when(repository.findByEmail("john@example.com")).thenReturn(Optional.of(existing));
+        when(repository.saveAndFlush(any(Person.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
 
         assertThrows(IllegalArgumentException.class, () -> service.createPerson(req));
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void searchRejectsPageSizeOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> service.listPersons(null, 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> service.searchPersons(null, null, true, null, null, PersonService.MAX_PAGE_SIZE + 1));
+        verify(repository, never()).findBy(any(), any());
+    }
+
+    @Test
+    void approximateCountComesFromEstimator() {
+        when(countEstimator.estimate()).thenReturn(42L);
+
+        assertEquals(42L, service.approximatePersonCount());
+        verify(repository, never()).count();
     }
 }
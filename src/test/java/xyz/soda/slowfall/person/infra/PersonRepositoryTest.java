@@ -2,10 +2,17 @@ package xyz.soda.slowfall.person.infra;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import xyz.soda.slowfall.person.application.PersonCursor;
+import xyz.soda.slowfall.person.application.PersonSpecifications;
 import xyz.soda.slowfall.person.domain.Person;
 
 @DataJpaTest
@@ -14,6 +21,9 @@ class PersonRepositoryTest {
     @Autowired
     PersonRepository repository;
 
+    @Autowired
+    TestEntityManager entityManager;
+
     @Test
     void saveAndFindByEmail() {
         Person p = new Person("First", "Last", false, false, 60, "f@l.com");
@@ -34,4 +44,47 @@ class PersonRepositoryTest {
         List<Person> matches = repository.findByFirstNameContaining("Ali");
         assertThat(matches).extracting(Person::getFirstName).contains("Alice");
     }
+
+    @Test
+    void recordJumpsIncrementsCountersAndKeepsLatestTime() {
+        Person p = repository.saveAndFlush(new Person("Sky", "Diver", true, true, 75, "s@d.com"));
+        Instant later = Instant.parse("2025-06-01T12:00:00Z");
+        Instant earlier = Instant.parse("2025-05-01T12:00:00Z");
+
+        repository.recordSkydiverJump(p.getId(), later);
+        repository.recordSkydiverJump(p.getId(), earlier);
+        repository.recordPilotJump(p.getId(), earlier);
+        entityManager.clear();
+
+        Person reloaded = repository.findById(p.getId()).orElseThrow();
+        assertThat(reloaded.getSkydiverJumps()).isEqualTo(2);
+        assertThat(reloaded.getPilotJumps()).isEqualTo(1);
+        assertThat(reloaded.getLastJumpTime()).isEqualTo(later);
+    }
+
+    @Test
+    void keysetPagesVisitEveryPersonOnceInOrder() {
+        repository.saveAll(List.of(
+                new Person("Ann", "Berg", false, true, 60, "ann1@b.com"),
+                new Person("Ann", "Berg", false, true, 60, "ann2@b.com"),
+                new Person("Bob", "Berg", false, true, 60, "bob@b.com"),
+                new Person("Cid", "Abel", false, true, 60, "cid@a.com"),
+                new Person("Ann", "Berg", false, true, 60, "ann3@b.com"),
+                new Person("Ann", "Cole", false, true, 60, "ann@c.com")));
+        Sort order = Sort.by("lastName", "firstName", "id");
+        List<UUID> expected = repository.findAll(order).stream().map(Person::getId).toList();
+
+        List<UUID> visited = new ArrayList<>();
+        PersonCursor cursor = null;
+        List<Person> page;
+        do {
+            page = repository.findBy(PersonSpecifications.after(cursor), query -> query.sortBy(order)
+                    .limit(2)
+                    .all());
+            page.forEach(person -> visited.add(person.getId()));
+            cursor = page.isEmpty() ? null : PersonCursor.of(page.get(page.size() - 1));
+        } while (!page.isEmpty());
+
+        assertThat(visited).hasSize(6).containsExactlyElementsOf(expected);
+    }
 }
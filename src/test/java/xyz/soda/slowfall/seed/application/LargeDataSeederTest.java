@@ -0,0 +1,54 @@
+package xyz.soda.slowfall.seed.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import xyz.soda.slowfall.seed.infra.SeedRowWriter;
+
+/**
+ * Seeds a small dataset into the embedded database. Runs outside a test transaction because the seeder commits
+ * on its own connections; the distinct property gives this class its own context and database.
+ */
+@DataJpaTest(properties = "app.seed-large.test=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LargeDataSeederTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    void writesDatasetWithCountersMatchingRosters() {
+        LargeSeedProperties properties =
+                new LargeSeedProperties(7, 4, 3, 300, 1200, 60, LocalDate.of(2025, 12, 31), 3, 250);
+        LargeDataSeeder seeder = new LargeDataSeeder(properties, new SeedRowWriter(dataSource));
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        assertTrue(seeder.seed());
+
+        assertEquals(4, jdbc.queryForObject("select count(*) from airports", Long.class));
+        assertEquals(3, jdbc.queryForObject("select count(*) from crafts", Long.class));
+        assertEquals(300, jdbc.queryForObject("select count(*) from persons", Long.class));
+        assertEquals(1200, jdbc.queryForObject("select count(*) from jumps", Long.class));
+        assertEquals(1200, jdbc.queryForObject("select count(*) from jump_pilots", Long.class));
+        assertEquals(
+                jdbc.queryForObject("select count(*) from jump_skydiver", Long.class),
+                jdbc.queryForObject("select sum(skydiver_jumps) from persons", Long.class));
+        assertEquals(
+                0,
+                jdbc.queryForObject(
+                        "select count(*) from persons p where p.pilot_jumps"
+                                + " <> (select count(*) from jump_pilots r where r.person_id = p.id)",
+                        Long.class));
+
+        assertFalse(seeder.seed());
+    }
+}
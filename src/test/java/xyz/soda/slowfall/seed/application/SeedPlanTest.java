@@ -0,0 +1,75 @@
+package xyz.soda.slowfall.seed.application;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import xyz.soda.slowfall.seed.application.SeedPlan.PlannedJump;
+
+class SeedPlanTest {
+
+    private static final LocalDate END = LocalDate.of(2025, 12, 31);
+
+    private final LargeSeedProperties properties = new LargeSeedProperties(7, 5, 3, 2000, 5000, 90, END, 2, 500);
+
+    @Test
+    void sameSeedYieldsSameRows() {
+        SeedPlan first = new SeedPlan(properties);
+        SeedPlan second = new SeedPlan(properties);
+        RosterCounters counters = first.countRosters(0, 100);
+
+        assertArrayEquals(first.airport(3), second.airport(3));
+        assertArrayEquals(first.person(42, counters), second.person(42, counters));
+        PlannedJump jump = first.jump(1234);
+        PlannedJump again = second.jump(1234);
+        assertEquals(jump.id(), again.id());
+        assertEquals(jump.time(), again.time());
+        assertArrayEquals(jump.skydivers(), again.skydivers());
+    }
+
+    @Test
+    void differentSeedYieldsDifferentRows() {
+        SeedPlan first = new SeedPlan(properties);
+        SeedPlan other = new SeedPlan(new LargeSeedProperties(8, 5, 3, 2000, 5000, 90, END, 2, 500));
+
+        assertNotEquals(first.personId(0), other.personId(0));
+        assertNotEquals(Arrays.toString(first.jump(0).skydivers()), Arrays.toString(other.jump(0).skydivers()));
+    }
+
+    @Test
+    void jumpsStayInsideHistoryAndDaylightWithDistinctRosters() {
+        SeedPlan plan = new SeedPlan(properties);
+        Instant earliest = END.minusDays(89).atStartOfDay(ZoneId.of("Pacific/Auckland")).toInstant();
+        Instant latest = END.plusDays(1).atStartOfDay(ZoneId.of("America/Anchorage")).toInstant();
+        for (int i = 0; i < properties.jumps(); i++) {
+            PlannedJump jump = plan.jump(i);
+            assertTrue(!jump.time().isBefore(earliest) && jump.time().isBefore(latest), jump.time()::toString);
+            assertTrue(jump.skydivers().length > 0);
+            assertEquals(jump.skydivers().length, Arrays.stream(jump.skydivers()).distinct().count());
+            assertTrue(Arrays.stream(jump.skydivers()).noneMatch(skydiver -> skydiver == jump.pilot()));
+        }
+    }
+
+    @Test
+    void countersMergeAcrossRanges() {
+        SeedPlan plan = new SeedPlan(properties);
+        RosterCounters whole = plan.countRosters(0, properties.jumps());
+        RosterCounters merged = plan.countRosters(0, 1700);
+        merged.merge(plan.countRosters(1700, properties.jumps()));
+
+        long rosterEntries = 0;
+        for (int i = 0; i < properties.persons(); i++) {
+            assertEquals(whole.skydiverJumps(i), merged.skydiverJumps(i));
+            assertEquals(whole.pilotJumps(i), merged.pilotJumps(i));
+            assertEquals(whole.lastJumpTime(i), merged.lastJumpTime(i));
+            rosterEntries += whole.pilotJumps(i);
+        }
+        assertEquals(properties.jumps(), rosterEntries);
+    }
+}
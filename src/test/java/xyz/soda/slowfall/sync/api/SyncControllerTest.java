@@ -0,0 +1,62 @@
+package xyz.soda.slowfall.sync.api;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import xyz.soda.slowfall.sync.application.SyncBatch;
+import xyz.soda.slowfall.sync.application.SyncService;
+import xyz.soda.slowfall.sync.domain.SyncKind;
+import xyz.soda.slowfall.sync.domain.Tombstone;
+
+@ExtendWith(MockitoExtension.class)
+class SyncControllerTest {
+
+    @Mock
+    SyncService service;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new SyncController(service)).build();
+    }
+
+    @Test
+    void syncReturnsChangesAndCursor() throws Exception {
+        UUID deletedId = UUID.randomUUID();
+        when(service.changesSince(42L))
+                .thenReturn(new SyncBatch(
+                        99L,
+                        true,
+                        List.of(),
+                        List.of(),
+                        List.of(),
+                        List.of(),
+                        List.of(new Tombstone(SyncKind.AIRPORT, deletedId))));
+
+        mvc.perform(get("/api/sync").param("since", "42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cursor").value(99))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.deleted[0].kind").value("AIRPORT"))
+                .andExpect(jsonPath("$.deleted[0].id").value(deletedId.toString()));
+    }
+
+    @Test
+    void syncReturns400ForNegativeCursor() throws Exception {
+        when(service.changesSince(-5L)).thenThrow(new IllegalArgumentException("negative"));
+
+        mvc.perform(get("/api/sync").param("since", "-5")).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,104 @@
+package xyz.soda.slowfall.sync.api;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import xyz.soda.slowfall.SqlBudget;
+import xyz.soda.slowfall.airport.domain.Airport;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.ChangeVersions;
+import xyz.soda.slowfall.sync.infra.TombstoneRepository;
+
+/**
+ * Delta sync against the real persistence layer: one query per aggregate plus the batched roster loads,
+ * whatever the number of changed rows.
+ */
+@SpringBootTest(
+        properties = {"app.coalescing.enabled=false", "app.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+class SyncQueryBudgetTest {
+
+    private static final Instant FIRST_JUMP = Instant.parse("2030-06-01T09:00:00Z");
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    JumpRepository jumpRepository;
+
+    @Autowired
+    PersonRepository personRepository;
+
+    @Autowired
+    AirportRepository airportRepository;
+
+    @Autowired
+    TombstoneRepository tombstoneRepository;
+
+    private long since;
+
+    @BeforeEach
+    void seed() {
+        since = ChangeVersions.next();
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Airport airport = airportRepository.save(new Airport("S" + suffix.substring(0, 3), "Sync", "UTC"));
+        Person pilot = personRepository.save(new Person("Pat", "Pilot", true, false, 80, "p-" + suffix + "@x.io"));
+        Person skydiver = personRepository.save(new Person("Sam", "Sky", false, true, 70, "s-" + suffix + "@x.io"));
+        for (int i = 0; i < 3; i++) {
+            Jump jump = new Jump(FIRST_JUMP.plus(i * 15L, ChronoUnit.MINUTES), airport.getId(), 13000);
+            jump.addPilot(pilot);
+            jump.addSkydiver(skydiver);
+            jumpRepository.save(jump);
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jumpRepository.deleteAll();
+        personRepository.deleteAll();
+        airportRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+    }
+
+    @Test
+    @SqlBudget(7)
+    void deltaIsOneQueryPerAggregatePlusRosters() throws Exception {
+        mvc.perform(get("/api/sync").param("since", Long.toString(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.persons.length()").value(2))
+                .andExpect(jsonPath("$.airports.length()").value(1))
+                .andExpect(jsonPath("$.jumps.length()").value(3))
+                .andExpect(jsonPath("$.jumps[0].skydivers.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void deletedAirportIsReportedAsTombstone() throws Exception {
+        Airport unused = airportRepository.save(new Airport("DEL1", "Unused", "UTC"));
+        long before = ChangeVersions.next();
+
+        mvc.perform(delete("/api/airports/{id}", unused.getId())).andExpect(status().isNoContent());
+
+        mvc.perform(get("/api/sync").param("since", Long.toString(before)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.airports.length()").value(0))
+                .andExpect(jsonPath("$.deleted[0].kind").value("AIRPORT"))
+                .andExpect(jsonPath("$.deleted[0].id").value(unused.getId().toString()));
+    }
+}
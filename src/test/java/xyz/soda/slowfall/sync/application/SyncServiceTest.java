@@ -0,0 +1,156 @@
+package xyz.soda.slowfall.sync.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import xyz.soda.slowfall.airport.infra.AirportRepository;
+import xyz.soda.slowfall.craft.domain.Craft;
+import xyz.soda.slowfall.craft.infra.CraftRepository;
+import xyz.soda.slowfall.jump.domain.Jump;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.domain.Person;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.sync.domain.ChangeVersionSource;
+import xyz.soda.slowfall.sync.infra.TombstoneRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T09:00:00Z");
+    private static final long STABLE = 1_000_000L;
+
+    @Mock
+    PersonRepository personRepository;
+
+    @Mock
+    CraftRepository craftRepository;
+
+    @Mock
+    AirportRepository airportRepository;
+
+    @Mock
+    JumpRepository jumpRepository;
+
+    @Mock
+    TombstoneRepository tombstoneRepository;
+
+    @Mock
+    ChangeVersionSource versions;
+
+    private SyncService service;
+
+    @BeforeEach
+    void setup() {
+        service = new SyncService(
+                personRepository,
+                craftRepository,
+                airportRepository,
+                jumpRepository,
+                tombstoneRepository,
+                new SyncProperties(2),
+                versions);
+    }
+
+    @Test
+    void returnsChangesUpToStableVersion() {
+        when(versions.stableVersion()).thenReturn(STABLE);
+        Person person = person(STABLE - 10);
+        when(personRepository.findChangedBetween(eq(100L), eq(STABLE), any(Limit.class)))
+                .thenReturn(List.of(person));
+        stubEmpty(false, true, true, true, true);
+
+        SyncBatch batch = service.changesSince(100L);
+
+        assertEquals(STABLE, batch.cursor());
+        assertFalse(batch.hasMore());
+        assertEquals(List.of(person), batch.persons());
+    }
+
+    @Test
+    void overflowingAggregateLowersCursorForAll() {
+        when(versions.stableVersion()).thenReturn(STABLE);
+        when(personRepository.findChangedBetween(anyLong(), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(person(10), person(20), person(30)));
+        when(craftRepository.findChangedBetween(anyLong(), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(craft(15), craft(29)));
+        when(jumpRepository.findChangedBetween(anyLong(), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(jump(5), jump(35)));
+        stubEmpty(false, false, true, false, true);
+
+        SyncBatch batch = service.changesSince(0L);
+
+        assertEquals(29, batch.cursor());
+        assertTrue(batch.hasMore());
+        assertEquals(2, batch.persons().size());
+        assertEquals(2, batch.crafts().size());
+        assertEquals(1, batch.jumps().size());
+    }
+
+    @Test
+    void cursorAtStableVersionReturnsNothing() {
+        when(versions.stableVersion()).thenReturn(STABLE);
+
+        SyncBatch batch = service.changesSince(STABLE);
+
+        assertEquals(STABLE, batch.cursor());
+        assertFalse(batch.hasMore());
+        verifyNoInteractions(personRepository, craftRepository, airportRepository, jumpRepository);
+    }
+
+    @Test
+    void negativeCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.changesSince(-1L));
+    }
+
+    private void stubEmpty(boolean persons, boolean crafts, boolean airports, boolean jumps, boolean tombstones) {
+        if (persons) {
+            when(personRepository.findChangedBetween(anyLong(), anyLong(), any())).thenReturn(List.of());
+        }
+        if (crafts) {
+            when(craftRepository.findChangedBetween(anyLong(), anyLong(), any())).thenReturn(List.of());
+        }
+        if (airports) {
+            when(airportRepository.findChangedBetween(anyLong(), anyLong(), any())).thenReturn(List.of());
+        }
+        if (jumps) {
+            when(jumpRepository.findChangedBetween(anyLong(), anyLong(), any())).thenReturn(List.of());
+        }
+        if (tombstones) {
+            when(tombstoneRepository.findChangedBetween(anyLong(), anyLong(), any())).thenReturn(List.of());
+        }
+    }
+
+    private static Person person(long version) {
+        Person person = new Person("A", "B", false, true, 70, UUID.randomUUID() + "@example.com");
+        person.assignChangeVersion(version);
+        return person;
+    }
+
+    private static Craft craft(long version) {
+        Craft craft = new Craft("Caravan", "N208", 1400, 15);
+        craft.assignChangeVersion(version);
+        return craft;
+    }
+
+    private static Jump jump(long version) {
+        Jump jump = new Jump(NOW, UUID.randomUUID(), 13000);
+        jump.assignChangeVersion(version);
+        return jump;
+    }
+}
@@ -0,0 +1,30 @@
+package xyz.soda.slowfall.sync.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class ChangeVersionsTest {
+
+    @Test
+    void versionsStrictlyIncrease() {
+        long previous = ChangeVersions.next();
+        for (int i = 0; i < 10_000; i++) {
+            long next = ChangeVersions.next();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void versionsTrackWallClockInMicros() {
+        Instant before = Instant.now();
+
+        long version = ChangeVersions.next();
+
+        assertTrue(version >= ChangeVersions.toVersion(before));
+        assertEquals(1_700_000_000_000_001L, ChangeVersions.toVersion(Instant.ofEpochSecond(1_700_000_000L, 1_500)));
+    }
+}
@@ -0,0 +1,67 @@
+package xyz.soda.slowfall.sync.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drives the transaction synchronization by hand, so a version can be held in flight while others are taken.
+ */
+class LocalChangeVersionSourceTest {
+
+    private final LocalChangeVersionSource source = new LocalChangeVersionSource();
+
+    @AfterEach
+    void clearTransaction() {
+        List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResource);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void stableVersionStopsBelowAnUncommittedWriter() {
+        begin();
+        long uncommitted = source.next(1);
+        List<TransactionSynchronization> writer = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+
+        long committed = source.next(3);
+
+        assertTrue(committed > uncommitted);
+        assertEquals(uncommitted - 1, source.stableVersion());
+
+        writer.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertTrue(source.stableVersion() >= committed + 2);
+    }
+
+    @Test
+    void transactionIsHeldOnceForAllItsVersions() {
+        begin();
+        long first = source.next(1);
+        source.next(5);
+
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+        assertEquals(first - 1, source.stableVersion());
+    }
+
+    @Test
+    void nonPositiveCountIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> source.next(0));
+    }
+
+    private static void begin() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+}
@@ -0,0 +1,90 @@
+package xyz.soda.slowfall.waitlist.api;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import xyz.soda.slowfall.waitlist.application.WaitlistService;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistControllerTest {
+    private static final UUID JUMP = UUID.randomUUID();
+    private static final UUID PERSON = UUID.randomUUID();
+
+    @Mock
+    WaitlistService service;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setup() {
+        mvc = MockMvcBuilders.standaloneSetup(new WaitlistController(service)).build();
+    }
+
+    @Test
+    void joinReturns201() throws Exception {
+        when(service.join(JUMP, PERSON)).thenReturn(new WaitlistEntry(1, JUMP, PERSON, Instant.EPOCH));
+
+        mvc.perform(post("/api/jumps/" + JUMP + "/waitlist")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"personId\":\"" + PERSON + "\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.personId").value(PERSON.toString()));
+    }
+
+    @Test
+    void joinWithoutPersonReturns400() throws Exception {
+        mvc.perform(post("/api/jumps/" + JUMP + "/waitlist")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void joinTwiceReturns400() throws Exception {
+        when(service.join(JUMP, PERSON)).thenThrow(new IllegalArgumentException("already waiting"));
+
+        mvc.perform(post("/api/jumps/" + JUMP + "/waitlist")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"personId\":\"" + PERSON + "\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listReturnsEntriesInOrder() throws Exception {
+        UUID other = UUID.randomUUID();
+        when(service.list(JUMP))
+                .thenReturn(List.of(
+                        new WaitlistEntry(1, JUMP, PERSON, Instant.EPOCH),
+                        new WaitlistEntry(2, JUMP, other, Instant.EPOCH)));
+
+        mvc.perform(get("/api/jumps/" + JUMP + "/waitlist"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].personId").value(PERSON.toString()))
+                .andExpect(jsonPath("$[1].personId").value(other.toString()));
+    }
+
+    @Test
+    void leaveReturns204Or400() throws Exception {
+        mvc.perform(delete("/api/jumps/" + JUMP + "/waitlist/" + PERSON)).andExpect(status().isNoContent());
+
+        doThrow(new IllegalArgumentException("not waiting")).when(service).leave(JUMP, PERSON);
+        mvc.perform(delete("/api/jumps/" + JUMP + "/waitlist/" + PERSON)).andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,174 @@
+package xyz.soda.slowfall.waitlist.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+import xyz.soda.slowfall.waitlist.infra.WaitlistWriteBehind;
+
+@ExtendWith(MockitoExtension.class)
+class LoadWaitlistTest {
+    private static final Instant NOW = Instant.parse("2025-06-01T09:00:00Z");
+    private static final UUID JUMP = UUID.randomUUID();
+
+    @Mock
+    WaitlistWriteBehind writeBehind;
+
+    LoadWaitlist waitlist;
+
+    @BeforeEach
+    void setup() {
+        waitlist = new LoadWaitlist(writeBehind, List.of(), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void pollsInArrivalOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        waitlist.enqueue(JUMP, first);
+        waitlist.enqueue(JUMP, second);
+
+        assertEquals(first, waitlist.pollNext(JUMP).getPersonId());
+        assertEquals(second, waitlist.pollNext(JUMP).getPersonId());
+        assertNull(waitlist.pollNext(JUMP));
+        assertEquals(0, waitlist.size());
+    }
+
+    @Test
+    void rejectsPersonAlreadyWaiting() {
+        UUID person = UUID.randomUUID();
+        waitlist.enqueue(JUMP, person);
+
+        assertThrows(IllegalArgumentException.class, () -> waitlist.enqueue(JUMP, person));
+        assertEquals(1, waitlist.entries(JUMP).size());
+    }
+
+    @Test
+    void removedPersonIsSkippedAndMayRejoin() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        WaitlistEntry entry = waitlist.enqueue(JUMP, first);
+        waitlist.enqueue(JUMP, second);
+
+        assertTrue(waitlist.remove(JUMP, first));
+        assertFalse(waitlist.remove(JUMP, first));
+        verify(writeBehind).removed(entry.getSequence());
+
+        WaitlistEntry rejoined = waitlist.enqueue(JUMP, first);
+        assertEquals(List.of(second, first), personIds(waitlist.entries(JUMP)));
+        assertTrue(rejoined.getSequence() > entry.getSequence());
+        verify(writeBehind).added(rejoined);
+    }
+
+    @Test
+    void requeuedEntryKeepsItsPlace() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        waitlist.enqueue(JUMP, first);
+        waitlist.enqueue(JUMP, second);
+        WaitlistEntry polled = waitlist.pollNext(JUMP);
+
+        assertTrue(waitlist.requeue(polled));
+
+        assertEquals(List.of(first, second), personIds(waitlist.entries(JUMP)));
+        verify(writeBehind).removed(polled.getSequence());
+        verify(writeBehind).added(polled);
+    }
+
+    @Test
+    void removeAllDropsTheLoadsWaitlist() {
+        UUID other = UUID.randomUUID();
+        WaitlistEntry first = waitlist.enqueue(JUMP, UUID.randomUUID());
+        WaitlistEntry second = waitlist.enqueue(JUMP, UUID.randomUUID());
+        waitlist.enqueue(other, UUID.randomUUID());
+
+        assertEquals(2, waitlist.removeAll(JUMP));
+
+        assertEquals(Set.of(other), waitlist.jumpIds());
+        assertEquals(1, waitlist.size());
+        verify(writeBehind).removed(first.getSequence());
+        verify(writeBehind).removed(second.getSequence());
+    }
+
+    @Test
+    void restoresPersistedOrderAndContinuesSequence() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<WaitlistEntry> persisted =
+                List.of(new WaitlistEntry(7, JUMP, first, NOW), new WaitlistEntry(9, JUMP, second, NOW));
+
+        LoadWaitlist restored = new LoadWaitlist(writeBehind, persisted, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertEquals(List.of(first, second), personIds(restored.entries(JUMP)));
+        assertEquals(10, restored.enqueue(UUID.randomUUID(), first).getSequence());
+    }
+
+    @Test
+    void concurrentPollsClaimEachEntryOnce() throws Exception {
+        int persons = 2_000;
+        for (int i = 0; i < persons; i++) {
+            waitlist.enqueue(JUMP, UUID.randomUUID());
+        }
+        Set<UUID> claimed = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> workers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    int polled = 0;
+                    WaitlistEntry entry;
+                    while ((entry = waitlist.pollNext(JUMP)) != null) {
+                        claimed.add(entry.getPersonId());
+                        polled++;
+                    }
+                    return polled;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> worker : workers) {
+                total += worker.get();
+            }
+            assertEquals(persons, total);
+            assertEquals(persons, claimed.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void entriesReturnsSameInstances() {
+        WaitlistEntry entry = waitlist.enqueue(JUMP, UUID.randomUUID());
+
+        assertSame(entry, waitlist.entries(JUMP).get(0));
+        assertEquals(NOW, entry.getEnqueuedAt());
+    }
+
+    private static List<UUID> personIds(List<WaitlistEntry> entries) {
+        return entries.stream().map(WaitlistEntry::getPersonId).toList();
+    }
+}
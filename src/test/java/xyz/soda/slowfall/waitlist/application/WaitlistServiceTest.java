@@ -0,0 +1,143 @@
+package xyz.soda.slowfall.waitlist.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import xyz.soda.slowfall.jump.application.JumpService;
+import xyz.soda.slowfall.jump.domain.SlotsFreedEvent;
+import xyz.soda.slowfall.jump.infra.JumpRepository;
+import xyz.soda.slowfall.person.infra.PersonRepository;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+import xyz.soda.slowfall.waitlist.infra.WaitlistWriteBehind;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceTest {
+    private static final Instant NOW = Instant.parse("2025-06-01T09:00:00Z");
+    private static final UUID JUMP = UUID.randomUUID();
+
+    @Mock
+    WaitlistWriteBehind writeBehind;
+
+    @Mock
+    JumpRepository jumpRepository;
+
+    @Mock
+    PersonRepository personRepository;
+
+    @Mock
+    JumpService jumpService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    LoadWaitlist waitlist;
+    WaitlistService service;
+
+    @BeforeEach
+    void setup() {
+        waitlist = new LoadWaitlist(writeBehind, List.of(), Clock.systemUTC());
+        service = new WaitlistService(
+                waitlist,
+                jumpRepository,
+                personRepository,
+                jumpService,
+                transactionManager,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void joinRequiresJumpAndPerson() {
+        UUID person = UUID.randomUUID();
+        when(jumpRepository.existsById(JUMP)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> service.join(JUMP, person));
+        assertEquals(0, waitlist.size());
+    }
+
+    @Test
+    void leaveFailsWhenNotWaiting() {
+        assertThrows(IllegalArgumentException.class, () -> service.leave(JUMP, UUID.randomUUID()));
+    }
+
+    @Test
+    void freedSlotsPromoteLongestWaitingFirst() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        waitlist.enqueue(JUMP, first);
+        waitlist.enqueue(JUMP, second);
+        when(jumpService.addSkydiverToJump(JUMP, first)).thenReturn(true);
+
+        service.onSlotsFreed(new SlotsFreedEvent(JUMP, 1));
+
+        verify(jumpService).addSkydiverToJump(JUMP, first);
+        verify(jumpService, never()).addSkydiverToJump(JUMP, second);
+        assertEquals(List.of(second), waitlist.entries(JUMP).stream().map(WaitlistEntry::getPersonId).toList());
+    }
+
+    @Test
+    void promotionSkipsPersonsWhoCannotBeAdded() {
+        UUID deleted = UUID.randomUUID();
+        UUID manifested = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        waitlist.enqueue(JUMP, deleted);
+        waitlist.enqueue(JUMP, manifested);
+        waitlist.enqueue(JUMP, next);
+        when(jumpService.addSkydiverToJump(JUMP, deleted)).thenThrow(new IllegalArgumentException("Person not found"));
+        when(jumpService.addSkydiverToJump(JUMP, manifested)).thenReturn(false);
+        when(jumpService.addSkydiverToJump(JUMP, next)).thenReturn(true);
+
+        assertEquals(1, service.promote(JUMP, 1));
+        assertEquals(0, waitlist.size());
+    }
+
+    @Test
+    void failedPromotionKeepsThePersonFirstInLine() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        waitlist.enqueue(JUMP, first);
+        waitlist.enqueue(JUMP, second);
+        when(jumpService.addSkydiverToJump(JUMP, first)).thenThrow(new QueryTimeoutException("timeout"));
+
+        assertEquals(0, service.promote(JUMP, 2));
+
+        verify(jumpService, never()).addSkydiverToJump(JUMP, second);
+        assertEquals(List.of(first, second), waitlist.entries(JUMP).stream().map(WaitlistEntry::getPersonId).toList());
+    }
+
+    @Test
+    void purgeDropsWaitlistsOfDepartedAndDeletedLoads() {
+        UUID departed = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+        waitlist.enqueue(JUMP, UUID.randomUUID());
+        waitlist.enqueue(departed, UUID.randomUUID());
+        waitlist.enqueue(deleted, UUID.randomUUID());
+        when(jumpRepository.findIdsDepartingAfter(Set.of(JUMP, departed, deleted), NOW)).thenReturn(List.of(JUMP));
+
+        assertEquals(2, service.purgeDeparted());
+
+        assertEquals(Set.of(JUMP), waitlist.jumpIds());
+    }
+
+    @Test
+    void promotionStopsWhenNobodyIsWaiting() {
+        assertEquals(0, service.promote(JUMP, 3));
+        verify(jumpService, never()).addSkydiverToJump(any(), any());
+    }
+}
@@ -0,0 +1,99 @@
+package xyz.soda.slowfall.waitlist.infra;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import xyz.soda.slowfall.waitlist.domain.WaitlistEntry;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistWriteBehindTest {
+    private static final UUID JUMP = UUID.randomUUID();
+
+    @Mock
+    WaitlistWriter writer;
+
+    WaitlistWriteBehind writeBehind;
+
+    @BeforeEach
+    void setup() {
+        // Long interval so only explicit flushes run.
+        writeBehind = new WaitlistWriteBehind(writer, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void teardown() {
+        writeBehind.close();
+    }
+
+    @Test
+    void entryAddedAndRemovedBeforeFlushIsNeverWritten() {
+        WaitlistEntry kept = entry(1);
+        writeBehind.added(entry(2));
+        writeBehind.added(kept);
+        writeBehind.removed(2);
+
+        writeBehind.flush();
+
+        verify(writer).insertAll(List.of(kept));
+        verify(writer, never()).deleteAll(any());
+    }
+
+    @Test
+    void deletesAreWrittenBeforeInserts() {
+        WaitlistEntry rejoined = entry(5);
+        writeBehind.removed(3);
+        writeBehind.added(rejoined);
+
+        writeBehind.flush();
+
+        InOrder order = inOrder(writer);
+        order.verify(writer).deleteAll(List.of(3L));
+        order.verify(writer).insertAll(List.of(rejoined));
+    }
+
+    @Test
+    void failedChangesAreRetriedWithNextFlush() {
+        WaitlistEntry entry = entry(1);
+        writeBehind.added(entry);
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doNothing()
+                .when(writer)
+                .insertAll(any());
+
+        assertThrows(DataAccessResourceFailureException.class, writeBehind::flush);
+        writeBehind.flush();
+
+        verify(writer, times(2)).insertAll(List.of(entry));
+    }
+
+    @Test
+    void closeFlushesPendingChanges() {
+        WaitlistEntry entry = entry(1);
+        writeBehind.added(entry);
+
+        writeBehind.close();
+
+        verify(writer).insertAll(List.of(entry));
+    }
+
+    private static WaitlistEntry entry(long sequence) {
+        return new WaitlistEntry(sequence, JUMP, UUID.randomUUID(), Instant.EPOCH);
+    }
+}
@@ -0,0 +1,101 @@
+package xyz.soda.slowfall.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdaptiveConcurrencyFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private AdaptiveConcurrencyFilter filter;
+
+    @BeforeEach
+    void setup() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(
+                true,
+                4,
+                1,
+                10,
+                0.2,
+                1.5,
+                1,
+                10,
+                List.of(
+                        new ConcurrencyLimitProperties.Rule(
+                                "write", Set.of("POST"), "/api/**", ConcurrencyLimitProperties.Priority.HIGH),
+                        new ConcurrencyLimitProperties.Rule(
+                                "read", Set.of("GET"), "/api/**", ConcurrencyLimitProperties.Priority.LOW)));
+        filter = new AdaptiveConcurrencyFilter(properties, registry, clock::get);
+    }
+
+    @Test
+    void lowPriorityReadsAreShedBeforeWrites() throws Exception {
+        MockHttpServletResponse[] inner = new MockHttpServletResponse[2];
+        perform("GET", "/api/jumps", (request, response) -> perform("GET", "/api/jumps", (request2, response2) -> {
+            inner[0] = perform("GET", "/api/person", (request3, response3) -> {});
+            inner[1] = perform("POST", "/api/jumps", (request3, response3) -> {});
+        }));
+
+        assertEquals(503, inner[0].getStatus());
+        assertEquals("1", inner[0].getHeader("Retry-After"));
+        assertEquals(200, inner[1].getStatus());
+        assertEquals(1.0, count("read", "rejected"));
+        assertEquals(2.0, count("read", "accepted"));
+        assertEquals(1.0, count("write", "accepted"));
+    }
+
+    @Test
+    void serverErrorsBackOffTheLimit() throws Exception {
+        perform("POST", "/api/jumps", (request, response) -> ((MockHttpServletResponse) response).setStatus(500));
+
+        assertEquals(3, filter.currentLimit());
+        assertEquals(3.0, registry.get("slowfall.concurrency.limit").gauge().value());
+    }
+
+    @Test
+    void permitIsReturnedWhenChainThrows() {
+        assertThrows(ServletException.class, () -> perform("POST", "/api/jumps", (request, response) -> {
+            throw new ServletException("boom");
+        }));
+
+        assertEquals(0.0, registry.get("slowfall.concurrency.inflight").gauge().value());
+        assertEquals(3, filter.currentLimit());
+    }
+
+    @Test
+    void unmatchedRoutesAreNotLimited() throws Exception {
+        MockHttpServletResponse[] inner = new MockHttpServletResponse[1];
+        perform("GET", "/api/jumps", (request, response) -> perform("GET", "/api/jumps", (request2, response2) -> {
+            inner[0] = perform("GET", "/actuator/health", (request3, response3) -> {});
+        }));
+
+        assertEquals(200, inner[0].getStatus());
+    }
+
+    private double count(String route, String outcome) {
+        return registry.get("slowfall.concurrency.requests")
+                .tag("route", route)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, FilterChain chain)
+            throws IOException, ServletException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, uri), response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,96 @@
+package xyz.soda.slowfall.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GradientLimitTest {
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void admitsUpToShareOfLimit() {
+        GradientLimit limit = new GradientLimit(properties(10, 1));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limit.tryAcquire(0.5));
+        }
+        assertFalse(limit.tryAcquire(0.5));
+        assertTrue(limit.tryAcquire(1.0));
+        assertEquals(6, limit.inFlight());
+    }
+
+    @Test
+    void growsWhileLatencyIsStableAndPermitsAreUsed() {
+        GradientLimit limit = new GradientLimit(properties(10, 10));
+
+        for (int round = 0; round < 20; round++) {
+            runAtFullConcurrency(limit, MILLIS);
+        }
+
+        assertTrue(limit.limit() > 10, "limit was " + limit.limit());
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() {
+        GradientLimit limit = new GradientLimit(properties(20, 100));
+        for (int round = 0; round < 3; round++) {
+            runAtFullConcurrency(limit, MILLIS);
+        }
+        int before = limit.limit();
+
+        runAtFullConcurrency(limit, 20 * MILLIS);
+
+        assertTrue(limit.limit() < before, "limit went from " + before + " to " + limit.limit());
+    }
+
+    @Test
+    void idleServiceKeepsItsLimit() {
+        GradientLimit limit = new GradientLimit(properties(10, 10));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+            limit.release(MILLIS, false);
+        }
+
+        assertEquals(10, limit.limit());
+    }
+
+    @Test
+    void dropsBackOffDownToMinimum() {
+        GradientLimit limit = new GradientLimit(properties(10, 10));
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+            limit.release(MILLIS, true);
+        }
+
+        assertEquals(2, limit.limit());
+        assertEquals(0, limit.inFlight());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        ConcurrencyLimitProperties invalid =
+                new ConcurrencyLimitProperties(true, 10, 5, 4, 0.2, 1.5, 1, 10, List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> new GradientLimit(invalid));
+    }
+
+    private static void runAtFullConcurrency(GradientLimit limit, long rttNanos) {
+        int permits = limit.limit();
+        for (int i = 0; i < permits; i++) {
+            assertTrue(limit.tryAcquire(1.0));
+        }
+        for (int i = 0; i < permits; i++) {
+            limit.release(rttNanos, false);
+        }
+    }
+
+    private static ConcurrencyLimitProperties properties(int initialLimit, int longWindow) {
+        return new ConcurrencyLimitProperties(true, initialLimit, 2, 50, 0.2, 1.5, 1, longWindow, List.of());
+    }
+}
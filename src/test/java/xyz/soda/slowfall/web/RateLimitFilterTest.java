@@ -0,0 +1,126 @@
+package xyz.soda.slowfall.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setup() {
+        RateLimitProperties properties = new RateLimitProperties(
+                true,
+                100,
+                List.of(
+                        new RateLimitProperties.Rule("write", Set.of("POST"), "/api/**", 2, 1),
+                        new RateLimitProperties.Rule("read", Set.of("GET"), "/api/**", 1, 1)));
+        filter = new RateLimitFilter(properties, registry, clock::get);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsWithRetryAfterOnceBucketIsEmpty() throws Exception {
+        assertEquals(200, perform("POST", "/api/person", "10.0.0.1").getStatus());
+        assertEquals(200, perform("POST", "/api/person", "10.0.0.1").getStatus());
+
+        MockHttpServletResponse rejected = perform("POST", "/api/person", "10.0.0.1");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+
+        assertEquals(
+                1.0,
+                registry.get("slowfall.ratelimit.requests")
+                        .tag("bucket", "write")
+                        .tag("outcome", "rejected")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void readsAndWritesUseSeparateBuckets() throws Exception {
+        perform("POST", "/api/jumps", "10.0.0.1");
+        perform("POST", "/api/jumps", "10.0.0.1");
+
+        assertEquals(200, perform("GET", "/api/jumps", "10.0.0.1").getStatus());
+        assertEquals(429, perform("GET", "/api/jumps", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void authenticatedClientsAreKeyedOnPrincipal() throws Exception {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "kiosk", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        perform("GET", "/api/jumps", "10.0.0.1");
+
+        assertEquals(429, perform("GET", "/api/jumps", "10.0.0.2").getStatus());
+
+        SecurityContextHolder.clearContext();
+        assertEquals(200, perform("GET", "/api/jumps", "10.0.0.2").getStatus());
+    }
+
+    @Test
+    void bucketRefillsOverTime() throws Exception {
+        perform("GET", "/api/airports", "10.0.0.1");
+        assertEquals(429, perform("GET", "/api/airports", "10.0.0.1").getStatus());
+
+        clock.addAndGet(1_000_000_000L);
+        assertEquals(200, perform("GET", "/api/airports", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void newClientsWaitForASweepWhileEveryTrackedClientIsActive() throws Exception {
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(
+                new RateLimitProperties(
+                        true, 2, List.of(new RateLimitProperties.Rule("read", Set.of("GET"), "/api/**", 1, 1))),
+                meters,
+                clock::get);
+        perform("GET", "/api/jumps", "10.0.0.1");
+        perform("GET", "/api/jumps", "10.0.0.2");
+
+        MockHttpServletResponse untracked = perform("GET", "/api/jumps", "10.0.0.3");
+        assertEquals(429, untracked.getStatus());
+        assertEquals("1", untracked.getHeader("Retry-After"));
+        assertEquals(2.0, meters.get("slowfall.ratelimit.clients").tag("bucket", "read").gauge().value());
+
+        clock.addAndGet(1_000_000_000L);
+        assertEquals(200, perform("GET", "/api/jumps", "10.0.0.3").getStatus());
+        assertEquals(1.0, meters.get("slowfall.ratelimit.clients").tag("bucket", "read").gauge().value());
+    }
+
+    @Test
+    void unmatchedRoutesAreNotLimited() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertNull(perform("GET", "/actuator/health", "10.0.0.1").getHeader("Retry-After"));
+        }
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
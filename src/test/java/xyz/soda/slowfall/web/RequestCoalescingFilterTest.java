@@ -0,0 +1,204 @@
+package xyz.soda.slowfall.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class RequestCoalescingFilterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private RequestCoalescingFilter filter;
+
+    @BeforeEach
+    void setup() {
+        CoalescingProperties properties = new CoalescingProperties(
+                true,
+                List.of("/api/jumps", "/api/person/search"),
+                Duration.ofMillis(500),
+                Duration.ofSeconds(5),
+                100,
+                1024);
+        filter = new RequestCoalescingFilter(properties, registry, clock::get);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentIdenticalRequestsShareOneExecution() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slowChain = (request, response) -> {
+            executions.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.setContentType("application/json");
+            response.getWriter().write("[\"shared\"]");
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<MockHttpServletResponse> leader = executor.submit(() -> perform("/api/jumps", slowChain));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<MockHttpServletResponse> follower = executor.submit(() -> perform("/api/jumps", slowChain));
+            release.countDown();
+
+            assertEquals("[\"shared\"]", leader.get(5, TimeUnit.SECONDS).getContentAsString());
+            MockHttpServletResponse shared = follower.get(5, TimeUnit.SECONDS);
+            assertEquals("[\"shared\"]", shared.getContentAsString());
+            assertEquals("application/json", shared.getContentType());
+            assertEquals("true", shared.getHeader(RequestCoalescingFilter.COALESCED_HEADER));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1.0, count("leader"));
+        assertEquals(1.0, count("joined") + count("cached"));
+    }
+
+    @Test
+    void completedResponseIsReusedUntilTtlExpires() throws Exception {
+        perform("/api/jumps?from=2025-01-01T00:00:00Z", this::countingChain);
+        clock.addAndGet(Duration.ofMillis(400).toNanos());
+        perform("/api/jumps?from=2025-01-01T00:00:00Z", this::countingChain);
+        assertEquals(1, executions.get());
+        assertEquals(1.0, count("cached"));
+
+        clock.addAndGet(Duration.ofMillis(200).toNanos());
+        perform("/api/jumps?from=2025-01-01T00:00:00Z", this::countingChain);
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void differentQueriesAndCallersAreNotMerged() throws Exception {
+        perform("/api/person/search?skydiver=true", this::countingChain);
+        perform("/api/person/search?pilot=true", this::countingChain);
+
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "manifest", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        perform("/api/person/search?skydiver=true", this::countingChain);
+
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    void errorResponsesAreNotReused() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+        assertEquals(500, perform("/api/jumps", failing).getStatus());
+        assertEquals(500, perform("/api/jumps", failing).getStatus());
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void oversizedResponseIsStreamedButNotShared() throws Exception {
+        byte[] large = new byte[4096];
+        FilterChain largeChain = (request, response) -> {
+            executions.incrementAndGet();
+            response.getOutputStream().write(large);
+        };
+
+        assertEquals(large.length, perform("/api/jumps", largeChain).getContentAsByteArray().length);
+        assertEquals(large.length, perform("/api/jumps", largeChain).getContentAsByteArray().length);
+
+        assertEquals(2, executions.get());
+        assertEquals(0.0, count("cached"));
+    }
+
+    @Test
+    void trackedKeysStayWithinMaxEntries() throws Exception {
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        filter = new RequestCoalescingFilter(
+                new CoalescingProperties(
+                        true, List.of("/api/jumps"), Duration.ofMillis(500), Duration.ofSeconds(5), 2, 1024),
+                meters,
+                clock::get);
+        for (int i = 0; i < 5; i++) {
+            perform("/api/jumps?page=" + i, this::countingChain);
+            assertTrue(meters.get("slowfall.coalescing.keys").gauge().value() <= 2);
+        }
+        assertEquals(5, executions.get());
+        assertEquals(
+                3.0,
+                meters.get("slowfall.coalescing.requests")
+                        .tag("outcome", "untracked")
+                        .counter()
+                        .count());
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        perform("/api/jumps?page=5", this::countingChain);
+        perform("/api/jumps?page=5", this::countingChain);
+        assertEquals(6, executions.get());
+        assertEquals(1.0, meters.get("slowfall.coalescing.keys").gauge().value());
+    }
+
+    @Test
+    void unmatchedRoutesAndWritesPassThrough() throws Exception {
+        MockHttpServletResponse first = perform("/api/airports", this::countingChain);
+        perform("/api/airports", this::countingChain);
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/api/jumps");
+        filter.doFilter(post, new MockHttpServletResponse(), this::countingChain);
+
+        assertEquals(3, executions.get());
+        assertNull(first.getHeader(RequestCoalescingFilter.COALESCED_HEADER));
+    }
+
+    private void countingChain(ServletRequest request, ServletResponse response) throws IOException {
+        int execution = executions.incrementAndGet();
+        response.getOutputStream().write(("" + execution).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double count(String outcome) {
+        return registry.get("slowfall.coalescing.requests")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private MockHttpServletResponse perform(String uri, FilterChain chain) throws Exception {
+        int query = uri.indexOf('?');
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", query < 0 ? uri : uri.substring(0, query));
+        if (query >= 0) {
+            request.setQueryString(uri.substring(query + 1));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
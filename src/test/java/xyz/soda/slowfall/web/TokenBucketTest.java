@@ -0,0 +1,40 @@
+package xyz.soda.slowfall.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0L);
+
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertEquals(SECOND, bucket.tryAcquire(0L));
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(1, 2, 0L);
+
+        assertEquals(0L, bucket.tryAcquire(0L));
+        assertTrue(bucket.tryAcquire(SECOND / 4) > 0L);
+        assertEquals(0L, bucket.tryAcquire(SECOND / 2));
+    }
+
+    @Test
+    void isIdleOnceFullyRefilled() {
+        TokenBucket bucket = new TokenBucket(2, 1, 0L);
+        bucket.tryAcquire(0L);
+
+        assertFalse(bucket.isIdle(0L));
+        assertTrue(bucket.isIdle(SECOND));
+    }
+}